@@ -0,0 +1,90 @@
+package cambio.simulator.benchmarks;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import cambio.simulator.export.AsyncMultiColumnReportWriter;
+import cambio.simulator.export.AsyncPrimitiveColumnReportWriter;
+import cambio.simulator.export.AsyncReportWriter;
+import org.apache.commons.io.FileUtils;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Benchmark of the write-out of an {@link AsyncReportWriter}. Each invocation buffers a number of rows and finalizes
+ * the writer, which drains the (partially backed-up) buffer to disk.
+ *
+ * <p>
+ * The {@code multi_column} writer receives boxed rows, the {@code primitive} writer receives {@code double[]} rows.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 20)
+@Fork(1)
+@State(Scope.Thread)
+public class AsyncReportWriterBenchmark {
+
+    @Param({"10000", "100000"})
+    public int rows;
+
+    @Param({"1", "3"})
+    public int columns;
+
+    @Param({"multi_column", "primitive"})
+    public String writerType;
+
+    private Path outputDirectory;
+    private AsyncMultiColumnReportWriter writer;
+    private AsyncPrimitiveColumnReportWriter primitiveWriter;
+    private Object[][] rowData;
+    private double[][] primitiveRowData;
+
+    @Setup(Level.Trial)
+    public void setUpData() {
+        rowData = new Object[rows][];
+        primitiveRowData = new double[rows][];
+        for (int i = 0; i < rows; i++) {
+            rowData[i] = new Object[columns];
+            primitiveRowData[i] = new double[columns];
+            for (int j = 0; j < columns; j++) {
+                rowData[i][j] = (double) i * (j + 1);
+                primitiveRowData[i][j] = (double) i * (j + 1);
+            }
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void setUpWriter() throws IOException {
+        outputDirectory = BenchmarkSupport.createTempDirectory("misim-bench-writer-");
+        String[] headers = new String[columns];
+        for (int j = 0; j < columns; j++) {
+            headers[j] = "Column" + j;
+        }
+        if (writerType.equals("primitive")) {
+            primitiveWriter = new AsyncPrimitiveColumnReportWriter(outputDirectory.resolve("benchmark.csv"), headers);
+        } else {
+            writer = new AsyncMultiColumnReportWriter(outputDirectory.resolve("benchmark.csv"), headers);
+        }
+    }
+
+    @TearDown(Level.Invocation)
+    public void tearDownWriter() {
+        FileUtils.deleteQuietly(outputDirectory.toFile());
+    }
+
+    @Benchmark
+    public void writeout() {
+        if (primitiveWriter != null) {
+            for (int i = 0; i < rows; i++) {
+                primitiveWriter.addDataPoint(i, primitiveRowData[i]);
+            }
+            primitiveWriter.finalizeWriteout();
+            return;
+        }
+        for (int i = 0; i < rows; i++) {
+            writer.addDataPoint(i, rowData[i]);
+        }
+        writer.finalizeWriteout();
+    }
+}
@@ -0,0 +1,41 @@
+package cambio.simulator.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point of the benchmark jar. Runs all (or the selected) MiSim benchmarks with the {@link GCProfiler} attached,
+ * so each result is reported together with its allocation rate.
+ *
+ * <p>
+ * Accepts all default JMH command line options, e.g. {@code java -jar misim-benchmarks.jar EndToEnd -rf json}. The
+ * benchmarks resolve the {@code Examples/} directory relative to the working directory, so they should be started
+ * from the repository root.
+ */
+public final class BenchmarkRunner {
+
+    /**
+     * Runs the benchmarks.
+     *
+     * @param args JMH command line options
+     * @throws RunnerException             if the benchmark execution fails
+     * @throws CommandLineOptionException if the given options cannot be parsed
+     */
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        CommandLineOptions commandLineOptions = new CommandLineOptions(args);
+        ChainedOptionsBuilder builder = new OptionsBuilder()
+            .parent(commandLineOptions)
+            .addProfiler(GCProfiler.class);
+        if (commandLineOptions.getIncludes().isEmpty()) {
+            builder.include(BenchmarkRunner.class.getPackage().getName());
+        }
+        Options options = builder.build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,107 @@
+package cambio.simulator.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import cambio.simulator.ExperimentStartupConfig;
+import cambio.simulator.models.MiSimModel;
+import desmoj.core.simulator.Experiment;
+import desmoj.core.simulator.TimeInstant;
+import org.apache.commons.io.FileUtils;
+
+/**
+ * Utility methods shared by the benchmarks for locating example models, creating report directories and setting up
+ * simulation models outside a running experiment.
+ */
+final class BenchmarkSupport {
+
+    private static final String NULL_OUTPUT = "desmoj.core.report.NullOutput";
+
+    private BenchmarkSupport() {
+    }
+
+    /**
+     * Resolves a file inside the {@code Examples/} directory of the repository. The directory is looked up relative to
+     * the working directory.
+     *
+     * @param pathInExamples path of the file relative to the {@code Examples/} directory
+     * @return the resolved file
+     * @throws IllegalStateException if the file cannot be found
+     */
+    static File resolveExample(String pathInExamples) {
+        File file = Paths.get("Examples").resolve(pathInExamples).toFile();
+        if (file.exists()) {
+            return file;
+        }
+        throw new IllegalStateException(String.format(
+            "Could not find Examples/%s. Please start the benchmarks from the repository root.", pathInExamples));
+    }
+
+    /**
+     * Creates a new temporary directory, e.g. to hold the report of a benchmarked experiment.
+     */
+    static Path createTempDirectory(String prefix) {
+        try {
+            return Files.createTempDirectory(prefix);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Creates a startup configuration that runs the given experiment headless without traces, writing its report into
+     * (and overwriting) the given directory.
+     */
+    static ExperimentStartupConfig createStartupConfig(File architecture, File experiment, Path reportDirectory) {
+        return createStartupConfig(architecture, experiment, reportDirectory, null);
+    }
+
+    /**
+     * Creates a startup configuration like {@link #createStartupConfig(File, File, Path)} that uses the given future
+     * event list implementation. {@code null} keeps the event list of the experiment description.
+     */
+    static ExperimentStartupConfig createStartupConfig(File architecture, File experiment, Path reportDirectory,
+                                                       String eventList) {
+        return new ExperimentStartupConfig.Builder(architecture.getAbsolutePath())
+            .experimentDescription(experiment.getAbsolutePath())
+            .overwriteReportLocation(reportDirectory.toString())
+            .traces(false)
+            .eventList(eventList)
+            .build();
+    }
+
+    /**
+     * Creates a {@link MiSimModel} that is connected to an {@link Experiment}, but not started. This parses the given
+     * descriptions and initializes the reporters, so single entities can be benchmarked in isolation.
+     */
+    static MiSimModel createConnectedModel(File architecture, File experiment, Path reportDirectory) {
+        MiSimModel model = new MiSimModel(architecture, experiment);
+        model.getExperimentMetaData().setReportLocation(reportDirectory);
+        Experiment exp = new Experiment(model.getExperimentMetaData().getExperimentName(), reportDirectory.toString(),
+            NULL_OUTPUT, NULL_OUTPUT, NULL_OUTPUT, NULL_OUTPUT);
+        exp.setShowProgressBar(false);
+        model.connectToExperiment(exp);
+        exp.traceOff(new TimeInstant(0));
+        exp.debugOff(new TimeInstant(0));
+        return model;
+    }
+
+    /**
+     * Closes all reporters of the given model that are still open and deletes the given directory.
+     */
+    static void cleanUp(MiSimModel model, Path directory) {
+        model.getExecutionContext().getReporters().finalizeReports();
+        FileUtils.deleteQuietly(directory.toFile());
+    }
+
+    /**
+     * Deletes the given directory.
+     */
+    static void cleanUp(Path directory) {
+        FileUtils.deleteQuietly(directory.toFile());
+    }
+}
@@ -0,0 +1,71 @@
+package cambio.simulator.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import cambio.simulator.entities.networking.UserRequest;
+import cambio.simulator.resources.cpu.CPU;
+import cambio.simulator.resources.cpu.CPUProcess;
+import cambio.simulator.resources.cpu.scheduling.*;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Micro-benchmark of {@link CPU#onRoutineExecution()}. Each invocation submits one process and runs the scheduling
+ * routine of the CPU.
+ *
+ * <p>
+ * With {@code threads} set to the batch size, every routine execution starts a new burst. With a small thread pool
+ * the CPU is saturated after the first invocations and the benchmark measures the routine with a growing queue.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 10, batchSize = MicroBenchmarkState.BATCH_SIZE)
+@Measurement(iterations = 20, batchSize = MicroBenchmarkState.BATCH_SIZE)
+@Fork(1)
+public class CpuBenchmark {
+
+    /**
+     * Holds the CPU and the processes that are submitted during one iteration.
+     */
+    @State(Scope.Thread)
+    public static class CpuState extends MicroBenchmarkState {
+        @Param({"FIFO", "RoundRobin", "SJN", "MLFQ"})
+        public String scheduler;
+
+        @Param({"4", "" + BATCH_SIZE})
+        public int threads;
+
+        CPU cpu;
+        CPUProcess[] processes;
+        int next;
+
+        @Setup(Level.Iteration)
+        public void setUpCpu() {
+            cpu = new CPU(model, "Benchmark_CPU", false, leafInstance, capacity, createScheduler(), threads);
+            UserRequest[] requests = createUserRequests(leafInstance);
+            processes = new CPUProcess[requests.length];
+            for (int i = 0; i < requests.length; i++) {
+                processes[i] = new CPUProcess(requests[i]);
+            }
+            next = 0;
+        }
+
+        private CPUProcessScheduler createScheduler() {
+            switch (scheduler) {
+                case "RoundRobin":
+                    return new RoundRobinScheduler("Benchmark_Scheduler");
+                case "SJN":
+                    return new ShortestJobNextScheduler("Benchmark_Scheduler");
+                case "MLFQ":
+                    return new MultiLevelFeedbackQueueScheduler("Benchmark_Scheduler");
+                default:
+                    return new FIFOScheduler("Benchmark_Scheduler");
+            }
+        }
+    }
+
+    @Benchmark
+    public void onRoutineExecution(CpuState state) throws Exception {
+        state.cpu.submitProcess(state.processes[state.next++]);
+        state.cpu.onRoutineExecution();
+    }
+}
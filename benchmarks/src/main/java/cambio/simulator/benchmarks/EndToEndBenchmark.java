@@ -0,0 +1,117 @@
+package cambio.simulator.benchmarks;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import cambio.simulator.Main;
+import cambio.simulator.models.MiSimModel;
+import desmoj.core.simulator.Experiment;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * End-to-end benchmark that runs complete experiments via {@link Main#runExperiment}. Uses the architectures bundled
+ * in {@code Examples/} as well as generated topologies with a variable number of services.
+ *
+ * <p>
+ * The primary result is the number of experiment runs per second. The secondary result {@code events} gives the
+ * executed simulation events per wall-clock second, see {@link SimulationCounters}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 10)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+public class EndToEndBenchmark {
+
+    /**
+     * Runs the bundled example experiments.
+     */
+    @State(Scope.Benchmark)
+    public static class ExampleState {
+        @Param({
+            "example_architecture_model.json:example_experiment_chaosmonkey.json",
+            "example_architecture_model.json:example_experiment_delayInjection.json",
+            "example_architecture_scaling.json:example_experiment_autoscale.json",
+            "example_architecture_model.json:example_experiment_gatewayload.json"
+        })
+        public String example;
+
+        File architecture;
+        File experiment;
+        Path reportDirectory;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            String[] files = example.split(":");
+            architecture = BenchmarkSupport.resolveExample(files[0]);
+            experiment = BenchmarkSupport.resolveExample(files[1]);
+            reportDirectory = BenchmarkSupport.createTempDirectory("misim-bench-");
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            BenchmarkSupport.cleanUp(reportDirectory);
+        }
+    }
+
+    /**
+     * Runs experiments on generated topologies.
+     */
+    @State(Scope.Benchmark)
+    public static class GeneratedTopologyState {
+        @Param({"10", "50", "200"})
+        public int services;
+
+        @Param({"CHAIN", "FANOUT", "TREE"})
+        public TopologyGenerator.Shape shape;
+
+        @Param({"2"})
+        public int instancesPerService;
+
+        @Param({"60"})
+        public double duration;
+
+        @Param({"0.01"})
+        public double interArrivalTime;
+
+        File architecture;
+        File experiment;
+        Path modelDirectory;
+        Path reportDirectory;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            modelDirectory = BenchmarkSupport.createTempDirectory("misim-bench-model-");
+            reportDirectory = BenchmarkSupport.createTempDirectory("misim-bench-");
+            TopologyGenerator generator = new TopologyGenerator(services, shape, instancesPerService, 1000, 10);
+            architecture = generator.writeArchitecture(modelDirectory);
+            experiment = generator.writeExperiment(modelDirectory, duration, interArrivalTime, 42);
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            BenchmarkSupport.cleanUp(reportDirectory);
+            BenchmarkSupport.cleanUp(modelDirectory);
+        }
+    }
+
+    private static MiSimModel run(File architecture, File experiment, Path reportDirectory,
+                                  SimulationCounters counters) {
+        Experiment exp = Main.runExperiment(
+            BenchmarkSupport.createStartupConfig(architecture, experiment, reportDirectory));
+        MiSimModel model = (MiSimModel) exp.getModel();
+        counters.events += model.getExecutedEventsCount();
+        return model;
+    }
+
+    @Benchmark
+    public MiSimModel examples(ExampleState state, SimulationCounters counters) {
+        return run(state.architecture, state.experiment, state.reportDirectory, counters);
+    }
+
+    @Benchmark
+    public MiSimModel generatedTopology(GeneratedTopologyState state, SimulationCounters counters) {
+        return run(state.architecture, state.experiment, state.reportDirectory, counters);
+    }
+}
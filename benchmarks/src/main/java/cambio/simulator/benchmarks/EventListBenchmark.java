@@ -0,0 +1,71 @@
+package cambio.simulator.benchmarks;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import cambio.simulator.Main;
+import cambio.simulator.models.EventListType;
+import cambio.simulator.models.MiSimModel;
+import desmoj.core.simulator.Experiment;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Compares the future event list implementations (see {@link EventListType}) on the experiments bundled in
+ * {@code Examples/}.
+ *
+ * <p>
+ * Like the {@link EndToEndBenchmark}, the primary result is the number of experiment runs per second and the secondary
+ * result {@code events} gives the executed simulation events per wall-clock second. Since all event lists execute the
+ * events in the same order, both results are directly comparable between the implementations.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 10)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+public class EventListBenchmark {
+
+    /**
+     * Runs the bundled example experiments with each event list implementation.
+     */
+    @State(Scope.Benchmark)
+    public static class ExampleState {
+        @Param({
+            "example_architecture_model.json:example_experiment_chaosmonkey.json",
+            "example_architecture_model.json:example_experiment_delayInjection.json",
+            "example_architecture_scaling.json:example_experiment_autoscale.json",
+            "example_architecture_model.json:example_experiment_gatewayload.json"
+        })
+        public String example;
+
+        @Param({"tree", "vector", "calendar"})
+        public String eventList;
+
+        File architecture;
+        File experiment;
+        Path reportDirectory;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            String[] files = example.split(":");
+            architecture = BenchmarkSupport.resolveExample(files[0]);
+            experiment = BenchmarkSupport.resolveExample(files[1]);
+            reportDirectory = BenchmarkSupport.createTempDirectory("misim-bench-");
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            BenchmarkSupport.cleanUp(reportDirectory);
+        }
+    }
+
+    @Benchmark
+    public MiSimModel examples(ExampleState state, SimulationCounters counters) {
+        Experiment exp = Main.runExperiment(BenchmarkSupport.createStartupConfig(state.architecture, state.experiment,
+            state.reportDirectory, state.eventList));
+        MiSimModel model = (MiSimModel) exp.getModel();
+        counters.events += model.getExecutedEventsCount();
+        return model;
+    }
+}
@@ -0,0 +1,78 @@
+package cambio.simulator.benchmarks;
+
+import java.io.File;
+import java.nio.file.Path;
+
+import cambio.simulator.entities.microservice.Microservice;
+import cambio.simulator.entities.microservice.MicroserviceInstance;
+import cambio.simulator.entities.networking.UserRequest;
+import cambio.simulator.misc.NameResolver;
+import cambio.simulator.models.MiSimModel;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Base state of the micro-benchmarks. Creates a fresh, connected (but not started) model of a generated two-service
+ * chain ({@code service0 -> service1}) per iteration and starts one instance per service, so the entities can be
+ * invoked directly.
+ *
+ * <p>
+ * Micro-benchmarks run in {@link org.openjdk.jmh.annotations.Mode#SingleShotTime} with a fixed batch size of
+ * {@link #BATCH_SIZE} invocations per iteration. This keeps the amount of scheduled but never executed events (and
+ * therefore the size of the event list) comparable between runs.
+ */
+@State(Scope.Thread)
+public class MicroBenchmarkState {
+
+    public static final int BATCH_SIZE = 10_000;
+
+    @Param({"1000"})
+    public int capacity;
+
+    Path modelDirectory;
+    Path reportDirectory;
+    MiSimModel model;
+    MicroserviceInstance entryInstance;
+    MicroserviceInstance leafInstance;
+
+    @Setup(Level.Iteration)
+    public void setUpModel() {
+        modelDirectory = BenchmarkSupport.createTempDirectory("misim-bench-model-");
+        reportDirectory = BenchmarkSupport.createTempDirectory("misim-bench-");
+        TopologyGenerator generator = new TopologyGenerator(2, TopologyGenerator.Shape.CHAIN, 1, capacity, 10);
+        File architecture = generator.writeArchitecture(modelDirectory);
+        File experiment = generator.writeExperiment(modelDirectory, 100, 1, 42);
+        model = BenchmarkSupport.createConnectedModel(architecture, experiment, reportDirectory);
+        entryInstance = startInstance("service0");
+        leafInstance = startInstance("service1");
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDownModel() {
+        BenchmarkSupport.cleanUp(model, reportDirectory);
+        BenchmarkSupport.cleanUp(modelDirectory);
+    }
+
+    private MicroserviceInstance startInstance(String serviceName) {
+        Microservice microservice = NameResolver.resolveMicroserviceName(model, serviceName);
+        microservice.start();
+        MicroserviceInstance instance = microservice.getInstancesSet().iterator().next();
+        instance.start();
+        return instance;
+    }
+
+    /**
+     * Creates {@link #BATCH_SIZE} new user requests for the only operation of the given instance.
+     */
+    UserRequest[] createUserRequests(MicroserviceInstance target) {
+        UserRequest[] requests = new UserRequest[BATCH_SIZE];
+        for (int i = 0; i < requests.length; i++) {
+            requests[i] = new UserRequest(model, "BenchmarkRequest", false, target.getOwner().getOperations()[0]);
+        }
+        return requests;
+    }
+}
@@ -0,0 +1,44 @@
+package cambio.simulator.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import cambio.simulator.entities.microservice.MicroserviceInstance;
+import cambio.simulator.entities.networking.UserRequest;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Micro-benchmark of {@link MicroserviceInstance#handle}. Requests for the leaf service are submitted to the CPU of
+ * the instance, requests for the entry service create child requests for their dependencies.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 10, batchSize = MicroBenchmarkState.BATCH_SIZE)
+@Measurement(iterations = 20, batchSize = MicroBenchmarkState.BATCH_SIZE)
+@Fork(1)
+public class MicroserviceInstanceBenchmark {
+
+    /**
+     * Holds the requests that are handled during one iteration.
+     */
+    @State(Scope.Thread)
+    public static class HandleState extends MicroBenchmarkState {
+        @Param({"leaf", "entry"})
+        public String target;
+
+        MicroserviceInstance instance;
+        UserRequest[] requests;
+        int next;
+
+        @Setup(Level.Iteration)
+        public void setUpRequests() {
+            instance = target.equals("leaf") ? leafInstance : entryInstance;
+            requests = createUserRequests(instance);
+            next = 0;
+        }
+    }
+
+    @Benchmark
+    public void handle(HandleState state) {
+        state.instance.handle(state.requests[state.next++]);
+    }
+}
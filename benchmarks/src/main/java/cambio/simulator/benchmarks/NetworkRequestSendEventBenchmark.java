@@ -0,0 +1,56 @@
+package cambio.simulator.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import cambio.simulator.entities.networking.*;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Micro-benchmark of {@link NetworkRequestSendEvent#onRoutineExecution()}. Sends either user requests to the entry
+ * instance or internal (dependency) requests from the entry instance to the leaf instance. The latter additionally
+ * includes latency customization and timeout handling.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 10, batchSize = MicroBenchmarkState.BATCH_SIZE)
+@Measurement(iterations = 20, batchSize = MicroBenchmarkState.BATCH_SIZE)
+@Fork(1)
+public class NetworkRequestSendEventBenchmark {
+
+    /**
+     * Holds the send events that are executed during one iteration.
+     */
+    @State(Scope.Thread)
+    public static class SendState extends MicroBenchmarkState {
+        @Param({"user", "internal"})
+        public String requestType;
+
+        NetworkRequestSendEvent[] sendEvents;
+        int next;
+
+        @Setup(Level.Iteration)
+        public void setUpSendEvents() {
+            UserRequest[] userRequests = createUserRequests(entryInstance);
+            sendEvents = new NetworkRequestSendEvent[userRequests.length];
+            for (int i = 0; i < userRequests.length; i++) {
+                Request request = userRequests[i];
+                if (requestType.equals("internal")) {
+                    ServiceDependencyInstance dependency = request.getDependencies().iterator().next();
+                    request = new InternalRequest(model, false, dependency, entryInstance);
+                    request.addUpdateListener(entryInstance.updateListenerProxy);
+                    sendEvents[i] = new NetworkRequestSendEvent(model, "BenchmarkSend", false, request,
+                        dependency.getTargetService());
+                } else {
+                    sendEvents[i] = new NetworkRequestSendEvent(model, "BenchmarkSend", false, request,
+                        entryInstance);
+                }
+            }
+            next = 0;
+        }
+    }
+
+    @Benchmark
+    public void onRoutineExecution(SendState state) throws Exception {
+        state.sendEvents[state.next++].onRoutineExecution();
+    }
+}
@@ -0,0 +1,26 @@
+package cambio.simulator.benchmarks;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Secondary benchmark results of the end-to-end benchmarks. JMH normalizes the counted simulation events by the
+ * measured wall-clock time, so {@link #events} is reported as simulated events per second.
+ */
+@State(Scope.Thread)
+@AuxCounters(AuxCounters.Type.OPERATIONS)
+public class SimulationCounters {
+
+    /**
+     * Number of executed simulation events.
+     */
+    public long events;
+
+    @Setup(Level.Iteration)
+    public void reset() {
+        events = 0;
+    }
+}
@@ -0,0 +1,175 @@
+package cambio.simulator.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+
+/**
+ * Generates synthetic architecture and experiment descriptions with an arbitrary number of services. The generated
+ * services each offer a single operation {@code <service>.op}, whose dependencies are laid out according to a
+ * {@link Shape}. Service {@code service0} is the entry point that receives the generated load.
+ */
+final class TopologyGenerator {
+
+    /**
+     * Layout of the dependencies between the generated services.
+     */
+    enum Shape {
+        /**
+         * Each service calls its successor: {@code service0 -> service1 -> ... -> serviceN-1}.
+         */
+        CHAIN,
+        /**
+         * The entry service calls all other services once.
+         */
+        FANOUT,
+        /**
+         * Services form a binary tree, {@code service i} calls {@code 2i+1} and {@code 2i+2}.
+         */
+        TREE
+    }
+
+    private final int serviceCount;
+    private final Shape shape;
+    private final int instancesPerService;
+    private final int capacity;
+    private final int demand;
+
+    TopologyGenerator(int serviceCount, Shape shape, int instancesPerService, int capacity, int demand) {
+        if (serviceCount <= 0) {
+            throw new IllegalArgumentException("At least one service is required.");
+        }
+        this.serviceCount = serviceCount;
+        this.shape = shape;
+        this.instancesPerService = instancesPerService;
+        this.capacity = capacity;
+        this.demand = demand;
+    }
+
+    private List<Integer> getCallees(int service) {
+        List<Integer> callees = new ArrayList<>();
+        switch (shape) {
+            case CHAIN:
+                if (service + 1 < serviceCount) {
+                    callees.add(service + 1);
+                }
+                break;
+            case FANOUT:
+                if (service == 0) {
+                    for (int i = 1; i < serviceCount; i++) {
+                        callees.add(i);
+                    }
+                }
+                break;
+            case TREE:
+                for (int child = 2 * service + 1; child <= 2 * service + 2 && child < serviceCount; child++) {
+                    callees.add(child);
+                }
+                break;
+            default:
+                throw new IllegalStateException("Unknown shape " + shape);
+        }
+        return callees;
+    }
+
+    private static String serviceName(int service) {
+        return "service" + service;
+    }
+
+    private static String operationName(int service) {
+        return serviceName(service) + ".op";
+    }
+
+    JsonObject createArchitecture() {
+        JsonArray microservices = new JsonArray();
+        for (int i = 0; i < serviceCount; i++) {
+            JsonArray dependencies = new JsonArray();
+            for (int callee : getCallees(i)) {
+                JsonObject dependency = new JsonObject();
+                dependency.addProperty("service", serviceName(callee));
+                dependency.addProperty("operation", operationName(callee));
+                dependencies.add(dependency);
+            }
+
+            JsonObject operation = new JsonObject();
+            operation.addProperty("name", operationName(i));
+            operation.addProperty("demand", demand);
+            operation.add("dependencies", dependencies);
+            JsonArray operations = new JsonArray();
+            operations.add(operation);
+
+            JsonObject microservice = new JsonObject();
+            microservice.addProperty("name", serviceName(i));
+            microservice.addProperty("instances", instancesPerService);
+            microservice.addProperty("capacity", capacity);
+            microservice.addProperty("loadbalancer_strategy", "even");
+            microservice.add("operations", operations);
+            microservices.add(microservice);
+        }
+
+        JsonObject architecture = new JsonObject();
+        architecture.addProperty("network_latency", ".002+.001-.0005");
+        architecture.add("microservices", microservices);
+        return architecture;
+    }
+
+    JsonObject createExperiment(double duration, double interArrivalTime, int seed) {
+        JsonObject metaData = new JsonObject();
+        metaData.addProperty("experiment_name", String.format("Generated_%s_%d", shape, serviceCount));
+        metaData.addProperty("model_name", "Generated Topology");
+        metaData.addProperty("duration", duration);
+        metaData.addProperty("seed", seed);
+
+        JsonObject generatorConfig = new JsonObject();
+        generatorConfig.addProperty("interval", interArrivalTime);
+        generatorConfig.addProperty("target_operation", operationName(0));
+        JsonObject generator = new JsonObject();
+        generator.addProperty("type", "interval");
+        generator.add("config", generatorConfig);
+        JsonArray generators = new JsonArray();
+        generators.add(generator);
+
+        JsonObject experiment = new JsonObject();
+        experiment.add("simulation_metadata", metaData);
+        experiment.add("generators", generators);
+        return experiment;
+    }
+
+    /**
+     * Writes the generated architecture description into the given directory.
+     *
+     * @return the written file
+     */
+    File writeArchitecture(Path directory) {
+        return write(directory.resolve("architecture.json"), createArchitecture());
+    }
+
+    /**
+     * Writes a generated experiment description that targets the entry service with a constant load into the given
+     * directory.
+     *
+     * @return the written file
+     */
+    File writeExperiment(Path directory, double duration, double interArrivalTime, int seed) {
+        return write(directory.resolve("experiment.json"), createExperiment(duration, interArrivalTime, seed));
+    }
+
+    private static File write(Path target, JsonObject content) {
+        try {
+            Files.write(target, new GsonBuilder().setPrettyPrinting().create().toJson(content)
+                .getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return target.toFile();
+    }
+}
@@ -0,0 +1,6 @@
+/**
+ * JMH benchmarks of the simulator. Contains end-to-end benchmarks of whole experiments as well as micro-benchmarks of
+ * the hot paths of a simulation run.
+ */
+
+package cambio.simulator.benchmarks;
@@ -2,7 +2,6 @@ package restAPI.simulation_running;
 
 import cambio.simulator.ExperimentCreator;
 import cambio.simulator.ExperimentStartupConfig;
-import cambio.simulator.misc.RNGStorage;
 import cambio.simulator.parsing.ParsingException;
 import com.google.common.collect.Multimap;
 import com.google.gson.JsonParseException;
@@ -62,8 +61,6 @@ public class SimulationRunningService {
            Experiment experiment = new ExperimentCreator().createSimulationExperiment(config);
             experiment.start();
             experiment.finish();
-            // TODO check whether we need to reset the generator;
-            RNGStorage.reset();
         } catch (ParsingException | JsonParseException e) {
             if (config.debugOutputOn()) {
                 e.printStackTrace();
@@ -36,7 +36,12 @@ public final class CLI {
      * @throws ParseException if the command line arguments cannot be parsed properly to the given options
      */
     public static <T> @NotNull T parseArguments(Class<T> dataclass, String[] args) throws ParseException {
-        return CLI.parseCommandLineToDataObject(CLI.parseArgumentsToCommandLine(dataclass, args), dataclass);
+        CommandLine commandLine = CLI.parseArgumentsToCommandLine(dataclass, args);
+        try {
+            return CLI.parseCommandLineToDataObject(commandLine, dataclass);
+        } catch (NumberFormatException e) {
+            throw new ParseException(e.getMessage());
+        }
     }
 
     /**
@@ -124,6 +129,7 @@ public final class CLI {
      *
      * @param cl {@link CommandLine} that contains the parsed cli options.
      * @return a new parsed {@link ExperimentStartupConfig}
+     * @throws NumberFormatException if the value of an int option cannot be parsed
      */
     public static <T> @NotNull T parseCommandLineToDataObject(CommandLine cl, Class<? extends T> baseClass) {
         T targetObject;
@@ -154,9 +160,18 @@ public final class CLI {
                     targetField.set(targetObject, value);
                 } else if (String[].class.isAssignableFrom(targetType)) {
                     targetField.set(targetObject, value);
+                } else if (targetType == Integer.TYPE) {
+                    if (value != null) {
+                        try {
+                            targetField.set(targetObject, Integer.parseInt(value.toString().trim()));
+                        } catch (NumberFormatException e) {
+                            throw new NumberFormatException(
+                                String.format("Option '%s' expects an integer but got '%s'.", optName, value));
+                        }
+                    }
                 } else {
-                    throw new ClassCastException("Can only parse CLI options to the types of boolean/Boolean, String "
-                        + "or String[].");
+                    throw new ClassCastException("Can only parse CLI options to the types of boolean/Boolean, int, "
+                        + "String or String[].");
                 }
             } catch (ParseException | IllegalAccessException e) {
                 e.printStackTrace();
@@ -9,27 +9,50 @@ import desmoj.core.simulator.Schedulable;
 import org.jetbrains.annotations.NotNull;
 
 /**
- * Static class that takes care of enabling subscribing and publishing events.
+ * Class that takes care of enabling subscribing and publishing events.
+ *
+ * <p>
+ * Each simulation run owns its own event bus (see {@link cambio.simulator.models.ExecutionContext#getEventBus()}), so
+ * subscriptions of one run never receive events of another run.
  *
  * @author Lion Wagner
  */
 public class EventBus {
 
-    private static final Map<Class<? extends Schedulable>, LinkedList<Consumer<Schedulable>>> listeners =
+    private final Map<Class<? extends Schedulable>, LinkedList<Consumer<Schedulable>>> listeners =
         new HashMap<>();
 
-    public static void post(@NotNull Schedulable event) {
-        listeners.getOrDefault(event.getClass(), new LinkedList<>()).forEach(listener -> listener.accept(event));
+    /**
+     * Publishes the given event to all consumers that subscribed to its class.
+     *
+     * @param event the event that is published
+     */
+    public void post(@NotNull Schedulable event) {
+        if (listeners.isEmpty()) {
+            return;
+        }
+        LinkedList<Consumer<Schedulable>> consumers = listeners.get(event.getClass());
+        if (consumers != null) {
+            consumers.forEach(listener -> listener.accept(event));
+        }
     }
 
-    public static <T extends Schedulable> void subscribe(Class<T> targetClass, Consumer<T> consumer) {
+    /**
+     * Subscribes the given consumer to all events of the given class.
+     *
+     * @param targetClass class of the events of interest
+     * @param consumer    consumer that will be called for each posted event of the target class
+     * @param <T>         type of the events of interest
+     */
+    public <T extends Schedulable> void subscribe(Class<T> targetClass, Consumer<T> consumer) {
         //noinspection unchecked
         listeners.computeIfAbsent(targetClass, k -> new LinkedList<>()).add((Consumer<Schedulable>) consumer);
     }
 
-    // TODO: This is a hotfix to avoid having a state from one simulation carry over to the next one. Actually,
-    //  static classes are an anti-pattern that should not be used exactly for this reason!
-    public static void clear() {
+    /**
+     * Removes all subscriptions.
+     */
+    public void clear() {
         listeners.clear();
     }
 
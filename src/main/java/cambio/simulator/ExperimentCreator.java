@@ -7,15 +7,19 @@ import java.time.LocalDateTime;
 import cambio.simulator.behavior.EventBusConnector;
 import cambio.simulator.behavior.MTLActivationListener;
 import cambio.simulator.export.ExportUtils;
+import cambio.simulator.export.MetricsConfiguration;
 import cambio.simulator.misc.FileUtilities;
 import cambio.simulator.models.ExperimentMetaData;
 import cambio.simulator.models.MiSimModel;
+import cambio.simulator.parsing.JsonTreeCache;
+import cambio.simulator.sweep.SweepPoint;
 import cambio.tltea.interpreter.BehaviorInterpretationResult;
 import cambio.tltea.interpreter.Interpreter;
 import cambio.tltea.interpreter.connector.Brokers;
 import desmoj.core.simulator.Experiment;
 import desmoj.core.simulator.TimeInstant;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Class that contains code for creating a new {@link desmoj.core.simulator.Experiment} based on a
@@ -32,7 +36,54 @@ public class ExperimentCreator {
      * @return a new {@link Experiment} that is configured based on the given config
      */
     public Experiment createSimulationExperiment(ExperimentStartupConfig config) {
-        EventBus.clear();
+        MiSimModel model = createModel(config);
+        return setupExperiment(config, model, ExportUtils.generateReportPath(config, model.getExperimentMetaData()));
+    }
+
+    /**
+     * Creates a new {@link Experiment} for one replication of the configured experiment. The replication uses the
+     * given seed instead of the one from the experiment description and writes its report into the given directory.
+     *
+     * @param config         startup configuration of the experiment
+     * @param seed           seed of the replication
+     * @param reportLocation report directory of the replication
+     * @param jsonTreeCache  cache of the parsed description files, that is shared by all replications
+     * @return a new {@link Experiment} that is configured based on the given config
+     */
+    public Experiment createReplicationExperiment(ExperimentStartupConfig config, int seed, Path reportLocation,
+                                                  @Nullable JsonTreeCache jsonTreeCache) {
+        MiSimModel model = createModel(config, jsonTreeCache);
+        model.getExperimentMetaData().setSeed(seed);
+        return setupExperiment(config, model, reportLocation);
+    }
+
+    /**
+     * Creates a new {@link Experiment} for one run of a parameter sweep. The values of the sweep point are applied as
+     * overrides on the parsed architecture and experiment models of the run.
+     *
+     * @param config         startup configuration of the experiment
+     * @param point          sweep point whose values should be applied
+     * @param seed           seed of the run
+     * @param reportLocation report directory of the run
+     * @param jsonTreeCache  cache of the parsed description files, that is shared by all runs of the sweep
+     * @return a new {@link Experiment} that is configured based on the given config and sweep point
+     * @see SweepRunner
+     */
+    public Experiment createSweepExperiment(ExperimentStartupConfig config, SweepPoint point, int seed,
+                                            Path reportLocation, @Nullable JsonTreeCache jsonTreeCache) {
+        MiSimModel model = createModel(config, jsonTreeCache);
+        model.getExperimentMetaData().setSeed(seed);
+        model.addModelOverride(point);
+        return setupExperiment(config, model, reportLocation);
+    }
+
+    @NotNull
+    protected MiSimModel createModel(ExperimentStartupConfig config) {
+        return createModel(config, null);
+    }
+
+    @NotNull
+    protected MiSimModel createModel(ExperimentStartupConfig config, @Nullable JsonTreeCache jsonTreeCache) {
         String archDescLocation = config.getArchitectureDescLoc();
         String expDescLocation;
 
@@ -47,8 +98,7 @@ public class ExperimentCreator {
         File experimentDescription =
             tryGetDescription(expDescLocation, "experiment/scenario");
 
-        MiSimModel model = new MiSimModel(architectureDescription, experimentDescription);
-        return setupExperiment(config, model);
+        return new MiSimModel(architectureDescription, experimentDescription, jsonTreeCache);
     }
 
 
@@ -68,14 +118,25 @@ public class ExperimentCreator {
      * Parsing additional configuration options, besides the model locations.
      */
     @NotNull
-    private static Experiment setupExperiment(ExperimentStartupConfig config, @NotNull MiSimModel model) {
+    private static Experiment setupExperiment(ExperimentStartupConfig config, @NotNull MiSimModel model,
+                                              @NotNull Path reportDirectory) {
         ExperimentMetaData metaData = model.getExperimentMetaData();
         metaData.setStartDate(LocalDateTime.now());
-        Path reportLocation = ExportUtils.prepareReportDirectory(config, model);
+        if (config.getReportFormat() != null) {
+            metaData.setReportFormat(config.getReportFormat());
+        }
+        MetricsConfiguration metrics = metaData.getMetricsConfiguration().withRules(config.getMetricsConfiguration());
+        metrics.validate();
+        metaData.setMetricsConfiguration(metrics);
+        if (config.getEventListType() != null) {
+            metaData.setEventListType(config.getEventListType());
+        }
+        Path reportLocation = ExportUtils.prepareReportDirectory(config, metaData, reportDirectory);
         Experiment exp = config.traceEnabled()
             ? new Experiment(metaData.getExperimentName(), reportLocation.toString())
             : new Experiment(metaData.getExperimentName(), reportLocation.toString(), "desmoj.core.report.NullOutput",
             "desmoj.core.report.NullOutput", "desmoj.core.report.NullOutput", "desmoj.core.report.NullOutput");
+        metaData.getEventListType().installIn(exp);
         model.connectToExperiment(exp);
 
         exp.setSeedGenerator(metaData.getSeed());
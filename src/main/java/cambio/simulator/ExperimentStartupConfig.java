@@ -1,5 +1,8 @@
 package cambio.simulator;
 
+import cambio.simulator.export.MetricsConfiguration;
+import cambio.simulator.export.ReportFormat;
+import cambio.simulator.models.EventListType;
 import org.jetbrains.annotations.NotNull;
 
 /**
@@ -80,6 +83,53 @@ public class ExperimentStartupConfig {
         hasArg = true)
     private final String mtlLoc;
 
+    @CLIOption(
+        longOpt = "replications",
+        description = "Number of replications of the experiment. Replication i uses the seed of the experiment "
+            + "description plus i and writes its report into its own sub directory. An aggregated summary of all "
+            + "replications is written into the report directory.",
+        hasArg = true)
+    private final int replications;
+
+    @CLIOption(
+        longOpt = "parallelism",
+        description = "Maximum number of replications that are run concurrently. Defaults to the number of "
+            + "available processors.",
+        hasArg = true)
+    private final int parallelism;
+
+    @CLIOption(
+        longOpt = "sweep",
+        description = "File path to a parameter sweep description. Runs the experiment once for each point of the "
+            + "sweep (times the number of replications) and writes a combined result table into the report "
+            + "directory.",
+        hasArg = true)
+    private final String sweepDescLoc;
+
+    @CLIOption(
+        longOpt = "report_format",
+        description = "Format of the raw report datasets. Either 'csv' (one file per dataset) or 'columnar' "
+            + "(few compressed columnar files). Overrides the report format of the experiment description.",
+        hasArg = true)
+    private final String reportFormat;
+
+    @CLIOption(
+        longOpt = "metrics",
+        description = "Comma separated rules that disable, decimate or down-sample report datasets, e.g. "
+            + "'I[*]_Requests_*=off,C[*]_Utilization=interval:0.1,NL_latency=every:10'. Patterns match the full "
+            + "dataset names, '*' matches any characters. Applied after the metrics rules of the experiment "
+            + "description.",
+        hasArg = true)
+    private final String metrics;
+
+    @CLIOption(
+        longOpt = "event_list",
+        description = "Implementation of the future event list of the scheduler. Either 'tree' (default), 'vector' or "
+            + "'calendar'. Only affects the performance, not the results. Overrides the event list of the experiment "
+            + "description.",
+        hasArg = true)
+    private final String eventList;
+
 
     /**
      * Creates a new {@link ExperimentStartupConfig}.
@@ -97,20 +147,39 @@ public class ExperimentStartupConfig {
      *                                simulation (setting this option disables headless mode and requires a display
      * @param debug                   enables debug output
      * @param mtlLoc                  path to the file that describes behavior in MTL
+     * @see Builder
      */
     public ExperimentStartupConfig(@NotNull String archDescLoc, String expDescLoc, String scenario,
                                    String reportLocation,
                                    String reportOverwriteLocation, boolean showProgressBar, boolean debug,
                                    boolean traces, String mtlLoc) {
-        this.archDescLoc = archDescLoc;
-        this.expDescLoc = expDescLoc;
-        this.scenario = scenario;
-        this.reportLocation = reportLocation;
-        this.reportOverwriteLocation = reportOverwriteLocation;
-        this.showProgressBar = showProgressBar;
-        this.debug = debug;
-        this.noTraces = !traces;
-        this.mtlLoc = mtlLoc;
+        this(new Builder(archDescLoc)
+            .experimentDescription(expDescLoc)
+            .scenario(scenario)
+            .reportLocation(reportLocation)
+            .overwriteReportLocation(reportOverwriteLocation)
+            .showProgressBar(showProgressBar)
+            .debug(debug)
+            .traces(traces)
+            .mtl(mtlLoc));
+    }
+
+    private ExperimentStartupConfig(Builder builder) {
+        this.archDescLoc = builder.archDescLoc;
+        this.expDescLoc = builder.expDescLoc;
+        this.scenario = builder.scenario;
+        this.reportLocation = builder.reportLocation;
+        this.reportOverwriteLocation = builder.reportOverwriteLocation;
+        this.showProgressBar = builder.showProgressBar;
+        this.debug = builder.debug;
+        this.noTraces = !builder.traces;
+        this.mtlLoc = builder.mtlLoc;
+        this.replications = builder.replications;
+        this.parallelism = builder.parallelism;
+        this.sweepDescLoc = builder.sweepDescLoc;
+        this.reportFormat = builder.reportFormat;
+        this.metrics = builder.metrics;
+        this.eventList = builder.eventList;
 
         if (expDescLoc == null && scenario == null) {
             throw new RuntimeException("Either a experiment description location or scenario description "
@@ -154,4 +223,212 @@ public class ExperimentStartupConfig {
     public String mtlLoc() {
         return mtlLoc;
     }
+
+    /**
+     * Gets the number of replications that should be run. Is at least 1.
+     */
+    public int getReplications() {
+        return Math.max(1, replications);
+    }
+
+    public String getSweepDescLoc() {
+        return sweepDescLoc;
+    }
+
+    /**
+     * Gets the format in which the raw report datasets should be written.
+     *
+     * @return the report format or {@code null} if the format of the experiment description should be used
+     * @throws IllegalArgumentException if the configured format is unknown
+     */
+    public ReportFormat getReportFormat() {
+        return reportFormat != null ? ReportFormat.fromName(reportFormat) : null;
+    }
+
+    /**
+     * Gets the metrics rules given on the command line.
+     *
+     * @return the parsed rules or {@code null} if no rules were given
+     * @throws IllegalArgumentException if a rule cannot be parsed
+     */
+    public MetricsConfiguration getMetricsConfiguration() {
+        return metrics != null ? MetricsConfiguration.parse(metrics) : null;
+    }
+
+    /**
+     * Gets the future event list implementation that should be used.
+     *
+     * @return the event list type or {@code null} if the event list of the experiment description should be used
+     * @throws IllegalArgumentException if the configured event list is unknown
+     */
+    public EventListType getEventListType() {
+        return eventList != null ? EventListType.fromName(eventList) : null;
+    }
+
+    /**
+     * Gets the maximum number of replications that should run concurrently. Defaults to the number of available
+     * processors.
+     */
+    public int getParallelism() {
+        return parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+    }
+
+    /**
+     * Builds an {@link ExperimentStartupConfig} programmatically. All options that are not set keep the default of
+     * the command line, i.e. traces are enabled, one replication is run and options without value are {@code null}.
+     *
+     * <p>
+     * Example:
+     * <pre>
+     * new ExperimentStartupConfig.Builder("architecture.json")
+     *     .experimentDescription("experiment.json")
+     *     .overwriteReportLocation("report")
+     *     .traces(false)
+     *     .build();
+     * </pre>
+     */
+    public static final class Builder {
+        private final String archDescLoc;
+        private String expDescLoc;
+        private String scenario;
+        private String reportLocation;
+        private String reportOverwriteLocation;
+        private boolean showProgressBar = false;
+        private boolean debug = false;
+        private boolean traces = true;
+        private String mtlLoc;
+        private int replications = 1;
+        private int parallelism = 0;
+        private String sweepDescLoc;
+        private String reportFormat;
+        private String metrics;
+        private String eventList;
+
+        /**
+         * Creates a new builder.
+         *
+         * @param archDescLoc mandatory path to an architecture description
+         */
+        public Builder(@NotNull String archDescLoc) {
+            this.archDescLoc = archDescLoc;
+        }
+
+        /**
+         * Sets the path to an experiment description. Either this or a scenario has to be given.
+         */
+        public Builder experimentDescription(String expDescLoc) {
+            this.expDescLoc = expDescLoc;
+            return this;
+        }
+
+        /**
+         * Sets the path to a scenario description. Ignored if an experiment description is given.
+         */
+        public Builder scenario(String scenario) {
+            this.scenario = scenario;
+            return this;
+        }
+
+        /**
+         * Sets the directory in which a new report directory is created for each run.
+         */
+        public Builder reportLocation(String reportLocation) {
+            this.reportLocation = reportLocation;
+            return this;
+        }
+
+        /**
+         * Sets the report directory, which is cleared before the experiment.
+         */
+        public Builder overwriteReportLocation(String reportOverwriteLocation) {
+            this.reportOverwriteLocation = reportOverwriteLocation;
+            return this;
+        }
+
+        /**
+         * Sets whether a progressbar window is shown. Showing it disables headless mode and requires a display.
+         */
+        public Builder showProgressBar(boolean showProgressBar) {
+            this.showProgressBar = showProgressBar;
+            return this;
+        }
+
+        public Builder debug(boolean debug) {
+            this.debug = debug;
+            return this;
+        }
+
+        public Builder traces(boolean traces) {
+            this.traces = traces;
+            return this;
+        }
+
+        /**
+         * Sets the path to the file that describes behavior in MTL.
+         */
+        public Builder mtl(String mtlLoc) {
+            this.mtlLoc = mtlLoc;
+            return this;
+        }
+
+        /**
+         * Sets the number of replications that should be run.
+         */
+        public Builder replications(int replications) {
+            this.replications = replications;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of concurrently running replications. Values {@code <= 0} select the number of
+         * available processors.
+         */
+        public Builder parallelism(int parallelism) {
+            this.parallelism = parallelism;
+            return this;
+        }
+
+        /**
+         * Sets the path to a parameter sweep description.
+         */
+        public Builder sweepDescription(String sweepDescLoc) {
+            this.sweepDescLoc = sweepDescLoc;
+            return this;
+        }
+
+        /**
+         * Sets the format of the raw report datasets (e.g. {@code "csv"} or {@code "columnar"}). {@code null} keeps
+         * the format of the experiment description.
+         */
+        public Builder reportFormat(String reportFormat) {
+            this.reportFormat = reportFormat;
+            return this;
+        }
+
+        /**
+         * Sets comma separated metrics rules (see {@link MetricsConfiguration#parse(String)}).
+         */
+        public Builder metrics(String metrics) {
+            this.metrics = metrics;
+            return this;
+        }
+
+        /**
+         * Sets the future event list implementation (e.g. {@code "tree"}, {@code "vector"} or {@code "calendar"}).
+         * {@code null} keeps the event list of the experiment description.
+         */
+        public Builder eventList(String eventList) {
+            this.eventList = eventList;
+            return this;
+        }
+
+        /**
+         * Creates the configuration.
+         *
+         * @throws RuntimeException if neither an experiment nor a scenario description was given
+         */
+        public ExperimentStartupConfig build() {
+            return new ExperimentStartupConfig(this);
+        }
+    }
 }
@@ -2,11 +2,12 @@ package cambio.simulator;
 
 import java.util.Arrays;
 
-import cambio.simulator.misc.RNGStorage;
+import cambio.simulator.export.ReplicationSummary;
 import cambio.simulator.misc.Util;
 import cambio.simulator.models.ExperimentMetaData;
 import cambio.simulator.models.MiSimModel;
 import cambio.simulator.parsing.ParsingException;
+import cambio.simulator.sweep.SweepResult;
 import com.google.gson.JsonParseException;
 import desmoj.core.simulator.Experiment;
 import org.apache.commons.cli.ParseException;
@@ -71,6 +72,18 @@ public final class Main {
 
             //---------------------------------------Experiment execution-----------------------------------------------
 
+            if (startupConfig.getSweepDescLoc() != null) {
+                SweepResult result = runSweep(startupConfig);
+                writeCommandLineReport(result);
+                System.exit(result.getFailedRunsCount() > 0 ? 16 : 0);
+            }
+
+            if (startupConfig.getReplications() > 1) {
+                ReplicationSummary summary = runReplications(startupConfig);
+                writeCommandLineReport(summary);
+                System.exit(summary.getFailedReplicationsCount() > 0 ? 16 : 0);
+            }
+
             Experiment experiment = runExperiment(args);
 
             //-------------------------------------------Error handling-------------------------------------------------
@@ -133,8 +146,12 @@ public final class Main {
         // trim whitespaces from arguments to please apache cli
         String[] argsTrimmed = Arrays.stream(args).map(String::trim).toArray(String[]::new);
         try {
-            return CLI.parseArguments(ExperimentStartupConfig.class, argsTrimmed);
-        } catch (ParseException e) {
+            ExperimentStartupConfig config = CLI.parseArguments(ExperimentStartupConfig.class, argsTrimmed);
+            config.getReportFormat(); //fail early on unknown formats
+            config.getMetricsConfiguration(); //and on malformed metrics rules
+            config.getEventListType(); //and on unknown event lists
+            return config;
+        } catch (ParseException | IllegalArgumentException e) {
             System.err.println("[ERROR] " + e.getMessage());
             System.exit(1);
         }
@@ -180,11 +197,48 @@ public final class Main {
         experiment.start();
         experiment.finish();
 
-        RNGStorage.reset();
-
         return experiment;
     }
 
+    /**
+     * Runs multiple seeded replications of the experiment given by the {@link ExperimentStartupConfig}.
+     *
+     * @param startupConfig the experiment startup configuration, including the number of replications and the
+     *                      parallelism
+     * @return the summary of all replications
+     * @see ReplicationRunner
+     */
+    public static @NotNull ReplicationSummary runReplications(final ExperimentStartupConfig startupConfig) {
+        return new ReplicationRunner(startupConfig).run();
+    }
+
+    /**
+     * Runs a parameter sweep over the experiment given by the {@link ExperimentStartupConfig}.
+     *
+     * @param startupConfig the experiment startup configuration, including the location of the sweep description
+     * @return the results of all runs of the sweep
+     * @see SweepRunner
+     */
+    public static @NotNull SweepResult runSweep(final ExperimentStartupConfig startupConfig) {
+        return new SweepRunner(startupConfig).run();
+    }
+
+    private static void writeCommandLineReport(SweepResult result) {
+        System.out.println("\n*** MiSim Sweep Report ***");
+        System.out.println("Runs:                       " + result.getRuns().size());
+        System.out.println("Failed runs:                " + result.getFailedRunsCount());
+    }
+
+    private static void writeCommandLineReport(ReplicationSummary summary) {
+        System.out.println("\n*** MiSim Replication Report ***");
+        System.out.println("Replications:               " + summary.getReplications().size());
+        System.out.println("Failed replications:        " + summary.getFailedReplicationsCount());
+        for (ReplicationSummary.AggregatedMetric metric : summary.getAggregatedMetrics()) {
+            System.out.printf("%-28s%.4f [%.4f, %.4f]%n", metric.getName() + ":", metric.getMean(),
+                metric.getConfidenceIntervalLower(), metric.getConfidenceIntervalUpper());
+        }
+    }
+
     private static void writeCommandLineReport(MiSimModel model) {
         ExperimentMetaData metaData = model.getExperimentMetaData();
         System.out.println("\n*** MiSim Report ***");
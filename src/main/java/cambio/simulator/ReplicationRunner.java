@@ -0,0 +1,106 @@
+package cambio.simulator;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+import cambio.simulator.export.ExportUtils;
+import cambio.simulator.export.ReplicationSummary;
+import cambio.simulator.models.ExperimentMetaData;
+import cambio.simulator.models.MiSimModel;
+import cambio.simulator.parsing.JsonTreeCache;
+import desmoj.core.simulator.Experiment;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Runs multiple seeded replications of the same experiment inside one JVM.
+ *
+ * <p>
+ * Replication {@code i} uses the seed of the experiment description plus {@code i} and writes its report into the sub
+ * directory {@code replication_<i>} of the report directory. The replications run on a fork-join pool with the
+ * configured parallelism. Since every run owns its own {@link cambio.simulator.models.ExecutionContext}, the
+ * replications do not share any state. Only the parsed description files are shared (see {@link JsonTreeCache}), of
+ * which each replication receives its own copy.
+ *
+ * <p>
+ * After all replications finished, a {@link ReplicationSummary} is written into the report directory.
+ *
+ * @see ExperimentStartupConfig#getReplications()
+ * @see ExperimentStartupConfig#getParallelism()
+ */
+public class ReplicationRunner {
+
+    private final ExperimentStartupConfig config;
+    private final ExperimentCreator experimentCreator;
+
+    public ReplicationRunner(@NotNull ExperimentStartupConfig config) {
+        this(config, new ExperimentCreator());
+    }
+
+    public ReplicationRunner(@NotNull ExperimentStartupConfig config, @NotNull ExperimentCreator experimentCreator) {
+        this.config = config;
+        this.experimentCreator = experimentCreator;
+    }
+
+    /**
+     * Runs all replications and writes their summary.
+     *
+     * @return the summary of all replications
+     */
+    public ReplicationSummary run() {
+        final JsonTreeCache jsonTreeCache = new JsonTreeCache();
+        ExperimentMetaData metaData = experimentCreator.createModel(config, jsonTreeCache).getExperimentMetaData();
+        final Path reportLocation = ExportUtils.generateReportPath(config, metaData);
+        final int baseSeed = metaData.getSeed();
+
+        List<Callable<ReplicationSummary.Replication>> replications = new ArrayList<>();
+        for (int i = 0; i < config.getReplications(); i++) {
+            final int index = i;
+            replications.add(() -> runReplication(index, baseSeed + index, reportLocation, jsonTreeCache));
+        }
+
+        System.out.printf("[INFO] Starting %d replications (parallelism %d) at approximately %s%n",
+            replications.size(), config.getParallelism(), java.time.LocalDateTime.now());
+
+        List<ReplicationSummary.Replication> results = new ArrayList<>();
+        ForkJoinPool pool = new ForkJoinPool(config.getParallelism());
+        try {
+            for (Future<ReplicationSummary.Replication> result : pool.invokeAll(replications)) {
+                results.add(result.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for replications to finish.", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("A replication could not be executed.", e.getCause());
+        } finally {
+            pool.shutdown();
+        }
+
+        ReplicationSummary summary = new ReplicationSummary(results, ReplicationSummary.DEFAULT_CONFIDENCE_LEVEL);
+        try {
+            summary.writeTo(reportLocation);
+        } catch (IOException e) {
+            System.out.printf("[Error] Failed to write replication summary to %s%n", reportLocation);
+            if (config.debugOutputOn()) {
+                e.printStackTrace();
+            }
+        }
+        return summary;
+    }
+
+    private ReplicationSummary.Replication runReplication(int index, int seed, Path reportLocation,
+                                                          JsonTreeCache jsonTreeCache) {
+        Path replicationLocation = reportLocation.resolve(String.format("replication_%d", index));
+        Experiment experiment =
+            experimentCreator.createReplicationExperiment(config, seed, replicationLocation, jsonTreeCache);
+        experiment.start();
+        experiment.finish();
+
+        MiSimModel model = (MiSimModel) experiment.getModel();
+        return new ReplicationSummary.Replication(index, seed, experiment.hasError(),
+            model.getExecutionContext().getRunStatistics());
+    }
+}
@@ -0,0 +1,132 @@
+package cambio.simulator;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+import cambio.simulator.export.ExportUtils;
+import cambio.simulator.models.ExperimentMetaData;
+import cambio.simulator.models.MiSimModel;
+import cambio.simulator.parsing.JsonTreeCache;
+import cambio.simulator.parsing.ParsingException;
+import cambio.simulator.sweep.SweepDescription;
+import cambio.simulator.sweep.SweepPoint;
+import cambio.simulator.sweep.SweepResult;
+import desmoj.core.simulator.Experiment;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Runs a parameter sweep over an experiment inside one JVM.
+ *
+ * <p>
+ * The sweep description is expanded into its points (see {@link SweepDescription#expand()}). Each point is simulated
+ * {@link ExperimentStartupConfig#getReplications()} times, where replication {@code r} uses the seed of the experiment
+ * description plus {@code r}. Thus, all points share the same random number streams, which makes their results
+ * directly comparable. Each run writes its report into the sub directory {@code point_<p>} (or
+ * {@code point_<p>/replication_<r>} when multiple replications are run) of the report directory.
+ *
+ * <p>
+ * The runs are executed concurrently on a fork-join pool with the configured parallelism. The description files are
+ * only parsed once per invocation of {@link #run()} and shared between its runs (see {@link JsonTreeCache}). After all
+ * runs finished, a combined {@link SweepResult} table is written into the report directory.
+ *
+ * @see ExperimentStartupConfig#getSweepDescLoc()
+ */
+public class SweepRunner {
+
+    private final ExperimentStartupConfig config;
+    private final SweepDescription sweepDescription;
+    private final ExperimentCreator experimentCreator;
+
+    public SweepRunner(@NotNull ExperimentStartupConfig config) {
+        this(config, SweepDescription.load(new File(config.getSweepDescLoc())), new ExperimentCreator());
+    }
+
+    /**
+     * Creates a new sweep runner.
+     *
+     * @param config            startup configuration of the swept experiment
+     * @param sweepDescription  description of the sweep
+     * @param experimentCreator creator that is used to create the experiment of each run
+     */
+    public SweepRunner(@NotNull ExperimentStartupConfig config, @NotNull SweepDescription sweepDescription,
+                       @NotNull ExperimentCreator experimentCreator) {
+        this.config = config;
+        this.sweepDescription = sweepDescription;
+        this.experimentCreator = experimentCreator;
+    }
+
+    /**
+     * Runs all points of the sweep and writes the combined result table.
+     *
+     * @return the results of all runs
+     * @throws ParsingException if a sweep point references a target that does not exist in the models
+     */
+    public SweepResult run() {
+        final JsonTreeCache jsonTreeCache = new JsonTreeCache();
+        ExperimentMetaData metaData = experimentCreator.createModel(config, jsonTreeCache).getExperimentMetaData();
+        final Path reportLocation = ExportUtils.generateReportPath(config, metaData);
+        final int baseSeed = metaData.getSeed();
+        final int replications = config.getReplications();
+
+        List<SweepPoint> points = sweepDescription.expand();
+        List<Callable<SweepResult.Run>> runs = new ArrayList<>();
+        for (SweepPoint point : points) {
+            for (int r = 0; r < replications; r++) {
+                final int replication = r;
+                Path runLocation = reportLocation.resolve(String.format("point_%d", point.getIndex()));
+                if (replications > 1) {
+                    runLocation = runLocation.resolve(String.format("replication_%d", replication));
+                }
+                final Path location = runLocation;
+                runs.add(() -> runPoint(point, replication, baseSeed + replication, location, jsonTreeCache));
+            }
+        }
+
+        System.out.printf("[INFO] Starting sweep with %d points and %d runs (parallelism %d) at approximately %s%n",
+            points.size(), runs.size(), config.getParallelism(), java.time.LocalDateTime.now());
+
+        List<SweepResult.Run> results = new ArrayList<>();
+        ForkJoinPool pool = new ForkJoinPool(config.getParallelism());
+        try {
+            for (Future<SweepResult.Run> result : pool.invokeAll(runs)) {
+                results.add(result.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for the sweep to finish.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof ParsingException) {
+                throw (ParsingException) e.getCause();
+            }
+            throw new IllegalStateException("A sweep point could not be executed.", e.getCause());
+        } finally {
+            pool.shutdown();
+        }
+
+        SweepResult sweepResult = new SweepResult(results);
+        try {
+            sweepResult.writeTo(reportLocation);
+        } catch (IOException e) {
+            System.out.printf("[Error] Failed to write sweep results to %s%n", reportLocation);
+            if (config.debugOutputOn()) {
+                e.printStackTrace();
+            }
+        }
+        return sweepResult;
+    }
+
+    private SweepResult.Run runPoint(SweepPoint point, int replication, int seed, Path location,
+                                     JsonTreeCache jsonTreeCache) {
+        Experiment experiment = experimentCreator.createSweepExperiment(config, point, seed, location, jsonTreeCache);
+        experiment.start();
+        experiment.finish();
+
+        MiSimModel model = (MiSimModel) experiment.getModel();
+        return new SweepResult.Run(point, replication, seed, experiment.hasError(),
+            model.getExecutionContext().getRunStatistics());
+    }
+}
@@ -1,6 +1,5 @@
 package cambio.simulator.behavior;
 
-import cambio.simulator.EventBus;
 import cambio.simulator.entities.microservice.Microservice;
 import cambio.simulator.events.ChaosMonkeyEvent;
 import cambio.simulator.events.HookEvent;
@@ -31,14 +30,14 @@ public final class EventBusConnector {
                 Microservice targetMS = NameResolver.resolveMicroserviceName(model,
                     eventActivationListener.getValueOrEventName().replace(".fail", ""));
 
-                EventBus.subscribe(ChaosMonkeyEvent.class, (e) -> {
+                model.getExecutionContext().getEventBus().subscribe(ChaosMonkeyEvent.class, (e) -> {
                     if (e.getTargetService().equals(targetMS)) {
                         eventActivationListener.activate(new TimeInstance(model.presentTime().getTimeAsDouble()));
                     }
                 });
             } else if (eventName.startsWith("event.")) {
                 String registeredName = eventName.replace("event.", "");
-                EventBus.subscribe(HookEvent.class, (event) -> {
+                model.getExecutionContext().getEventBus().subscribe(HookEvent.class, (event) -> {
                     if (event.getData().getEventName().equals(registeredName)) {
                         eventActivationListener.updateValue(event.getValue(),
                             new TimeInstance(model.presentTime().getTimeAsDouble()));
@@ -0,0 +1,68 @@
+package cambio.simulator.entities;
+
+import java.util.function.Supplier;
+
+import desmoj.core.simulator.Model;
+import desmoj.core.simulator.ModelComponent;
+
+/**
+ * Utility for naming the short-lived entities and events that are created for every request, e.g. send and receive
+ * events or internal requests.
+ *
+ * <p>
+ * Descriptive names of these objects are concatenated from the names of other entities, which is a noticeable cost
+ * per request. However, such names are only ever read by the trace and debug output. Therefore, the descriptive name is
+ * only built if this output is active for the respective object. Otherwise, a constant name is used, to which DESMO-J
+ * still appends its unique object number.
+ */
+public final class EntityNames {
+
+    private EntityNames() {
+    }
+
+    /**
+     * Whether objects of the given model should be named descriptively.
+     *
+     * @param model       model the named object belongs to
+     * @param showInTrace whether the named object is shown in the trace
+     * @return true, if the named object may appear in the trace or debug output
+     */
+    public static boolean isDescriptive(Model model, boolean showInTrace) {
+        return (showInTrace && model.traceIsOn()) || model.debugIsOn();
+    }
+
+    /**
+     * Whether objects that are created by the given owner should be named descriptively.
+     *
+     * @param owner model component that creates the named object
+     * @return true, if the owner currently produces trace or debug output
+     */
+    public static boolean isDescriptive(ModelComponent owner) {
+        return owner.traceIsOn() || owner.debugIsOn();
+    }
+
+    /**
+     * Chooses the name of a new object of the given model.
+     *
+     * @param model           model the named object belongs to
+     * @param showInTrace     whether the named object is shown in the trace
+     * @param constantName    name that is used if no trace or debug output is active
+     * @param descriptiveName creates the descriptive name, is only called if trace or debug output is active
+     * @return the name for the new object
+     */
+    public static String of(Model model, boolean showInTrace, String constantName, Supplier<String> descriptiveName) {
+        return isDescriptive(model, showInTrace) ? descriptiveName.get() : constantName;
+    }
+
+    /**
+     * Chooses the name of a new object that is created by the given owner.
+     *
+     * @param owner           model component that creates the named object
+     * @param constantName    name that is used if the owner produces no trace or debug output
+     * @param descriptiveName creates the descriptive name, is only called if trace or debug output is active
+     * @return the name for the new object
+     */
+    public static String of(ModelComponent owner, String constantName, Supplier<String> descriptiveName) {
+        return isDescriptive(owner) ? descriptiveName.get() : constantName;
+    }
+}
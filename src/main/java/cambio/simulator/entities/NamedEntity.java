@@ -9,8 +9,9 @@ import desmoj.core.simulator.Model;
  * guaranteed to be unique.
  *
  * <p>
- * Also pre-computes the names of the entity so the strings are not generated on every method call. This gives a
- * performance improvement over the default implementation when read a large amount of names.
+ * Also caches the quoted names of the entity so the strings are not generated on every method call. This gives a
+ * performance improvement over the default implementation when read a large amount of names. The quoted names are
+ * only built on first use, since most entities are never named in any output.
  * </p>
  *
  * <p>
@@ -36,8 +37,6 @@ public abstract class NamedEntity extends Entity {
     public NamedEntity(Model model, String name, boolean showInTrace) {
         super(model, name, showInTrace);
         this.plainName = name;
-        this.quotedPlainName = "'" + name + "'";
-        this.quotedName = super.getQuotedName();
     }
 
     public String getPlainName() {
@@ -51,8 +50,8 @@ public abstract class NamedEntity extends Entity {
     public void rename(String name) {
         super.rename(name);
         this.plainName = name;
-        this.quotedPlainName = "'" + name + "'";
-        this.quotedName = super.getQuotedName();
+        this.quotedPlainName = null;
+        this.quotedName = null;
     }
 
     /**
@@ -61,6 +60,9 @@ public abstract class NamedEntity extends Entity {
      * @return the plain name of this entity surrounded with ' quotes.
      */
     public String getQuotedPlainName() {
+        if (this.quotedPlainName == null) {
+            this.quotedPlainName = "'" + plainName + "'";
+        }
         return this.quotedPlainName;
     }
 
@@ -71,6 +73,9 @@ public abstract class NamedEntity extends Entity {
      */
     @Override
     public String getQuotedName() {
+        if (this.quotedName == null) {
+            this.quotedName = super.getQuotedName();
+        }
         return this.quotedName;
     }
 }
@@ -1,6 +1,6 @@
 package cambio.simulator.entities;
 
-import cambio.simulator.EventBus;
+import cambio.simulator.models.ExecutionContext;
 import co.paralleluniverse.fibers.SuspendExecution;
 import desmoj.core.simulator.ExternalEvent;
 import desmoj.core.simulator.Model;
@@ -11,8 +11,9 @@ import desmoj.core.simulator.Model;
  * guaranteed to be unique.
  *
  * <p>
- * Also pre-computes the names of the entity so the strings are not generated on every method call. This gives a
- * performance improvement over the default implementation when read a large amount of names.
+ * Also caches the quoted names of the entity so the strings are not generated on every method call. This gives a
+ * performance improvement over the default implementation when read a large amount of names. The quoted names are
+ * only built on first use, since most entities are never named in any output.
  * </p>
  *
  * <p>
@@ -26,6 +27,7 @@ public abstract class NamedExternalEvent extends ExternalEvent {
     private String plainName;
     private String quotedName;
     private String quotedPlainName;
+    private final ExecutionContext executionContext;
 
     /**
      * Constructs a new named event.
@@ -37,8 +39,7 @@ public abstract class NamedExternalEvent extends ExternalEvent {
     public NamedExternalEvent(Model model, String name, boolean showInTrace) {
         super(model, name, showInTrace);
         this.plainName = name;
-        this.quotedPlainName = "'" + name + "'";
-        this.quotedName = super.getQuotedName();
+        this.executionContext = ExecutionContext.of(model);
     }
 
     public String getPlainName() {
@@ -52,8 +53,8 @@ public abstract class NamedExternalEvent extends ExternalEvent {
     public void rename(String name) {
         super.rename(name);
         this.plainName = name;
-        this.quotedPlainName = "'" + name + "'";
-        this.quotedName = super.getQuotedName();
+        this.quotedPlainName = null;
+        this.quotedName = null;
     }
 
     /**
@@ -62,6 +63,9 @@ public abstract class NamedExternalEvent extends ExternalEvent {
      * @return the plain name of this entity surrounded with ' quotes.
      */
     public String getQuotedPlainName() {
+        if (this.quotedPlainName == null) {
+            this.quotedPlainName = "'" + plainName + "'";
+        }
         return this.quotedPlainName;
     }
 
@@ -72,13 +76,46 @@ public abstract class NamedExternalEvent extends ExternalEvent {
      */
     @Override
     public String getQuotedName() {
+        if (this.quotedName == null) {
+            this.quotedName = super.getQuotedName();
+        }
         return this.quotedName;
     }
 
+    /**
+     * Prepares this event for its reuse from an {@link cambio.simulator.models.EventPool}. Afterwards, the event has
+     * the same name and trace setting as if it was newly constructed with the given arguments.
+     *
+     * @param name        The new name of this event.
+     * @param showInTrace Flag indicating whether the event should be shown in the trace.
+     */
+    protected void reuse(String name, boolean showInTrace) {
+        if (!name.equals(plainName)) {
+            rename(name);
+        }
+        if (showInTrace) {
+            traceOn();
+        } else {
+            traceOff();
+        }
+    }
+
+    /**
+     * Gets the execution context of the model this event belongs to.
+     *
+     * @return the execution context of the owning model
+     */
+    protected final ExecutionContext getExecutionContext() {
+        return this.executionContext;
+    }
+
     @Override
     public final void eventRoutine() throws SuspendExecution {
-        EventBus.post(this);
-        this.onRoutineExecution();
+        synchronized (executionContext) {
+            executionContext.countExecutedEvent();
+            executionContext.getEventBus().post(this);
+            this.onRoutineExecution();
+        }
     }
 
     public abstract void onRoutineExecution() throws SuspendExecution;
@@ -1,6 +1,6 @@
 package cambio.simulator.entities;
 
-import cambio.simulator.EventBus;
+import cambio.simulator.models.ExecutionContext;
 import co.paralleluniverse.fibers.SuspendExecution;
 import desmoj.core.simulator.Model;
 import desmoj.core.simulator.SimProcess;
@@ -11,8 +11,9 @@ import desmoj.core.simulator.SimProcess;
  * guaranteed to be unique.
  *
  * <p>
- * Also pre-computes the names of the entity so the strings are not generated on every method call. This gives a
- * performance improvement over the default implementation when read a large amount of names.
+ * Also caches the quoted names of the entity so the strings are not generated on every method call. This gives a
+ * performance improvement over the default implementation when read a large amount of names. The quoted names are
+ * only built on first use, since most entities are never named in any output.
  * </p>
  *
  * <p>
@@ -26,6 +27,7 @@ public abstract class NamedSimProcess extends SimProcess {
     private String plainName;
     private String quotedName;
     private String quotedPlainName;
+    private final ExecutionContext executionContext;
 
     /**
      * Constructs a new named non-repeating simulation process.
@@ -49,8 +51,7 @@ public abstract class NamedSimProcess extends SimProcess {
     public NamedSimProcess(Model model, String name, boolean repeating, boolean showInTrace) {
         super(model, name, repeating, showInTrace);
         this.plainName = name;
-        this.quotedPlainName = "'" + name + "'";
-        this.quotedName = super.getQuotedName();
+        this.executionContext = ExecutionContext.of(model);
     }
 
     public String getPlainName() {
@@ -64,13 +65,30 @@ public abstract class NamedSimProcess extends SimProcess {
     public void rename(String name) {
         super.rename(name);
         this.plainName = name;
-        this.quotedPlainName = "'" + name + "'";
-        this.quotedName = super.getQuotedName();
+        this.quotedPlainName = null;
+        this.quotedName = null;
     }
 
+    /**
+     * Gets the execution context of the model this process belongs to.
+     *
+     * @return the execution context of the owning model
+     */
+    protected final ExecutionContext getExecutionContext() {
+        return this.executionContext;
+    }
+
+    /**
+     * Posts the activation of this process to the {@link cambio.simulator.EventBus} of its run. Subclasses that
+     * override this method must guard their state changes by synchronizing on {@link #getExecutionContext()} but must
+     * not hold the monitor while suspending (e.g., via {@code hold} or {@code passivate}).
+     */
     @Override
     public void lifeCycle() throws SuspendExecution {
-        EventBus.post(this);
+        synchronized (executionContext) {
+            executionContext.countExecutedEvent();
+            executionContext.getEventBus().post(this);
+        }
     }
 
     /**
@@ -79,6 +97,9 @@ public abstract class NamedSimProcess extends SimProcess {
      * @return the plain name of this entity surrounded with ' quotes.
      */
     public String getQuotedPlainName() {
+        if (this.quotedPlainName == null) {
+            this.quotedPlainName = "'" + plainName + "'";
+        }
         return this.quotedPlainName;
     }
 
@@ -89,6 +110,9 @@ public abstract class NamedSimProcess extends SimProcess {
      */
     @Override
     public String getQuotedName() {
+        if (this.quotedName == null) {
+            this.quotedName = super.getQuotedName();
+        }
         return this.quotedName;
     }
 }
@@ -1,18 +1,16 @@
 package cambio.simulator.entities.generator;
 
+import java.io.BufferedReader;
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
-import java.util.*;
+import java.util.Arrays;
+import java.util.Objects;
 import java.util.concurrent.TimeUnit;
-import java.util.stream.Collector;
 
-import cambio.simulator.misc.CollectorImpl;
 import cambio.simulator.parsing.JsonTypeName;
-import com.google.common.base.Strings;
 import com.google.gson.annotations.SerializedName;
 import desmoj.core.simulator.TimeInstant;
-import org.javatuples.Pair;
 
 /**
  * Adds properties to a {@link LoadGeneratorDescription} for describing a limbo load model-based load generator.
@@ -37,8 +35,9 @@ public class LimboLoadGeneratorDescription extends LoadGeneratorDescription {
 
     private static final class LimboArrivalRateModel extends ArrivalRateModel {
 
-        private final List<Pair<Double, Integer>> arrivalPairs;
-        private Iterator<Pair<Double, Integer>> arrivalPairsIterator;
+        private final ArrivalProfile profile;
+        private final long duration;
+        private int nextPosition = 0;
 
         private int leftOverDemandForCurrentTargetTime = 0;
         private long currentTargetTime = Long.MIN_VALUE;
@@ -49,21 +48,23 @@ public class LimboLoadGeneratorDescription extends LoadGeneratorDescription {
                 System.out.println("[Error] Model file was not defined in experiment description.");
                 return "Model file was not defined in experiment description";
             });
-            arrivalPairs = getPairList(modelFile);
-            arrivalPairsIterator = arrivalPairs.iterator();
+            profile = ArrivalProfile.read(modelFile);
+            duration = profile.size() == 0
+                ? 0
+                : (new TimeInstant(profile.getTime(profile.size() - 1))).getTimeInEpsilon();
         }
 
 
         @Override
         protected long getDuration() {
-            return (new TimeInstant(arrivalPairs.get(arrivalPairs.size() - 1).getValue0())).getTimeInEpsilon();
+            return duration;
         }
 
         @Override
         protected void resetModelIteration() {
             leftOverDemandForCurrentTargetTime = 0;
             currentTargetTime = -1;
-            arrivalPairsIterator = arrivalPairs.iterator();
+            nextPosition = 0;
         }
 
         @Override
@@ -75,7 +76,7 @@ public class LimboLoadGeneratorDescription extends LoadGeneratorDescription {
 
         @Override
         public boolean hasNext() {
-            return arrivalPairsIterator.hasNext()
+            return nextPosition < profile.size()
                 || (leftOverDemandForCurrentTargetTime > 0 && currentTargetTime >= 0);
         }
 
@@ -86,55 +87,181 @@ public class LimboLoadGeneratorDescription extends LoadGeneratorDescription {
             }
 
             if (leftOverDemandForCurrentTargetTime <= 0) {
-                Pair<Double, Integer> next = arrivalPairsIterator.next();
-                currentTargetTime = (new TimeInstant(next.getValue0(), TimeUnit.SECONDS)).getTimeInEpsilon();
+                currentTargetTime =
+                    (new TimeInstant(profile.getTime(nextPosition), TimeUnit.SECONDS)).getTimeInEpsilon();
                 double scaleFactor = 1.0;
                 if (this.scaleFactor != null) {
                     scaleFactor = this.scaleFactor.getValue(currentTargetTime);
                 }
-                leftOverDemandForCurrentTargetTime = (int) (next.getValue1() * scaleFactor);
+                leftOverDemandForCurrentTargetTime = (int) (profile.getLoad(nextPosition) * scaleFactor);
+                nextPosition++;
                 return next();
             } else {
                 leftOverDemandForCurrentTargetTime--;
                 return currentTargetTime;
             }
         }
+    }
+
+    /**
+     * Arrival times and loads of a limbo profile, ordered by time and stored in primitive arrays.
+     *
+     * <p>
+     * The profile is read line by line, so even month-long traces only occupy a few bytes per entry. Entries with a
+     * negative time or without load are dropped. Since profiles are usually already ordered by time, the entries are
+     * only sorted if an entry was found that is earlier than its predecessor. Entries with the same time keep the
+     * order of the file.
+     */
+    static final class ArrivalProfile {
+
+        private static final int INITIAL_CAPACITY = 1024;
+
+        private double[] times = new double[INITIAL_CAPACITY];
+        private int[] loads = new int[INITIAL_CAPACITY];
+        private int size = 0;
+        private boolean sorted = true;
+
+        private ArrivalProfile() {
+        }
 
-        private List<Pair<Double, Integer>> getPairList(File limboProfile) {
-            List<Pair<Double, Integer>> tmpList;
-            try {
-                List<String> lines = Files.readAllLines(limboProfile.toPath());
-                tmpList = lines.parallelStream()
-                    .filter(line -> !Strings.isNullOrEmpty(line))
-                    .map(line -> {
-                        String[] split = line.split("[;,]");
-                        if (split.length != 2) {
-                            throw new ArrayIndexOutOfBoundsException("Malformed Limbo File");
-                        }
-                        return new Pair<>(Double.valueOf(split[0]), (int) Math.round(Double.parseDouble(
-                            split[1]))); //Orientated at the HTTP Loadgenerator, which just casts double values to ints
-                    })
-                    // ensure time constraints and remove entries with 0 (or negative) load
-                    .filter(pair -> pair.getValue0() >= 0 && pair.getValue1() > 0)
-                    // collect into a linked list
-                    .collect(
-                        new CollectorImpl<Pair<Double, Integer>, LinkedList<Pair<Double, Integer>>,
-                            LinkedList<Pair<Double, Integer>>>(LinkedList::new, LinkedList::add, (pairs, pairs2) -> {
-                            pairs.addAll(pairs2);
-                            return pairs;
-                        }, new HashSet<>() {
-                            {
-                                add(Collector.Characteristics.IDENTITY_FINISH);
-                            }
-                        })
-                    );
-                tmpList.sort(Comparator.comparing(Pair::getValue0)); //ensure sorting by time
-                return tmpList;
-
-            } catch (IOException | ArrayIndexOutOfBoundsException e) {
+        /**
+         * Reads the given limbo profile. Each non-empty line has to contain a time (in seconds) and a load, separated
+         * by a ';' or a ','.
+         *
+         * @param limboProfile csv file containing the profile
+         * @return the entries of the profile, ordered by time
+         * @throws RuntimeException if the file cannot be read or is malformed
+         */
+        static ArrivalProfile read(File limboProfile) {
+            ArrivalProfile profile = new ArrivalProfile();
+            try (BufferedReader reader = Files.newBufferedReader(limboProfile.toPath())) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (!line.isEmpty()) {
+                        profile.parse(line);
+                    }
+                }
+            } catch (IOException | IllegalArgumentException e) {
                 throw new RuntimeException(String.format("Could not read limbo model '%s' correctly",
                     limboProfile.getAbsolutePath()), e);
             }
+            profile.trimToSize();
+            if (!profile.sorted) {
+                profile.sortByTime();
+            }
+            return profile;
+        }
+
+        private void parse(String line) {
+            int separator = indexOfSeparator(line, 0);
+            if (separator < 0) {
+                throw new IllegalArgumentException("Malformed Limbo File");
+            }
+            int end = indexOfSeparator(line, separator + 1);
+            if (end < 0) {
+                end = line.length();
+            } else {
+                // only trailing separators may follow the load
+                for (int i = end; i < line.length(); i++) {
+                    if (!isSeparator(line.charAt(i))) {
+                        throw new IllegalArgumentException("Malformed Limbo File");
+                    }
+                }
+            }
+
+            double time = Double.parseDouble(line.substring(0, separator));
+            //Orientated at the HTTP Loadgenerator, which just casts double values to ints
+            int load = (int) Math.round(Double.parseDouble(line.substring(separator + 1, end)));
+
+            // ensure time constraints and remove entries with 0 (or negative) load
+            if (time >= 0 && load > 0) {
+                add(time, load);
+            }
+        }
+
+        private void add(double time, int load) {
+            if (size == times.length) {
+                times = Arrays.copyOf(times, size * 2);
+                loads = Arrays.copyOf(loads, size * 2);
+            }
+            if (size > 0 && Double.compare(time, times[size - 1]) < 0) {
+                sorted = false;
+            }
+            times[size] = time;
+            loads[size] = load;
+            size++;
+        }
+
+        /**
+         * Releases the capacity that was reserved for further entries while parsing.
+         */
+        private void trimToSize() {
+            if (times.length != size) {
+                times = Arrays.copyOf(times, size);
+                loads = Arrays.copyOf(loads, size);
+            }
+        }
+
+        /**
+         * Sorts the entries by time with a merge sort over both arrays. The sort is stable, so entries with the same
+         * time keep their order.
+         */
+        private void sortByTime() {
+            mergeSort(0, size, new double[size], new int[size]);
+            sorted = true;
+        }
+
+        private void mergeSort(int from, int to, double[] timeBuffer, int[] loadBuffer) {
+            if (to - from < 2) {
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            mergeSort(from, middle, timeBuffer, loadBuffer);
+            mergeSort(middle, to, timeBuffer, loadBuffer);
+            if (Double.compare(times[middle - 1], times[middle]) <= 0) {
+                return; // both halves are already in order
+            }
+
+            System.arraycopy(times, from, timeBuffer, from, to - from);
+            System.arraycopy(loads, from, loadBuffer, from, to - from);
+            int left = from;
+            int right = middle;
+            for (int i = from; i < to; i++) {
+                if (right >= to || left < middle && Double.compare(timeBuffer[left], timeBuffer[right]) <= 0) {
+                    times[i] = timeBuffer[left];
+                    loads[i] = loadBuffer[left];
+                    left++;
+                } else {
+                    times[i] = timeBuffer[right];
+                    loads[i] = loadBuffer[right];
+                    right++;
+                }
+            }
+        }
+
+        private static int indexOfSeparator(String line, int fromIndex) {
+            for (int i = fromIndex; i < line.length(); i++) {
+                if (isSeparator(line.charAt(i))) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        private static boolean isSeparator(char c) {
+            return c == ';' || c == ',';
+        }
+
+        int size() {
+            return size;
+        }
+
+        double getTime(int index) {
+            return times[index];
+        }
+
+        int getLoad(int index) {
+            return loads[index];
         }
     }
 }
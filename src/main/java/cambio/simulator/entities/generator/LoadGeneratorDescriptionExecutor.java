@@ -1,7 +1,5 @@
 package cambio.simulator.entities.generator;
 
-import static cambio.simulator.export.MiSimReporters.GENERATOR_REPORTER;
-
 import cambio.simulator.entities.NamedSimProcess;
 import cambio.simulator.entities.microservice.NoInstanceAvailableException;
 import cambio.simulator.entities.microservice.Operation;
@@ -10,6 +8,7 @@ import cambio.simulator.entities.patterns.IPatternLifeCycleHooks;
 import cambio.simulator.events.ISelfScheduled;
 import cambio.simulator.export.AccumulativeDataPointReporter;
 import cambio.simulator.export.BucketMultiDataPointReporter;
+import cambio.simulator.models.ExecutionContext;
 import co.paralleluniverse.fibers.SuspendExecution;
 import desmoj.core.simulator.Model;
 import desmoj.core.simulator.TimeInstant;
@@ -40,6 +39,7 @@ public final class LoadGeneratorDescriptionExecutor extends RequestSender implem
      * Reporters
      */
     private final AccumulativeDataPointReporter accReporter;
+    private final ExecutionContext executionContext;
     private final LoadGeneratorDescription loadGeneratorDescription;
 
     /**
@@ -55,6 +55,7 @@ public final class LoadGeneratorDescriptionExecutor extends RequestSender implem
             : "Generator", true);
 
         this.model = model;
+        this.executionContext = ExecutionContext.of(model);
         this.loadGeneratorDescription = loadGeneratorDescription;
         this.targetOperation = loadGeneratorDescription.targetOperation;
         super.sendTraceNote("starting Generator " + this.getQuotedName());
@@ -97,9 +98,11 @@ public final class LoadGeneratorDescriptionExecutor extends RequestSender implem
         //also creates a datapoint for successful requests, so they can be directly compared
         accReporter.addDatapoint("SuccessfulRequests", currentTime, 0);
 
-        GENERATOR_REPORTER.addDatapoint("FailedRequests", currentTime, 1);
+        AccumulativeDataPointReporter generatorReporter = executionContext.getReporters().getGeneratorReporter();
+        generatorReporter.addDatapoint("FailedRequests", currentTime, 1);
         //also creates a datapoint for successful requests, so they can be directly compared
-        GENERATOR_REPORTER.addDatapoint("SuccessfulRequests", currentTime, 0);
+        generatorReporter.addDatapoint("SuccessfulRequests", currentTime, 0);
+        executionContext.getRunStatistics().countFailedRequest();
 
         return true;
     }
@@ -117,9 +120,11 @@ public final class LoadGeneratorDescriptionExecutor extends RequestSender implem
         accReporter.addDatapoint("FailedRequests", currentTime, 0);
 
 
-        GENERATOR_REPORTER.addDatapoint("FailedRequests", currentTime, 0);
+        AccumulativeDataPointReporter generatorReporter = executionContext.getReporters().getGeneratorReporter();
+        generatorReporter.addDatapoint("FailedRequests", currentTime, 0);
         //also creates a datapoint for successful requests, so they can be directly compared
-        GENERATOR_REPORTER.addDatapoint("SuccessfulRequests", currentTime, 1);
+        generatorReporter.addDatapoint("SuccessfulRequests", currentTime, 1);
+        executionContext.getRunStatistics().countSuccessfulRequest();
         return true;
     }
 
@@ -142,7 +147,7 @@ public final class LoadGeneratorDescriptionExecutor extends RequestSender implem
         @Override
         public void lifeCycle() throws SuspendExecution {
             // TODO: find the actual root cause of race conditions and handle them properly
-            synchronized (NamedSimProcess.class) {
+            synchronized (getExecutionContext()) {
                 super.lifeCycle();
                 sendNewUserRequest();
                 accReporter.addDatapoint("Load", presentTime(), 1);
@@ -1,7 +1,6 @@
 package cambio.simulator.entities.generator;
 
 import cambio.simulator.entities.NamedExternalEvent;
-import cambio.simulator.entities.NamedSimProcess;
 import co.paralleluniverse.fibers.SuspendExecution;
 import desmoj.core.simulator.Model;
 import desmoj.core.simulator.TimeSpan;
@@ -34,9 +33,7 @@ public class ScaleLoadEvent extends NamedExternalEvent {
 
     @Override
     public void onRoutineExecution() throws SuspendExecution {
-        synchronized (NamedSimProcess.class) {
-            executor.scaleLoad(scaleFactor);
-        }
+        executor.scaleLoad(scaleFactor);
     }
 
 }
@@ -1,7 +1,6 @@
 package cambio.simulator.entities.microservice;
 
 import java.util.*;
-import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 import cambio.simulator.entities.NamedEntity;
@@ -10,6 +9,9 @@ import cambio.simulator.entities.patterns.*;
 import cambio.simulator.export.ListCollectingReporter;
 import cambio.simulator.export.MultiDataPointReporter;
 import cambio.simulator.export.SnapshotDataPointReporter;
+import cambio.simulator.resources.cpu.CPU;
+import cambio.simulator.resources.cpu.CPUType;
+import cambio.simulator.resources.cpu.scheduling.SchedulerConfiguration;
 import com.google.gson.annotations.Expose;
 import com.google.gson.annotations.SerializedName;
 import desmoj.core.dist.NumericalDist;
@@ -59,12 +61,29 @@ public class Microservice extends NamedEntity {
     @Expose
     private int capacity = 1;
 
+    @Expose
+    @SerializedName(value = "capacity_per_thread", alternate = {"thread_capacity"})
+    private double capacityPerThread = 0;
+
+    @Expose
+    @SerializedName(value = "threads", alternate = {"thread_pool_size", "threadpool_size"})
+    private int threadPoolSize = CPU.DEFAULT_THREADPOOL_SIZE;
+
+    @Expose
+    @SerializedName(value = "cpu", alternate = {"cpu_model", "cpu_type"})
+    private CPUType cpuType = CPUType.BURST;
+
+    @Expose
+    @SerializedName(value = "scheduler", alternate = {"cpu_scheduler"})
+    private SchedulerConfiguration scheduler = SchedulerConfiguration.DEFAULT;
+
     @Expose
     @SerializedName(value = "instances", alternate = {"starting_instance_count", "starting_instances"})
     private int startingInstanceCount = 1;
 
     @Expose
     private Operation[] operations = new Operation[0];
+    private transient Map<String, Operation> operationsByName;
 
     @Expose
     @SerializedName(value = "i_patterns",
@@ -108,12 +127,68 @@ public class Microservice extends NamedEntity {
         return "'" + this.getName() + "'";
     }
 
+    /**
+     * Gets the total capacity of the CPU of each instance, rounded to an integer.
+     *
+     * @deprecated ignores the fraction of a capacity that is given per thread, use {@link #getCpuCapacity()} instead.
+     */
+    @Deprecated
     public int getCapacity() {
-        return capacity;
+        return (int) Math.round(getCpuCapacity());
     }
 
+    /**
+     * Sets the total capacity of the CPU of each instance. Overrides a configured capacity per thread.
+     */
     public void setCapacity(int capacity) {
         this.capacity = capacity;
+        this.capacityPerThread = 0;
+    }
+
+    /**
+     * Gets the total capacity of the CPU of each instance. If a capacity per thread is configured, this is the capacity
+     * per thread times the thread count, otherwise the configured capacity.
+     *
+     * @return the total CPU capacity of each instance
+     */
+    public double getCpuCapacity() {
+        return capacityPerThread > 0 ? capacityPerThread * getThreadPoolSize() : capacity;
+    }
+
+    /**
+     * Gets the configured capacity of each thread of the CPU of each instance.
+     *
+     * @return the capacity per thread or 0, if the total capacity is configured instead
+     */
+    public double getCapacityPerThread() {
+        return capacityPerThread;
+    }
+
+    /**
+     * Gets the number of threads of the CPU of each instance.
+     *
+     * @return the thread pool size, 4 by default
+     */
+    public int getThreadPoolSize() {
+        return threadPoolSize;
+    }
+
+    /**
+     * Gets the configuration of the scheduler that the CPU of each instance uses. Not used by processor sharing CPUs.
+     *
+     * @return the scheduler configuration, a FIFO scheduler by default
+     */
+    public SchedulerConfiguration getSchedulerConfiguration() {
+        return scheduler == null ? SchedulerConfiguration.DEFAULT : scheduler;
+    }
+
+    /**
+     * Gets the CPU model that new instances of this service use.
+     *
+     * @return the CPU model of this service, {@link CPUType#BURST} by default
+     */
+    public CPUType getCpuType() {
+        return cpuType == null ? CPUType.BURST : cpuType;
     }
 
 
@@ -212,27 +287,46 @@ public class Microservice extends NamedEntity {
         return operations;
     }
 
+    /**
+     * Gets the configurations of the patterns that are activated on each instance of this service. Changes to the
+     * configurations only affect instances that are started afterwards.
+     *
+     * @return the instance owned pattern configurations of this service
+     */
+    public InstanceOwnedPatternConfiguration[] getInstanceOwnedPatternConfigurations() {
+        return instanceOwnedPatternConfigurations;
+    }
+
     public void setOperations(Operation[] operations) {
         this.operations = operations;
+        this.operationsByName = null;
     }
 
     /**
-     * Searches an {@code Operation} that has the name that is given as an argument. The real name of the operation may
-     * differ. It may starts with the name of this microservice instance or ands with a '#' and a number.
+     * Searches an {@code Operation} that has the name that is given as an argument. The name can either be the plain
+     * name of the operation or its name including the number assigned by DESMO-J (e.g. {@code op#2}).
      *
      * @param name name of the operation that should be found
      * @return an operation that has exactly that name, {@code null} if not found
      */
     public Operation getOperationByName(String name) {
-
-        //format of the name: (this.getName()_)name(#[0-9]+), (..) being 'optional' and [..] 'pick one from'
-        Pattern searchPattern =
-            Pattern.compile(String.format("^(\\Q%s\\E_)?\\(?\\Q%s\\E\\)?(#[0-9]+)?$", this.getName(), name));
-
-        return Arrays.stream(operations)
-            .filter(operation -> searchPattern.matcher(operation.getName()).matches())
-            .findFirst()
-            .orElse(null);
+        if (operationsByName == null) {
+            Map<String, Operation> index = new HashMap<>();
+            for (Operation operation : operations) {
+                index.putIfAbsent(operation.getPlainName(), operation);
+            }
+            operationsByName = index;
+        }
+        Operation operation = operationsByName.get(name);
+        if (operation != null) {
+            return operation;
+        }
+        for (Operation candidate : operations) {
+            if (candidate.getName().equals(name)) {
+                return candidate;
+            }
+        }
+        return null;
     }
 
     /**
@@ -243,7 +337,9 @@ public class Microservice extends NamedEntity {
      */
     public MicroserviceInstance getNextAvailableInstance() throws NoInstanceAvailableException {
         MicroserviceInstance nextInstance = loadBalancer.getNextInstance(instancesSet);
-        accReporter.addDatapoint("Load_Distribution", presentTime(), nextInstance.getPlainName());
+        if (accReporter.isEnabled("Load_Distribution")) {
+            accReporter.addDatapoint("Load_Distribution", presentTime(), nextInstance.getPlainName());
+        }
         return nextInstance;
     }
 
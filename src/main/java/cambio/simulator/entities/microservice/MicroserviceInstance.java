@@ -4,12 +4,14 @@ import java.util.*;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import cambio.simulator.entities.EntityNames;
 import cambio.simulator.entities.networking.*;
 import cambio.simulator.entities.patterns.*;
 import cambio.simulator.export.MultiDataPointReporter;
+import cambio.simulator.export.PrimitiveDataPointReporter;
+import cambio.simulator.misc.DenseIdSet;
 import cambio.simulator.resources.cpu.CPU;
 import cambio.simulator.resources.cpu.CPUProcess;
-import cambio.simulator.resources.cpu.scheduling.FIFOScheduler;
 import desmoj.core.simulator.*;
 
 /**
@@ -37,15 +39,18 @@ public class MicroserviceInstance extends RequestSender implements IRequestUpdat
     protected final Microservice owner;
     protected final CPU cpu;
     protected final int instanceID;
+    //the following sets are keyed by the dense ids of their elements, so adding and removing does not allocate
     //Queue with only unique entries
-    protected final Set<Request> currentRequestsToHandle = new HashSet<>();
+    protected final Set<Request> currentRequestsToHandle = new DenseIdSet<>();
     //Queue with only unique entries
-    protected final Set<ServiceDependencyInstance> currentlyOpenDependencies = new HashSet<>();
+    protected final Set<ServiceDependencyInstance> currentlyOpenDependencies = new DenseIdSet<>();
     //Contains all current outgoing answers
-    protected final Set<RequestAnswer> currentAnswers = new HashSet<>();
+    protected final Set<RequestAnswer> currentAnswers = new DenseIdSet<>();
     //contains all current outgoing dependency requests
-    protected final Set<InternalRequest> currentInternalSends = new HashSet<>();
+    protected final Set<InternalRequest> currentInternalSends = new DenseIdSet<>();
     protected final MultiDataPointReporter reporter;
+    //numeric queue statistics, which are collected on every request change
+    protected final PrimitiveDataPointReporter statisticsReporter;
     //lists for debugging information
     protected final List<ServiceDependencyInstance> closedDependencies = new LinkedList<>();
     protected final List<ServiceDependencyInstance> abortedDependencies = new LinkedList<>();
@@ -70,11 +75,12 @@ public class MicroserviceInstance extends RequestSender implements IRequestUpdat
         super(model, name, showInTrace);
         this.owner = microservice;
         this.instanceID = instanceID;
-        this.cpu = new CPU(model, String.format("%s_CPU", name), showInTrace, microservice.getCapacity(),
-            new FIFOScheduler("Scheduler"), this);
+        this.cpu = microservice.getCpuType().create(model, String.format("%s_CPU", name), showInTrace, this,
+            microservice.getCpuCapacity(), microservice.getThreadPoolSize(), microservice.getSchedulerConfiguration());
 
         String[] names = name.split("_");
         reporter = new MultiDataPointReporter(String.format("I[%s]_", name), model);
+        statisticsReporter = new PrimitiveDataPointReporter(String.format("I[%s]_", name), model);
 
         changeState(InstanceState.CREATED);
 
@@ -202,7 +208,8 @@ public class MicroserviceInstance extends RequestSender implements IRequestUpdat
         if (request.isCompleted()) {
             notComputed--;
             RequestAnswer answer = new RequestAnswer(request, this);
-            sendRequest("Request_Answer_" + request.getPlainName(), answer, request.getRequester());
+            sendRequest(EntityNames.of(this, "Request_Answer", () -> "Request_Answer_" + request.getPlainName()),
+                answer, request.getRequester());
 
             int size = currentRequestsToHandle.size();
             currentRequestsToHandle.remove(request);
@@ -224,10 +231,13 @@ public class MicroserviceInstance extends RequestSender implements IRequestUpdat
                 currentlyOpenDependencies.add(dependency);
 
                 Request internalRequest = new InternalRequest(getModel(), this.traceIsOn(), dependency, this);
-                sendRequest("Collecting dependency " + dependency.getQuotedPlainName(), internalRequest,
-                    dependency.getTargetService());
+                sendRequest(EntityNames.of(this, "CollectingDependency",
+                        () -> "Collecting dependency " + dependency.getQuotedPlainName()),
+                    internalRequest, dependency.getTargetService());
 
-                sendTraceNote("Try 1, send Request: " + internalRequest.getQuotedPlainName() + " ");
+                if (traceIsOn()) {
+                    sendTraceNote("Try 1, send Request: " + internalRequest.getQuotedPlainName() + " ");
+                }
 
             }
         }
@@ -332,6 +342,7 @@ public class MicroserviceInstance extends RequestSender implements IRequestUpdat
             .sorted(Comparator.comparing(Request::getIdentNumber))
             .forEach(Request::cancelExecutionAtHandler);
         reporter.finalizeReport();
+        statisticsReporter.finalizeReport();
     }
 
     public final Microservice getOwner() {
@@ -344,10 +355,11 @@ public class MicroserviceInstance extends RequestSender implements IRequestUpdat
 
 
     private void collectQueueStatistics() {
-        reporter.addDatapoint("SendOff_Internal_Requests", presentTime(), currentlyOpenDependencies.size());
-        reporter.addDatapoint("Requests_InSystem", presentTime(), currentRequestsToHandle.size());
-        reporter.addDatapoint("Requests_NotComputed", presentTime(), notComputed);
-        reporter.addDatapoint("Requests_WaitingForDependencies", presentTime(), waiting);
+        double now = presentTime().getTimeAsDouble();
+        statisticsReporter.addDatapoint("SendOff_Internal_Requests", now, currentlyOpenDependencies.size());
+        statisticsReporter.addDatapoint("Requests_InSystem", now, currentRequestsToHandle.size());
+        statisticsReporter.addDatapoint("Requests_NotComputed", now, notComputed);
+        statisticsReporter.addDatapoint("Requests_WaitingForDependencies", now, waiting);
     }
 
     @Override
@@ -1,7 +1,6 @@
 package cambio.simulator.entities.microservice;
 
 import cambio.simulator.entities.NamedExternalEvent;
-import cambio.simulator.entities.NamedSimProcess;
 import co.paralleluniverse.fibers.SuspendExecution;
 import desmoj.core.simulator.Model;
 
@@ -27,9 +26,7 @@ public class MicroserviceScaleEvent extends NamedExternalEvent {
 
     @Override
     public void onRoutineExecution() throws SuspendExecution {
-        synchronized (NamedSimProcess.class) {
-            microservice.scaleToInstancesCount(targetInstanceCount);
-        }
+        microservice.scaleToInstancesCount(targetInstanceCount);
     }
 
 }
@@ -2,8 +2,10 @@ package cambio.simulator.entities.microservice;
 
 import cambio.simulator.entities.NamedEntity;
 import cambio.simulator.entities.networking.DependencyDescription;
+import cambio.simulator.entities.networking.NetworkRequestTimeoutEvent;
 import cambio.simulator.entities.networking.ServiceDependencyInstance;
 import com.google.gson.annotations.Expose;
+import com.google.gson.annotations.SerializedName;
 import desmoj.core.dist.NumericalDist;
 import desmoj.core.simulator.Model;
 
@@ -21,6 +23,10 @@ public class Operation extends NamedEntity {
     @Expose
     private DependencyDescription[] dependencies = new DependencyDescription[0];
 
+    @Expose
+    @SerializedName(value = "timeout", alternate = {"request_timeout"})
+    private Double timeout = null;
+
     /**
      * Constructs a new endpoint for a microservice.
      *
@@ -41,6 +47,23 @@ public class Operation extends NamedEntity {
         return demand;
     }
 
+    /**
+     * Gets the time in seconds after which the requests that this operation sends to its dependencies time out, if the
+     * dependency does not define its own timeout.
+     *
+     * @return the timeout of the dependencies of this operation
+     */
+    public double getTimeout() {
+        return timeout != null ? timeout : NetworkRequestTimeoutEvent.DEFAULT_TIMEOUT;
+    }
+
+    /**
+     * Whether this operation defines the timeout of its dependencies itself.
+     */
+    public boolean hasCustomTimeout() {
+        return timeout != null;
+    }
+
     public Microservice getOwnerMS() {
         return ownerMS;
     }
@@ -1,5 +1,6 @@
 package cambio.simulator.entities.networking;
 
+import cambio.simulator.entities.EntityNames;
 import cambio.simulator.entities.microservice.MicroserviceInstance;
 import desmoj.core.simulator.Model;
 
@@ -22,9 +23,9 @@ public class InternalRequest extends Request {
     public InternalRequest(Model model, boolean showInTrace, ServiceDependencyInstance dependency,
                            MicroserviceInstance requester) {
         super(model,
-            String
-                .format("Cascading Request %s(%s)", dependency.getTargetOp().getOwnerMS().getPlainName(),
-                    dependency.getTargetOp().getPlainName()),
+            EntityNames.of(model, showInTrace, "InternalRequest",
+                () -> String.format("Cascading Request %s(%s)", dependency.getTargetOp().getOwnerMS().getPlainName(),
+                    dependency.getTargetOp().getPlainName())),
             showInTrace,
             dependency.getParentRequest(),
             dependency.getTargetOp(), requester);
@@ -36,4 +37,12 @@ public class InternalRequest extends Request {
     public ServiceDependencyInstance getDependency() {
         return dependency;
     }
+
+    /**
+     * Gets the timeout that is configured for the dependency of this request.
+     */
+    @Override
+    public double getTimeout() {
+        return dependency.getTimeout();
+    }
 }
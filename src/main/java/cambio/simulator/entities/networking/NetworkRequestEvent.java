@@ -18,9 +18,9 @@ import desmoj.core.simulator.TimeInstant;
  */
 public abstract class NetworkRequestEvent extends NamedExternalEvent {
 
-    protected final Request travelingRequest;
+    protected Request travelingRequest;
     protected final IRequestUpdateListener updateListener;
-    private final Collection<IRequestUpdateListener> updateListeners;
+    private Collection<IRequestUpdateListener> updateListeners;
 
     /**
      * Common constructor that enforces the association of a request with an External Event.
@@ -61,6 +61,19 @@ public abstract class NetworkRequestEvent extends NamedExternalEvent {
         };
     }
 
+    /**
+     * Prepares this event for its reuse from an {@link cambio.simulator.models.EventPool} with another request.
+     *
+     * @param name             The new name of this event.
+     * @param showInTrace      Flag indicating whether the event should be shown in the trace.
+     * @param travelingRequest the request that is associated with this event from now on.
+     */
+    protected void reuse(String name, boolean showInTrace, Request travelingRequest) {
+        super.reuse(name, showInTrace);
+        this.travelingRequest = travelingRequest;
+        this.updateListeners = travelingRequest.getUpdateListeners();
+    }
+
     /**
      * To be implemented by Subclasses.
      */
@@ -1,7 +1,8 @@
 package cambio.simulator.entities.networking;
 
-import cambio.simulator.entities.NamedSimProcess;
 import cambio.simulator.entities.microservice.MicroserviceInstance;
+import cambio.simulator.models.EventPool;
+import cambio.simulator.models.ExecutionContext;
 import co.paralleluniverse.fibers.SuspendExecution;
 import desmoj.core.simulator.Model;
 
@@ -11,40 +12,61 @@ import desmoj.core.simulator.Model;
  * <p>
  * Gives the traveling request to the receiving handler on arrival.
  *
+ * <p>
+ * Instances are reused via the {@link EventPool} of the model, see {@link #obtain}.
+ *
  * @author Lion Wagner
  */
 public class NetworkRequestReceiveEvent extends NetworkRequestEvent {
 
-    private final MicroserviceInstance receivingInstance;
+    private final EventPool<NetworkRequestReceiveEvent> pool;
+    private MicroserviceInstance receivingInstance;
 
     public NetworkRequestReceiveEvent(Model model, String name, boolean showInTrace,
                                       Request travelingRequest,
                                       MicroserviceInstance receiver) {
         super(model, name, showInTrace, travelingRequest);
         receivingInstance = receiver;
+        pool = getExecutionContext().getEventPool(NetworkRequestReceiveEvent.class);
+    }
+
+    /**
+     * Gets a receive event with the given properties. Reuses an executed receive event of the model if one is
+     * available, otherwise a new one is constructed.
+     */
+    public static NetworkRequestReceiveEvent obtain(Model model, String name, boolean showInTrace,
+                                                    Request travelingRequest, MicroserviceInstance receiver) {
+        NetworkRequestReceiveEvent event =
+            ExecutionContext.of(model).getEventPool(NetworkRequestReceiveEvent.class).poll(model);
+        if (event == null) {
+            return new NetworkRequestReceiveEvent(model, name, showInTrace, travelingRequest, receiver);
+        }
+        event.reuse(name, showInTrace, travelingRequest);
+        event.receivingInstance = receiver;
+        return event;
     }
 
     @Override
     public void onRoutineExecution() throws SuspendExecution {
-        synchronized (NamedSimProcess.class) {
+        travelingRequest.stampReceivedAtHandler(presentTime());
 
-            travelingRequest.stampReceivedAtHandler(presentTime());
+        try {
+            receivingInstance.handle(travelingRequest);
 
-            try {
-                receivingInstance.handle(travelingRequest);
-
-                if (travelingRequest instanceof RequestAnswer) {
-                    updateListener
-                        .onRequestResultArrivedAtRequester(((RequestAnswer) travelingRequest).unpack(), presentTime());
-                }
-
-                updateListener.onRequestArrivalAtTarget(travelingRequest, presentTime());
-            } catch (IllegalStateException e) {
-                NetworkRequestEvent event = new NetworkRequestCanceledEvent(getModel(),
-                    "CANCEL Event for " + travelingRequest.getQuotedName(), traceIsOn(), travelingRequest,
-                    RequestFailedReason.HANDLING_INSTANCE_DIED);
-                event.schedule(presentTime());
+            if (travelingRequest instanceof RequestAnswer) {
+                updateListener
+                    .onRequestResultArrivedAtRequester(((RequestAnswer) travelingRequest).unpack(), presentTime());
             }
+
+            updateListener.onRequestArrivalAtTarget(travelingRequest, presentTime());
+        } catch (IllegalStateException e) {
+            NetworkRequestEvent event = new NetworkRequestCanceledEvent(getModel(),
+                "CANCEL Event for " + travelingRequest.getQuotedName(), traceIsOn(), travelingRequest,
+                RequestFailedReason.HANDLING_INSTANCE_DIED);
+            event.schedule(presentTime());
         }
+
+        travelingRequest.clearReceiveEvent(this);
+        pool.release(this);
     }
 }
@@ -1,12 +1,10 @@
 package cambio.simulator.entities.networking;
 
-import static cambio.simulator.export.MiSimReporters.NETWORK_LATENCY_REPORTER;
-
-import java.util.concurrent.atomic.AtomicLong;
-
-import cambio.simulator.entities.NamedSimProcess;
+import cambio.simulator.entities.EntityNames;
 import cambio.simulator.entities.microservice.*;
-import cambio.simulator.misc.RNGStorage;
+import cambio.simulator.export.MultiDataPointReporter;
+import cambio.simulator.models.EventPool;
+import cambio.simulator.models.ExecutionContext;
 import co.paralleluniverse.fibers.SuspendExecution;
 import desmoj.core.dist.ContDistNormal;
 import desmoj.core.dist.NumericalDist;
@@ -17,14 +15,18 @@ import desmoj.core.simulator.TimeSpan;
  * Event that represents the sending of a request. Can introduce network delay. May be canceled during (and before) the
  * travelling of the request.
  *
+ * <p>
+ * Executed send events are reused via the {@link EventPool} of the model, see {@link #obtain}. Canceled send events
+ * are not reused.
+ *
  * @author Lion Wagner
  */
 public class NetworkRequestSendEvent extends NetworkRequestEvent {
 
-    private static final AtomicLong counterSendEvents = new AtomicLong(0); //TODO: remove
     private final transient NumericalDist<Double> rng;
-    private final Microservice targetService;
-    private final MicroserviceInstance targetInstance;
+    private final transient EventPool<NetworkRequestSendEvent> pool;
+    private Microservice targetService;
+    private MicroserviceInstance targetInstance;
     private transient NetworkRequestReceiveEvent receiverEvent;
     private transient NetworkRequestTimeoutEvent timeoutEvent;
     private boolean isCanceled = false;
@@ -46,75 +48,100 @@ public class NetworkRequestSendEvent extends NetworkRequestEvent {
         this.targetInstance = targetInstance;
         request.setSendEvent(this);
 
-        rng = RNGStorage.get(this.getClass().getName(),
+        rng = getExecutionContext().getRngStorage().get(this.getClass().getName(),
             () -> new ContDistNormal(getModel(), "DefaultNetworkDelay_RNG", 1.6, 0.6, true, false));
+        pool = getExecutionContext().getEventPool(NetworkRequestSendEvent.class);
     }
 
-    public static long getCounterSendEvents() {
-        return counterSendEvents.get();
-    }
-
-    public static void resetCounterSendEvents() {
-        counterSendEvents.set(0);
+    /**
+     * Gets a send event for the given request. Reuses an executed send event of the model if one is available,
+     * otherwise a new one is constructed. Exactly one of the targets has to be given.
+     */
+    static NetworkRequestSendEvent obtain(Model model, String name, boolean showInTrace, Request request,
+                                          Microservice targetService, MicroserviceInstance targetInstance) {
+        NetworkRequestSendEvent event =
+            ExecutionContext.of(model).getEventPool(NetworkRequestSendEvent.class).poll(model);
+        if (event == null) {
+            return new NetworkRequestSendEvent(model, name, showInTrace, request, targetService, targetInstance);
+        }
+        event.reuse(name, showInTrace, request);
+        event.targetService = targetService;
+        event.targetInstance = targetInstance;
+        event.receiverEvent = null;
+        event.timeoutEvent = null;
+        event.isCanceled = false;
+        request.setSendEvent(event);
+        return event;
     }
 
     @Override
     public void onRoutineExecution() throws SuspendExecution {
-        synchronized (NamedSimProcess.class) {
-            travelingRequest.stampSendoff(presentTime());
-
-            counterSendEvents.getAndIncrement();
-
-            if (travelingRequest instanceof RequestAnswer && travelingRequest.getParent() instanceof UserRequest) {
-                // if an answer to a UserRequest is send, it will be considered done (since there is no receiver)
-                travelingRequest.stampReceived(presentTime());
-                travelingRequest.getParent().stampReceived(presentTime());
-                updateListener.onRequestArrivalAtTarget(travelingRequest, presentTime());
-                updateListener.onRequestResultArrivedAtRequester(travelingRequest.getParent(), presentTime());
-                return;
-            }
+        send();
+
+        //from here on, the request cannot be canceled by this event anymore
+        travelingRequest.clearSendEvent(this);
+        pool.release(this);
+    }
 
+    private void send() {
+        travelingRequest.stampSendoff(presentTime());
 
-            //calculate next delay
-            double nextDelay;
-            do {
-                nextDelay = rng.sample() / 1000;
-            } while (nextDelay < 0); //ensures a positive delay, due to "infinite" gaussian deviation
 
-            nextDelay = customizeLatency(nextDelay);
+        if (travelingRequest instanceof RequestAnswer && travelingRequest.getParent() instanceof UserRequest) {
+            // if an answer to a UserRequest is send, it will be considered done (since there is no receiver)
+            travelingRequest.stampReceived(presentTime());
+            travelingRequest.getParent().stampReceived(presentTime());
+            updateListener.onRequestArrivalAtTarget(travelingRequest, presentTime());
+            updateListener.onRequestResultArrivedAtRequester(travelingRequest.getParent(), presentTime());
+            return;
+        }
 
-            NETWORK_LATENCY_REPORTER.addDatapoint("latency", presentTime(), nextDelay);
 
-            //Apply custom latency and/or add delay of latency injection
-            updateListener.onRequestSend(travelingRequest, presentTime());
-            if (isCanceled) {
-                return; //this event might get canceled by the sending listeners
-            }
+        //calculate next delay
+        double nextDelay;
+        do {
+            nextDelay = rng.sample() / 1000;
+        } while (nextDelay < 0); //ensures a positive delay, due to "infinite" gaussian deviation
+
+        nextDelay = customizeLatency(nextDelay);
 
-            MicroserviceInstance targetInstance = retrieveTargetInstance();
-            if (targetInstance == null) {
-                NetworkRequestEvent cancelEvent =
-                    new NetworkRequestCanceledEvent(getModel(), "RequestCanceledEvent", traceIsOn(), travelingRequest,
-                        RequestFailedReason.NO_INSTANCE_AVAILABLE,
-                        String.format("No Instance for Service %s was available.", targetService.getQuotedName()));
-                cancelEvent.schedule(new TimeSpan(nextDelay));
-            } else {
-                receiverEvent = new NetworkRequestReceiveEvent(getModel(),
-                    String.format("Receiving of %s", travelingRequest.getQuotedPlainName()), traceIsOn(),
-                    travelingRequest,
-                    targetInstance);
-                receiverEvent.schedule(new TimeSpan(nextDelay));
-
-                if (!(travelingRequest instanceof UserRequest)) { //User Requests cannot timeout
-                    timeoutEvent =
-                        new NetworkRequestTimeoutEvent(getModel(),
-                            "Timeout Checker for " + travelingRequest.getPlainName(),
-                            getModel().traceIsOn(), travelingRequest);
-                    travelingRequest.addUpdateListener(timeoutEvent);
-                }
-
-                travelingRequest.setReceiveEvent(receiverEvent);
+        MultiDataPointReporter latencyReporter = getExecutionContext().getReporters().getNetworkLatencyReporter();
+        if (latencyReporter.isEnabled("latency")) {
+            latencyReporter.addDatapoint("latency", presentTime(), nextDelay);
+        }
+
+        //Apply custom latency and/or add delay of latency injection
+        updateListener.onRequestSend(travelingRequest, presentTime());
+        if (isCanceled) {
+            return; //this event might get canceled by the sending listeners
+        }
+
+        MicroserviceInstance targetInstance = retrieveTargetInstance();
+        if (targetInstance == null) {
+            NetworkRequestEvent cancelEvent =
+                new NetworkRequestCanceledEvent(getModel(), "RequestCanceledEvent", traceIsOn(), travelingRequest,
+                    RequestFailedReason.NO_INSTANCE_AVAILABLE,
+                    String.format("No Instance for Service %s was available.", targetService.getQuotedName()));
+            cancelEvent.schedule(new TimeSpan(nextDelay));
+        } else {
+            receiverEvent = NetworkRequestReceiveEvent.obtain(getModel(),
+                EntityNames.of(this, "RequestReceiveEvent",
+                    () -> String.format("Receiving of %s", travelingRequest.getQuotedPlainName())),
+                traceIsOn(),
+                travelingRequest,
+                targetInstance);
+            receiverEvent.schedule(new TimeSpan(nextDelay));
+
+            if (!(travelingRequest instanceof UserRequest)) { //User Requests cannot timeout
+                timeoutEvent =
+                    NetworkRequestTimeoutEvent.obtain(getModel(),
+                        EntityNames.of(getModel(), true, "RequestTimeoutEvent",
+                            () -> "Timeout Checker for " + travelingRequest.getPlainName()),
+                        getModel().traceIsOn(), travelingRequest);
+                travelingRequest.addUpdateListener(timeoutEvent);
             }
+
+            travelingRequest.setReceiveEvent(receiverEvent);
         }
     }
 
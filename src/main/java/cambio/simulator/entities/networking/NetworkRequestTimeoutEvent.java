@@ -2,8 +2,9 @@ package cambio.simulator.entities.networking;
 
 import java.util.concurrent.TimeUnit;
 
-import cambio.simulator.entities.NamedSimProcess;
 import cambio.simulator.misc.Priority;
+import cambio.simulator.models.EventPool;
+import cambio.simulator.models.ExecutionContext;
 import co.paralleluniverse.fibers.SuspendExecution;
 import desmoj.core.simulator.*;
 
@@ -12,11 +13,29 @@ import desmoj.core.simulator.*;
  * automatically on failure or receive.
  *
  * <p>
- * This event is automatically skipped if the {@link Request} reaches its destination successfully or is canceled
- * otherwise.
+ * The timeout is taken from {@link Request#getTimeout()}, i.e. from the configuration of the dependency or operation
+ * the request belongs to, and defaults to {@link #DEFAULT_TIMEOUT} seconds.
+ * </p>
+ *
+ * <p>
+ * If the {@link Request} reaches its destination successfully or is canceled otherwise, this event is removed from
+ * the event list right away, so completed requests leave no pending timer behind.
+ * </p>
+ *
+ * <p>
+ * Instances are reused via the {@link EventPool} of the model, see {@link #obtain}. On execution, the event
+ * unregisters itself from the listeners of its request before it is released into the pool. Canceled instances are
+ * not reused.
  * </p>
  */
 public class NetworkRequestTimeoutEvent extends NetworkRequestEvent implements IRequestUpdateListener {
+
+    /**
+     * Timeout in seconds of requests whose dependency and operation do not define a timeout.
+     */
+    public static final double DEFAULT_TIMEOUT = 8;
+
+    private final EventPool<NetworkRequestTimeoutEvent> pool;
     private boolean canceled = false;
 
     /**
@@ -26,36 +45,66 @@ public class NetworkRequestTimeoutEvent extends NetworkRequestEvent implements I
      */
     public NetworkRequestTimeoutEvent(Model model, String name, boolean showInTrace, Request request) {
         super(model, name, showInTrace, request);
+        this.pool = getExecutionContext().getEventPool(NetworkRequestTimeoutEvent.class);
         this.setSchedulingPriority(Priority.LOW);
-        this.schedule(new TimeSpan(8, TimeUnit.SECONDS));
+        this.schedule(new TimeSpan(request.getTimeout(), TimeUnit.SECONDS));
+    }
+
+    /**
+     * Gets a scheduled timeout of the given request. Reuses an executed timeout event of the model if one is available,
+     * otherwise a new one is constructed.
+     */
+    public static NetworkRequestTimeoutEvent obtain(Model model, String name, boolean showInTrace, Request request) {
+        NetworkRequestTimeoutEvent event =
+            ExecutionContext.of(model).getEventPool(NetworkRequestTimeoutEvent.class).poll(model);
+        if (event == null) {
+            return new NetworkRequestTimeoutEvent(model, name, showInTrace, request);
+        }
+        event.reuse(name, showInTrace, request);
+        event.canceled = false;
+        event.schedule(new TimeSpan(request.getTimeout(), TimeUnit.SECONDS));
+        return event;
     }
 
     @Override
     public void onRoutineExecution() throws SuspendExecution {
-        synchronized (NamedSimProcess.class) {
-            if (canceled) {
-                return;
-            }
+        if (!canceled) {
             NetworkRequestEvent cancelEvent =
                 new NetworkRequestCanceledEvent(getModel(), "RequestCancel", getModel().traceIsOn(), travelingRequest,
                     RequestFailedReason.TIMEOUT,
                     "Request " + travelingRequest.getName() + " was canceled due to a timeout.");
             cancelEvent.schedule(new TimeSpan(0L));
         }
+
+        travelingRequest.getUpdateListeners().remove(this);
+        pool.release(this);
     }
 
     @Override
     public boolean onRequestFailed(Request request, TimeInstant when, RequestFailedReason reason) {
-        canceled = true;
+        stop(request);
         return false;
     }
 
     @Override
     public boolean onRequestResultArrivedAtRequester(Request request, TimeInstant when) {
-        canceled = true;
+        stop(request);
         return false;
     }
 
+    private void stop(Request request) {
+        //a reused event may still be registered at the answer of a previous request, it only reacts to its own request
+        boolean isOwnRequest = request == travelingRequest || (travelingRequest instanceof RequestAnswer
+            && ((RequestAnswer) travelingRequest).unpack() == request);
+        if (!isOwnRequest) {
+            return;
+        }
+        canceled = true;
+        if (isScheduled()) {
+            cancel();
+        }
+    }
+
     @Override
     public int getListeningPriority() {
         return Priority.NORMAL + 1;
@@ -5,8 +5,9 @@ import java.util.*;
 import cambio.simulator.entities.NamedEntity;
 import cambio.simulator.entities.microservice.MicroserviceInstance;
 import cambio.simulator.entities.microservice.Operation;
-import cambio.simulator.misc.RNGStorage;
+import cambio.simulator.misc.DenseIdentifiable;
 import cambio.simulator.misc.TimeUtil;
+import cambio.simulator.models.ExecutionContext;
 import cambio.simulator.models.MiSimModel;
 import desmoj.core.simulator.Model;
 import desmoj.core.simulator.TimeInstant;
@@ -17,9 +18,13 @@ import org.apache.commons.math3.util.Precision;
  *
  * @author Lion Wagner
  */
-public abstract class Request extends NamedEntity {
+public abstract class Request extends NamedEntity implements DenseIdentifiable {
     public final Operation operation;
-    private final Set<ServiceDependencyInstance> dependencies = new HashSet<>();
+    private final int denseId;
+    //dependencies in creation order, which is also the order in which they are requested
+    private final ArrayList<ServiceDependencyInstance> dependencies = new ArrayList<>();
+    private final List<ServiceDependencyInstance> dependenciesView = Collections.unmodifiableList(dependencies);
+    private int pendingDependencies;
     private final Request parent;
     private final MicroserviceInstance requester;
     private final PriorityQueue<IRequestUpdateListener> updateListeners = new PriorityQueue<>();
@@ -40,10 +45,11 @@ public abstract class Request extends NamedEntity {
     protected Request(Model model, String name, boolean showInTrace, Request parent, Operation operation,
                       MicroserviceInstance requester) {
         super(model, name, showInTrace);
+        this.denseId = ExecutionContext.of(model).nextDenseId();
         this.operation = operation;
         this.requester = requester;
         this.parent = parent;
-        this.prob = RNGStorage.get(this.getClass().getName(),
+        this.prob = ExecutionContext.of(model).getRngStorage().get(this.getClass().getName(),
             () -> new Random(((MiSimModel) getModel()).getExperimentMetaData().getSeed()));
         createDependencies();
         if (dependencies.isEmpty()) {
@@ -57,10 +63,21 @@ public abstract class Request extends NamedEntity {
         for (DependencyDescription dependencyDescription : operation.getDependencyDescriptions()) {
             dependencies.addAll(dependencyDescription.generateDependenciesForExecutions(this, prob));
         }
+        pendingDependencies = dependencies.size();
     }
 
-    public final Set<ServiceDependencyInstance> getDependencies() {
-        return dependencies;
+    @Override
+    public final int getDenseId() {
+        return denseId;
+    }
+
+    /**
+     * Gets the dependencies of this request in the order they were created.
+     *
+     * @return an unmodifiable view of the dependencies
+     */
+    public final List<ServiceDependencyInstance> getDependencies() {
+        return dependenciesView;
     }
 
     public final Request getParent() {
@@ -131,6 +148,24 @@ public abstract class Request extends NamedEntity {
         this.receiveEvent = receiveEvent;
     }
 
+    /**
+     * Removes the reference to the given send event, so it can be reused for another request.
+     */
+    void clearSendEvent(NetworkRequestSendEvent sendEvent) {
+        if (this.sendEvent == sendEvent) {
+            this.sendEvent = null;
+        }
+    }
+
+    /**
+     * Removes the reference to the given receive event, so it can be reused for another request.
+     */
+    void clearReceiveEvent(NetworkRequestReceiveEvent receiveEvent) {
+        if (this.receiveEvent == receiveEvent) {
+            this.receiveEvent = null;
+        }
+    }
+
     // private void setDependenciesCompleted() {
     // if (this.dependenciesCompleted) {
     // throw new IllegalStateException("Dependencies were already completed!");
@@ -192,6 +227,10 @@ public abstract class Request extends NamedEntity {
     /**
      * Tells this request that one {@link ServiceDependencyInstance} has finished.
      *
+     * <p>
+     * The number of pending dependencies is tracked by a counter, so this takes constant time regardless of the number
+     * of dependencies.
+     *
      * @param dep dependency that was completed
      * @return whether all dependencies are completed
      */
@@ -200,22 +239,22 @@ public abstract class Request extends NamedEntity {
             throw new IllegalStateException("Dependencies were already completed!");
         }
 
-        long uncompletedCount =
-            dependencies.stream().filter(networkDependency -> !networkDependency.isCompleted()).count();
-
         if (dep != null) {
-            if (!dependencies.contains(dep)) {
+            if (dep.getParentRequest() != this) {
                 throw new IllegalStateException("This dependency is not part of this Request");
             }
-            dep.setCompleted();
-            uncompletedCount -= 1;
-
-            this.sendTraceNote("Completed Dependency \"" + dep + "\".");
-            this.sendTraceNote("Remaining Dependencies: " + (uncompletedCount - 1) + ".");
+            if (!dep.isCompleted()) {
+                dep.setCompleted();
+                pendingDependencies--;
+            }
 
+            if (traceIsOn()) {
+                this.sendTraceNote("Completed Dependency \"" + dep + "\".");
+                this.sendTraceNote("Remaining Dependencies: " + pendingDependencies + ".");
+            }
         }
 
-        if (uncompletedCount == 0) {
+        if (pendingDependencies == 0) {
             this.dependenciesCompleted = true;
             onDependenciesComplete();
             if (dependenciesCompleted && computationCompleted) {
@@ -232,14 +271,19 @@ public abstract class Request extends NamedEntity {
     /**
      * Gets the {@link ServiceDependencyInstance} that should be completed by the given request.
      *
+     * <p>
+     * Uses the back-reference of the child request to its dependency, so this takes constant time.
+     *
      * @param request child request of this request.
      * @return the {@link ServiceDependencyInstance} that is related to the given request, {@code null} otherwise.
      *     Returns {@code null} specifically, if the request was a child request, that has been canceled or replaced.
      */
     public ServiceDependencyInstance getRelatedDependency(Request request) {
-        for (ServiceDependencyInstance serviceDependencyInstance : dependencies) {
-            if (serviceDependencyInstance.getChildRequest() == request) {
-                return serviceDependencyInstance;
+        if (request instanceof InternalRequest) {
+            ServiceDependencyInstance dependency = ((InternalRequest) request).getDependency();
+            if (dependency != null && dependency.getParentRequest() == this
+                && dependency.getChildRequest() == request) {
+                return dependency;
             }
         }
         return null;
@@ -315,6 +359,16 @@ public abstract class Request extends NamedEntity {
         return updateListeners;
     }
 
+    /**
+     * Gets the time in seconds after which this request times out once it was sent.
+     *
+     * @return the timeout of this request
+     * @see NetworkRequestTimeoutEvent
+     */
+    public double getTimeout() {
+        return NetworkRequestTimeoutEvent.DEFAULT_TIMEOUT;
+    }
+
     /**
      * Adds a new {@link IRequestUpdateListener} to the request.
      *
@@ -328,6 +382,9 @@ public abstract class Request extends NamedEntity {
      * Cancels the sending process of this request. Also prevents it from starting.
      */
     public void cancelSending() {
+        if (sendEvent == null) {
+            return; //the request was not send yet or its send event was already executed
+        }
         if (sendEvent.isScheduled()) {
             sendEvent.cancel();
         }
@@ -1,5 +1,6 @@
 package cambio.simulator.entities.networking;
 
+import cambio.simulator.entities.EntityNames;
 import cambio.simulator.entities.microservice.MicroserviceInstance;
 import cambio.simulator.entities.microservice.Operation;
 
@@ -21,7 +22,8 @@ public final class RequestAnswer extends Request {
      */
     public RequestAnswer(Request wrappedRequest, MicroserviceInstance answerSender) {
         super(wrappedRequest.getModel(),
-            "Request_Answer_" + wrappedRequest.getPlainName(),
+            EntityNames.of(wrappedRequest.getModel(), wrappedRequest.traceIsOn(), "Request_Answer",
+                () -> "Request_Answer_" + wrappedRequest.getPlainName()),
             wrappedRequest.traceIsOn(),
             wrappedRequest,
             new Operation(wrappedRequest.getModel(), "Dummy", false, null, 0),
@@ -43,5 +45,13 @@ public final class RequestAnswer extends Request {
         return getParent();
     }
 
+    /**
+     * Gets the timeout of the answered request.
+     */
+    @Override
+    public double getTimeout() {
+        return unpack().getTimeout();
+    }
+
 
 }
@@ -137,10 +137,11 @@ public class RequestSender extends NamedEntity {
 
         NetworkRequestSendEvent sendEvent;
         if (target == null || target instanceof Microservice) {
-            sendEvent = new NetworkRequestSendEvent(getModel(), eventName, traceIsOn(), request, (Microservice) target);
+            sendEvent = NetworkRequestSendEvent.obtain(getModel(), eventName, traceIsOn(), request,
+                (Microservice) target, null);
         } else {
-            sendEvent =
-                new NetworkRequestSendEvent(getModel(), eventName, traceIsOn(), request, (MicroserviceInstance) target);
+            sendEvent = NetworkRequestSendEvent.obtain(getModel(), eventName, traceIsOn(), request,
+                null, (MicroserviceInstance) target);
         }
         sendEvent.schedule(delay);
         return sendEvent;
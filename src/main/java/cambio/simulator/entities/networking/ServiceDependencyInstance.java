@@ -1,7 +1,10 @@
 package cambio.simulator.entities.networking;
 
+import cambio.simulator.entities.EntityNames;
 import cambio.simulator.entities.NamedEntity;
 import cambio.simulator.entities.microservice.*;
+import cambio.simulator.misc.DenseIdentifiable;
+import cambio.simulator.models.ExecutionContext;
 import desmoj.core.simulator.Model;
 
 /**
@@ -13,7 +16,7 @@ import desmoj.core.simulator.Model;
  * @see Request
  * @see MicroserviceInstance
  */
-public class ServiceDependencyInstance extends NamedEntity {
+public class ServiceDependencyInstance extends NamedEntity implements DenseIdentifiable {
 
     private final Request parentRequest;
     private final Microservice targetMicroservice;
@@ -21,6 +24,7 @@ public class ServiceDependencyInstance extends NamedEntity {
     private final SimpleDependencyDescription dependencyDescription;
     private boolean completed;
     private InternalRequest childRequest;
+    private final int denseId;
 
     /**
      * Creates an actual instance of a {@link SimpleDependencyDescription}.
@@ -32,12 +36,19 @@ public class ServiceDependencyInstance extends NamedEntity {
      */
     public ServiceDependencyInstance(Model model, Request parentRequest, Operation targetOp,
                                      SimpleDependencyDescription dependencyDescription) {
-        super(model, String.format("%s_depends_on_%s", parentRequest.operation.getFullyQualifiedPlainName(),
-            targetOp.getFullyQualifiedPlainName()), false);
+        super(model, EntityNames.of(parentRequest, "ServiceDependency",
+            () -> String.format("%s_depends_on_%s", parentRequest.operation.getFullyQualifiedPlainName(),
+                targetOp.getFullyQualifiedPlainName())), false);
         this.parentRequest = parentRequest;
         this.targetOp = targetOp;
         this.targetMicroservice = targetOp.getOwnerMS();
         this.dependencyDescription = dependencyDescription;
+        this.denseId = ExecutionContext.of(model).nextDenseId();
+    }
+
+    @Override
+    public final int getDenseId() {
+        return denseId;
     }
 
 
@@ -90,6 +101,10 @@ public class ServiceDependencyInstance extends NamedEntity {
         return dependencyDescription.getNextCustomDelay();
     }
 
+    public double getTimeout() {
+        return dependencyDescription.getTimeout();
+    }
+
     //    @Override
     //    public boolean equals(Object other) {
     //        if (this == other) {
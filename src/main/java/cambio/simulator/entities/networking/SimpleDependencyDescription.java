@@ -37,6 +37,10 @@ public class SimpleDependencyDescription extends AbstractDependencyDescription {
     @Expose
     private final ContDistNormal customDelay;
 
+    @Expose
+    @SerializedName(value = "timeout", alternate = {"request_timeout"})
+    private final Double timeout = null;
+
     private final transient Operation targetOperation;
 
     private final transient Operation parentOperation;
@@ -209,6 +213,26 @@ public class SimpleDependencyDescription extends AbstractDependencyDescription {
         return nextlatency;
     }
 
+    /**
+     * Gets the time in seconds after which a request for this dependency times out. Falls back to the timeout of the
+     * parent operation, if this dependency defines none.
+     *
+     * @return the timeout of requests for this dependency
+     */
+    public double getTimeout() {
+        if (timeout != null) {
+            return timeout;
+        }
+        return parentOperation != null ? parentOperation.getTimeout() : NetworkRequestTimeoutEvent.DEFAULT_TIMEOUT;
+    }
+
+    /**
+     * Whether this dependency defines its timeout itself.
+     */
+    public boolean hasCustomTimeout() {
+        return timeout != null;
+    }
+
     /**
      * Turns the {@link SimpleDependencyDescription#targetServiceName} and
      * {@link SimpleDependencyDescription#targetOperationName} into the actual target Operation
@@ -1,10 +1,9 @@
 package cambio.simulator.entities.networking;
 
-import static cambio.simulator.export.MiSimReporters.USER_REQUEST_AVG_REPORTER;
-import static cambio.simulator.export.MiSimReporters.USER_REQUEST_REPORTER;
-
 import cambio.simulator.entities.generator.LoadGeneratorDescriptionExecutor;
 import cambio.simulator.entities.microservice.Operation;
+import cambio.simulator.export.MiSimReporters;
+import cambio.simulator.models.ExecutionContext;
 import desmoj.core.simulator.Model;
 
 /**
@@ -26,14 +25,24 @@ public class UserRequest extends Request {
     @Override
     protected void onReceive() {
         super.onReceive();
-        USER_REQUEST_AVG_REPORTER.addDatapoint(
-            String.format("[%s]_ResponseTimes", operation.getName()), presentTime(),
-            getResponseTime());
-        USER_REQUEST_AVG_REPORTER
-            .addDatapoint("[All]ResponseTimes", presentTime(), getResponseTime());
-        USER_REQUEST_REPORTER
-            .addDatapoint(String.format("[%s]_ResponseTimes", operation.getName()), presentTime(), getResponseTime());
-        USER_REQUEST_REPORTER
-            .addDatapoint("[All]ResponseTimes", presentTime(), getResponseTime());
+        ExecutionContext context = ExecutionContext.of(getModel());
+        MiSimReporters reporters = context.getReporters();
+        double responseTime = getResponseTime();
+        String operationName = operation.getName();
+        reporters.getUserRequestAvgReporter().addDatapoint(
+            String.format("[%s]_ResponseTimes", operationName), presentTime(), responseTime);
+        reporters.getUserRequestAvgReporter()
+            .addDatapoint("[All]ResponseTimes", presentTime(), responseTime);
+        reporters.getUserRequestHistogramReporter().addResponseTime(
+            String.format("[%s]_ResponseTimePercentiles", operationName), presentTime(), responseTime);
+        reporters.getUserRequestHistogramReporter()
+            .addResponseTime("[All]ResponseTimePercentiles", presentTime(), responseTime);
+        if (reporters.isReportingRawResponseTimes()) {
+            reporters.getUserRequestReporter()
+                .addDatapoint(String.format("[%s]_ResponseTimes", operationName), presentTime(), responseTime);
+            reporters.getUserRequestReporter()
+                .addDatapoint("[All]ResponseTimes", presentTime(), responseTime);
+        }
+        context.getRunStatistics().addResponseTime(responseTime);
     }
 }
@@ -1,7 +1,6 @@
 package cambio.simulator.entities.patterns;
 
 import cambio.simulator.entities.NamedExternalEvent;
-import cambio.simulator.entities.NamedSimProcess;
 import cambio.simulator.misc.Priority;
 import co.paralleluniverse.fibers.SuspendExecution;
 import desmoj.core.simulator.Model;
@@ -29,8 +28,6 @@ public class HalfOpenBreakerEvent extends NamedExternalEvent {
 
     @Override
     public void onRoutineExecution() throws SuspendExecution {
-        synchronized (NamedSimProcess.class) {
-            stateToChange.toHalfOpen();
-        }
+        stateToChange.toHalfOpen();
     }
 }
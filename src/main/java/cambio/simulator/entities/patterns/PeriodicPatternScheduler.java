@@ -40,7 +40,7 @@ public class PeriodicPatternScheduler extends NamedSimProcess {
 
     @Override
     public void lifeCycle() throws SuspendExecution {
-        synchronized (NamedSimProcess.class) {
+        synchronized (getExecutionContext()) {
             owner.onTriggered();
         }
         if (presentTime().getTimeAsDouble(getModel().getExperiment().getReferenceUnit()) + start >= stop) {
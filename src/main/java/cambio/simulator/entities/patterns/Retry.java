@@ -1,13 +1,13 @@
 package cambio.simulator.entities.patterns;
 
-import static cambio.simulator.export.MiSimReporters.RETRY_MANAGER_REPORTER;
-
 import java.util.HashMap;
 import java.util.Map;
 
+import cambio.simulator.entities.EntityNames;
 import cambio.simulator.entities.microservice.MicroserviceInstance;
 import cambio.simulator.entities.networking.*;
 import cambio.simulator.misc.Priority;
+import cambio.simulator.models.ExecutionContext;
 import cambio.simulator.parsing.JsonTypeName;
 import com.google.gson.annotations.Expose;
 import desmoj.core.simulator.*;
@@ -54,7 +54,8 @@ public class Retry extends StrategicInstanceOwnedPattern<IRetryStrategy> impleme
         if (tries < maxTries) {
             double delay = strategy.getNextDelay(tries);
 
-            RETRY_MANAGER_REPORTER.addDatapoint("RetryTimings", presentTime(), delay);
+            ExecutionContext.of(getModel()).getReporters().getRetryManagerReporter()
+                .addDatapoint("RetryTimings", presentTime(), delay);
 
             MicroserviceInstance handler = request.getHandler();
 
@@ -73,10 +74,13 @@ public class Retry extends StrategicInstanceOwnedPattern<IRetryStrategy> impleme
             //                newRequest, handler, new TimeSpan(delay));
             //            }
             //for now we just send the request to the load balancer, which can decide which instance to use
-            owner.sendRequest("Collecting dependency " + dep.getQuotedPlainName(), newRequest,
-                dep.getTargetService(), new TimeSpan(delay));
+            owner.sendRequest(EntityNames.of(owner, "CollectingDependency",
+                    () -> "Collecting dependency " + dep.getQuotedPlainName()),
+                newRequest, dep.getTargetService(), new TimeSpan(delay));
 
-            sendTraceNote("Try " + (tries + 1) + ", send Request: " + newRequest.getQuotedPlainName());
+            if (traceIsOn()) {
+                sendTraceNote("Try " + (tries + 1) + ", send Request: " + newRequest.getQuotedPlainName());
+            }
 
         } else {
             request.getUpdateListeners().forEach(iRequestUpdateListener -> iRequestUpdateListener
@@ -1,6 +1,5 @@
 package cambio.simulator.events;
 
-import cambio.simulator.entities.NamedSimProcess;
 import cambio.simulator.entities.microservice.Microservice;
 import cambio.simulator.misc.Priority;
 import cambio.simulator.parsing.JsonTypeName;
@@ -54,21 +53,18 @@ public class ChaosMonkeyEvent extends SelfScheduledExperimentAction {
      */
     @Override
     public void onRoutineExecution() throws SuspendExecution {
-        synchronized (NamedSimProcess.class) {
-
-            if (microservice == null) {
-                throw new IllegalStateException(
-                    "No or non existing microservice specified for ChaosMonkeyEvent " + getQuotedName());
-            }
+        if (microservice == null) {
+            throw new IllegalStateException(
+                "No or non existing microservice specified for ChaosMonkeyEvent " + getQuotedName());
+        }
 
-            microservice.killInstances(instances);
+        microservice.killInstances(instances);
 
-            boolean hasServicesLeft = microservice.getInstancesCount() > 0;
-            sendTraceNote("Chaos Monkey " + getQuotedName() + " was executed.");
-            sendTraceNote(String.format("There are %s instances left of service %s",
-                hasServicesLeft ? String.format("still %d", microservice.getInstancesCount()) : "no",
-                microservice.getName()));
-        }
+        boolean hasServicesLeft = microservice.getInstancesCount() > 0;
+        sendTraceNote("Chaos Monkey " + getQuotedName() + " was executed.");
+        sendTraceNote(String.format("There are %s instances left of service %s",
+            hasServicesLeft ? String.format("still %d", microservice.getInstancesCount()) : "no",
+            microservice.getName()));
     }
 
     @Override
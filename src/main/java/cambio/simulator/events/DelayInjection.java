@@ -3,7 +3,6 @@ package cambio.simulator.events;
 import java.util.Arrays;
 import java.util.Objects;
 
-import cambio.simulator.entities.NamedSimProcess;
 import cambio.simulator.entities.microservice.Microservice;
 import cambio.simulator.entities.microservice.Operation;
 import cambio.simulator.entities.networking.InternalRequest;
@@ -86,16 +85,14 @@ public class DelayInjection extends SelfScheduledExperimentAction {
 
     @Override
     public void onRoutineExecution() {
-        synchronized (NamedSimProcess.class) {
-            microservice.applyDelay(delayDistribution, operationSrc, operationTrg);
-            if (duration > 0) {
-                new ExternalEvent(getModel(), "LatencyMonkeyDeactivator", this.traceIsOn()) {
-                    @Override
-                    public void eventRoutine() {
-                        microservice.applyDelay(null, operationSrc, operationTrg);
-                    }
-                }.schedule(new TimeSpan(duration));
-            }
+        microservice.applyDelay(delayDistribution, operationSrc, operationTrg);
+        if (duration > 0) {
+            new ExternalEvent(getModel(), "LatencyMonkeyDeactivator", this.traceIsOn()) {
+                @Override
+                public void eventRoutine() {
+                    microservice.applyDelay(null, operationSrc, operationTrg);
+                }
+            }.schedule(new TimeSpan(duration));
         }
     }
 }
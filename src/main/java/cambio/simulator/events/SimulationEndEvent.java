@@ -1,9 +1,7 @@
 package cambio.simulator.events;
 
 import cambio.simulator.entities.NamedExternalEvent;
-import cambio.simulator.entities.NamedSimProcess;
 import cambio.simulator.entities.microservice.Microservice;
-import cambio.simulator.export.MiSimReporters;
 import cambio.simulator.misc.Priority;
 import cambio.simulator.models.MiSimModel;
 import co.paralleluniverse.fibers.SuspendExecution;
@@ -34,11 +32,9 @@ public class SimulationEndEvent extends NamedExternalEvent {
 
     @Override
     public void onRoutineExecution() throws SuspendExecution {
-        synchronized (NamedSimProcess.class) {
-            model.getArchitectureModel().getMicroservices().forEach(Microservice::finalizeStatistics);
-            MiSimReporters.finalizeReports();
+        model.getArchitectureModel().getMicroservices().forEach(Microservice::finalizeStatistics);
+        getExecutionContext().getReporters().finalizeReports();
 
-            model.getExperimentMetaData().markEndOfExecution(System.nanoTime());
-        }
+        model.getExperimentMetaData().markEndOfExecution(System.nanoTime());
     }
 }
@@ -1,6 +1,5 @@
 package cambio.simulator.events;
 
-import cambio.simulator.entities.NamedSimProcess;
 import cambio.simulator.entities.microservice.Microservice;
 import cambio.simulator.misc.Priority;
 import cambio.simulator.parsing.JsonTypeName;
@@ -48,13 +47,11 @@ public class SummonerMonkeyEvent extends SelfScheduledExperimentAction {
      */
     @Override
     public void onRoutineExecution() throws SuspendExecution {
-        synchronized (NamedSimProcess.class) {
-            microservice.scaleToInstancesCount(microservice.getInstancesCount() + instances);
+        microservice.scaleToInstancesCount(microservice.getInstancesCount() + instances);
 
-            sendTraceNote("Summoner Monkey " + getQuotedName() + " was executed.");
-            sendTraceNote(String.format("There are now %s instances of service %s", microservice.getInstancesCount(),
-                microservice.getName()));
-        }
+        sendTraceNote("Summoner Monkey " + getQuotedName() + " was executed.");
+        sendTraceNote(String.format("There are now %s instances of service %s", microservice.getInstancesCount(),
+            microservice.getName()));
     }
 
     @Override
@@ -2,7 +2,7 @@ package cambio.simulator.export;
 
 import java.io.IOException;
 import java.nio.file.Path;
-import java.util.*;
+import java.util.Objects;
 import java.util.function.UnaryOperator;
 
 import desmoj.core.simulator.Model;
@@ -14,11 +14,18 @@ import desmoj.core.simulator.TimeInstant;
  * <p>
  * Since this Reporter does not know when accumulation <b>The data will be converted to double.</b>
  *
+ * <p>
+ * Only the running sum of the latest bucket of each dataset is kept in memory. A bucket is written as soon as data for
+ * a later bucket of the same dataset arrives, or when the report is finalized.
+ *
  * @author Lion Wagner
  */
 public class AccumulativeDataPointReporter extends BucketMultiDataPointReporter {
 
-    private final HashMap<String, HashMap<TimeInstant, Double>> lastValues = new HashMap<>();
+    /**
+     * Running sum of the open bucket of each dataset. Closed buckets are written immediately.
+     */
+    private final RunningBuckets runningBuckets = new RunningBuckets(this::writeSum);
 
     /**
      * Constructs a new data point reporter.
@@ -64,19 +71,28 @@ public class AccumulativeDataPointReporter extends BucketMultiDataPointReporter
      */
     public void addDatapoint(String dataSetName, TimeInstant when, Number data) {
         checkArgumentsAreNotNull(dataSetName, when, data);
-        when = bucketingFunction.apply(when);
-
-        if (lastValues.containsKey(dataSetName)) {
-            HashMap<TimeInstant, Double> lastValuesForDataSet = lastValues.get(dataSetName);
-            if (lastValuesForDataSet.containsKey(when)) {
-                lastValuesForDataSet.put(when, lastValuesForDataSet.get(when) + data.doubleValue());
-            } else {
-                lastValuesForDataSet.put(when, data.doubleValue());
-            }
-        } else {
-            lastValues.put(dataSetName, new HashMap<>());
-            lastValues.get(dataSetName).put(when, data.doubleValue());
+        addDatapoint(dataSetName, when, data.doubleValue());
+    }
+
+    /**
+     * Adds the given value to the sum of its bucket, without boxing it.
+     */
+    @Override
+    public void addDatapoint(String dataSetName, TimeInstant when, double data) {
+        Objects.requireNonNull(dataSetName);
+        Objects.requireNonNull(when);
+        if (!isEnabled(dataSetName)) {
+            return;
         }
+        runningBuckets.add(dataSetName, getBucketTime(when), data);
+    }
+
+    /**
+     * Adds the given value to the sum of its bucket, without boxing it.
+     */
+    @Override
+    public void addDatapoint(String dataSetName, TimeInstant when, long data) {
+        addDatapoint(dataSetName, when, (double) data);
     }
 
     @SafeVarargs
@@ -92,44 +108,24 @@ public class AccumulativeDataPointReporter extends BucketMultiDataPointReporter
         }
     }
 
-    @SafeVarargs
-    private <T> void internalAddDatapoint(String dataSetName, TimeInstant when, T... data) {
-        checkArgumentsAreNotNull(dataSetName, when, data);
-        AsyncMultiColumnReportWriter writerThread = getWriter(dataSetName);
-        writerThread.addDataPoint(when.getTimeAsDouble(), data);
+    private void writeSum(String dataSetName, double bucketTime, double sum, long count) {
+        getWriter(dataSetName).addDataPoint(bucketTime, (Object) sum);
     }
 
     /**
-     * Writes all accumulated data-points to disk.
+     * Writes the sums of the open buckets of all datasets to disk.
      */
     public void flush() {
-        lastValues.keySet().forEach(this::flush);
+        runningBuckets.closeAll();
     }
 
     /**
-     * Writes the given dataset to disk.
+     * Writes the sum of the open bucket of the given dataset to disk.
      */
     public void flush(String datasetName) {
-        if (lastValues.containsKey(datasetName)) {
-            HashMap<TimeInstant, Double> lastValuesForDataSet = lastValues.get(datasetName);
-            lastValuesForDataSet.keySet().stream().sorted()
-                .forEach(timeInstant -> this.flush(datasetName, timeInstant));
-        }
+        runningBuckets.close(datasetName);
     }
 
-    /**
-     * Writes the given TimeInstant (timestamp) of a specific dataset to disk.
-     */
-    public void flush(String datasetName, TimeInstant when) {
-        if (lastValues.containsKey(datasetName)) {
-            HashMap<TimeInstant, Double> lastValuesForDataSet = lastValues.get(datasetName);
-            if (lastValuesForDataSet.containsKey(when)) {
-                internalAddDatapoint(datasetName, when, lastValuesForDataSet.remove(when));
-            }
-        }
-    }
-
-
     @Override
     public void finalizeReport() {
         flush();
@@ -143,6 +139,6 @@ public class AccumulativeDataPointReporter extends BucketMultiDataPointReporter
 
     @Override
     protected AsyncMultiColumnReportWriter createWriter(Path datasetPath, String[] headers) throws IOException {
-        return new AsyncMultiColumnReportWriter(datasetPath, headers[0]);
+        return new AsyncMultiColumnReportWriter(datasetPath, reportSink, columnarStore, headers[0]);
     }
 }
@@ -4,6 +4,8 @@ import java.io.IOException;
 import java.nio.file.Path;
 import java.util.function.Function;
 
+import org.jetbrains.annotations.Nullable;
+
 /**
  * A {@link AsyncReportWriter} that writes a list of values to a single column. The list is formatted as
  * [entry1,entry2].
@@ -34,8 +36,23 @@ public class AsyncListReportWriter extends AsyncReportWriter<Object> {
     //we use Object as generic type to move the "toString" conversion
     //to the formatter in the background thread
 
+    /**
+     * Marks the end of a line in the buffer.
+     */
+    private static final Object LINE_END = new Object() {
+        @Override
+        public String toString() {
+            return "]\n";
+        }
+    };
+
     private double currentTime = -1;
 
+    /**
+     * Text of the list of the current line of the columnar dataset, only used by the writer thread.
+     */
+    private final StringBuilder columnarList = new StringBuilder();
+
     protected boolean hasStarted = false;
 
     public AsyncListReportWriter(Path datasetPath) throws IOException {
@@ -43,7 +60,12 @@ public class AsyncListReportWriter extends AsyncReportWriter<Object> {
     }
 
     public AsyncListReportWriter(Path datasetPath, String header) throws IOException {
-        super(datasetPath, new String[] {header});
+        this(datasetPath, null, null, header);
+    }
+
+    public AsyncListReportWriter(Path datasetPath, @Nullable ReportSink sink,
+                                 @Nullable ColumnarReportStore columnarStore, String header) throws IOException {
+        super(datasetPath, new String[] {header}, sink, columnarStore);
     }
 
     @Override
@@ -54,16 +76,18 @@ public class AsyncListReportWriter extends AsyncReportWriter<Object> {
             }
 
             startNewLine(time);
-            buffer.add(data);
+            enqueue(data);
             hasStarted = true;
         } else {
-            buffer.add(MiSimReporters.csvListSeparator + data);
+            enqueue(MiSimReporters.csvListSeparator + data);
         }
     }
 
     @Override
     protected void finalizingTodos() {
-        closeLine();
+        if (hasStarted) {
+            closeLine();
+        }
     }
 
     @Override
@@ -71,12 +95,43 @@ public class AsyncListReportWriter extends AsyncReportWriter<Object> {
         return Object::toString;
     }
 
+    @Override
+    protected void writeTo(ColumnarReportStore.Dataset dataset, Object data) throws IOException {
+        if (data instanceof LineStart) {
+            dataset.startRow(((LineStart) data).time);
+            columnarList.setLength(0);
+            columnarList.append('[');
+        } else if (data == LINE_END) {
+            columnarList.append(']');
+            dataset.addText(columnarList.toString());
+            dataset.endRow();
+        } else {
+            columnarList.append(data);
+        }
+    }
+
     private void startNewLine(double time) {
         currentTime = time;
-        buffer.add(time + MiSimReporters.csvSeperator + "[");
+        enqueue(new LineStart(time));
     }
 
     private void closeLine() {
-        buffer.add("]\n");
+        enqueue(LINE_END);
+    }
+
+    /**
+     * Marks the start of a line in the buffer.
+     */
+    private static final class LineStart {
+        private final double time;
+
+        private LineStart(double time) {
+            this.time = time;
+        }
+
+        @Override
+        public String toString() {
+            return time + MiSimReporters.csvSeperator + "[";
+        }
     }
 }
@@ -6,6 +6,7 @@ import java.util.*;
 import java.util.function.Function;
 
 import org.javatuples.Pair;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Writes a list of values to multiple columns, seperated by {@link MiSimReporters#csvSeperator}.
@@ -14,27 +15,64 @@ import org.javatuples.Pair;
  */
 public class AsyncMultiColumnReportWriter extends AsyncReportWriter<Pair<Double, Iterable<?>>> {
 
+    /**
+     * Last row of a down-sampled dataset. It is only written once a data point of a later sampling interval arrives.
+     */
+    private Pair<Double, Iterable<?>> provisionalRow;
+
     public AsyncMultiColumnReportWriter(Path datasetPath) throws IOException {
         this(datasetPath, MiSimReporters.DEFAULT_VALUE_COLUMN_NAME);
     }
 
     public AsyncMultiColumnReportWriter(Path datasetPath, String... headers) throws IOException {
-        super(datasetPath, headers);
+        this(datasetPath, null, null, headers);
+    }
+
+    public AsyncMultiColumnReportWriter(Path datasetPath, @Nullable ReportSink sink,
+                                        @Nullable ColumnarReportStore columnarStore, String... headers)
+        throws IOException {
+        super(datasetPath, headers, sink, columnarStore);
     }
 
     @Override
     public void addDataPoint(double time, Object data) {
+        int decision = sample(time);
+        if (decision == DatasetSampler.DROP) {
+            return;
+        }
         if (data instanceof Object[]) {
             Object[] array = (Object[]) data;
             List<Object> list = new ArrayList<>(Arrays.asList(array));
-            buffer.add(new Pair<>(time, list));
+            addRow(decision, new Pair<>(time, list));
         } else {
-            buffer.add(new Pair<>(time, Collections.singletonList(data)));
+            addRow(decision, new Pair<>(time, Collections.singletonList(data)));
         }
     }
 
     public void addDataPoint(double time, Iterable<?> data) {
-        buffer.add(new Pair<>(time, data));
+        int decision = sample(time);
+        if (decision != DatasetSampler.DROP) {
+            addRow(decision, new Pair<>(time, data));
+        }
+    }
+
+    private void addRow(int decision, Pair<Double, Iterable<?>> row) {
+        if (sampler == null || !sampler.isDownsampling()) {
+            enqueue(row);
+            return;
+        }
+        if (decision == DatasetSampler.APPEND && provisionalRow != null) {
+            enqueue(provisionalRow);
+        }
+        provisionalRow = row;
+    }
+
+    @Override
+    protected void finalizingTodos() {
+        if (provisionalRow != null) {
+            enqueue(provisionalRow);
+            provisionalRow = null;
+        }
     }
 
     public void addDataPoint(double time, int[] data) {
@@ -101,4 +139,13 @@ public class AsyncMultiColumnReportWriter extends AsyncReportWriter<Pair<Double,
             return builder.toString();
         };
     }
+
+    @Override
+    protected void writeTo(ColumnarReportStore.Dataset dataset, Pair<Double, Iterable<?>> row) throws IOException {
+        dataset.startRow(row.getValue0());
+        for (Object o : row.getValue1()) {
+            dataset.addValue(o);
+        }
+        dataset.endRow();
+    }
 }
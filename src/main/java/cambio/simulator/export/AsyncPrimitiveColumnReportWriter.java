@@ -0,0 +1,226 @@
+package cambio.simulator.export;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.function.Function;
+
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Writes numeric values to a fixed number of columns, seperated by {@link MiSimReporters#csvSeperator}.
+ *
+ * <p>
+ * In contrast to the {@link AsyncMultiColumnReportWriter}, rows are not buffered as boxed objects. Instead, they are
+ * collected in growable chunks of primitive columns (see {@link PrimitiveColumnChunk}). A chunk is handed over to the
+ * writer thread once it reached {@link #MAX_CHUNK_ROWS} rows or the writeout is finalized. Hence, adding a row via one
+ * of the typed {@code addDataPoint} methods neither boxes the values nor allocates a new object (apart from the
+ * occasional chunk growth).
+ *
+ * <p>
+ * The number of value columns is defined by the headers. Each row has to provide exactly one value per column.
+ *
+ * @see PrimitiveDataPointReporter
+ */
+public class AsyncPrimitiveColumnReportWriter extends AsyncReportWriter<PrimitiveColumnChunk> {
+
+    /**
+     * Number of rows a new chunk can hold before it has to grow.
+     */
+    public static final int INITIAL_CHUNK_ROWS = 16;
+
+    /**
+     * Maximum number of rows of a chunk. Full chunks of this size are handed over to the writer thread.
+     */
+    public static final int MAX_CHUNK_ROWS = 1024;
+
+    private final int width;
+    private PrimitiveColumnChunk currentChunk;
+
+    public AsyncPrimitiveColumnReportWriter(Path datasetPath) throws IOException {
+        this(datasetPath, MiSimReporters.DEFAULT_VALUE_COLUMN_NAME);
+    }
+
+    /**
+     * Creates a new writer with one value column per header.
+     *
+     * @param datasetPath path to the file to be written to
+     * @param headers     headers of the value columns, at least one has to be given
+     * @throws IOException if the file output stream cannot be opened
+     */
+    public AsyncPrimitiveColumnReportWriter(Path datasetPath, String... headers) throws IOException {
+        this(datasetPath, null, null, headers);
+    }
+
+    /**
+     * Creates a new writer with one value column per header.
+     *
+     * @param datasetPath   path to the file to be written to
+     * @param sink          sink that writes out the data, if {@code null} the writer creates its own
+     * @param columnarStore store that should receive the data instead of a CSV file, may be {@code null}
+     * @param headers       headers of the value columns, at least one has to be given
+     * @throws IOException if the file output stream cannot be opened
+     */
+    public AsyncPrimitiveColumnReportWriter(Path datasetPath, @Nullable ReportSink sink,
+                                            @Nullable ColumnarReportStore columnarStore, String... headers)
+        throws IOException {
+        super(datasetPath, headers, sink, columnarStore);
+        if (headers.length == 0) {
+            throw new IllegalArgumentException("At least one value column is required.");
+        }
+        this.width = headers.length;
+        this.currentChunk = new PrimitiveColumnChunk(width, INITIAL_CHUNK_ROWS);
+    }
+
+    public void addDataPoint(double time, double value) {
+        PrimitiveColumnChunk chunk = prepareRow(time, 1);
+        if (chunk != null) {
+            chunk.add(time, value);
+        }
+    }
+
+    public void addDataPoint(double time, long value) {
+        PrimitiveColumnChunk chunk = prepareRow(time, 1);
+        if (chunk != null) {
+            chunk.add(time, value);
+        }
+    }
+
+    public void addDataPoint(double time, double value1, double value2) {
+        PrimitiveColumnChunk chunk = prepareRow(time, 2);
+        if (chunk != null) {
+            chunk.add(time, value1, value2);
+        }
+    }
+
+    public void addDataPoint(double time, long value1, long value2) {
+        PrimitiveColumnChunk chunk = prepareRow(time, 2);
+        if (chunk != null) {
+            chunk.add(time, value1, value2);
+        }
+    }
+
+    public void addDataPoint(double time, double[] values) {
+        PrimitiveColumnChunk chunk = prepareRow(time, values.length);
+        if (chunk != null) {
+            chunk.add(time, values);
+        }
+    }
+
+    public void addDataPoint(double time, long[] values) {
+        PrimitiveColumnChunk chunk = prepareRow(time, values.length);
+        if (chunk != null) {
+            chunk.add(time, values);
+        }
+    }
+
+    /**
+     * Adds a row of boxed values. Accepts a single {@link Number}, primitive {@code int}, {@code long} and {@code
+     * double} arrays and arrays of {@link Number}s. Prefer the typed methods, this method exists for compatibility
+     * only.
+     *
+     * @throws IllegalArgumentException if the data is not numeric
+     */
+    @Override
+    public void addDataPoint(double time, Object data) {
+        if (data instanceof Double || data instanceof Float) {
+            addDataPoint(time, ((Number) data).doubleValue());
+        } else if (data instanceof Number) {
+            addDataPoint(time, ((Number) data).longValue());
+        } else if (data instanceof double[]) {
+            addDataPoint(time, (double[]) data);
+        } else if (data instanceof long[]) {
+            addDataPoint(time, (long[]) data);
+        } else if (data instanceof int[]) {
+            int[] ints = (int[]) data;
+            long[] longs = new long[ints.length];
+            for (int i = 0; i < ints.length; i++) {
+                longs[i] = ints[i];
+            }
+            addDataPoint(time, longs);
+        } else if (data instanceof Object[]) {
+            addNumbers(time, (Object[]) data);
+        } else {
+            throw new IllegalArgumentException(
+                String.format("Cannot write non-numeric value '%s' to %s.", data, datasetPath.getFileName()));
+        }
+    }
+
+    private void addNumbers(double time, Object[] data) {
+        boolean allIntegral = true;
+        for (Object o : data) {
+            if (!(o instanceof Number)) {
+                throw new IllegalArgumentException(
+                    String.format("Cannot write non-numeric value '%s' to %s.", o, datasetPath.getFileName()));
+            }
+            allIntegral &= !(o instanceof Double || o instanceof Float);
+        }
+        if (allIntegral) {
+            long[] longs = new long[data.length];
+            for (int i = 0; i < data.length; i++) {
+                longs[i] = ((Number) data[i]).longValue();
+            }
+            addDataPoint(time, longs);
+        } else {
+            double[] doubles = new double[data.length];
+            for (int i = 0; i < data.length; i++) {
+                doubles[i] = ((Number) data[i]).doubleValue();
+            }
+            addDataPoint(time, doubles);
+        }
+    }
+
+    /**
+     * Gets the chunk to which the next row should be added, or {@code null} if the row should be dropped according to
+     * the sampler of the dataset. If the row replaces the last row of a down-sampled dataset, the last row is removed.
+     * Since a full chunk is only handed over when the next row is prepared, the last row is always part of the current
+     * chunk.
+     */
+    private PrimitiveColumnChunk prepareRow(double time, int valueCount) {
+        if (valueCount != width) {
+            throw new IllegalArgumentException(String.format("%s has %d value columns, but %d values were given.",
+                datasetPath.getFileName(), width, valueCount));
+        }
+        int decision = sample(time);
+        if (decision == DatasetSampler.DROP) {
+            return null;
+        } else if (decision == DatasetSampler.REPLACE && !currentChunk.isEmpty()) {
+            currentChunk.removeLast();
+        }
+        if (currentChunk.isFull()) {
+            if (currentChunk.capacity() < MAX_CHUNK_ROWS) {
+                currentChunk.grow(MAX_CHUNK_ROWS);
+            } else {
+                enqueue(currentChunk);
+                currentChunk = new PrimitiveColumnChunk(width, MAX_CHUNK_ROWS);
+            }
+        }
+        return currentChunk;
+    }
+
+    @Override
+    protected long estimateSize(PrimitiveColumnChunk chunk) {
+        return chunk.estimateSize();
+    }
+
+    @Override
+    protected void finalizingTodos() {
+        if (!currentChunk.isEmpty()) {
+            enqueue(currentChunk);
+            currentChunk = new PrimitiveColumnChunk(width, INITIAL_CHUNK_ROWS);
+        }
+    }
+
+    @Override
+    public Function<PrimitiveColumnChunk, String> createFormatter() {
+        return chunk -> {
+            StringBuilder builder = new StringBuilder(chunk.size() * 24);
+            chunk.appendTo(builder, MiSimReporters.csvSeperator);
+            return builder.toString();
+        };
+    }
+
+    @Override
+    protected void writeTo(ColumnarReportStore.Dataset dataset, PrimitiveColumnChunk chunk) throws IOException {
+        chunk.writeTo(dataset);
+    }
+}
@@ -1,87 +1,164 @@
 package cambio.simulator.export;
 
-import java.io.FileOutputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.*;
-import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Function;
 
+import org.jetbrains.annotations.Nullable;
+
 /**
  * A base class that provides functionalities to asynchronously write data to a file.
  *
+ * <p>
+ * The writer uses a chunk-swap design between the simulation thread (producer) and a writer thread (consumer) of the
+ * {@link ReportSink}. The producer appends its data to the active chunk via {@link #enqueue(Object)}. The consumer
+ * swaps the active chunk with an empty spare chunk in constant time, formats the taken chunk without blocking the
+ * producer and writes it with a few large {@link FileChannel#write(ByteBuffer)} calls.
+ *
+ * <p>
+ * The file of a writer is opened and closed by the {@link ReportSink}, which bounds the number of open files. The
+ * data buffered by a writer is accounted against the memory budget of the sink, so {@link #enqueue(Object)} may block
+ * if the writer threads fall behind.
+ *
+ * <p>
+ * Writers of a simulation run share the sink of the run. Writers that are created without a sink own a single
+ * threaded sink, which is shut down on {@link #finalizeWriteout()}.
+ *
+ * <p>
+ * If a {@link ColumnarReportStore} is given on creation, no CSV file is created. Instead, the writer thread passes
+ * the buffered rows as typed values to a dataset of the store (see {@link #writeTo}).
+ *
  * @param <T> Type of the data stored in the buffer and transferred to the writer thread and formatter
  * @author Lion Wagner
+ * @see ReportSink
  */
 public abstract class AsyncReportWriter<T> {
 
     /**
-     * Periode in ms with wich the buffer is flushed to the file. It is only read once when the writer is created. One
-     * can try and play around with this parameter when you encounter either CPU or IO performance issues.
+     * Estimated memory footprint of one buffered element, used for the memory budget of the {@link ReportSink}.
      */
-    private static int FLUSH_PERIOD_MS = 100;
+    protected static final int DEFAULT_ELEMENT_SIZE_ESTIMATE = 64;
 
     /**
-     * Number of threads used to write to the file. By default it uses all but one available processor. One can try and
-     * play around with this parameter when you encounter either CPU or IO performance issues.
+     * Size of the byte buffer used to batch writes to the file channel.
      */
-    private static int THREAD_POOL_SIZE = Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
-
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
 
-    public static int getFlushPeriodMs() {
-        return FLUSH_PERIOD_MS;
-    }
-
-    public static void setFlushPeriodMs(int flushPeriodMs) {
-        FLUSH_PERIOD_MS = flushPeriodMs;
-    }
+    /**
+     * Maximum number of elements a chunk may have held to be reused as spare chunk.
+     */
+    private static final int MAX_RETAINED_CHUNK_SIZE = 16 * 1024;
 
-    public static int getThreadPoolSize() {
-        return THREAD_POOL_SIZE;
-    }
+    /**
+     * Encoding state of the consuming threads. Kept per thread instead of per writer, since there are usually much
+     * more writers than writer threads.
+     */
+    private static final ThreadLocal<EncodingBuffer> encodingBuffers = ThreadLocal.withInitial(EncodingBuffer::new);
 
-    public static void setThreadPoolSize(int threadPoolSize) {
-        THREAD_POOL_SIZE = threadPoolSize;
-    }
+    public final Path datasetPath;
 
-    protected final List<T> buffer = Collections.synchronizedList(new ArrayList<>());
+    private final ReportSink sink;
+    private final boolean ownsSink;
+    final int writerThreadIndex;
 
     /**
-     * Thread pool used by the AsyncReportWriters to write to the output file.
+     * Guards the swap of the active chunk.
      */
-    private static final ScheduledExecutorService threadPool = Executors.newScheduledThreadPool(THREAD_POOL_SIZE);
-
-    private final FileOutputStream fileOutputStream;
+    private final Object chunkLock = new Object();
+    private ArrayList<T> activeChunk = new ArrayList<>();
+    private ArrayList<T> spareChunk = new ArrayList<>();
+    private long activeChunkBytes = 0;
 
-    public final Path datasetPath;
+    /**
+     * Whether this writer is queued for the next write-out of its writer thread.
+     */
+    private final AtomicBoolean dirty = new AtomicBoolean(false);
+    private final AtomicBoolean finalizing = new AtomicBoolean(false);
+    /**
+     * Whether this writer rejects new data. Only set while holding the chunk lock, so no data can be enqueued after
+     * the final write-out took the active chunk.
+     */
+    private volatile boolean finalized = false;
 
+    /**
+     * Guards the file channel and the consumer side.
+     */
     private final ReentrantLock lock = new ReentrantLock();
+    private boolean closed = false;
+    private FileChannel fileChannel;
+    private final ColumnarReportStore.Dataset columnarDataset;
     private final Function<T, String> formatter;
 
     /**
-     * Future that describes the task of regularly writing the buffer to the file.
+     * Sampler of the dataset of this writer, {@code null} if all data points are written. Set by the
+     * {@link MiSimReporter} that created this writer.
      */
-    private final ScheduledFuture<?> scheduledFuture;
+    @Nullable DatasetSampler sampler;
 
     /**
-     * Creates a new AsyncReportWriter and opens a new output stream to the given file (dataset path).
+     * Creates a new AsyncReportWriter, creates the given file (dataset path) and writes the headers to it.
      *
      * @param datasetPath path to the file to be written to. If the path does not end with .csv, it will be appended.
      * @param headers     headers to be written to the file
-     * @throws IOException if the file output stream cannot be opened
+     * @throws IOException if the file cannot be created or the header cannot be written
      */
     public AsyncReportWriter(final Path datasetPath, final String[] headers) throws IOException {
+        this(datasetPath, headers, null, null);
+    }
+
+    /**
+     * Creates a new AsyncReportWriter. If a columnar store is given, the data is written into a new dataset of the
+     * store. Otherwise, the given file (dataset path) is created and the headers are written to it.
+     *
+     * @param datasetPath   path to the file to be written to. If the path does not end with .csv, it will be
+     *                      appended. In case of a columnar store, the file name (without extension) is used as dataset
+     *                      name.
+     * @param headers       headers to be written to the file
+     * @param sink          sink that writes out the data of this writer, if {@code null} the writer creates its own
+     * @param columnarStore store that should receive the data instead of a CSV file, may be {@code null}
+     * @throws IOException if the file cannot be created or the header cannot be written
+     */
+    protected AsyncReportWriter(final Path datasetPath, final String[] headers, @Nullable ReportSink sink,
+                                @Nullable ColumnarReportStore columnarStore) throws IOException {
         this.datasetPath = Objects.requireNonNull(datasetPath).toString().endsWith(".csv")
             ? datasetPath : datasetPath.resolveSibling(datasetPath.getFileName() + ".csv");
-        this.fileOutputStream = new FileOutputStream(this.datasetPath.toFile());
         this.formatter = createFormatter(); //grab the formatter implementation for the inheriting class
+        this.ownsSink = sink == null;
+        this.sink = ownsSink ? new ReportSink(1, ReportSink.DEFAULT_FLUSH_PERIOD_MS, ReportSink.DEFAULT_MAX_OPEN_FILES,
+            ReportSink.DEFAULT_MEMORY_BUDGET_BYTES) : sink;
+        this.writerThreadIndex = this.sink.assignWriterThread();
 
+        if (columnarStore != null) {
+            String fileName = this.datasetPath.getFileName().toString();
+            String[] columns = new String[headers.length + 1];
+            columns[0] = MiSimReporters.DEFAULT_TIME_COLUMN_NAME;
+            System.arraycopy(headers, 0, columns, 1, headers.length);
+            this.columnarDataset =
+                columnarStore.createDataset(fileName.substring(0, fileName.length() - ".csv".length()), columns,
+                    this.sink);
+            return;
+        }
+        this.columnarDataset = null;
 
-        fileOutputStream.write(createHeader(headers).getBytes(StandardCharsets.UTF_8));
-        fileOutputStream.flush();
-        scheduledFuture = threadPool.scheduleAtFixedRate(this::writeout, 0, FLUSH_PERIOD_MS, TimeUnit.MILLISECONDS);
+        lock.lock();
+        try {
+            fileChannel = FileChannel.open(this.datasetPath, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+            writeFully(ByteBuffer.wrap(createHeader(headers).getBytes(StandardCharsets.UTF_8)));
+        } finally {
+            lock.unlock();
+        }
+        this.sink.fileUsed(this);
     }
 
     private String createHeader(String[] headers) {
@@ -97,44 +174,213 @@ public abstract class AsyncReportWriter<T> {
 
     public abstract void addDataPoint(double time, Object data);
 
+    /**
+     * Decides how a data point at the given time should be written, according to the sampler of the dataset.
+     *
+     * @param time simulation time of the data point
+     * @return one of {@link DatasetSampler#DROP}, {@link DatasetSampler#APPEND} or {@link DatasetSampler#REPLACE},
+     *     always {@link DatasetSampler#APPEND} if the writer has no sampler
+     */
+    final int sample(double time) {
+        return sampler == null ? DatasetSampler.APPEND : sampler.offer(time);
+    }
+
+    /**
+     * Appends the given data to the active chunk. It will be formatted and written by the writer thread.
+     *
+     * <p>
+     * Blocks if the memory budget of the {@link ReportSink} is exceeded, until the writer threads caught up. Data that
+     * is enqueued after the writer was finalized is discarded.
+     *
+     * @param data data that should be written
+     */
+    protected final void enqueue(T data) {
+        if (finalized) {
+            return;
+        }
+        long size = estimateSize(data);
+        synchronized (chunkLock) {
+            if (finalized) {
+                return;
+            }
+            activeChunk.add(data);
+            activeChunkBytes += size;
+        }
+        if (!dirty.get() && dirty.compareAndSet(false, true)) {
+            sink.markDirty(this);
+        }
+        sink.reserve(size);
+    }
+
+    /**
+     * Estimates the memory footprint of a buffered element. Used to enforce the memory budget of the {@link
+     * ReportSink}.
+     *
+     * <p>
+     * The default implementation returns {@link #DEFAULT_ELEMENT_SIZE_ESTIMATE}.
+     *
+     * @param data buffered element
+     * @return estimated size of the element in bytes
+     */
+    protected long estimateSize(T data) {
+        return DEFAULT_ELEMENT_SIZE_ESTIMATE;
+    }
+
     /**
      * Finalizes the writeout.
      * <ol>
-     *    <li>Cancels the continuous writeout and flushes the buffer to file</li>
      *    <li>Calls {@link AsyncReportWriter#finalizingTodos()} to collect closing outputs</li>
-     *    <li>Writes the collected data to the output stream</li>
-     *    <li>Finally, flushing and closing the output stream</li>
+     *    <li>Rejects all data that is enqueued afterwards</li>
+     *    <li>Writes the collected data to the file</li>
+     *    <li>Finally, closing the file channel</li>
      * </ol>
      *
-     * @throws RuntimeException if an error occurs while flushing or closing the output stream
+     * @throws RuntimeException if an error occurs while writing or closing the file channel
      */
     public final void finalizeWriteout() {
+        if (!finalizing.compareAndSet(false, true)) {
+            return;
+        }
+        finalizingTodos();
+        synchronized (chunkLock) {
+            finalized = true;
+        }
+        writeout();
+        lock.lock();
         try {
-            scheduledFuture.cancel(false); //cancel periodic scheduling
-            finalizingTodos();
-            writeout();
-            fileOutputStream.flush(); //flush the output stream to the file
-            fileOutputStream.close();
+            closed = true;
+            if (columnarDataset != null) {
+                columnarDataset.close();
+            }
+            if (fileChannel != null) {
+                fileChannel.close();
+                fileChannel = null;
+            }
         } catch (IOException e) {
             System.out.println("Error while finalizing writeout.");
             throw new RuntimeException(e);
+        } finally {
+            lock.unlock();
+            sink.fileClosed(this);
+            if (ownsSink) {
+                sink.shutdown();
+            }
         }
     }
 
-    private void writeout() {
+    /**
+     * Writes the active chunk to the file. Called by the writer threads of the {@link ReportSink} and on
+     * finalization.
+     */
+    final void writeout() {
+        lock.lock();
+        long chunkBytes = 0;
         try {
-            lock.lock();
-            while (!buffer.isEmpty() && fileOutputStream.getChannel().isOpen()) {
-                try {
-                    T data = buffer.remove(0);
-                    String formattedData = formatter.apply(data);
-                    fileOutputStream.write(formattedData.getBytes(StandardCharsets.UTF_8));
-                } catch (IOException e) {
-                    throw new RuntimeException(e);
+            dirty.set(false);
+            ArrayList<T> chunk;
+            synchronized (chunkLock) {
+                if (activeChunk.isEmpty()) {
+                    return;
                 }
+                chunk = activeChunk;
+                chunkBytes = activeChunkBytes;
+                activeChunk = spareChunk;
+                activeChunkBytes = 0;
             }
+
+            try {
+                if (!closed && columnarDataset != null) {
+                    for (T data : chunk) {
+                        writeTo(columnarDataset, data);
+                    }
+                } else if (!closed) {
+                    ensureFileOpen();
+                    EncodingBuffer encodingBuffer = encodingBuffers.get();
+                    for (T data : chunk) {
+                        encodingBuffer.pendingText.append(formatter.apply(data));
+                        if (encodingBuffer.pendingText.length() >= WRITE_BUFFER_SIZE) {
+                            writePendingText(encodingBuffer);
+                        }
+                    }
+                    writePendingText(encodingBuffer);
+                }
+            } finally {
+                //do not keep the capacity of exceptionally large chunks around
+                spareChunk = chunk.size() > MAX_RETAINED_CHUNK_SIZE ? new ArrayList<>() : chunk;
+                chunk.clear();
+            }
+        } catch (IOException e) {
+            throw new RuntimeException(e);
         } finally {
             lock.unlock();
+            sink.release(chunkBytes);
+        }
+    }
+
+    private void ensureFileOpen() throws IOException {
+        if (fileChannel == null) {
+            fileChannel = FileChannel.open(datasetPath, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        }
+        sink.fileUsed(this);
+    }
+
+    /**
+     * Closes the file of this writer, if it is currently not used. It will be reopened on the next write-out.
+     *
+     * @return whether the file is closed afterwards
+     */
+    boolean tryCloseFile() {
+        if (!lock.tryLock()) {
+            return false;
+        }
+        try {
+            if (fileChannel != null) {
+                fileChannel.close();
+                fileChannel = null;
+            }
+            return true;
+        } catch (IOException e) {
+            System.out.printf("[Warning] Could not close %s.%n", datasetPath);
+            return false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Encodes the pending text into the write buffer and writes the buffer to the file channel whenever it is full.
+     */
+    private void writePendingText(EncodingBuffer encodingBuffer) throws IOException {
+        StringBuilder pendingText = encodingBuffer.pendingText;
+        if (pendingText.length() == 0) {
+            return;
+        }
+        ByteBuffer writeBuffer = encodingBuffer.writeBuffer;
+        CharsetEncoder encoder = encodingBuffer.encoder;
+        CharBuffer chars = CharBuffer.wrap(pendingText);
+        encoder.reset();
+        CoderResult result;
+        do {
+            result = encoder.encode(chars, writeBuffer, true);
+            if (result.isOverflow()) {
+                writeBuffer.flip();
+                writeFully(writeBuffer);
+                writeBuffer.clear();
+            } else if (result.isError()) {
+                result.throwException();
+            }
+        } while (result.isOverflow());
+        encoder.flush(writeBuffer);
+
+        writeBuffer.flip();
+        writeFully(writeBuffer);
+        writeBuffer.clear();
+        pendingText.setLength(0);
+    }
+
+    private void writeFully(ByteBuffer bytes) throws IOException {
+        while (bytes.hasRemaining()) {
+            fileChannel.write(bytes);
         }
     }
 
@@ -150,4 +396,21 @@ public abstract class AsyncReportWriter<T> {
     }
 
     public abstract Function<T, String> createFormatter();
+
+    /**
+     * Passes the given buffered element to the dataset of the columnar store. Called by the writer thread instead of
+     * the formatter, if this writer writes into a {@link ColumnarReportStore}. The values have to be passed with the
+     * types that convert back into the text of the formatter.
+     *
+     * @param dataset dataset of this writer
+     * @param data    buffered element
+     * @throws IOException if a block of the dataset cannot be written
+     */
+    protected abstract void writeTo(ColumnarReportStore.Dataset dataset, T data) throws IOException;
+
+    private static final class EncodingBuffer {
+        private final StringBuilder pendingText = new StringBuilder();
+        private final ByteBuffer writeBuffer = ByteBuffer.allocate(WRITE_BUFFER_SIZE);
+        private final CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder();
+    }
 }
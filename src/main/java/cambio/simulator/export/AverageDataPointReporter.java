@@ -2,8 +2,7 @@ package cambio.simulator.export;
 
 import java.io.IOException;
 import java.nio.file.Path;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.Objects;
 import java.util.function.UnaryOperator;
 
 import desmoj.core.simulator.Model;
@@ -12,25 +11,18 @@ import desmoj.core.simulator.TimeInstant;
 /**
  * MultiDataPointReporter that averages all entries for a TimeInstance over a given time bucket.
  *
+ * <p>
+ * Only the running sum and count of the latest bucket of each dataset is kept in memory. A bucket is written as soon as
+ * data for a later bucket of the same dataset arrives, or when the report is finalized.
+ *
  * @author Sebastian Frank
  */
 public class AverageDataPointReporter extends BucketMultiDataPointReporter {
-    /**
-     * Indicates that averages need to be (re-)computed. For performance reasons, only compute the averages in the
-     * end when data got updated.
-     */
-    private boolean update = false;
 
     /**
-     * Sum of the added datapoint values. Required to compute the average.
+     * Running sum and count of the open bucket of each dataset. Closed buckets are written immediately.
      */
-    private final HashMap<String, HashMap<Double, Number>> valueSum = new HashMap<>();
-    /**
-     * Counter for added datapoint values. Required to compute the average.
-     */
-    private final HashMap<String, HashMap<Double, Integer>> counts = new HashMap<>();
-
-    private final HashMap<String, HashMap<Double, Number>> avgValues = new HashMap<>();
+    private final RunningBuckets runningBuckets = new RunningBuckets(this::writeAverage);
 
     /**
      * Constructs a new data point reporter.
@@ -76,89 +68,52 @@ public class AverageDataPointReporter extends BucketMultiDataPointReporter {
      */
     public void addDatapoint(final String dataSetName, TimeInstant when, final Number data) {
         checkArgumentsAreNotNull(dataSetName, when, data);
-        when = bucketingFunction.apply(when);
-        update = true;
-
-        Map<Double, Number> dataSet = valueSum.computeIfAbsent(dataSetName, s -> new HashMap<>());
-        Map<Double, Integer> countSet = counts.computeIfAbsent(dataSetName, s -> new HashMap<>());
-        dataSet.merge(when.getTimeAsDouble(), data, (number, number2) -> number.doubleValue() + number2.doubleValue());
-        countSet.merge(when.getTimeAsDouble(), 1, Integer::sum);
+        addDatapoint(dataSetName, when, data.doubleValue());
     }
 
     /**
-     * Sets the recent average values in the result data. Required before export can be executed.
+     * Adds the given value to the average of its bucket, without boxing it.
      */
-    private void setAverages() {
-        if (update) {
-            for (Map.Entry<String, HashMap<Double, Number>> entry : valueSum.entrySet()) {
-                var dataSetName = entry.getKey();
-                var dataSet = entry.getValue();
-                var averagesForDataset = computeAverages(dataSetName, dataSet);
-                avgValues.put(dataSetName, averagesForDataset);
-            }
+    @Override
+    public void addDatapoint(final String dataSetName, final TimeInstant when, final double data) {
+        Objects.requireNonNull(dataSetName);
+        Objects.requireNonNull(when);
+        if (!isEnabled(dataSetName)) {
+            return;
         }
+        runningBuckets.add(dataSetName, getBucketTime(when), data);
     }
 
     /**
-     * Computes the average values for a given data set containing sums.
-     *
-     * @param dataSetName the identifier of the given data set.
-     * @param dataSet     a data set from {@link #valueSum}. The given data set will not be modified.
-     * @return the given data set but with average values.
+     * Adds the given value to the average of its bucket, without boxing it.
      */
-    private HashMap<Double, Number> computeAverages(final String dataSetName,
-                                                    final HashMap<Double, Number> dataSet) {
-        HashMap<Double, Number> dataSetValues = (HashMap<Double, Number>) dataSet.clone();
-        for (Map.Entry<Double, Number> entry2 : dataSetValues.entrySet()) {
-            // Divide the sum data in the data set by the according count to get the average
-            dataSetValues.merge(entry2.getKey(), counts.get(dataSetName).get(entry2.getKey()),
-                (number, number2) -> number.doubleValue() / number2.doubleValue());
-        }
-        return dataSetValues;
+    @Override
+    public void addDatapoint(final String dataSetName, final TimeInstant when, final long data) {
+        addDatapoint(dataSetName, when, (double) data);
+    }
+
+    private void writeAverage(String dataSetName, double bucketTime, double sum, long count) {
+        getWriter(dataSetName).addDataPoint(bucketTime, (Object) (sum / count));
     }
 
     @Override
     public void finalizeReport() {
-        setAverages();
         flush();
         super.finalizeReport();
     }
 
-
-    @SafeVarargs
-    private <T> void internalAddDatapoint(String dataSetName, double when, T... data) {
-        AsyncMultiColumnReportWriter writerThread = getWriter(dataSetName);
-        writerThread.addDataPoint(when, data);
-    }
-
     /**
-     * Writes all accumulated data-points to disk.
+     * Writes the averages of the open buckets of all datasets to disk.
      */
     public void flush() {
-        avgValues.keySet().forEach(this::flush);
+        runningBuckets.closeAll();
     }
 
     /**
-     * Writes the given dataset to disk.
+     * Writes the average of the open bucket of the given dataset to disk.
      */
     public void flush(String datasetName) {
-        if (avgValues.containsKey(datasetName)) {
-            HashMap<Double, Number> lastValuesForDataSet = avgValues.get(datasetName);
-            lastValuesForDataSet.keySet().stream().sorted()
-                .forEach(timeInstant -> this.flush(datasetName, timeInstant));
-        }
-    }
-
-    /**
-     * Writes the given TimeInstant (timestamp) of a specific dataset to disk.
-     */
-    public void flush(String datasetName, double when) {
-        if (avgValues.containsKey(datasetName)) {
-            HashMap<Double, Number> lastValuesForDataSet = avgValues.get(datasetName);
-            if (lastValuesForDataSet.containsKey(when)) {
-                internalAddDatapoint(datasetName, when, lastValuesForDataSet.remove(when));
-            }
-        }
+        runningBuckets.close(datasetName);
     }
 
     @Override
@@ -168,7 +123,7 @@ public class AverageDataPointReporter extends BucketMultiDataPointReporter {
 
     @Override
     protected AsyncMultiColumnReportWriter createWriter(Path datasetPath, String[] headers) throws IOException {
-        return new AsyncMultiColumnReportWriter(datasetPath, headers[0]);
+        return new AsyncMultiColumnReportWriter(datasetPath, reportSink, columnarStore, headers[0]);
     }
 
 }
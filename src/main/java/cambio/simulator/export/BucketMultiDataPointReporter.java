@@ -13,11 +13,13 @@ import desmoj.core.simulator.TimeInstant;
  */
 public abstract class BucketMultiDataPointReporter extends MultiDataPointReporter {
     protected final UnaryOperator<TimeInstant> bucketingFunction;
-    public static UnaryOperator<TimeInstant> IDENTITY_FUNCTION = time -> time;
+    private static final UnaryOperator<TimeInstant> IDENTITY = time -> time;
+    private static final UnaryOperator<TimeInstant> CEIL = time -> new TimeInstant(Math.ceil(time.getTimeAsDouble()));
+    public static UnaryOperator<TimeInstant> IDENTITY_FUNCTION = IDENTITY;
     /**
      * Maps the given time to the closest next bigger discrete time unit. Example: 1.3s is mapped to 2s.
      */
-    public static UnaryOperator<TimeInstant> CEIL_FUNCTION = time -> new TimeInstant(Math.ceil(time.getTimeAsDouble()));
+    public static UnaryOperator<TimeInstant> CEIL_FUNCTION = CEIL;
 
     /**
      * Constructs a reporter without bucketing.
@@ -60,6 +62,22 @@ public abstract class BucketMultiDataPointReporter extends MultiDataPointReporte
         this.bucketingFunction = bucketingFunction;
     }
 
+    /**
+     * Maps the given time to the time of its bucket. Avoids the creation of a new {@link TimeInstant} for the
+     * predefined bucketing functions.
+     *
+     * @param when time of a data point
+     * @return the time of the bucket of the data point
+     */
+    protected final double getBucketTime(final TimeInstant when) {
+        if (bucketingFunction == IDENTITY) {
+            return when.getTimeAsDouble();
+        } else if (bucketingFunction == CEIL) {
+            return Math.ceil(when.getTimeAsDouble());
+        }
+        return bucketingFunction.apply(when).getTimeAsDouble();
+    }
+
     @Override
     public <T> void addDatapoint(final String dataSetName, final TimeInstant when, final T... data) {
         super.addDatapoint(dataSetName, bucketingFunction.apply(when), data);
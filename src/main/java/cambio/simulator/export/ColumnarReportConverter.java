@@ -0,0 +1,137 @@
+package cambio.simulator.export;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Converts the files of a {@link ColumnarReportStore} back into the CSV layout of the report, i.e. one semicolon
+ * separated file per dataset.
+ *
+ * <p>
+ * Can be used from the command line:
+ * <pre>
+ * java -cp misim.jar cambio.simulator.export.ColumnarReportConverter &lt;raw directory&gt; [target directory]
+ * </pre>
+ * If no target directory is given, the CSV files are written next to the columnar files.
+ *
+ * @see ReportFormat#COLUMNAR
+ */
+public final class ColumnarReportConverter {
+
+    private ColumnarReportConverter() {
+    }
+
+    /**
+     * Finds all columnar report files in the given directory, in the order they were written.
+     *
+     * @param directory directory that contains the columnar report files, usually the {@code raw} report directory
+     * @return the paths to the columnar report files
+     * @throws IOException if the directory cannot be listed
+     */
+    public static List<Path> findReportFiles(@NotNull Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files
+                .filter(file -> {
+                    String name = file.getFileName().toString();
+                    return name.startsWith(ColumnarReportStore.FILE_PREFIX)
+                        && name.endsWith(ColumnarReportStore.FILE_EXTENSION);
+                })
+                .sorted(Comparator.comparingInt(ColumnarReportConverter::getFileIndex))
+                .collect(Collectors.toList());
+        }
+    }
+
+    private static int getFileIndex(Path file) {
+        String name = file.getFileName().toString();
+        try {
+            return Integer.parseInt(name.substring(ColumnarReportStore.FILE_PREFIX.length(),
+                name.length() - ColumnarReportStore.FILE_EXTENSION.length()));
+        } catch (NumberFormatException e) {
+            return Integer.MAX_VALUE;
+        }
+    }
+
+    /**
+     * Converts all datasets of the columnar report files in the source directory into CSV files.
+     *
+     * @param sourceDirectory directory that contains the columnar report files
+     * @param targetDirectory directory into which the CSV files are written
+     * @return the paths to the written CSV files
+     * @throws IOException if the columnar files cannot be read or a CSV file cannot be written
+     */
+    public static List<Path> convertToCsv(@NotNull Path sourceDirectory, @NotNull Path targetDirectory)
+        throws IOException {
+        List<ColumnarReportReader> readers = new ArrayList<>();
+        try {
+            for (Path file : findReportFiles(sourceDirectory)) {
+                readers.add(new ColumnarReportReader(file));
+            }
+
+            Set<String> datasetNames = new LinkedHashSet<>();
+            readers.forEach(reader -> datasetNames.addAll(reader.getDatasetNames()));
+
+            Files.createDirectories(targetDirectory);
+            List<Path> csvFiles = new ArrayList<>(datasetNames.size());
+            for (String datasetName : datasetNames) {
+                csvFiles.add(convertDataset(datasetName, readers, targetDirectory));
+            }
+            return csvFiles;
+        } finally {
+            for (ColumnarReportReader reader : readers) {
+                reader.close();
+            }
+        }
+    }
+
+    private static Path convertDataset(String datasetName, List<ColumnarReportReader> readers, Path targetDirectory)
+        throws IOException {
+        Path csvFile = targetDirectory.resolve(datasetName + ".csv");
+        try (Writer writer = Files.newBufferedWriter(csvFile, StandardCharsets.UTF_8)) {
+            boolean headerWritten = false;
+            for (ColumnarReportReader reader : readers) {
+                if (!reader.getDatasetNames().contains(datasetName)) {
+                    continue;
+                }
+                if (!headerWritten) {
+                    writer.write(String.join(MiSimReporters.csvSeperator, reader.getColumns(datasetName)));
+                    writer.write('\n');
+                    headerWritten = true;
+                }
+                reader.forEachRow(datasetName, row -> {
+                    writer.write(String.join(MiSimReporters.csvSeperator, row));
+                    writer.write('\n');
+                });
+            }
+        }
+        return csvFile;
+    }
+
+    /**
+     * Converts the columnar report files in the directory given as first argument into CSV files. The CSV files are
+     * written into the directory given as second argument or, if omitted, into the source directory.
+     */
+    public static void main(String[] args) {
+        if (args.length < 1 || args.length > 2) {
+            System.out.println("Usage: ColumnarReportConverter <raw directory> [target directory]");
+            System.exit(1);
+        }
+        Path source = Paths.get(args[0]);
+        Path target = args.length == 2 ? Paths.get(args[1]) : source;
+        try {
+            List<Path> csvFiles = convertToCsv(source, target);
+            System.out.printf("[INFO] Converted %d datasets into %s%n", csvFiles.size(), target);
+        } catch (IOException e) {
+            System.out.printf("[Error] Failed to convert the columnar report in %s: %s%n", source, e.getMessage());
+            System.exit(2);
+        }
+    }
+}
@@ -0,0 +1,261 @@
+package cambio.simulator.export;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Reads a single file that was written by a {@link ColumnarReportStore}.
+ *
+ * <p>
+ * Rows are returned in the text representation of the CSV report, i.e. each value is formatted exactly as it would
+ * appear in the CSV file of the dataset.
+ *
+ * @see ColumnarReportConverter
+ */
+public final class ColumnarReportReader implements Closeable {
+
+    private final Path file;
+    private final FileChannel channel;
+    private final Map<String, DatasetEntry> datasets = new LinkedHashMap<>();
+
+    /**
+     * Opens the given file and reads its dataset dictionary.
+     *
+     * @param file file that was written by a {@link ColumnarReportStore}
+     * @throws IOException if the file cannot be read or is not a columnar report file
+     */
+    public ColumnarReportReader(@NotNull Path file) throws IOException {
+        this.file = file;
+        this.channel = FileChannel.open(file, StandardOpenOption.READ);
+        try {
+            readFooter();
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    private void readFooter() throws IOException {
+        long size = channel.size();
+        if (size < 2 * Integer.BYTES + ColumnarReportStore.TRAILER_BYTES) {
+            throw new IOException(String.format("%s is not a columnar report file.", file));
+        }
+        ByteBuffer header = read(0, 2 * Integer.BYTES);
+        if (header.getInt() != ColumnarReportStore.MAGIC) {
+            throw new IOException(String.format("%s is not a columnar report file.", file));
+        }
+        int version = header.getInt();
+        if (version != ColumnarReportStore.VERSION) {
+            throw new IOException(String.format("Unsupported version %d of columnar report file %s.", version, file));
+        }
+
+        ByteBuffer trailer = read(size - ColumnarReportStore.TRAILER_BYTES, ColumnarReportStore.TRAILER_BYTES);
+        long footerOffset = trailer.getLong();
+        if (trailer.getInt() != ColumnarReportStore.MAGIC || footerOffset < 0
+            || footerOffset > size - ColumnarReportStore.TRAILER_BYTES) {
+            throw new IOException(String.format("%s is incomplete or corrupted.", file));
+        }
+
+        ByteBuffer footerBuffer = read(footerOffset, (int) (size - ColumnarReportStore.TRAILER_BYTES - footerOffset));
+        DataInputStream footer = new DataInputStream(new ByteArrayInputStream(footerBuffer.array()));
+        int datasetCount = footer.readInt();
+        for (int i = 0; i < datasetCount; i++) {
+            int id = footer.readInt();
+            String name = readString(footer);
+            String[] columns = new String[footer.readInt()];
+            for (int c = 0; c < columns.length; c++) {
+                columns[c] = readString(footer);
+            }
+            long[] blockOffsets = new long[footer.readInt()];
+            for (int b = 0; b < blockOffsets.length; b++) {
+                blockOffsets[b] = footer.readLong();
+            }
+            datasets.put(name, new DatasetEntry(id, columns, blockOffsets));
+        }
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    /**
+     * Gets the names of all datasets of this file, in order of their creation.
+     */
+    public Set<String> getDatasetNames() {
+        return Collections.unmodifiableSet(datasets.keySet());
+    }
+
+    /**
+     * Gets the column names of the given dataset, including the time column.
+     *
+     * @param dataset name of the dataset
+     * @return the column names of the dataset
+     * @throws NoSuchElementException if the file does not contain the given dataset
+     */
+    public List<String> getColumns(String dataset) {
+        return List.of(getEntry(dataset).columns);
+    }
+
+    /**
+     * Gets the number of rows of the given dataset that are stored in this file.
+     *
+     * @throws IOException if the block headers cannot be read
+     */
+    public long getRowCount(String dataset) throws IOException {
+        long rows = 0;
+        for (long offset : getEntry(dataset).blockOffsets) {
+            rows += read(offset, ColumnarReportStore.BLOCK_HEADER_BYTES).getInt(Integer.BYTES);
+        }
+        return rows;
+    }
+
+    /**
+     * Passes all rows of the given dataset that are stored in this file to the given consumer, in order of their
+     * creation.
+     *
+     * @param dataset  name of the dataset
+     * @param consumer consumer of the rows, each value is given in the text representation of the CSV report
+     * @throws IOException if the file cannot be read or is corrupted
+     */
+    public void forEachRow(String dataset, RowConsumer consumer) throws IOException {
+        DatasetEntry entry = getEntry(dataset);
+        Inflater inflater = new Inflater();
+        try {
+            for (long offset : entry.blockOffsets) {
+                ByteBuffer blockHeader = read(offset, ColumnarReportStore.BLOCK_HEADER_BYTES);
+                int datasetId = blockHeader.getInt();
+                int rowCount = blockHeader.getInt();
+                int uncompressedLength = blockHeader.getInt();
+                int compressedLength = blockHeader.getInt();
+                if (datasetId != entry.id) {
+                    throw new IOException(String.format("Block at %d of %s does not belong to dataset %s.",
+                        offset, file, dataset));
+                }
+
+                ByteBuffer compressed = read(offset + ColumnarReportStore.BLOCK_HEADER_BYTES, compressedLength);
+                byte[] payload = new byte[uncompressedLength];
+                inflater.reset();
+                inflater.setInput(compressed.array());
+                try {
+                    int inflated = 0;
+                    while (inflated < uncompressedLength) {
+                        int count = inflater.inflate(payload, inflated, uncompressedLength - inflated);
+                        if (count == 0 && (inflater.finished() || inflater.needsInput())) {
+                            throw new DataFormatException("Unexpected end of block.");
+                        }
+                        inflated += count;
+                    }
+                } catch (DataFormatException e) {
+                    throw new IOException(String.format("Block at %d of %s is corrupted.", offset, file), e);
+                }
+
+                for (String[] row : decodeBlock(new DataInputStream(new ByteArrayInputStream(payload)), rowCount)) {
+                    consumer.accept(row);
+                }
+            }
+        } finally {
+            inflater.end();
+        }
+    }
+
+    private static String[][] decodeBlock(DataInputStream payload, int rowCount) throws IOException {
+        int width = payload.readInt();
+        boolean hasCellCounts = payload.readBoolean();
+        String[][] rows = new String[rowCount][];
+        for (int r = 0; r < rowCount; r++) {
+            rows[r] = new String[hasCellCounts ? payload.readInt() : width];
+        }
+
+        for (int column = 0; column < width; column++) {
+            byte type = payload.readByte();
+            if (type == ColumnarReportStore.LONG_COLUMN) {
+                for (String[] row : rows) {
+                    if (row.length > column) {
+                        row[column] = Long.toString(payload.readLong());
+                    }
+                }
+            } else if (type == ColumnarReportStore.DOUBLE_COLUMN) {
+                for (String[] row : rows) {
+                    if (row.length > column) {
+                        row[column] = Double.toString(payload.readDouble());
+                    }
+                }
+            } else if (type == ColumnarReportStore.DICTIONARY_COLUMN) {
+                String[] dictionary = new String[payload.readInt()];
+                for (int i = 0; i < dictionary.length; i++) {
+                    dictionary[i] = readString(payload);
+                }
+                int indexBytes = ColumnarReportStore.getIndexBytes(dictionary.length);
+                for (String[] row : rows) {
+                    if (row.length > column) {
+                        int index = indexBytes == 1 ? payload.readUnsignedByte()
+                            : indexBytes == 2 ? payload.readUnsignedShort() : payload.readInt();
+                        row[column] = dictionary[index];
+                    }
+                }
+            } else {
+                throw new IOException(String.format("Unknown column type %d.", type));
+            }
+        }
+        return rows;
+    }
+
+    private DatasetEntry getEntry(String dataset) {
+        DatasetEntry entry = datasets.get(dataset);
+        if (entry == null) {
+            throw new NoSuchElementException(String.format("%s does not contain the dataset %s.", file, dataset));
+        }
+        return entry;
+    }
+
+    private ByteBuffer read(long position, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new EOFException(String.format("Unexpected end of %s.", file));
+            }
+        }
+        buffer.flip();
+        return buffer;
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        byte[] bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    /**
+     * Consumer of the rows of a dataset.
+     */
+    @FunctionalInterface
+    public interface RowConsumer {
+        void accept(String[] row) throws IOException;
+    }
+
+    private static final class DatasetEntry {
+        private final int id;
+        private final String[] columns;
+        private final long[] blockOffsets;
+
+        private DatasetEntry(int id, String[] columns, long[] blockOffsets) {
+            this.id = id;
+            this.columns = columns;
+            this.blockOffsets = blockOffsets;
+        }
+    }
+}
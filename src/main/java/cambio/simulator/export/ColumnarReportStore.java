@@ -0,0 +1,610 @@
+package cambio.simulator.export;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Writes all raw datasets of one simulation run into a few compressed, columnar files instead of one CSV file per
+ * dataset.
+ *
+ * <p>
+ * The writers pass their rows as typed values to a {@link Dataset} of the store. The rows of a dataset are collected
+ * into blocks of up to {@link #BLOCK_ROWS} rows. Each block is stored column by column. Columns that only received
+ * {@code long} or only received {@code double} values are stored as binary values. All other columns (e.g. states,
+ * load distributions or columns with mixed types) are dictionary encoded, i.e. each distinct text is stored once per
+ * block and referenced by its index. Afterwards, the block is deflate compressed and appended to the current file.
+ * Once a file exceeds {@link #getMaxFileBytes()}, the next file is started.
+ *
+ * <p>
+ * Every file ends with a dataset dictionary that contains the name and columns of all datasets and the offsets of
+ * their blocks within the file. The values are stored such that they can be converted back into exactly the text the
+ * CSV report would contain (see {@link ColumnarReportConverter}).
+ *
+ * <p>
+ * The rows buffered by a dataset are accounted against the memory budget of the {@link ReportSink} of its writer. If
+ * the sink is under pressure, the buffered blocks of all datasets are written early. Blocks are encoded and compressed
+ * by the writer thread that completed them. Only appending the compressed block to the file is serialized.
+ *
+ * <p>
+ * File layout (big endian):
+ * <pre>
+ * file   := MAGIC VERSION block* footer footerOffset:long MAGIC
+ * block  := datasetId:int rowCount:int uncompressedLength:int compressedLength:int deflate(payload)
+ * footer := datasetCount:int (datasetId:int name:string columnCount:int column:string* blockCount:int offset:long*)*
+ * string := length:int utf8bytes
+ * </pre>
+ *
+ * @see ReportFormat#COLUMNAR
+ * @see ColumnarReportReader
+ */
+public final class ColumnarReportStore implements Closeable {
+
+    /**
+     * Maximum number of rows of a block.
+     */
+    public static final int BLOCK_ROWS = 8192;
+
+    /**
+     * Default size in bytes after which a new file is started.
+     */
+    public static final long DEFAULT_MAX_FILE_BYTES = 256L * 1024 * 1024;
+
+    static final int MAGIC = 0x4D434F4C; //"MCOL"
+    static final int VERSION = 1;
+    static final String FILE_PREFIX = "datasets_";
+    static final String FILE_EXTENSION = ".mcol";
+    static final int BLOCK_HEADER_BYTES = 4 * Integer.BYTES;
+    static final int TRAILER_BYTES = Long.BYTES + Integer.BYTES;
+
+    static final byte LONG_COLUMN = 0;
+    static final byte DOUBLE_COLUMN = 1;
+    static final byte DICTIONARY_COLUMN = 2;
+
+    /**
+     * Estimated memory footprint of a buffered text value, in addition to its characters.
+     */
+    private static final int TEXT_VALUE_OVERHEAD = 48;
+
+    /**
+     * Compression state of the writer threads. Kept per thread, so blocks of different datasets can be compressed
+     * concurrently.
+     */
+    private static final ThreadLocal<BlockEncoder> blockEncoders = ThreadLocal.withInitial(BlockEncoder::new);
+
+    private final Path directory;
+    private final long maxFileBytes;
+    private final List<Dataset> datasets = new ArrayList<>();
+
+    /**
+     * Estimated memory footprint of the rows buffered by all datasets of this store.
+     */
+    private final AtomicLong bufferedBytes = new AtomicLong();
+
+    private int fileCount = 0;
+    private DataOutputStream out;
+    private long filePosition;
+    private boolean closed = false;
+
+    /**
+     * Creates a new store that writes its files into the given directory and starts a new file after
+     * {@link #DEFAULT_MAX_FILE_BYTES}.
+     *
+     * @param directory target directory, usually the {@code raw} directory of the report
+     */
+    public ColumnarReportStore(@NotNull Path directory) {
+        this(directory, DEFAULT_MAX_FILE_BYTES);
+    }
+
+    /**
+     * Creates a new store that writes its files into the given directory. The first file is created once the first
+     * block is written or the store is closed.
+     *
+     * @param directory    target directory, usually the {@code raw} directory of the report
+     * @param maxFileBytes size in bytes after which a new file is started
+     * @throws IllegalArgumentException if the maximum file size is not positive
+     */
+    public ColumnarReportStore(@NotNull Path directory, long maxFileBytes) {
+        if (maxFileBytes < 1) {
+            throw new IllegalArgumentException(
+                String.format("The maximum file size of a columnar report must be positive (was %d).", maxFileBytes));
+        }
+        this.directory = Objects.requireNonNull(directory);
+        this.maxFileBytes = maxFileBytes;
+    }
+
+    /**
+     * Size in bytes after which a new file is started.
+     */
+    public long getMaxFileBytes() {
+        return maxFileBytes;
+    }
+
+    static String getFileName(int index) {
+        return FILE_PREFIX + index + FILE_EXTENSION;
+    }
+
+    /**
+     * Creates a new dataset in this store.
+     *
+     * @param name    name of the dataset, i.e. the name of the corresponding CSV file without extension
+     * @param columns names of all columns of the dataset, including the time column
+     * @param sink    sink whose memory budget accounts the rows buffered by the dataset
+     * @return the new dataset
+     */
+    public synchronized Dataset createDataset(@NotNull String name, @NotNull String[] columns,
+                                              @NotNull ReportSink sink) {
+        if (closed) {
+            throw new IllegalStateException("The columnar report store was already closed.");
+        }
+        Dataset dataset = new Dataset(datasets.size(), name, columns.clone(), Objects.requireNonNull(sink));
+        datasets.add(dataset);
+        return dataset;
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    /**
+     * Closes all datasets that are still open and finishes the current file by writing its dataset dictionary. If no
+     * block was written at all, a file that only contains the dictionary is created.
+     *
+     * @throws IOException if an I/O error occurs writing the file
+     */
+    @Override
+    public void close() throws IOException {
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+        }
+        for (Dataset dataset : getDatasets()) {
+            dataset.close();
+        }
+        synchronized (this) {
+            if (out == null && fileCount == 0) {
+                openNextFile();
+            }
+            if (out != null) {
+                finishFile();
+            }
+            closed = true;
+        }
+    }
+
+    private synchronized List<Dataset> getDatasets() {
+        return new ArrayList<>(datasets);
+    }
+
+    /**
+     * Writes the buffered rows of all datasets, except for rows that are not completed yet. Called if the memory
+     * budget of a sink is under pressure. Holds the lock of at most one dataset at a time.
+     */
+    private void flushBuffers() throws IOException {
+        for (Dataset dataset : getDatasets()) {
+            dataset.flushCompletedRows();
+        }
+    }
+
+    private void openNextFile() throws IOException {
+        Files.createDirectories(directory);
+        Path file = directory.resolve(getFileName(fileCount++));
+        out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file), 64 * 1024));
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        filePosition = 2 * Integer.BYTES;
+    }
+
+    private void finishFile() throws IOException {
+        long footerOffset = filePosition;
+        out.writeInt(datasets.size());
+        for (Dataset dataset : datasets) {
+            out.writeInt(dataset.id);
+            writeString(out, dataset.name);
+            out.writeInt(dataset.columns.length);
+            for (String column : dataset.columns) {
+                writeString(out, column);
+            }
+            out.writeInt(dataset.blockOffsets.size());
+            for (long offset : dataset.blockOffsets) {
+                out.writeLong(offset);
+            }
+            dataset.blockOffsets.clear();
+        }
+        out.writeLong(footerOffset);
+        out.writeInt(MAGIC);
+        out.close();
+        out = null;
+    }
+
+    /**
+     * Appends an already compressed block to the current file.
+     */
+    private synchronized void writeBlock(Dataset dataset, int rowCount, BlockEncoder block) throws IOException {
+        if (out == null) {
+            openNextFile();
+        }
+
+        dataset.blockOffsets.add(filePosition);
+        out.writeInt(dataset.id);
+        out.writeInt(rowCount);
+        out.writeInt(block.uncompressedLength);
+        out.writeInt(block.compressed.size());
+        block.compressed.writeTo(out);
+        filePosition += BLOCK_HEADER_BYTES + block.compressed.size();
+
+        if (filePosition >= maxFileBytes) {
+            finishFile();
+        }
+    }
+
+    /**
+     * Gets the number of bytes used to store one index of a dictionary with the given size.
+     */
+    static int getIndexBytes(int dictionarySize) {
+        if (dictionarySize <= 1 << 8) {
+            return 1;
+        } else if (dictionarySize <= 1 << 16) {
+            return 2;
+        }
+        return 4;
+    }
+
+    static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static long estimateTextSize(String text) {
+        return TEXT_VALUE_OVERHEAD + text.length();
+    }
+
+    /**
+     * A dataset of a {@link ColumnarReportStore}. Receives the rows of the dataset as typed values: a row is started
+     * with its simulation time by {@link #startRow(double)}, followed by its values and completed by
+     * {@link #endRow()}. Rows may have different numbers of values.
+     *
+     * <p>
+     * The values are stored such that they convert back into the text the CSV writers would produce: {@code long}
+     * values as {@link Long#toString(long)}, {@code double} values (including the time) as
+     * {@link Double#toString(double)} and text values as is.
+     */
+    public final class Dataset {
+        private final int id;
+        private final String name;
+        private final String[] columns;
+        private final ReportSink sink;
+
+        private final List<ColumnBuffer> buffers = new ArrayList<>();
+        private int[] rowWidths = new int[16];
+        private int rowCount = 0;
+        private int maxWidth = 0;
+        private boolean uniform = true;
+        private int currentWidth = -1; //-1 if no row is open
+        private long rowBytes = 0;
+        private long accountedBytes = 0;
+        private boolean closed = false;
+
+        //offsets of the blocks in the current file, guarded by the store
+        private final List<Long> blockOffsets = new ArrayList<>();
+
+        private Dataset(int id, String name, String[] columns, ReportSink sink) {
+            this.id = id;
+            this.name = name;
+            this.columns = columns;
+            this.sink = sink;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * Starts a new row. A row that is still open is completed first.
+         *
+         * @param time simulation time of the row, i.e. its first value
+         * @throws IOException if a completed block cannot be written
+         */
+        public void startRow(double time) throws IOException {
+            if (isRowOpen()) {
+                endRow();
+            }
+            synchronized (this) {
+                if (closed) {
+                    return;
+                }
+                currentWidth = 0;
+                addDouble(time);
+            }
+        }
+
+        private synchronized boolean isRowOpen() {
+            return currentWidth >= 0;
+        }
+
+        public synchronized void addLong(long value) {
+            ColumnBuffer buffer = nextBuffer();
+            if (buffer != null) {
+                rowBytes += buffer.add(LONG_COLUMN, value);
+            }
+        }
+
+        public synchronized void addDouble(double value) {
+            ColumnBuffer buffer = nextBuffer();
+            if (buffer != null) {
+                rowBytes += buffer.add(DOUBLE_COLUMN, Double.doubleToRawLongBits(value));
+            }
+        }
+
+        public synchronized void addText(@NotNull String value) {
+            ColumnBuffer buffer = nextBuffer();
+            if (buffer != null) {
+                rowBytes += buffer.add(value);
+            }
+        }
+
+        /**
+         * Adds a value in the way it would be appended to a {@link StringBuilder}. {@link Long}, {@link Integer},
+         * {@link Short} and {@link Byte} values are added as {@code long}, {@link Double} values as {@code double} and
+         * all other values as their text.
+         */
+        public void addValue(@Nullable Object value) {
+            if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+                addLong(((Number) value).longValue());
+            } else if (value instanceof Double) {
+                addDouble((Double) value);
+            } else {
+                addText(String.valueOf(value));
+            }
+        }
+
+        private ColumnBuffer nextBuffer() {
+            if (closed || currentWidth < 0) {
+                return null;
+            }
+            if (buffers.size() == currentWidth) {
+                ColumnBuffer buffer = new ColumnBuffer();
+                buffers.add(buffer);
+            }
+            return buffers.get(currentWidth++);
+        }
+
+        /**
+         * Completes the current row. Writes the block of this dataset if it is full and the buffers of all datasets,
+         * if the memory budget of the sink is under pressure.
+         *
+         * @throws IOException if a block cannot be written
+         */
+        public void endRow() throws IOException {
+            boolean flushBuffers;
+            synchronized (this) {
+                if (closed || currentWidth < 0) {
+                    return;
+                }
+                if (rowCount == rowWidths.length) {
+                    rowWidths = Arrays.copyOf(rowWidths, rowCount * 2);
+                }
+                uniform = uniform && (rowCount == 0 || rowWidths[0] == currentWidth);
+                rowWidths[rowCount++] = currentWidth;
+                maxWidth = Math.max(maxWidth, currentWidth);
+                currentWidth = -1;
+
+                long bytes = rowBytes + Integer.BYTES;
+                rowBytes = 0;
+                accountedBytes += bytes;
+                bufferedBytes.addAndGet(bytes);
+                sink.reserveWithoutBlocking(bytes);
+
+                if (rowCount >= BLOCK_ROWS) {
+                    flush();
+                    return;
+                }
+                flushBuffers = sink.isUnderPressure() && bufferedBytes.get() > sink.getMemoryBudgetBytes() / 4;
+            }
+            if (flushBuffers) {
+                flushBuffers();
+            }
+        }
+
+        /**
+         * Writes the completed rows, unless a row is currently open.
+         */
+        private synchronized void flushCompletedRows() throws IOException {
+            if (currentWidth < 0) {
+                flush();
+            }
+        }
+
+        /**
+         * Encodes and compresses the completed rows into a block and appends it to the file. Only the latter holds the
+         * lock of the store.
+         */
+        private void flush() throws IOException {
+            if (rowCount == 0) {
+                return;
+            }
+            try {
+                BlockEncoder encoder = blockEncoders.get();
+                encoder.encode(this);
+                writeBlock(this, rowCount, encoder);
+            } finally {
+                for (ColumnBuffer buffer : buffers) {
+                    buffer.clear();
+                }
+                rowCount = 0;
+                maxWidth = 0;
+                uniform = true;
+                bufferedBytes.addAndGet(-accountedBytes);
+                sink.release(accountedBytes);
+                accountedBytes = 0;
+            }
+        }
+
+        /**
+         * Writes all remaining rows of this dataset. A row that is still open is completed first.
+         *
+         * @throws IOException if the remaining rows cannot be written
+         */
+        public void close() throws IOException {
+            endRow();
+            synchronized (this) {
+                if (closed) {
+                    return;
+                }
+                closed = true;
+                flush();
+            }
+        }
+    }
+
+    /**
+     * Buffers the values of one column of a block. Values are kept as {@code long} or raw {@code double} bits, as long
+     * as all values of the column have the same type. Otherwise, the column falls back to the text representation of
+     * its values.
+     */
+    private static final class ColumnBuffer {
+        private static final long[] NO_VALUES = new long[0];
+
+        private byte type;
+        private long[] values = NO_VALUES;
+        private String[] texts;
+        private int size = 0;
+
+        /**
+         * Adds a numeric value.
+         *
+         * @return the estimated memory footprint of the added value
+         */
+        private long add(byte valueType, long value) {
+            if (size == 0) {
+                type = valueType;
+            }
+            if (type != valueType) {
+                return add(toText(valueType, value));
+            }
+            if (size == values.length) {
+                values = Arrays.copyOf(values, Math.max(16, size * 2));
+            }
+            values[size++] = value;
+            return Long.BYTES;
+        }
+
+        /**
+         * Adds a text value.
+         *
+         * @return the estimated memory footprint of the added value, including the conversion of the previous values
+         *     into their text representation
+         */
+        private long add(String value) {
+            long bytes = 0;
+            if (size == 0) {
+                type = DICTIONARY_COLUMN;
+                texts = texts == null ? new String[16] : texts;
+            } else if (type != DICTIONARY_COLUMN) {
+                texts = new String[Math.max(16, values.length)];
+                for (int i = 0; i < size; i++) {
+                    texts[i] = toText(type, values[i]);
+                    bytes += estimateTextSize(texts[i]) - Long.BYTES;
+                }
+                type = DICTIONARY_COLUMN;
+            }
+            if (size == texts.length) {
+                texts = Arrays.copyOf(texts, size * 2);
+            }
+            texts[size++] = value;
+            return bytes + estimateTextSize(value);
+        }
+
+        private static String toText(byte valueType, long value) {
+            return valueType == LONG_COLUMN ? Long.toString(value) : Double.toString(Double.longBitsToDouble(value));
+        }
+
+        private void encode(DataOutputStream payload) throws IOException {
+            payload.writeByte(type);
+            if (type == LONG_COLUMN) {
+                for (int i = 0; i < size; i++) {
+                    payload.writeLong(values[i]);
+                }
+            } else if (type == DOUBLE_COLUMN) {
+                for (int i = 0; i < size; i++) {
+                    payload.writeDouble(Double.longBitsToDouble(values[i]));
+                }
+            } else {
+                Map<String, Integer> dictionary = new LinkedHashMap<>();
+                int[] indices = new int[size];
+                for (int i = 0; i < size; i++) {
+                    Integer index = dictionary.get(texts[i]);
+                    if (index == null) {
+                        index = dictionary.size();
+                        dictionary.put(texts[i], index);
+                    }
+                    indices[i] = index;
+                }
+                payload.writeInt(dictionary.size());
+                for (String value : dictionary.keySet()) {
+                    writeString(payload, value);
+                }
+                int indexBytes = getIndexBytes(dictionary.size());
+                for (int index : indices) {
+                    if (indexBytes == 1) {
+                        payload.writeByte(index);
+                    } else if (indexBytes == 2) {
+                        payload.writeShort(index);
+                    } else {
+                        payload.writeInt(index);
+                    }
+                }
+            }
+        }
+
+        /**
+         * Drops the values of the written block, including the arrays, so idle datasets do not hold on to the
+         * capacity of their last block.
+         */
+        private void clear() {
+            values = NO_VALUES;
+            texts = null;
+            size = 0;
+        }
+    }
+
+    /**
+     * Encodes and compresses blocks. Reused by the thread that owns it.
+     */
+    private static final class BlockEncoder {
+        private final Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        private final ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        private int uncompressedLength;
+
+        private void encode(Dataset dataset) throws IOException {
+            compressed.reset();
+            deflater.reset();
+            DeflaterOutputStream deflaterStream = new DeflaterOutputStream(compressed, deflater, 8 * 1024);
+            DataOutputStream payload = new DataOutputStream(deflaterStream);
+
+            payload.writeInt(dataset.maxWidth);
+            payload.writeBoolean(!dataset.uniform);
+            if (!dataset.uniform) {
+                for (int row = 0; row < dataset.rowCount; row++) {
+                    payload.writeInt(dataset.rowWidths[row]);
+                }
+            }
+            for (int column = 0; column < dataset.maxWidth; column++) {
+                dataset.buffers.get(column).encode(payload);
+            }
+            payload.flush();
+            deflaterStream.finish();
+            uncompressedLength = payload.size();
+        }
+    }
+}
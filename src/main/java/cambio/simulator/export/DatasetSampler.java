@@ -0,0 +1,77 @@
+package cambio.simulator.export;
+
+/**
+ * Applies the settings of a {@link MetricsConfiguration} to the data points of a single dataset.
+ *
+ * <p>
+ * A sampler decides for each data point whether it is dropped ({@link #DROP}), appended as a new row ({@link #APPEND})
+ * or replaces the last row of the dataset ({@link #REPLACE}). The latter is used for down-sampling: the last row of a
+ * dataset is provisional until a data point of a later sampling interval arrives, so each interval is represented by
+ * its last data point. Decimation is applied before down-sampling.
+ *
+ * <p>
+ * A sampler keeps state and must therefore only be used for a single dataset.
+ *
+ * @see MetricsConfiguration
+ */
+final class DatasetSampler {
+
+    static final int DROP = 0;
+    static final int APPEND = 1;
+    static final int REPLACE = 2;
+
+    private final boolean enabled;
+    private final int decimation;
+    private final double samplingInterval;
+
+    private int decimationCounter = 0;
+    private double currentInterval = Double.NaN;
+
+    DatasetSampler(boolean enabled, int decimation, double samplingInterval) {
+        this.enabled = enabled;
+        this.decimation = decimation;
+        this.samplingInterval = samplingInterval;
+    }
+
+    boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Whether the sampler keeps all data points, i.e. does not need to be consulted by writers.
+     */
+    boolean isPassThrough() {
+        return enabled && decimation == 1 && samplingInterval == 0;
+    }
+
+    boolean isDownsampling() {
+        return samplingInterval > 0;
+    }
+
+    /**
+     * Decides how a data point at the given time should be written.
+     *
+     * @param time simulation time of the data point
+     * @return one of {@link #DROP}, {@link #APPEND} or {@link #REPLACE}
+     */
+    int offer(double time) {
+        if (!enabled) {
+            return DROP;
+        }
+        if (decimation > 1) {
+            int position = decimationCounter;
+            decimationCounter = position + 1 == decimation ? 0 : position + 1;
+            if (position != 0) {
+                return DROP;
+            }
+        }
+        if (samplingInterval > 0) {
+            double interval = Math.floor(time / samplingInterval);
+            if (interval == currentInterval) {
+                return REPLACE;
+            }
+            currentInterval = interval;
+        }
+        return APPEND;
+    }
+}
@@ -45,8 +45,20 @@ public final class ExportUtils {
      */
     public static Path prepareReportDirectory(@Nullable ExperimentStartupConfig config,
                                               @NotNull ExperimentMetaData metadata) {
-        final Path reportLocation = generateReportPath(config, metadata);
+        return prepareReportDirectory(config, metadata, generateReportPath(config, metadata));
+    }
 
+    /**
+     * Creates the given report directory for the current experiment.
+     *
+     * @param config         startup configuration, decides whether existing report files are cleared. Can be null.
+     * @param metadata       metadata that should be serialized
+     * @param reportLocation the directory in which the report should be created
+     * @return the {@link Path} to the created report directory.
+     */
+    public static Path prepareReportDirectory(@Nullable ExperimentStartupConfig config,
+                                              @NotNull ExperimentMetaData metadata,
+                                              @NotNull Path reportLocation) {
         if (config != null && config.isOverwriteReportPath()) {
             try {
                 FileUtils.deleteDirectory(Paths.get(reportLocation.toString(), "raw").toFile());
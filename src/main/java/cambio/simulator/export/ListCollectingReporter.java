@@ -28,6 +28,9 @@ public class ListCollectingReporter extends MiSimReporter<AsyncListReportWriter>
     @Override
     @SafeVarargs
     public final <T> void addDatapoint(String dataSetName, TimeInstant when, T... data) {
+        if (!isEnabled(dataSetName)) {
+            return;
+        }
         AsyncListReportWriter writer = getWriter(dataSetName);
         for (T d : data) {
             writer.addDataPoint(when.getTimeAsDouble(), d);
@@ -40,7 +43,7 @@ public class ListCollectingReporter extends MiSimReporter<AsyncListReportWriter>
 
     @Override
     protected AsyncListReportWriter createWriter(Path datasetPath, String[] headers) throws IOException {
-        return new AsyncListReportWriter(datasetPath, headers[0]);
+        return new AsyncListReportWriter(datasetPath, reportSink, columnarStore, headers[0]);
     }
 
     @Override
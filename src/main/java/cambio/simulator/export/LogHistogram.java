@@ -0,0 +1,220 @@
+package cambio.simulator.export;
+
+import java.util.Arrays;
+
+/**
+ * Fixed-size histogram with logarithmically growing buckets, similar to an HDR histogram.
+ *
+ * <p>
+ * Values between {@link #getLowestValue()} and {@link #getHighestValue()} are recorded with a relative error of at
+ * most {@link #getRelativeError()}. Smaller values (including zero) and larger values are collected in an underflow
+ * and an overflow bucket, respectively. The minimum and maximum are tracked exactly. Hence, recording a value takes
+ * constant time and the memory footprint is independent of the number of recorded values.
+ *
+ * @see ResponseTimeHistogramReporter
+ */
+public final class LogHistogram {
+
+    public static final double DEFAULT_LOWEST_VALUE = 1e-6;
+    public static final double DEFAULT_HIGHEST_VALUE = 1e6;
+    public static final double DEFAULT_RELATIVE_ERROR = 0.01;
+
+    private final double lowestValue;
+    private final double highestValue;
+    private final double relativeError;
+    private final double bucketGrowth;
+    private final double logBucketGrowth;
+
+    //index 0 is the underflow bucket, the last index is the overflow bucket
+    private final long[] counts;
+    private int lowestUsedIndex = Integer.MAX_VALUE;
+    private int highestUsedIndex = -1;
+
+    private long count = 0;
+    private double min = Double.NaN;
+    private double max = Double.NaN;
+
+    /**
+     * Creates a new histogram that covers the range from {@link #DEFAULT_LOWEST_VALUE} to
+     * {@link #DEFAULT_HIGHEST_VALUE} with a relative error of {@link #DEFAULT_RELATIVE_ERROR}.
+     */
+    public LogHistogram() {
+        this(DEFAULT_LOWEST_VALUE, DEFAULT_HIGHEST_VALUE, DEFAULT_RELATIVE_ERROR);
+    }
+
+    /**
+     * Creates a new histogram.
+     *
+     * @param lowestValue   smallest value that is recorded with the given precision, has to be positive
+     * @param highestValue  largest value that is recorded with the given precision
+     * @param relativeError maximum relative error of the recorded values, has to be in the interval (0,1)
+     */
+    public LogHistogram(double lowestValue, double highestValue, double relativeError) {
+        if (lowestValue <= 0 || highestValue <= lowestValue) {
+            throw new IllegalArgumentException("The value range has to be positive and non-empty.");
+        }
+        if (relativeError <= 0 || relativeError >= 1) {
+            throw new IllegalArgumentException("The relative error has to be in the interval (0,1).");
+        }
+        this.lowestValue = lowestValue;
+        this.highestValue = highestValue;
+        this.relativeError = relativeError;
+        //the representative of a bucket [l, l*growth) deviates at most by relativeError from any value of the bucket
+        this.bucketGrowth = (1 + relativeError) / (1 - relativeError);
+        this.logBucketGrowth = Math.log(bucketGrowth);
+        int buckets = (int) Math.ceil(Math.log(highestValue / lowestValue) / logBucketGrowth);
+        this.counts = new long[buckets + 2];
+    }
+
+    /**
+     * Records the given value.
+     *
+     * @param value value that should be recorded, NaN values are ignored
+     */
+    public void record(double value) {
+        if (Double.isNaN(value)) {
+            return;
+        }
+        int index = getIndex(value);
+        counts[index]++;
+        lowestUsedIndex = Math.min(lowestUsedIndex, index);
+        highestUsedIndex = Math.max(highestUsedIndex, index);
+        if (count++ == 0) {
+            min = value;
+            max = value;
+        } else {
+            min = Math.min(min, value);
+            max = Math.max(max, value);
+        }
+    }
+
+    private int getIndex(double value) {
+        if (value < lowestValue) {
+            return 0;
+        } else if (value >= highestValue) {
+            return counts.length - 1;
+        }
+        int index = 1 + (int) (Math.log(value / lowestValue) / logBucketGrowth);
+        return Math.min(index, counts.length - 2);
+    }
+
+    /**
+     * Gets a value that represents the given bucket. The value is clamped to the recorded minimum and maximum.
+     */
+    private double getRepresentativeValue(int index) {
+        if (index == 0) {
+            return min;
+        } else if (index == counts.length - 1) {
+            return max;
+        }
+        double lower = lowestValue * Math.pow(bucketGrowth, index - 1);
+        double representative = lower * 2 * bucketGrowth / (1 + bucketGrowth);
+        return Math.max(min, Math.min(max, representative));
+    }
+
+    /**
+     * Gets the (approximated) value at the given percentile, i.e. the smallest recorded value such that the given
+     * percentage of all recorded values is smaller or equal.
+     *
+     * @param percentile percentile in the interval [0,100]
+     * @return the value at the percentile or {@link Double#NaN} if no value was recorded
+     */
+    public double getValueAtPercentile(double percentile) {
+        return getValuesAtPercentiles(percentile)[0];
+    }
+
+    /**
+     * Gets the (approximated) values at the given percentiles in a single pass over the histogram.
+     *
+     * @param percentiles percentiles in the interval [0,100], in ascending order
+     * @return the values at the percentiles, {@link Double#NaN} values if no value was recorded
+     * @see #getValueAtPercentile(double)
+     */
+    public double[] getValuesAtPercentiles(double... percentiles) {
+        double[] values = new double[percentiles.length];
+        if (count == 0) {
+            Arrays.fill(values, Double.NaN);
+            return values;
+        }
+        int next = 0;
+        long cumulative = 0;
+        for (int index = lowestUsedIndex; index <= highestUsedIndex && next < percentiles.length; index++) {
+            cumulative += counts[index];
+            while (next < percentiles.length && cumulative >= getRank(percentiles[next])) {
+                values[next++] = getRepresentativeValue(index);
+            }
+        }
+        while (next < percentiles.length) {
+            values[next++] = max;
+        }
+        return values;
+    }
+
+    private long getRank(double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("Percentiles have to be in the interval [0,100].");
+        }
+        return Math.max(1, (long) Math.ceil(percentile / 100 * count));
+    }
+
+    /**
+     * Adds all values of the given histogram to this histogram.
+     *
+     * @param other histogram with the same value range and precision
+     */
+    public void add(LogHistogram other) {
+        if (other.counts.length != counts.length || other.lowestValue != lowestValue
+            || other.relativeError != relativeError) {
+            throw new IllegalArgumentException("Only histograms with the same range and precision can be added.");
+        }
+        if (other.count == 0) {
+            return;
+        }
+        for (int index = other.lowestUsedIndex; index <= other.highestUsedIndex; index++) {
+            counts[index] += other.counts[index];
+        }
+        lowestUsedIndex = Math.min(lowestUsedIndex, other.lowestUsedIndex);
+        highestUsedIndex = Math.max(highestUsedIndex, other.highestUsedIndex);
+        min = count == 0 ? other.min : Math.min(min, other.min);
+        max = count == 0 ? other.max : Math.max(max, other.max);
+        count += other.count;
+    }
+
+    /**
+     * Removes all recorded values.
+     */
+    public void reset() {
+        if (count > 0) {
+            Arrays.fill(counts, lowestUsedIndex, highestUsedIndex + 1, 0);
+        }
+        lowestUsedIndex = Integer.MAX_VALUE;
+        highestUsedIndex = -1;
+        count = 0;
+        min = Double.NaN;
+        max = Double.NaN;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public double getMin() {
+        return min;
+    }
+
+    public double getMax() {
+        return max;
+    }
+
+    public double getLowestValue() {
+        return lowestValue;
+    }
+
+    public double getHighestValue() {
+        return highestValue;
+    }
+
+    public double getRelativeError() {
+        return relativeError;
+    }
+}
@@ -0,0 +1,284 @@
+package cambio.simulator.export;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import com.google.gson.annotations.SerializedName;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Declarative configuration of the datasets that are written into the raw report.
+ *
+ * <p>
+ * The configuration consists of an ordered list of {@link Rule}s. Each rule selects datasets by a glob pattern over
+ * the full dataset name (i.e. the file name without {@code .csv}, including the prefix of the reporter, e.g.
+ * {@code I[example-service#0]_Requests_InSystem}), in which {@code *} matches any sequence of characters and {@code ?}
+ * matches a single character. A rule can
+ * <ul>
+ * <li>disable or enable the selected datasets,</li>
+ * <li>decimate them, i.e. keep only every n-th data point, and</li>
+ * <li>down-sample them by time, i.e. keep only the last data point per interval of simulation time.</li>
+ * </ul>
+ * Each rule only changes the settings it defines. If multiple rules match a dataset, later rules override the settings
+ * of earlier rules. Datasets that are not matched by any rule are written completely.
+ *
+ * <p>
+ * Example for the experiment description:
+ * <pre>
+ * "metrics": {
+ *   "datasets": [
+ *     {"pattern": "I[*]_Requests_*", "enabled": false},
+ *     {"pattern": "C[*]_*Utilization", "sampling_interval": 0.1},
+ *     {"pattern": "NL_latency", "decimation": 10}
+ *   ]
+ * }
+ * </pre>
+ * The same rules can be given on the command line, see {@link #parse(String)}.
+ *
+ * <p>
+ * Disabled datasets are dropped before any value is passed to a writer, so they neither create a file nor cause any
+ * formatting or IO. Decimation and down-sampling are applied to the rows of the datasets, i.e. after the aggregation
+ * of bucketing reporters. Datasets of a {@link ListCollectingReporter} can only be enabled or disabled.
+ */
+public final class MetricsConfiguration {
+
+    @SerializedName(value = "datasets", alternate = {"rules"})
+    private List<Rule> datasets = new ArrayList<>();
+
+    public MetricsConfiguration() {
+    }
+
+    public MetricsConfiguration(@NotNull List<Rule> rules) {
+        this.datasets = new ArrayList<>(rules);
+    }
+
+    /**
+     * Parses a comma separated list of rules of the form {@code pattern=setting}. Supported settings are
+     * <ul>
+     * <li>{@code off} and {@code on} to disable or enable the datasets,</li>
+     * <li>{@code every:n} to keep only every n-th data point and</li>
+     * <li>{@code interval:t} to keep only the last data point per t units of simulation time.</li>
+     * </ul>
+     * E.g. {@code I[*]_Requests_*=off,C[*]_Utilization=interval:0.1}.
+     *
+     * @param specification comma separated list of rules
+     * @return a configuration containing the parsed rules in the given order
+     * @throws IllegalArgumentException if a rule cannot be parsed
+     */
+    public static MetricsConfiguration parse(@NotNull String specification) {
+        List<Rule> rules = new ArrayList<>();
+        for (String entry : specification.split(",")) {
+            entry = entry.trim();
+            if (entry.isEmpty()) {
+                continue;
+            }
+            int separator = entry.lastIndexOf('=');
+            if (separator <= 0) {
+                throw new IllegalArgumentException(
+                    String.format("Metrics rule '%s' has to be of the form pattern=setting.", entry));
+            }
+            String pattern = entry.substring(0, separator).trim();
+            String setting = entry.substring(separator + 1).trim().toLowerCase();
+            try {
+                if (setting.equals("off") || setting.equals("on")) {
+                    rules.add(new Rule(pattern, setting.equals("on"), null, null));
+                } else if (setting.startsWith("every:")) {
+                    rules.add(new Rule(pattern, null, Integer.parseInt(setting.substring("every:".length())), null));
+                } else if (setting.startsWith("interval:")) {
+                    rules.add(
+                        new Rule(pattern, null, null, Double.parseDouble(setting.substring("interval:".length()))));
+                } else {
+                    throw new IllegalArgumentException(String.format("Unknown metrics setting '%s'. Use on, off, "
+                        + "every:<n> or interval:<simulation time>.", setting));
+                }
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException(
+                    String.format("Metrics rule '%s' has an invalid number.", entry), e);
+            }
+        }
+        return new MetricsConfiguration(rules);
+    }
+
+    /**
+     * Creates a new configuration that consists of the rules of this configuration followed by the rules of the given
+     * configuration. Hence, the rules of the given configuration take precedence.
+     *
+     * @param overrides rules that should be applied after the rules of this configuration, may be {@code null}
+     * @return the combined configuration
+     */
+    public MetricsConfiguration withRules(@Nullable MetricsConfiguration overrides) {
+        List<Rule> rules = new ArrayList<>(getRules());
+        if (overrides != null) {
+            rules.addAll(overrides.getRules());
+        }
+        return new MetricsConfiguration(rules);
+    }
+
+    public List<Rule> getRules() {
+        return datasets != null ? Collections.unmodifiableList(datasets) : Collections.emptyList();
+    }
+
+    /**
+     * Whether this configuration has no rules, i.e. all datasets are written completely.
+     */
+    public boolean isEmpty() {
+        return getRules().isEmpty();
+    }
+
+    /**
+     * Checks the settings of all rules.
+     *
+     * @throws IllegalArgumentException if a rule has no pattern or an invalid setting
+     */
+    public void validate() {
+        getRules().forEach(Rule::compile);
+    }
+
+    /**
+     * Resolves the settings of the given dataset.
+     *
+     * @param datasetName full name of the dataset
+     * @return a new sampler for the dataset
+     */
+    DatasetSampler createSampler(String datasetName) {
+        boolean enabled = true;
+        int decimation = 1;
+        double samplingInterval = 0;
+        for (Rule rule : getRules()) {
+            if (!rule.matches(datasetName)) {
+                continue;
+            }
+            if (rule.enabled != null) {
+                enabled = rule.enabled;
+            }
+            if (rule.decimation != null) {
+                decimation = rule.decimation;
+            }
+            if (rule.samplingInterval != null) {
+                samplingInterval = rule.samplingInterval;
+            }
+        }
+        return new DatasetSampler(enabled, decimation, samplingInterval);
+    }
+
+    @Override
+    public String toString() {
+        return "MetricsConfiguration{datasets=" + getRules() + '}';
+    }
+
+    /**
+     * A rule of a {@link MetricsConfiguration}. Settings that are {@code null} are not changed by the rule.
+     */
+    public static final class Rule {
+
+        @SerializedName(value = "pattern", alternate = {"dataset", "name"})
+        private String pattern;
+
+        @SerializedName("enabled")
+        private Boolean enabled;
+
+        @SerializedName(value = "decimation", alternate = {"every"})
+        private Integer decimation;
+
+        @SerializedName(value = "sampling_interval", alternate = {"samplingInterval", "interval"})
+        private Double samplingInterval;
+
+        private transient Pattern compiledPattern;
+
+        private Rule() {
+        }
+
+        /**
+         * Creates a new rule.
+         *
+         * @param pattern          glob pattern over the full dataset names
+         * @param enabled          whether the datasets should be written
+         * @param decimation       keep only every n-th data point, has to be at least 1
+         * @param samplingInterval keep only the last data point per interval of simulation time, 0 keeps all data
+         *                         points
+         * @throws IllegalArgumentException if a setting is invalid
+         */
+        public Rule(@NotNull String pattern, @Nullable Boolean enabled, @Nullable Integer decimation,
+                    @Nullable Double samplingInterval) {
+            this.pattern = pattern;
+            this.enabled = enabled;
+            this.decimation = decimation;
+            this.samplingInterval = samplingInterval;
+            compile();
+        }
+
+        private Pattern compile() {
+            if (compiledPattern != null) {
+                return compiledPattern;
+            }
+            if (pattern == null || pattern.isEmpty()) {
+                throw new IllegalArgumentException("A metrics rule requires a dataset pattern.");
+            }
+            if (decimation != null && decimation < 1) {
+                throw new IllegalArgumentException(
+                    String.format("The decimation of metrics rule '%s' has to be at least 1.", pattern));
+            }
+            if (samplingInterval != null && !(samplingInterval >= 0 && samplingInterval < Double.POSITIVE_INFINITY)) {
+                throw new IllegalArgumentException(
+                    String.format("The sampling interval of metrics rule '%s' has to be a non-negative number.",
+                        pattern));
+            }
+            StringBuilder regex = new StringBuilder();
+            StringBuilder literal = new StringBuilder();
+            for (char c : pattern.toCharArray()) {
+                if (c == '*' || c == '?') {
+                    if (literal.length() > 0) {
+                        regex.append(Pattern.quote(literal.toString()));
+                        literal.setLength(0);
+                    }
+                    regex.append(c == '*' ? ".*" : ".");
+                } else {
+                    literal.append(c);
+                }
+            }
+            if (literal.length() > 0) {
+                regex.append(Pattern.quote(literal.toString()));
+            }
+            compiledPattern = Pattern.compile(regex.toString());
+            return compiledPattern;
+        }
+
+        /**
+         * Whether the given full dataset name is matched by the pattern of this rule.
+         *
+         * @throws IllegalArgumentException if a setting of this rule is invalid
+         */
+        public boolean matches(String datasetName) {
+            return compile().matcher(datasetName).matches();
+        }
+
+        public String getPattern() {
+            return pattern;
+        }
+
+        public Boolean getEnabled() {
+            return enabled;
+        }
+
+        public Integer getDecimation() {
+            return decimation;
+        }
+
+        public Double getSamplingInterval() {
+            return samplingInterval;
+        }
+
+        @Override
+        public String toString() {
+            return "Rule{"
+                + "pattern='" + pattern + '\''
+                + ", enabled=" + enabled
+                + ", decimation=" + decimation
+                + ", samplingInterval=" + samplingInterval
+                + '}';
+        }
+    }
+}
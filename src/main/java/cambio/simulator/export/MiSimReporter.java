@@ -14,7 +14,7 @@ import org.jetbrains.annotations.NotNull;
 /**
  * Base class for all MiSimReporters. Takes care of
  * <ul>
- * <li>registering and deregistering the reporter at the {@link MiSimReporters} class.</li>
+ * <li>registering and deregistering the reporter at the {@link MiSimReporters} of its model.</li>
  * <li>creation of output directories </li>
  * <li>creation of the actual output writers ({@link AsyncReportWriter}s)</li>
  * <li>setting default headers (and therefore column count) </li>
@@ -34,6 +34,11 @@ import org.jetbrains.annotations.NotNull;
  *     This can be done only once and has to be done before the first write to the dataset occurs.
  * </p>
  *
+ * <p>
+ *     Datasets can be disabled, decimated or down-sampled by the {@link MetricsConfiguration} of the experiment.
+ *     Data points of disabled datasets are dropped before they reach a writer. Hence, no file is created for them.
+ * </p>
+ *
  * @author Lion Wagner
  */
 public abstract class MiSimReporter<R extends AsyncReportWriter<?>> {
@@ -42,11 +47,24 @@ public abstract class MiSimReporter<R extends AsyncReportWriter<?>> {
 
     protected final String datasetsPrefix;
     protected final Path reportBasePath;
+    /**
+     * Store that receives the datasets of this reporter, {@code null} if the datasets are written as CSV files.
+     */
+    protected final ColumnarReportStore columnarStore;
+    /**
+     * Sink of the run that writes out the datasets of this reporter.
+     */
+    protected final ReportSink reportSink;
     private final HashMap<String, R> writers = new HashMap<>();
     private final HashMap<String, String[]> customHeaders = new HashMap<>();
+    /**
+     * Metrics configuration of the experiment, {@code null} if all datasets are written completely.
+     */
+    private final MetricsConfiguration metricsConfiguration;
+    private final HashMap<String, DatasetSampler> samplers = new HashMap<>();
 
     /**
-     * Creates a new MiSimReporter. Registers this reporter at the {@link MiSimReporters} class.
+     * Creates a new MiSimReporter. Registers this reporter at the {@link MiSimReporters} of the given model.
      *
      * @param model          model that provides the report location in its metadata.
      * @param datasetsPrefix name prefix for all datasets created by this reporter.
@@ -54,11 +72,15 @@ public abstract class MiSimReporter<R extends AsyncReportWriter<?>> {
     public MiSimReporter(Model model, @NotNull String datasetsPrefix) {
         Objects.requireNonNull(model);
         this.model = (MiSimModel) model;
-        MiSimReporters.registerReporter(this);
+        this.model.getExecutionContext().getReporters().registerReporter(this);
 
         this.datasetsPrefix = datasetsPrefix;
         ExperimentMetaData experimentMetaData = this.model.getExperimentMetaData();
         this.reportBasePath = experimentMetaData.getReportLocation().resolve("raw");
+        this.columnarStore = this.model.getExecutionContext().getReporters().getColumnarStore(this.model);
+        this.reportSink = this.model.getExecutionContext().getReporters().getReportSink(this.model);
+        MetricsConfiguration metrics = experimentMetaData.getMetricsConfiguration();
+        this.metricsConfiguration = metrics.isEmpty() ? null : metrics;
     }
 
 
@@ -76,7 +98,7 @@ public abstract class MiSimReporter<R extends AsyncReportWriter<?>> {
      * @see MiSimReporters#deregister(MiSimReporter)
      */
     protected final boolean deregister() {
-        return MiSimReporters.deregister(this);
+        return model.getExecutionContext().getReporters().deregister(this);
     }
 
     /**
@@ -127,16 +149,44 @@ public abstract class MiSimReporter<R extends AsyncReportWriter<?>> {
         }
     }
 
+    /**
+     * Whether data points of the given dataset should be written, according to the {@link MetricsConfiguration} of the
+     * experiment. Callers on hot paths can use this to skip the computation of values that would be dropped anyway.
+     *
+     * @param dataSetName name of the dataset (without the prefix of this reporter)
+     * @return false if the dataset is disabled
+     */
+    public final boolean isEnabled(final String dataSetName) {
+        return metricsConfiguration == null || getSampler(dataSetName).isEnabled();
+    }
+
+    private DatasetSampler getSampler(final String datasetID) {
+        DatasetSampler sampler = samplers.get(datasetID);
+        if (sampler == null) {
+            sampler = metricsConfiguration.createSampler(datasetsPrefix + datasetID);
+            samplers.put(datasetID, sampler);
+        }
+        return sampler;
+    }
+
     protected abstract R createWriter(Path datasetPath, String[] headers) throws IOException;
 
     protected final R getWriter(final String datasetID) {
+        R writer = writers.get(datasetID);
+        if (writer != null) {
+            return writer;
+        }
         return writers.computeIfAbsent(datasetID, (s) -> {
             Path outputFilePath = null;
             try {
                 Files.createDirectories(reportBasePath);
                 outputFilePath = reportBasePath.resolve(datasetsPrefix + datasetID + ".csv");
-                return createWriter(outputFilePath,
+                R newWriter = createWriter(outputFilePath,
                     customHeaders.getOrDefault(datasetID, new String[] {MiSimReporters.DEFAULT_VALUE_COLUMN_NAME}));
+                if (metricsConfiguration != null && !getSampler(datasetID).isPassThrough()) {
+                    newWriter.sampler = getSampler(datasetID);
+                }
+                return newWriter;
             } catch (IOException e) {
                 throw new RuntimeException(String.format("Could not open file '%s'.", outputFilePath), e);
             }
@@ -1,20 +1,23 @@
 package cambio.simulator.export;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collection;
 
+import cambio.simulator.models.ExperimentMetaData;
 import cambio.simulator.models.MiSimModel;
 import com.google.common.collect.ImmutableCollection;
 import com.google.common.collect.ImmutableList;
 
 /**
- * Class that manges all {@link MiSimReporter}s. In this case managing means it takes care of creating the global/static
- * reporters that are shared between enities. Further it also takes care of finalizing all reporters at the end of the
- * simulation.
+ * Class that manges all {@link MiSimReporter}s of one simulation run. In this case managing means it takes care of
+ * creating the reporters that are shared between enities. Further it also takes care of finalizing all reporters at the
+ * end of the simulation.
  *
  * <p>
- * Currently it is designed as a static class (not quite a singleton but close). {@link MiSimReporter}s register
- * themselves automatically on creation.
+ * Each simulation run owns exactly one instance (see
+ * {@link cambio.simulator.models.ExecutionContext#getReporters()}). {@link MiSimReporter}s register themselves
+ * automatically at the instance of their model on creation.
  *
  * <p>
  * Reporters can also be deregistered in case they should not be terminated at the end of the simulation. However this
@@ -27,47 +30,135 @@ public final class MiSimReporters {
 
     public static final String DEFAULT_TIME_COLUMN_NAME = "SimulationTime";
     public static final String DEFAULT_VALUE_COLUMN_NAME = "Value";
-    private static final Collection<MiSimReporter<?>> reporters = new ArrayList<>();
-    public static MultiDataPointReporter RETRY_MANAGER_REPORTER;
-    public static MultiDataPointReporter NETWORK_LATENCY_REPORTER;
-    public static MultiDataPointReporter USER_REQUEST_REPORTER;
-    public static AccumulativeDataPointReporter GENERATOR_REPORTER;
-    public static AverageDataPointReporter USER_REQUEST_AVG_REPORTER;
 
     public static final String csvSeperator = ";";
 
     public static final String csvListSeparator = ",";
 
+    private final Collection<MiSimReporter<?>> reporters = new ArrayList<>();
+    private MultiDataPointReporter retryManagerReporter;
+    private MultiDataPointReporter networkLatencyReporter;
+    private MultiDataPointReporter userRequestReporter;
+    private AccumulativeDataPointReporter generatorReporter;
+    private AverageDataPointReporter userRequestAvgReporter;
+    private ResponseTimeHistogramReporter userRequestHistogramReporter;
+    private boolean reportingRawResponseTimes = true;
+    private ColumnarReportStore columnarStore;
+    private ReportSink reportSink;
+
     /**
-     * Initializes the static reporters that are shared between entities.
+     * Initializes the reporters that are shared between entities.
      *
      * @param model Model that provides the report location in its metadata.
      */
-    public static void initializeStaticReporters(MiSimModel model) {
-        RETRY_MANAGER_REPORTER = new MultiDataPointReporter("RM_", model);
-        NETWORK_LATENCY_REPORTER = new MultiDataPointReporter("NL_", model);
-        USER_REQUEST_REPORTER = new MultiDataPointReporter("R", model);
-        GENERATOR_REPORTER = new AccumulativeDataPointReporter(
+    public void initializeSharedReporters(MiSimModel model) {
+        retryManagerReporter = new MultiDataPointReporter("RM_", model);
+        networkLatencyReporter = new MultiDataPointReporter("NL_", model);
+        userRequestReporter = new MultiDataPointReporter("R", model);
+        generatorReporter = new AccumulativeDataPointReporter(
             "GEN_ALL_", model, BucketMultiDataPointReporter.CEIL_FUNCTION);
-        USER_REQUEST_AVG_REPORTER = new AverageDataPointReporter(
+        userRequestAvgReporter = new AverageDataPointReporter(
             "R_AVG", model, BucketMultiDataPointReporter.CEIL_FUNCTION);
+        userRequestHistogramReporter = new ResponseTimeHistogramReporter("R_PCT", model);
+        reportingRawResponseTimes = model.getExperimentMetaData().isReportingRawResponseTimes();
+    }
+
+    public MultiDataPointReporter getRetryManagerReporter() {
+        return retryManagerReporter;
+    }
+
+    public MultiDataPointReporter getNetworkLatencyReporter() {
+        return networkLatencyReporter;
+    }
+
+    public MultiDataPointReporter getUserRequestReporter() {
+        return userRequestReporter;
+    }
+
+    public AccumulativeDataPointReporter getGeneratorReporter() {
+        return generatorReporter;
+    }
+
+    public AverageDataPointReporter getUserRequestAvgReporter() {
+        return userRequestAvgReporter;
+    }
+
+    public ResponseTimeHistogramReporter getUserRequestHistogramReporter() {
+        return userRequestHistogramReporter;
+    }
+
+    /**
+     * Whether the response time of each user request should be written by the {@link #getUserRequestReporter()}.
+     *
+     * @see cambio.simulator.models.ExperimentMetaData#isReportingRawResponseTimes()
+     */
+    public boolean isReportingRawResponseTimes() {
+        return reportingRawResponseTimes;
+    }
+
+    /**
+     * Gets the store that receives all datasets of the run, if the report should be written in the
+     * {@link ReportFormat#COLUMNAR} format. The store is created on the first call.
+     *
+     * @param model Model that provides the report format and location in its metadata.
+     * @return the columnar store of the run or {@code null} if the report should be written as CSV files.
+     */
+    public ColumnarReportStore getColumnarStore(MiSimModel model) {
+        if (columnarStore == null && model.getExperimentMetaData().getReportFormat() == ReportFormat.COLUMNAR) {
+            columnarStore = new ColumnarReportStore(model.getExperimentMetaData().getReportLocation().resolve("raw"));
+        }
+        return columnarStore;
+    }
+
+    /**
+     * Gets the sink that writes out the datasets of the run. The sink is created on the first call and shut down by
+     * {@link #finalizeReports()}.
+     *
+     * @param model Model that provides the configuration of the sink in its metadata.
+     * @return the report sink of the run
+     */
+    public synchronized ReportSink getReportSink(MiSimModel model) {
+        if (reportSink == null) {
+            ExperimentMetaData metaData = model.getExperimentMetaData();
+            reportSink = new ReportSink(metaData.getReportWriterThreads(), ReportSink.DEFAULT_FLUSH_PERIOD_MS,
+                metaData.getReportMaxOpenFiles(), metaData.getReportMemoryBudget());
+        }
+        return reportSink;
     }
 
     /**
      * Registers a new reporter to be finalized at the end of the simulation. This is called automatically on the
      * creation of a new {@link MiSimReporter}.
      */
-    public static void registerReporter(MiSimReporter<?> reporter) {
+    public void registerReporter(MiSimReporter<?> reporter) {
         reporters.add(reporter);
     }
 
 
     /**
-     * Finalizes all registered reporters. This includes deregistering them via {@link MiSimReporter#finalizeReport()}
+     * Finalizes all registered reporters. This includes deregistering them via {@link MiSimReporter#finalizeReport()}.
+     * Afterwards, the columnar store (if any) is closed and the report sink is shut down.
      */
-    public static void finalizeReports() {
-        while (reporters.size() > 0) {
-            reporters.iterator().next().finalizeReport();
+    public void finalizeReports() {
+        try {
+            while (reporters.size() > 0) {
+                reporters.iterator().next().finalizeReport();
+            }
+            if (columnarStore != null) {
+                try {
+                    columnarStore.close();
+                } catch (IOException e) {
+                    throw new RuntimeException(
+                        String.format("Could not finish the columnar report in %s.", columnarStore.getDirectory()), e);
+                }
+            }
+        } finally {
+            synchronized (this) {
+                if (reportSink != null) {
+                    reportSink.shutdown();
+                    reportSink = null;
+                }
+            }
         }
     }
 
@@ -78,14 +169,14 @@ public final class MiSimReporters {
      * @return true if the reporter was registered and could be deregistered.
      * @see MiSimReporter#finalizeReport()
      */
-    public static boolean deregister(MiSimReporter<?> reporter) {
+    public boolean deregister(MiSimReporter<?> reporter) {
         return reporters.remove(reporter);
     }
 
     /**
-     * Gets an immutable collection of all registered reporters.#
+     * Gets an immutable collection of all registered reporters.
      */
-    public static ImmutableCollection<MiSimReporter<?>> getReporters() {
+    public ImmutableCollection<MiSimReporter<?>> getReporters() {
         return ImmutableList.copyOf(reporters);
     }
 }
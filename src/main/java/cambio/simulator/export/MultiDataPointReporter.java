@@ -34,13 +34,46 @@ public class MultiDataPointReporter extends MiSimReporter<AsyncMultiColumnReport
     @Override
     public <T> void addDatapoint(final String dataSetName, final TimeInstant when, final T... data) {
         checkArgumentsAreNotNull(dataSetName, when, data);
+        if (!isEnabled(dataSetName)) {
+            return;
+        }
         AsyncMultiColumnReportWriter writerThread = getWriter(dataSetName);
         writerThread.addDataPoint(when.getTimeAsDouble(), data);
     }
 
+    /**
+     * Adds a new datapoint with a single number to the given dataset. In contrast to
+     * {@link #addDatapoint(String, TimeInstant, Object[])}, neither boxes the value nor allocates an array, if the
+     * dataset is disabled.
+     *
+     * @param dataSetName name of the dataset to which the datapoint should be added
+     * @param when        point in simulation time to which the datapoint is associated to
+     * @param value       value that should be logged
+     */
+    public void addDatapoint(final String dataSetName, final TimeInstant when, final double value) {
+        if (isEnabled(dataSetName)) {
+            addDatapoint(dataSetName, when, (Object) value);
+        }
+    }
+
+    /**
+     * Adds a new datapoint with a single number to the given dataset. In contrast to
+     * {@link #addDatapoint(String, TimeInstant, Object[])}, neither boxes the value nor allocates an array, if the
+     * dataset is disabled.
+     *
+     * @param dataSetName name of the dataset to which the datapoint should be added
+     * @param when        point in simulation time to which the datapoint is associated to
+     * @param value       value that should be logged
+     */
+    public void addDatapoint(final String dataSetName, final TimeInstant when, final long value) {
+        if (isEnabled(dataSetName)) {
+            addDatapoint(dataSetName, when, (Object) value);
+        }
+    }
+
     @Override
     protected AsyncMultiColumnReportWriter createWriter(Path datasetPath, String[] headers) throws IOException {
         Objects.requireNonNull(headers);
-        return new AsyncMultiColumnReportWriter(datasetPath, headers);
+        return new AsyncMultiColumnReportWriter(datasetPath, reportSink, columnarStore, headers);
     }
 }
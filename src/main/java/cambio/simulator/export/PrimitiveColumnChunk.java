@@ -0,0 +1,160 @@
+package cambio.simulator.export;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * A growable chunk of rows with a fixed number of numeric value columns, backed by primitive arrays. Each row consists
+ * of a simulation time and {@code width} values that are either all {@code long} or all {@code double} values.
+ *
+ * <p>
+ * Values are stored row-major in a single {@code long[]}. {@code double} values are stored as their raw bits, so a
+ * row does not cause any boxing or per-row allocation.
+ *
+ * <p>
+ * A chunk is filled by exactly one thread and handed over to a writer thread as a whole, so it does not need any
+ * synchronization.
+ *
+ * @see AsyncPrimitiveColumnReportWriter
+ */
+final class PrimitiveColumnChunk {
+
+    private static final byte DOUBLE_ROW = 0;
+    private static final byte LONG_ROW = 1;
+
+    private final int width;
+    private double[] times;
+    private long[] values;
+    private byte[] rowTypes;
+    private int size = 0;
+
+    PrimitiveColumnChunk(int width, int initialCapacity) {
+        this.width = width;
+        this.times = new double[initialCapacity];
+        this.values = new long[initialCapacity * width];
+        this.rowTypes = new byte[initialCapacity];
+    }
+
+    int size() {
+        return size;
+    }
+
+    int capacity() {
+        return times.length;
+    }
+
+    /**
+     * Estimates the memory footprint of the arrays of this chunk in bytes.
+     */
+    long estimateSize() {
+        return (long) times.length * (Double.BYTES + 1) + (long) values.length * Long.BYTES;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    boolean isFull() {
+        return size == times.length;
+    }
+
+    /**
+     * Doubles the capacity of this chunk, but not beyond the given maximum.
+     */
+    void grow(int maxCapacity) {
+        int newCapacity = Math.min(maxCapacity, Math.max(1, times.length * 2));
+        times = Arrays.copyOf(times, newCapacity);
+        values = Arrays.copyOf(values, newCapacity * width);
+        rowTypes = Arrays.copyOf(rowTypes, newCapacity);
+    }
+
+    void add(double time, double value) {
+        int offset = startRow(time, DOUBLE_ROW);
+        values[offset] = Double.doubleToRawLongBits(value);
+    }
+
+    void add(double time, long value) {
+        int offset = startRow(time, LONG_ROW);
+        values[offset] = value;
+    }
+
+    void add(double time, double value1, double value2) {
+        int offset = startRow(time, DOUBLE_ROW);
+        values[offset] = Double.doubleToRawLongBits(value1);
+        values[offset + 1] = Double.doubleToRawLongBits(value2);
+    }
+
+    void add(double time, long value1, long value2) {
+        int offset = startRow(time, LONG_ROW);
+        values[offset] = value1;
+        values[offset + 1] = value2;
+    }
+
+    void add(double time, double[] rowValues) {
+        int offset = startRow(time, DOUBLE_ROW);
+        for (int i = 0; i < width; i++) {
+            values[offset + i] = Double.doubleToRawLongBits(rowValues[i]);
+        }
+    }
+
+    void add(double time, long[] rowValues) {
+        int offset = startRow(time, LONG_ROW);
+        System.arraycopy(rowValues, 0, values, offset, width);
+    }
+
+    /**
+     * Removes the last row of this chunk.
+     */
+    void removeLast() {
+        size--;
+    }
+
+    private int startRow(double time, byte rowType) {
+        times[size] = time;
+        rowTypes[size] = rowType;
+        return size++ * width;
+    }
+
+    /**
+     * Appends all rows of this chunk in CSV format to the given builder.
+     *
+     * @param builder   target of the formatted rows
+     * @param separator column separator
+     */
+    void appendTo(StringBuilder builder, String separator) {
+        for (int row = 0; row < size; row++) {
+            builder.append(times[row]);
+            int offset = row * width;
+            for (int column = 0; column < width; column++) {
+                builder.append(separator);
+                if (rowTypes[row] == LONG_ROW) {
+                    builder.append(values[offset + column]);
+                } else {
+                    builder.append(Double.longBitsToDouble(values[offset + column]));
+                }
+            }
+            builder.append('\n');
+        }
+    }
+
+    /**
+     * Passes all rows of this chunk with their primitive values to the given dataset of a columnar store.
+     *
+     * @param dataset target of the rows
+     * @throws IOException if a block of the dataset cannot be written
+     */
+    void writeTo(ColumnarReportStore.Dataset dataset) throws IOException {
+        for (int row = 0; row < size; row++) {
+            dataset.startRow(times[row]);
+            int offset = row * width;
+            for (int column = 0; column < width; column++) {
+                if (rowTypes[row] == LONG_ROW) {
+                    dataset.addLong(values[offset + column]);
+                } else {
+                    dataset.addDouble(Double.longBitsToDouble(values[offset + column]));
+                }
+            }
+            dataset.endRow();
+        }
+    }
+}
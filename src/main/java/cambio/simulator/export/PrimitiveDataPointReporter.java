@@ -0,0 +1,120 @@
+package cambio.simulator.export;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Objects;
+
+import desmoj.core.simulator.Model;
+import desmoj.core.simulator.TimeInstant;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Numeric data point collector that does not box its values.
+ *
+ * <p>
+ * Use this reporter instead of a {@link MultiDataPointReporter} for datasets that are written on hot paths of the
+ * simulation, e.g. queue or utilization statistics. The typed {@code addDatapoint} overloads write the values into
+ * primitive column chunks of an {@link AsyncPrimitiveColumnReportWriter}, so no boxing or list allocation happens per
+ * data point. {@code long} values are written as integers, {@code double} values as decimals, just like a
+ * {@link MultiDataPointReporter} would write their boxed counterparts.
+ *
+ * <p>
+ * Each data point has to provide exactly one value per column of its dataset (see
+ * {@link #registerDefaultHeader(String, String...)}).
+ *
+ * <p>
+ * Data points of datasets that are disabled by the {@link MetricsConfiguration} are dropped before any writer is
+ * involved, so a disabled dataset only costs a map lookup per data point.
+ *
+ * @see AsyncPrimitiveColumnReportWriter
+ */
+public class PrimitiveDataPointReporter extends MiSimReporter<AsyncPrimitiveColumnReportWriter> {
+
+    public PrimitiveDataPointReporter(@NotNull Model model) {
+        this("", model);
+    }
+
+    public PrimitiveDataPointReporter(@NotNull String datasetsPrefix, @NotNull Model model) {
+        super(model, datasetsPrefix);
+    }
+
+    public void addDatapoint(final String dataSetName, final double when, final double value) {
+        if (isEnabled(dataSetName)) {
+            getWriter(dataSetName).addDataPoint(when, value);
+        }
+    }
+
+    public void addDatapoint(final String dataSetName, final double when, final long value) {
+        if (isEnabled(dataSetName)) {
+            getWriter(dataSetName).addDataPoint(when, value);
+        }
+    }
+
+    public void addDatapoint(final String dataSetName, final double when, final double value1,
+                             final double value2) {
+        if (isEnabled(dataSetName)) {
+            getWriter(dataSetName).addDataPoint(when, value1, value2);
+        }
+    }
+
+    public void addDatapoint(final String dataSetName, final double when, final long value1, final long value2) {
+        if (isEnabled(dataSetName)) {
+            getWriter(dataSetName).addDataPoint(when, value1, value2);
+        }
+    }
+
+    public void addDatapoint(final String dataSetName, final double when, final double... values) {
+        if (isEnabled(dataSetName)) {
+            getWriter(dataSetName).addDataPoint(when, values);
+        }
+    }
+
+    public void addDatapoint(final String dataSetName, final double when, final long... values) {
+        if (isEnabled(dataSetName)) {
+            getWriter(dataSetName).addDataPoint(when, values);
+        }
+    }
+
+    public void addDatapoint(final String dataSetName, final TimeInstant when, final double value) {
+        addDatapoint(dataSetName, when.getTimeAsDouble(), value);
+    }
+
+    public void addDatapoint(final String dataSetName, final TimeInstant when, final long value) {
+        addDatapoint(dataSetName, when.getTimeAsDouble(), value);
+    }
+
+    public void addDatapoint(final String dataSetName, final TimeInstant when, final double value1,
+                             final double value2) {
+        addDatapoint(dataSetName, when.getTimeAsDouble(), value1, value2);
+    }
+
+    public void addDatapoint(final String dataSetName, final TimeInstant when, final long value1,
+                             final long value2) {
+        addDatapoint(dataSetName, when.getTimeAsDouble(), value1, value2);
+    }
+
+    /**
+     * Adds a new datapoint of boxed numbers to the given dataset. Prefer the typed overloads, this method exists for
+     * compatibility with the {@link MiSimReporter} interface.
+     *
+     * @param dataSetName name of the dataset to which the datapoint should be added
+     * @param when        point in simulation time to which the datapoint is associated to
+     * @param data        numbers that should be logged
+     * @param <T>         type of the data that should be logged.
+     * @throws IllegalArgumentException if the data is not numeric
+     */
+    @SafeVarargs
+    @Override
+    public final <T> void addDatapoint(final String dataSetName, final TimeInstant when, final T... data) {
+        checkArgumentsAreNotNull(dataSetName, when, data);
+        if (isEnabled(dataSetName)) {
+            getWriter(dataSetName).addDataPoint(when.getTimeAsDouble(), data.length == 1 ? data[0] : data);
+        }
+    }
+
+    @Override
+    protected AsyncPrimitiveColumnReportWriter createWriter(Path datasetPath, String[] headers) throws IOException {
+        Objects.requireNonNull(headers);
+        return new AsyncPrimitiveColumnReportWriter(datasetPath, reportSink, columnarStore, headers);
+    }
+}
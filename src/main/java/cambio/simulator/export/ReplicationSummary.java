@@ -0,0 +1,217 @@
+package cambio.simulator.export;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.ToDoubleFunction;
+
+import org.apache.commons.math3.distribution.TDistribution;
+import org.apache.commons.math3.stat.descriptive.SummaryStatistics;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Aggregates the {@link RunStatistics} of multiple replications of the same experiment. For each key figure the mean,
+ * standard deviation and a Student-t based confidence interval over all successful replications are computed.
+ *
+ * @see cambio.simulator.ReplicationRunner
+ */
+public final class ReplicationSummary {
+
+    public static final double DEFAULT_CONFIDENCE_LEVEL = 0.95;
+
+    private final List<Replication> replications;
+    private final double confidenceLevel;
+
+    /**
+     * Creates a new summary of the given replications.
+     *
+     * @param replications    results of the single replications
+     * @param confidenceLevel confidence level of the computed confidence intervals, e.g. {@code 0.95}
+     */
+    public ReplicationSummary(@NotNull List<Replication> replications, double confidenceLevel) {
+        if (confidenceLevel <= 0 || confidenceLevel >= 1) {
+            throw new IllegalArgumentException("Confidence level has to be in the interval (0,1).");
+        }
+        this.replications = new ArrayList<>(replications);
+        this.confidenceLevel = confidenceLevel;
+    }
+
+    public List<Replication> getReplications() {
+        return Collections.unmodifiableList(replications);
+    }
+
+    public long getFailedReplicationsCount() {
+        return replications.stream().filter(Replication::hasError).count();
+    }
+
+    /**
+     * Computes the aggregated key figures over all replications that finished without error.
+     *
+     * @return one aggregated entry per key figure
+     */
+    public List<AggregatedMetric> getAggregatedMetrics() {
+        List<AggregatedMetric> metrics = new ArrayList<>();
+        metrics.add(aggregate("ResponseTimeMean", RunStatistics::getResponseTimeMean));
+        metrics.add(aggregate("ResponseTimeStandardDeviation", RunStatistics::getResponseTimeStandardDeviation));
+        metrics.add(aggregate("ResponseTimeP50", statistics -> statistics.getResponseTimePercentile(50)));
+        metrics.add(aggregate("ResponseTimeP99", statistics -> statistics.getResponseTimePercentile(99)));
+        metrics.add(aggregate("SuccessfulRequests", RunStatistics::getSuccessfulRequests));
+        metrics.add(aggregate("FailedRequests", RunStatistics::getFailedRequests));
+        metrics.add(aggregate("FailureRatio", RunStatistics::getFailureRatio));
+        return metrics;
+    }
+
+    private AggregatedMetric aggregate(String name, ToDoubleFunction<RunStatistics> metric) {
+        SummaryStatistics statistics = new SummaryStatistics();
+        for (Replication replication : replications) {
+            if (replication.hasError()) {
+                continue;
+            }
+            double value = metric.applyAsDouble(replication.getStatistics());
+            if (!Double.isNaN(value)) {
+                statistics.addValue(value);
+            }
+        }
+
+        long n = statistics.getN();
+        double mean = n == 0 ? Double.NaN : statistics.getMean();
+        double standardDeviation = statistics.getStandardDeviation();
+        double halfWidth = Double.NaN;
+        if (n > 1) {
+            double quantile = new TDistribution(n - 1).inverseCumulativeProbability(1 - (1 - confidenceLevel) / 2);
+            halfWidth = quantile * standardDeviation / Math.sqrt(n);
+        }
+        return new AggregatedMetric(name, n, mean, standardDeviation, mean - halfWidth, mean + halfWidth);
+    }
+
+    /**
+     * Writes the summary into the given directory. Creates a {@code summary.csv} with the aggregated key figures and a
+     * {@code replications.csv} with the key figures of each replication.
+     *
+     * @param directory target directory
+     * @throws IOException if an I/O error occurs writing the files
+     */
+    public void writeTo(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        String sep = MiSimReporters.csvSeperator;
+
+        List<String> summaryLines = new ArrayList<>();
+        summaryLines.add(String.join(sep, "Metric", "Replications", "Mean", "StandardDeviation",
+            String.format(Locale.US, "CI%.0fLower", confidenceLevel * 100),
+            String.format(Locale.US, "CI%.0fUpper", confidenceLevel * 100)));
+        for (AggregatedMetric metric : getAggregatedMetrics()) {
+            summaryLines.add(String.join(sep, metric.getName(), String.valueOf(metric.getReplications()),
+                String.valueOf(metric.getMean()), String.valueOf(metric.getStandardDeviation()),
+                String.valueOf(metric.getConfidenceIntervalLower()),
+                String.valueOf(metric.getConfidenceIntervalUpper())));
+        }
+        Files.write(directory.resolve("summary.csv"), summaryLines, StandardCharsets.UTF_8);
+
+        List<String> replicationLines = new ArrayList<>();
+        replicationLines.add(String.join(sep, "Replication", "Seed", "Error", "CompletedRequests",
+            "ResponseTimeMean", "ResponseTimeStandardDeviation", "ResponseTimeMin", "ResponseTimeMax",
+            "SuccessfulRequests", "FailedRequests"));
+        for (Replication replication : replications) {
+            RunStatistics stats = replication.getStatistics();
+            replicationLines.add(String.join(sep, String.valueOf(replication.getIndex()),
+                String.valueOf(replication.getSeed()), String.valueOf(replication.hasError()),
+                String.valueOf(stats.getResponseTimeCount()), String.valueOf(stats.getResponseTimeMean()),
+                String.valueOf(stats.getResponseTimeStandardDeviation()), String.valueOf(stats.getResponseTimeMin()),
+                String.valueOf(stats.getResponseTimeMax()), String.valueOf(stats.getSuccessfulRequests()),
+                String.valueOf(stats.getFailedRequests())));
+        }
+        Files.write(directory.resolve("replications.csv"), replicationLines, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Result of a single replication.
+     */
+    public static final class Replication {
+        private final int index;
+        private final int seed;
+        private final boolean error;
+        private final RunStatistics statistics;
+
+        /**
+         * Creates a new replication result.
+         *
+         * @param index      number of the replication
+         * @param seed       seed that was used by the replication
+         * @param error      whether the experiment of the replication failed
+         * @param statistics statistics that were collected during the replication
+         */
+        public Replication(int index, int seed, boolean error, @NotNull RunStatistics statistics) {
+            this.index = index;
+            this.seed = seed;
+            this.error = error;
+            this.statistics = statistics;
+        }
+
+        public int getIndex() {
+            return index;
+        }
+
+        public int getSeed() {
+            return seed;
+        }
+
+        public boolean hasError() {
+            return error;
+        }
+
+        public RunStatistics getStatistics() {
+            return statistics;
+        }
+    }
+
+    /**
+     * A key figure aggregated over multiple replications.
+     */
+    public static final class AggregatedMetric {
+        private final String name;
+        private final long replications;
+        private final double mean;
+        private final double standardDeviation;
+        private final double confidenceIntervalLower;
+        private final double confidenceIntervalUpper;
+
+        private AggregatedMetric(String name, long replications, double mean, double standardDeviation,
+                                 double confidenceIntervalLower, double confidenceIntervalUpper) {
+            this.name = name;
+            this.replications = replications;
+            this.mean = mean;
+            this.standardDeviation = standardDeviation;
+            this.confidenceIntervalLower = confidenceIntervalLower;
+            this.confidenceIntervalUpper = confidenceIntervalUpper;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public long getReplications() {
+            return replications;
+        }
+
+        public double getMean() {
+            return mean;
+        }
+
+        public double getStandardDeviation() {
+            return standardDeviation;
+        }
+
+        public double getConfidenceIntervalLower() {
+            return confidenceIntervalLower;
+        }
+
+        public double getConfidenceIntervalUpper() {
+            return confidenceIntervalUpper;
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package cambio.simulator.export;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+import com.google.gson.annotations.SerializedName;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Output formats of the raw report datasets.
+ *
+ * @see cambio.simulator.models.ExperimentMetaData#getReportFormat()
+ */
+public enum ReportFormat {
+
+    /**
+     * One semicolon separated file per dataset in the {@code raw} report directory.
+     */
+    @SerializedName(value = "csv", alternate = {"CSV"})
+    CSV,
+
+    /**
+     * All datasets are written into a few compressed, columnar files in the {@code raw} report directory. Use the
+     * {@link ColumnarReportConverter} to convert them back into the CSV layout.
+     *
+     * @see ColumnarReportStore
+     */
+    @SerializedName(value = "columnar", alternate = {"COLUMNAR", "binary"})
+    COLUMNAR;
+
+    /**
+     * Resolves a report format by its (case-insensitive) name.
+     *
+     * @param name name of the format, e.g. {@code "csv"} or {@code "columnar"}
+     * @return the report format with the given name
+     * @throws IllegalArgumentException if there is no format with the given name
+     */
+    public static ReportFormat fromName(@NotNull String name) {
+        String normalized = name.trim().toUpperCase(Locale.ROOT);
+        if (normalized.equals("BINARY")) {
+            return COLUMNAR;
+        }
+        try {
+            return valueOf(normalized);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(String.format("Unknown report format '%s'. Expected one of %s.",
+                name, Arrays.toString(values()).toLowerCase(Locale.ROOT)), e);
+        }
+    }
+}
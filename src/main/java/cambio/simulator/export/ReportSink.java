@@ -0,0 +1,305 @@
+package cambio.simulator.export;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Sink that multiplexes the write-out of all {@link AsyncReportWriter}s of a simulation run through a fixed number of
+ * writer threads.
+ *
+ * <p>
+ * Each writer is assigned to one writer thread. A writer announces itself to its thread once it has new data (it
+ * becomes "dirty"). Every {@link #getFlushPeriodMs()} milliseconds each thread writes out all of its dirty writers.
+ * Hence, idle datasets do not cost anything, regardless of how many of them exist.
+ *
+ * <p>
+ * The number of simultaneously open files is bounded by {@link #getMaxOpenFiles()}. If the bound is exceeded, the
+ * least recently written file is closed and transparently reopened (in append mode) on its next write-out.
+ *
+ * <p>
+ * Data that is buffered but not yet written is accounted against {@link #getMemoryBudgetBytes()}. Once the budget is
+ * exceeded, producers (i.e. the simulation threads) are blocked until the writer threads drained the buffers below
+ * three quarters of the budget. This keeps the heap bounded when the simulation produces data faster than it can be
+ * written.
+ *
+ * <p>
+ * Each run owns its own sink (see {@link MiSimReporters#getReportSink(cambio.simulator.models.MiSimModel)}), hence
+ * parallel runs neither share the memory budget nor the open files bound. The configuration of a sink is taken from the
+ * {@link cambio.simulator.models.ExperimentMetaData} of its run and fixed on its creation. Its writer threads are
+ * stopped by {@link #shutdown()}, after all of its writers were finalized.
+ *
+ * @see AsyncReportWriter
+ */
+public final class ReportSink {
+
+    public static final int DEFAULT_WRITER_THREADS =
+        Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() - 1));
+    public static final int DEFAULT_FLUSH_PERIOD_MS = 100;
+    public static final int DEFAULT_MAX_OPEN_FILES = 512;
+    public static final long DEFAULT_MEMORY_BUDGET_BYTES = 256L * 1024 * 1024;
+
+    private final WriterThread[] writerThreads;
+    private final AtomicInteger nextWriterThread = new AtomicInteger();
+    private final int flushPeriodMs;
+    private final int maxOpenFiles;
+    private final long memoryBudgetBytes;
+    private final long memoryLowWatermark;
+
+    private final AtomicLong pendingBytes = new AtomicLong();
+    private final Object pressureLock = new Object();
+
+    //access ordered, the eldest entry is the least recently written file
+    private final LinkedHashMap<AsyncReportWriter<?>, Boolean> openFiles = new LinkedHashMap<>(16, 0.75f, true);
+
+    private volatile boolean running = true;
+
+    /**
+     * Creates a new sink with the default configuration.
+     */
+    public ReportSink() {
+        this(DEFAULT_WRITER_THREADS, DEFAULT_FLUSH_PERIOD_MS, DEFAULT_MAX_OPEN_FILES, DEFAULT_MEMORY_BUDGET_BYTES);
+    }
+
+    /**
+     * Creates a new sink and starts its writer threads.
+     *
+     * @param writerThreadCount number of writer threads
+     * @param flushPeriodMs     period in ms with which the writer threads write out their dirty writers
+     * @param maxOpenFiles      maximum number of report files that are open at the same time
+     * @param memoryBudgetBytes maximum amount of (estimated) memory that may be occupied by buffered data
+     * @throws IllegalArgumentException if any of the values is not positive
+     */
+    public ReportSink(int writerThreadCount, int flushPeriodMs, int maxOpenFiles, long memoryBudgetBytes) {
+        if (writerThreadCount < 1 || flushPeriodMs < 1 || maxOpenFiles < 1 || memoryBudgetBytes < 1) {
+            throw new IllegalArgumentException(String.format(
+                "Report sink configuration must be positive (writer threads: %d, flush period: %d ms, "
+                    + "open files: %d, memory budget: %d bytes)",
+                writerThreadCount, flushPeriodMs, maxOpenFiles, memoryBudgetBytes));
+        }
+        this.flushPeriodMs = flushPeriodMs;
+        this.maxOpenFiles = maxOpenFiles;
+        this.memoryBudgetBytes = memoryBudgetBytes;
+        this.memoryLowWatermark = memoryBudgetBytes / 4 * 3;
+        this.writerThreads = new WriterThread[writerThreadCount];
+        for (int i = 0; i < writerThreadCount; i++) {
+            writerThreads[i] = new WriterThread(i);
+            writerThreads[i].start();
+        }
+    }
+
+    public int getWriterThreads() {
+        return writerThreads.length;
+    }
+
+    /**
+     * Period in ms with which the writer threads write out their dirty writers. One can try and play around with this
+     * parameter when you encounter either CPU or IO performance issues.
+     */
+    public int getFlushPeriodMs() {
+        return flushPeriodMs;
+    }
+
+    /**
+     * Maximum number of report files that are open at the same time. Writers that are currently writing are never
+     * closed, so the bound may be exceeded by at most the number of writer threads.
+     */
+    public int getMaxOpenFiles() {
+        return maxOpenFiles;
+    }
+
+    /**
+     * Maximum amount of (estimated) memory that may be occupied by buffered, but not yet written report data.
+     */
+    public long getMemoryBudgetBytes() {
+        return memoryBudgetBytes;
+    }
+
+    /**
+     * Stops the writer threads of this sink, after they wrote out their remaining dirty writers. Should only be called
+     * once all writers of this sink are finalized, since data that is enqueued afterwards is only written on
+     * finalization.
+     */
+    public void shutdown() {
+        running = false;
+        for (WriterThread writerThread : writerThreads) {
+            writerThread.wakeUp();
+        }
+    }
+
+    /**
+     * Whether the writer threads of this sink are still running.
+     */
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Gets the amount of (estimated) memory that is currently occupied by buffered report data.
+     */
+    public long getPendingBytes() {
+        return pendingBytes.get();
+    }
+
+    int assignWriterThread() {
+        return Math.floorMod(nextWriterThread.getAndIncrement(), writerThreads.length);
+    }
+
+    /**
+     * Announces that the given writer has new data that should be written out.
+     */
+    void markDirty(AsyncReportWriter<?> writer) {
+        writerThreads[writer.writerThreadIndex].dirtyWriters.add(writer);
+    }
+
+    /**
+     * Accounts newly buffered data. Blocks the calling producer, if the memory budget is exceeded.
+     */
+    void reserve(long bytes) {
+        if (pendingBytes.addAndGet(bytes) <= memoryBudgetBytes) {
+            return;
+        }
+        for (WriterThread writerThread : writerThreads) {
+            writerThread.wakeUp();
+        }
+        synchronized (pressureLock) {
+            while (pendingBytes.get() > memoryLowWatermark) {
+                try {
+                    pressureLock.wait(flushPeriodMs);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Accounts data that is buffered by the writer threads themselves, e.g. the blocks of a
+     * {@link ColumnarReportStore}. Never blocks, since only the writer threads can write out this data again. Instead,
+     * they check {@link #isUnderPressure()}.
+     */
+    void reserveWithoutBlocking(long bytes) {
+        pendingBytes.addAndGet(bytes);
+    }
+
+    /**
+     * Whether the buffered data exceeds the level up to which blocked producers have to wait.
+     */
+    boolean isUnderPressure() {
+        return pendingBytes.get() > memoryLowWatermark;
+    }
+
+    /**
+     * Accounts data that was written out (or discarded).
+     */
+    void release(long bytes) {
+        if (bytes == 0) {
+            return;
+        }
+        long remaining = pendingBytes.addAndGet(-bytes);
+        if (remaining <= memoryLowWatermark && remaining + bytes > memoryLowWatermark) {
+            synchronized (pressureLock) {
+                pressureLock.notifyAll();
+            }
+        }
+    }
+
+    /**
+     * Marks the file of the given writer as (recently) used. If too many files are open afterwards, the least recently
+     * used files of other writers, that are currently not writing, are closed.
+     */
+    void fileUsed(AsyncReportWriter<?> writer) {
+        List<AsyncReportWriter<?>> candidates = null;
+        synchronized (openFiles) {
+            openFiles.put(writer, Boolean.TRUE);
+            int excess = openFiles.size() - maxOpenFiles;
+            if (excess > 0) {
+                candidates = new ArrayList<>(excess);
+                for (AsyncReportWriter<?> openWriter : openFiles.keySet()) {
+                    if (openWriter != writer) {
+                        candidates.add(openWriter);
+                        if (candidates.size() == excess) {
+                            break;
+                        }
+                    }
+                }
+            }
+        }
+        if (candidates != null) {
+            for (AsyncReportWriter<?> candidate : candidates) {
+                if (candidate.tryCloseFile()) {
+                    fileClosed(candidate);
+                }
+            }
+        }
+    }
+
+    /**
+     * Removes the given writer from the open files.
+     */
+    void fileClosed(AsyncReportWriter<?> writer) {
+        synchronized (openFiles) {
+            openFiles.remove(writer);
+        }
+    }
+
+    /**
+     * Gets the number of currently open report files.
+     */
+    public int getOpenFilesCount() {
+        synchronized (openFiles) {
+            return openFiles.size();
+        }
+    }
+
+    private final class WriterThread extends Thread {
+        private final Queue<AsyncReportWriter<?>> dirtyWriters = new ConcurrentLinkedQueue<>();
+        private final Object wakeUpLock = new Object();
+        private boolean wakeUpRequested = false;
+
+        private WriterThread(int index) {
+            super("MiSim-Report-Writer-" + index);
+            setDaemon(true);
+        }
+
+        private void wakeUp() {
+            synchronized (wakeUpLock) {
+                wakeUpRequested = true;
+                wakeUpLock.notifyAll();
+            }
+        }
+
+        @Override
+        public void run() {
+            boolean draining = true;
+            while (draining) {
+                draining = running;
+                synchronized (wakeUpLock) {
+                    long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(flushPeriodMs);
+                    long remaining;
+                    while (running && !wakeUpRequested && (remaining = deadline - System.nanoTime()) > 0) {
+                        try {
+                            TimeUnit.NANOSECONDS.timedWait(wakeUpLock, remaining);
+                        } catch (InterruptedException e) {
+                            return;
+                        }
+                    }
+                    wakeUpRequested = false;
+                }
+
+                AsyncReportWriter<?> writer;
+                while ((writer = dirtyWriters.poll()) != null) {
+                    try {
+                        writer.writeout();
+                    } catch (RuntimeException e) {
+                        System.out.printf("[Error] Failed to write report data to %s%n", writer.datasetPath);
+                        e.printStackTrace();
+                    }
+                }
+            }
+        }
+    }
+}
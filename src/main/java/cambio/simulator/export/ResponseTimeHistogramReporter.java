@@ -0,0 +1,139 @@
+package cambio.simulator.export;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import desmoj.core.simulator.Model;
+import desmoj.core.simulator.TimeInstant;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Summarizes response times per time window with a {@link LogHistogram} and writes one row of percentiles per window
+ * and dataset, instead of one row per response time.
+ *
+ * <p>
+ * A window covers the simulation time interval {@code (end - windowLength, end]} and is written with its end time,
+ * i.e. with the default window length of 1 the windows match the buckets of
+ * {@link BucketMultiDataPointReporter#CEIL_FUNCTION}. A window is written as soon as a response time of a later window
+ * of the same dataset arrives, or when the report is finalized. Windows without response times are not written.
+ *
+ * <p>
+ * Each row contains the number of response times in the window and the
+ * {@link #PERCENTILE_HEADERS percentiles p50, p90, p99 and p99.9} as well as the maximum of the window.
+ *
+ * @see LogHistogram
+ */
+public class ResponseTimeHistogramReporter extends MiSimReporter<AsyncMultiColumnReportWriter> {
+
+    public static final String[] PERCENTILE_HEADERS = {"Count", "P50", "P90", "P99", "P999", "Max"};
+    private static final double[] PERCENTILES = {50, 90, 99, 99.9};
+
+    private final double windowLength;
+    private final Map<String, Window> windows = new LinkedHashMap<>();
+
+    public ResponseTimeHistogramReporter(@NotNull String datasetsPrefix, @NotNull Model model) {
+        this(datasetsPrefix, model, 1);
+    }
+
+    /**
+     * Creates a new reporter.
+     *
+     * @param datasetsPrefix name prefix for all datasets created by this reporter
+     * @param model          model that provides the report location in its metadata
+     * @param windowLength   length of the time windows in simulation time, has to be positive
+     */
+    public ResponseTimeHistogramReporter(@NotNull String datasetsPrefix, @NotNull Model model, double windowLength) {
+        super(model, datasetsPrefix);
+        if (!(windowLength > 0)) {
+            throw new IllegalArgumentException("The window length has to be positive.");
+        }
+        this.windowLength = windowLength;
+    }
+
+    /**
+     * Records a response time in the window of the given time.
+     *
+     * <p>
+     * Response times with a time before the current window of the dataset are recorded in the current window.
+     *
+     * @param dataSetName  name of the dataset
+     * @param when         time at which the response was received
+     * @param responseTime the response time
+     */
+    public void addResponseTime(final String dataSetName, final double when, final double responseTime) {
+        if (!isEnabled(dataSetName)) {
+            return;
+        }
+        double windowEnd = Math.ceil(when / windowLength) * windowLength;
+        Window window = windows.get(dataSetName);
+        if (window == null) {
+            window = new Window();
+            windows.put(dataSetName, window);
+        } else if (windowEnd > window.end && window.histogram.getCount() > 0) {
+            write(dataSetName, window);
+        }
+        if (window.histogram.getCount() == 0) {
+            window.end = windowEnd;
+        }
+        window.histogram.record(responseTime);
+    }
+
+    public void addResponseTime(final String dataSetName, final TimeInstant when, final double responseTime) {
+        addResponseTime(dataSetName, when.getTimeAsDouble(), responseTime);
+    }
+
+    /**
+     * Records numeric data as response times. Prefer {@link #addResponseTime(String, double, double)}, this method
+     * exists for compatibility with the {@link MiSimReporter} interface.
+     *
+     * @throws IllegalArgumentException if the data is not numeric
+     */
+    @SafeVarargs
+    @Override
+    public final <T> void addDatapoint(final String dataSetName, final TimeInstant when, final T... data) {
+        checkArgumentsAreNotNull(dataSetName, when, data);
+        for (T datum : data) {
+            if (!(datum instanceof Number)) {
+                throw new IllegalArgumentException("Response times have to be numeric.");
+            }
+            addResponseTime(dataSetName, when, ((Number) datum).doubleValue());
+        }
+    }
+
+    private void write(String dataSetName, Window window) {
+        LogHistogram histogram = window.histogram;
+        double[] percentiles = histogram.getValuesAtPercentiles(PERCENTILES);
+        getWriter(dataSetName).addDataPoint(window.end, new Object[] {histogram.getCount(), percentiles[0],
+            percentiles[1], percentiles[2], percentiles[3], histogram.getMax()});
+        histogram.reset();
+    }
+
+    /**
+     * Writes the open windows of all datasets.
+     */
+    public void flush() {
+        windows.forEach((dataSetName, window) -> {
+            if (window.histogram.getCount() > 0) {
+                write(dataSetName, window);
+            }
+        });
+    }
+
+    @Override
+    public void finalizeReport() {
+        flush();
+        super.finalizeReport();
+    }
+
+    @Override
+    protected AsyncMultiColumnReportWriter createWriter(Path datasetPath, String[] headers) throws IOException {
+        return new AsyncMultiColumnReportWriter(datasetPath, reportSink, columnarStore, PERCENTILE_HEADERS);
+    }
+
+    private static final class Window {
+        private final LogHistogram histogram = new LogHistogram();
+        private double end;
+    }
+}
@@ -0,0 +1,111 @@
+package cambio.simulator.export;
+
+/**
+ * Collects key figures of a single simulation run in memory, independent of the report files. Used to aggregate the
+ * results of multiple replications of an experiment.
+ *
+ * <p>
+ * Response times are summarized online (Welford's algorithm and a {@link LogHistogram} for percentiles), so the memory
+ * footprint is constant regardless of the number of requests.
+ *
+ * @see ReplicationSummary
+ */
+public final class RunStatistics {
+
+    private long responseTimeCount = 0;
+    private double responseTimeMean = 0;
+    private double responseTimeSquaredDeviations = 0;
+    private double responseTimeMin = Double.NaN;
+    private double responseTimeMax = Double.NaN;
+    private final LogHistogram responseTimeHistogram = new LogHistogram();
+
+    private long successfulRequests = 0;
+    private long failedRequests = 0;
+
+    /**
+     * Adds the response time of a completed user request.
+     *
+     * @param responseTime response time of the request
+     */
+    public void addResponseTime(double responseTime) {
+        responseTimeCount++;
+        double delta = responseTime - responseTimeMean;
+        responseTimeMean += delta / responseTimeCount;
+        responseTimeSquaredDeviations += delta * (responseTime - responseTimeMean);
+        if (responseTimeCount == 1) {
+            responseTimeMin = responseTime;
+            responseTimeMax = responseTime;
+        } else {
+            responseTimeMin = Math.min(responseTimeMin, responseTime);
+            responseTimeMax = Math.max(responseTimeMax, responseTime);
+        }
+        responseTimeHistogram.record(responseTime);
+    }
+
+    public void countSuccessfulRequest() {
+        successfulRequests++;
+    }
+
+    public void countFailedRequest() {
+        failedRequests++;
+    }
+
+    public long getResponseTimeCount() {
+        return responseTimeCount;
+    }
+
+    /**
+     * Gets the mean response time of all completed user requests.
+     *
+     * @return the mean response time or {@link Double#NaN} if no request completed
+     */
+    public double getResponseTimeMean() {
+        return responseTimeCount == 0 ? Double.NaN : responseTimeMean;
+    }
+
+    /**
+     * Gets the sample standard deviation of the response times of all completed user requests.
+     *
+     * @return the standard deviation or {@link Double#NaN} if less than two requests completed
+     */
+    public double getResponseTimeStandardDeviation() {
+        return responseTimeCount < 2 ? Double.NaN : Math.sqrt(responseTimeSquaredDeviations / (responseTimeCount - 1));
+    }
+
+    public double getResponseTimeMin() {
+        return responseTimeMin;
+    }
+
+    public double getResponseTimeMax() {
+        return responseTimeMax;
+    }
+
+    /**
+     * Gets the (approximated) response time at the given percentile of all completed user requests.
+     *
+     * @param percentile percentile in the interval [0,100]
+     * @return the response time at the percentile or {@link Double#NaN} if no request completed
+     * @see LogHistogram#getValueAtPercentile(double)
+     */
+    public double getResponseTimePercentile(double percentile) {
+        return responseTimeHistogram.getValueAtPercentile(percentile);
+    }
+
+    public long getSuccessfulRequests() {
+        return successfulRequests;
+    }
+
+    public long getFailedRequests() {
+        return failedRequests;
+    }
+
+    /**
+     * Gets the ratio of failed user requests to all finished (successful or failed) user requests.
+     *
+     * @return the failure ratio or {@link Double#NaN} if no request finished
+     */
+    public double getFailureRatio() {
+        long total = successfulRequests + failedRequests;
+        return total == 0 ? Double.NaN : (double) failedRequests / total;
+    }
+}
@@ -0,0 +1,84 @@
+package cambio.simulator.export;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Keeps a running sum and count for the currently open time bucket of each dataset of a
+ * {@link BucketMultiDataPointReporter}.
+ *
+ * <p>
+ * Since simulation time only moves forward, a bucket is closed as soon as a value for a later bucket of the same
+ * dataset arrives. Closed buckets are handed to the {@link BucketConsumer} immediately, so the memory footprint only
+ * depends on the number of datasets, not on the simulated time. A value for a bucket that was already closed (i.e. a
+ * value that was added with a time in the past) is handed to the consumer as a bucket of its own.
+ */
+final class RunningBuckets {
+
+    private final Map<String, Bucket> openBuckets = new LinkedHashMap<>();
+    private final BucketConsumer consumer;
+
+    RunningBuckets(BucketConsumer consumer) {
+        this.consumer = consumer;
+    }
+
+    /**
+     * Adds a value to the bucket of the given dataset. Closes the open bucket of the dataset, if the value belongs to
+     * a later bucket.
+     */
+    void add(String dataSetName, double bucketTime, double value) {
+        Bucket bucket = openBuckets.get(dataSetName);
+        if (bucket == null) {
+            bucket = new Bucket();
+            openBuckets.put(dataSetName, bucket);
+        } else if (bucket.count > 0 && bucketTime != bucket.time) {
+            if (bucketTime < bucket.time) {
+                consumer.accept(dataSetName, bucketTime, value, 1);
+                return;
+            }
+            close(dataSetName, bucket);
+        }
+        bucket.time = bucketTime;
+        bucket.sum += value;
+        bucket.count++;
+    }
+
+    /**
+     * Closes the open bucket of the given dataset.
+     */
+    void close(String dataSetName) {
+        Bucket bucket = openBuckets.get(dataSetName);
+        if (bucket != null) {
+            close(dataSetName, bucket);
+        }
+    }
+
+    /**
+     * Closes the open buckets of all datasets.
+     */
+    void closeAll() {
+        openBuckets.forEach(this::close);
+    }
+
+    private void close(String dataSetName, Bucket bucket) {
+        if (bucket.count > 0) {
+            consumer.accept(dataSetName, bucket.time, bucket.sum, bucket.count);
+            bucket.sum = 0;
+            bucket.count = 0;
+        }
+    }
+
+    /**
+     * Receives closed buckets.
+     */
+    @FunctionalInterface
+    interface BucketConsumer {
+        void accept(String dataSetName, double bucketTime, double sum, long count);
+    }
+
+    private static final class Bucket {
+        private double time;
+        private double sum;
+        private long count;
+    }
+}
@@ -41,6 +41,9 @@ public class SnapshotDataPointReporter extends BucketMultiDataPointReporter {
      */
     public void addDatapoint(final String dataSetName, TimeInstant when, final Number data) {
         checkArgumentsAreNotNull(dataSetName, when, data);
+        if (!isEnabled(dataSetName)) {
+            return;
+        }
         when = bucketingFunction.apply(when);
         ArrayList<Number> dataSet =
             finalDataPoints.computeIfAbsent(datasetsPrefix + dataSetName, s -> new ArrayList<>());
@@ -57,6 +60,26 @@ public class SnapshotDataPointReporter extends BucketMultiDataPointReporter {
         }
     }
 
+    /**
+     * Records the given value as the last value of its bucket. The value is only boxed, if the dataset is enabled.
+     */
+    @Override
+    public void addDatapoint(final String dataSetName, final TimeInstant when, final double data) {
+        if (isEnabled(dataSetName)) {
+            addDatapoint(dataSetName, when, (Number) data);
+        }
+    }
+
+    /**
+     * Records the given value as the last value of its bucket. The value is only boxed, if the dataset is enabled.
+     */
+    @Override
+    public void addDatapoint(final String dataSetName, final TimeInstant when, final long data) {
+        if (isEnabled(dataSetName)) {
+            addDatapoint(dataSetName, when, (Number) data);
+        }
+    }
+
     private void fillUpData(ArrayList<Number> list, int until) {
         Number lastValue = list.get(list.size() - 1);
         while (list.size() - 1 < until) {
@@ -105,6 +128,6 @@ public class SnapshotDataPointReporter extends BucketMultiDataPointReporter {
     // TODO: Pattern of late flushing has been reused over multiple reporter classes and could be abstracted
     @Override
     protected AsyncMultiColumnReportWriter createWriter(Path datasetPath, String[] headers) throws IOException {
-        return new AsyncMultiColumnReportWriter(datasetPath, headers[0]);
+        return new AsyncMultiColumnReportWriter(datasetPath, reportSink, columnarStore, headers[0]);
     }
 }
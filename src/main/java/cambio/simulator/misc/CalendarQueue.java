@@ -0,0 +1,528 @@
+package cambio.simulator.misc;
+
+import java.util.*;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * Calendar queue (R. Brown, 1988) that orders its elements by time, then by descending priority and then in the order
+ * they were added.
+ *
+ * <p>
+ * The time axis is divided into days of a fixed width, which are mapped round-robin onto a ring of buckets, like the
+ * days of a year onto a calendar. Each bucket holds its elements in a linked list sorted by time, so elements with the
+ * same time are always stored next to each other in the same bucket. If the width matches the average distance
+ * between the elements, each bucket holds only a few elements. Then, adding an element and removing the first one
+ * take amortized constant time, regardless of the number of elements. The ring is resized and the width is estimated
+ * anew whenever the number of elements doubles or halves.
+ *
+ * <p>
+ * Besides the ordered {@link #add(Object)}, elements can be placed explicitly before or after elements with the same
+ * time. Finding the first element and the successor of an element is fast. {@link #peekLast()} and
+ * {@link #previous(Object)} are rarely needed and search all buckets.
+ *
+ * <p>
+ * The time and priority of an element are read once when it is added and must not change while it is queued. Elements
+ * are compared by identity and may only be queued once. This queue is not synchronized.
+ *
+ * @param <E> type of the elements
+ */
+public final class CalendarQueue<E> {
+
+    private static final int MIN_BUCKETS = 16;
+    private static final int WIDTH_SAMPLE_SIZE = 32;
+    /**
+     * Average number of visited days and nodes per operation, above which the width is estimated anew.
+     */
+    private static final int MAX_AVERAGE_COST = 8;
+
+    private final ToLongFunction<? super E> timeFunction;
+    private final ToIntFunction<? super E> priorityFunction;
+    private final Map<E, Node<E>> nodes = new IdentityHashMap<>();
+
+    private Node<E>[] heads;
+    private Node<E>[] tails;
+    private int mask;
+    private long width = 1;
+    /**
+     * Lower bound of the times of all queued elements, where the search for the first element starts.
+     */
+    private long lowerBound = 0;
+    /**
+     * The first element, {@code null} if it is unknown or the queue is empty.
+     */
+    private Node<E> first;
+
+    //visited days and nodes since the last resize, to detect an outdated width
+    private long operations = 0;
+    private long cost = 0;
+
+    /**
+     * Creates a new empty calendar queue.
+     *
+     * @param timeFunction     function that gives the time of an element
+     * @param priorityFunction function that gives the priority of an element, elements with a higher priority are
+     *                         ordered before elements with the same time and a lower priority
+     */
+    public CalendarQueue(ToLongFunction<? super E> timeFunction, ToIntFunction<? super E> priorityFunction) {
+        this.timeFunction = Objects.requireNonNull(timeFunction);
+        this.priorityFunction = Objects.requireNonNull(priorityFunction);
+        allocate(MIN_BUCKETS);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void allocate(int bucketCount) {
+        heads = (Node<E>[]) new Node[bucketCount];
+        tails = (Node<E>[]) new Node[bucketCount];
+        mask = bucketCount - 1;
+    }
+
+    private int bucketOf(long time) {
+        return (int) (Math.floorDiv(time, width) & mask);
+    }
+
+    /**
+     * Adds an element behind all elements with an earlier time, or the same time and a higher or equal priority.
+     *
+     * @param element element to add
+     * @throws IllegalArgumentException if the element is already queued
+     */
+    public void add(E element) {
+        Node<E> node = createNode(element);
+        linkOrdered(node);
+        onLinked(node);
+    }
+
+    /**
+     * Adds an element in front of all elements with the same or a later time.
+     *
+     * @param element element to add
+     * @throws IllegalArgumentException if the element is already queued
+     */
+    public void addFirst(E element) {
+        Node<E> node = createNode(element);
+        Node<E> successor = heads[node.bucket];
+        while (successor != null && successor.time < node.time) {
+            successor = successor.next;
+        }
+        linkBefore(node, successor);
+        onLinked(node);
+    }
+
+    /**
+     * Adds an element behind all elements with the same or an earlier time.
+     *
+     * @param element element to add
+     * @throws IllegalArgumentException if the element is already queued
+     */
+    public void addLast(E element) {
+        Node<E> node = createNode(element);
+        Node<E> predecessor = tails[node.bucket];
+        while (predecessor != null && predecessor.time > node.time) {
+            predecessor = predecessor.prev;
+        }
+        linkAfter(node, predecessor);
+        onLinked(node);
+    }
+
+    /**
+     * Adds an element directly in front of another element. If both elements have different times, the element is
+     * added like with {@link #add(Object)} instead.
+     *
+     * @param where   queued element in front of which the element should be added
+     * @param element element to add
+     * @throws IllegalArgumentException if {@code where} is not queued or {@code element} is already queued
+     */
+    public void addBefore(E where, E element) {
+        Node<E> successor = requireNode(where);
+        Node<E> node = createNode(element);
+        if (node.time == successor.time) {
+            linkBefore(node, successor);
+        } else {
+            linkOrdered(node);
+        }
+        onLinked(node);
+    }
+
+    /**
+     * Adds an element directly behind another element. If both elements have different times, the element is added
+     * like with {@link #add(Object)} instead.
+     *
+     * @param where   queued element behind which the element should be added
+     * @param element element to add
+     * @throws IllegalArgumentException if {@code where} is not queued or {@code element} is already queued
+     */
+    public void addAfter(E where, E element) {
+        Node<E> predecessor = requireNode(where);
+        Node<E> node = createNode(element);
+        if (node.time == predecessor.time) {
+            linkAfter(node, predecessor);
+        } else {
+            linkOrdered(node);
+        }
+        onLinked(node);
+    }
+
+    /**
+     * Gets the first element without removing it.
+     *
+     * @return the first element or {@code null} if the queue is empty
+     */
+    public E peekFirst() {
+        Node<E> node = firstNode();
+        return node == null ? null : node.element;
+    }
+
+    /**
+     * Removes the first element.
+     *
+     * @return the removed element or {@code null} if the queue is empty
+     */
+    public E pollFirst() {
+        Node<E> node = firstNode();
+        if (node == null) {
+            return null;
+        }
+        lowerBound = node.time;
+        removeNode(node);
+        return node.element;
+    }
+
+    /**
+     * Gets the last element without removing it. Searches all buckets.
+     *
+     * @return the last element or {@code null} if the queue is empty
+     */
+    public E peekLast() {
+        Node<E> last = null;
+        for (Node<E> head : heads) {
+            for (Node<E> node = head; node != null; node = node.next) {
+                if (last == null || node.time >= last.time) {
+                    last = node;
+                }
+            }
+        }
+        return last == null ? null : last.element;
+    }
+
+    /**
+     * Gets the element that directly follows the given element.
+     *
+     * @param element queued element
+     * @return the successor of the element or {@code null} if it is the last element
+     * @throws IllegalArgumentException if the element is not queued
+     */
+    public E next(E element) {
+        Node<E> node = requireNode(element);
+        if (node.next != null && node.next.time == node.time) {
+            return node.next.element;
+        }
+        if (node.time == Long.MAX_VALUE) {
+            return null;
+        }
+        Node<E> successor = findFirstFrom(node.time + 1);
+        return successor == null ? null : successor.element;
+    }
+
+    /**
+     * Gets the element that directly precedes the given element. Searches all buckets, unless the predecessor has the
+     * same time.
+     *
+     * @param element queued element
+     * @return the predecessor of the element or {@code null} if it is the first element
+     * @throws IllegalArgumentException if the element is not queued
+     */
+    public E previous(E element) {
+        Node<E> node = requireNode(element);
+        if (node.prev != null && node.prev.time == node.time) {
+            return node.prev.element;
+        }
+        Node<E> predecessor = null;
+        for (Node<E> head : heads) {
+            for (Node<E> candidate = head; candidate != null && candidate.time < node.time;
+                 candidate = candidate.next) {
+                if (predecessor == null || candidate.time >= predecessor.time) {
+                    predecessor = candidate;
+                }
+            }
+        }
+        return predecessor == null ? null : predecessor.element;
+    }
+
+    /**
+     * Removes the given element.
+     *
+     * @param element element to remove
+     * @return whether the element was queued
+     */
+    public boolean remove(E element) {
+        Node<E> node = nodes.get(element);
+        if (node == null) {
+            return false;
+        }
+        removeNode(node);
+        return true;
+    }
+
+    public boolean contains(E element) {
+        return nodes.containsKey(element);
+    }
+
+    public int size() {
+        return nodes.size();
+    }
+
+    public boolean isEmpty() {
+        return nodes.isEmpty();
+    }
+
+    /**
+     * Gets all elements in their order. Sorts all elements, so it should only be used for diagnostics.
+     *
+     * @return a new list that contains all elements in their order
+     */
+    public List<E> toList() {
+        List<E> elements = new ArrayList<>(size());
+        for (Node<E> node : sortedNodes()) {
+            elements.add(node.element);
+        }
+        return elements;
+    }
+
+    @Override
+    public String toString() {
+        return toList().toString();
+    }
+
+    private Node<E> createNode(E element) {
+        Objects.requireNonNull(element);
+        if (nodes.containsKey(element)) {
+            throw new IllegalArgumentException(String.format("%s is already queued.", element));
+        }
+        Node<E> node = new Node<>(element, timeFunction.applyAsLong(element), priorityFunction.applyAsInt(element));
+        node.bucket = bucketOf(node.time);
+        nodes.put(element, node);
+        return node;
+    }
+
+    private Node<E> requireNode(E element) {
+        Node<E> node = nodes.get(element);
+        if (node == null) {
+            throw new IllegalArgumentException(String.format("%s is not queued.", element));
+        }
+        return node;
+    }
+
+    private void linkOrdered(Node<E> node) {
+        Node<E> predecessor = tails[node.bucket];
+        while (predecessor != null && (predecessor.time > node.time
+            || (predecessor.time == node.time && predecessor.priority < node.priority))) {
+            predecessor = predecessor.prev;
+            cost++;
+        }
+        linkAfter(node, predecessor);
+    }
+
+    private void linkAfter(Node<E> node, Node<E> predecessor) {
+        int bucket = node.bucket;
+        Node<E> successor = predecessor == null ? heads[bucket] : predecessor.next;
+        node.prev = predecessor;
+        node.next = successor;
+        if (predecessor == null) {
+            heads[bucket] = node;
+        } else {
+            predecessor.next = node;
+        }
+        if (successor == null) {
+            tails[bucket] = node;
+        } else {
+            successor.prev = node;
+        }
+    }
+
+    private void linkBefore(Node<E> node, Node<E> successor) {
+        linkAfter(node, successor == null ? tails[node.bucket] : successor.prev);
+    }
+
+    private void unlink(Node<E> node) {
+        if (node.prev == null) {
+            heads[node.bucket] = node.next;
+        } else {
+            node.prev.next = node.next;
+        }
+        if (node.next == null) {
+            tails[node.bucket] = node.prev;
+        } else {
+            node.next.prev = node.prev;
+        }
+        node.prev = null;
+        node.next = null;
+    }
+
+    private void onLinked(Node<E> node) {
+        if (size() == 1) {
+            lowerBound = node.time;
+            first = node;
+        } else {
+            lowerBound = Math.min(lowerBound, node.time);
+            //elements with the same time are adjacent, so a new first element is directly in front of the old one
+            if (first != null && (node.time < first.time || node.next == first)) {
+                first = node;
+            }
+        }
+        if (size() > 2 * heads.length) {
+            resize(heads.length * 2);
+        } else {
+            checkCost();
+        }
+    }
+
+    private void removeNode(Node<E> node) {
+        nodes.remove(node.element);
+        if (node == first) {
+            first = node.next != null && node.next.time == node.time ? node.next : null;
+        }
+        unlink(node);
+        if (heads.length > MIN_BUCKETS && size() < heads.length / 2) {
+            resize(heads.length / 2);
+        } else {
+            checkCost();
+        }
+    }
+
+    /**
+     * Estimates the width anew, if the operations since the last resize visited too many days or nodes. This adapts
+     * the queue to a changed distribution of the elements, even if their number stays the same.
+     */
+    private void checkCost() {
+        operations++;
+        if (operations >= 2L * heads.length + WIDTH_SAMPLE_SIZE) {
+            if (cost > operations * MAX_AVERAGE_COST) {
+                resize(heads.length);
+            } else {
+                operations = 0;
+                cost = 0;
+            }
+        }
+    }
+
+    private Node<E> firstNode() {
+        if (first == null && !isEmpty()) {
+            first = findFirstFrom(lowerBound);
+        }
+        return first;
+    }
+
+    /**
+     * Finds the first node with a time equal to or after the given time. Visits the days of one year, starting with
+     * the day of the given time, and falls back to a search of all buckets if all of them are empty.
+     */
+    private Node<E> findFirstFrom(long from) {
+        long dayStart = Math.floorDiv(from, width) * width;
+        int bucket = bucketOf(from);
+        for (int day = 0; day < heads.length; day++) {
+            long dayEnd = dayStart + width;
+            for (Node<E> node = heads[bucket]; node != null && node.time < dayEnd; node = node.next) {
+                if (node.time >= from) {
+                    cost += day;
+                    return node;
+                }
+                cost++;
+            }
+            bucket = (bucket + 1) & mask;
+            dayStart = dayEnd;
+        }
+        cost += heads.length + size();
+
+        Node<E> result = null;
+        for (Node<E> head : heads) {
+            for (Node<E> node = head; node != null; node = node.next) {
+                if (node.time >= from) {
+                    if (result == null || node.time < result.time) {
+                        result = node;
+                    }
+                    break;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Gets all nodes in their order. Elements with the same time are stored in order in the same bucket, so a stable
+     * sort by time of the concatenated buckets restores the order of all elements.
+     */
+    private List<Node<E>> sortedNodes() {
+        List<Node<E>> sorted = new ArrayList<>(size());
+        for (Node<E> head : heads) {
+            for (Node<E> node = head; node != null; node = node.next) {
+                sorted.add(node);
+            }
+        }
+        sorted.sort(Comparator.comparingLong(node -> node.time));
+        return sorted;
+    }
+
+    private void resize(int bucketCount) {
+        List<Node<E>> sorted = sortedNodes();
+        width = estimateWidth(sorted);
+        allocate(bucketCount);
+        for (Node<E> node : sorted) {
+            node.bucket = bucketOf(node.time);
+            node.prev = null;
+            node.next = null;
+            linkAfter(node, tails[node.bucket]);
+        }
+        first = sorted.isEmpty() ? null : sorted.get(0);
+        operations = 0;
+        cost = 0;
+    }
+
+    /**
+     * Estimates the width of a day as three times the average distance between the first elements, ignoring distances
+     * that are more than twice the average (Brown, 1988).
+     */
+    private long estimateWidth(List<Node<E>> sorted) {
+        int samples = Math.min(sorted.size(), WIDTH_SAMPLE_SIZE) - 1;
+        if (samples < 1) {
+            return width;
+        }
+        double total = 0;
+        for (int i = 0; i < samples; i++) {
+            total += (double) sorted.get(i + 1).time - sorted.get(i).time;
+        }
+        double average = total / samples;
+
+        double limitedTotal = 0;
+        int limitedSamples = 0;
+        for (int i = 0; i < samples; i++) {
+            double distance = (double) sorted.get(i + 1).time - sorted.get(i).time;
+            if (distance <= 2 * average) {
+                limitedTotal += distance;
+                limitedSamples++;
+            }
+        }
+        if (limitedSamples > 0) {
+            average = limitedTotal / limitedSamples;
+        }
+        if (!(average > 0)) {
+            return width;
+        }
+        return (long) Math.max(1, Math.min(3 * average, Long.MAX_VALUE / 4));
+    }
+
+    private static final class Node<E> {
+        private final E element;
+        private final long time;
+        private final int priority;
+        private int bucket;
+        private Node<E> prev;
+        private Node<E> next;
+
+        private Node(E element, long time, int priority) {
+            this.element = element;
+            this.time = time;
+            this.priority = priority;
+        }
+    }
+}
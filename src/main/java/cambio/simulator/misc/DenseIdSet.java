@@ -0,0 +1,235 @@
+package cambio.simulator.misc;
+
+import java.util.*;
+
+/**
+ * Set of {@link DenseIdentifiable}s backed by an open-addressing hash table over their dense ids.
+ *
+ * <p>
+ * In contrast to a {@link HashSet}, adding an element does not allocate a map node and neither {@link #hashCode()} nor
+ * {@link #equals(Object)} of the elements is called. Elements are identified by their id and compared by identity.
+ * The table uses linear probing and marks removed slots with a tombstone, so removing elements during an iteration is
+ * safe. The table is rebuilt once live and removed slots fill three quarters of it.
+ *
+ * <p>
+ * The iteration order is unspecified. Like {@link HashSet}, this set is not synchronized.
+ *
+ * @param <E> type of the elements
+ */
+public final class DenseIdSet<E extends DenseIdentifiable> extends AbstractSet<E> {
+
+    private static final int MIN_CAPACITY = 8;
+    private static final Object TOMBSTONE = new Object();
+
+    private int[] ids;
+    private Object[] slots;
+    private int mask;
+    private int size = 0;
+    private int usedSlots = 0; //live and removed slots
+    private int modCount = 0;
+
+    public DenseIdSet() {
+        this(MIN_CAPACITY);
+    }
+
+    /**
+     * Creates a new set that can hold the given number of elements without growing.
+     *
+     * @param expectedSize expected number of elements
+     */
+    public DenseIdSet(int expectedSize) {
+        allocate(capacityFor(expectedSize));
+    }
+
+    private static int capacityFor(int size) {
+        int capacity = MIN_CAPACITY;
+        while (capacity * 3L / 4 < size) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+
+    private static int hash(int id) {
+        int h = id * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    private void allocate(int capacity) {
+        ids = new int[capacity];
+        slots = new Object[capacity];
+        mask = capacity - 1;
+        usedSlots = size;
+    }
+
+    /**
+     * Finds the slot of the given element.
+     *
+     * @return the index of the slot or -1 if the element is not contained
+     */
+    private int indexOf(DenseIdentifiable element) {
+        int id = element.getDenseId();
+        int index = hash(id) & mask;
+        Object slot;
+        while ((slot = slots[index]) != null) {
+            if (slot == element && ids[index] == id) {
+                return index;
+            }
+            index = (index + 1) & mask;
+        }
+        return -1;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return o instanceof DenseIdentifiable && indexOf((DenseIdentifiable) o) >= 0;
+    }
+
+    @Override
+    public boolean add(E element) {
+        int id = element.getDenseId();
+        int index = hash(id) & mask;
+        int firstTombstone = -1;
+        Object slot;
+        while ((slot = slots[index]) != null) {
+            if (slot == element && ids[index] == id) {
+                return false;
+            } else if (slot == TOMBSTONE && firstTombstone < 0) {
+                firstTombstone = index;
+            }
+            index = (index + 1) & mask;
+        }
+        if (firstTombstone >= 0) {
+            index = firstTombstone;
+        } else {
+            usedSlots++;
+        }
+        ids[index] = id;
+        slots[index] = element;
+        size++;
+        modCount++;
+        if (usedSlots * 4L > slots.length * 3L) {
+            rebuild();
+        }
+        return true;
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        if (!(o instanceof DenseIdentifiable)) {
+            return false;
+        }
+        int index = indexOf((DenseIdentifiable) o);
+        if (index < 0) {
+            return false;
+        }
+        removeAt(index);
+        return true;
+    }
+
+    private void removeAt(int index) {
+        slots[index] = TOMBSTONE;
+        size--;
+        modCount++;
+    }
+
+    /**
+     * Removes all given elements. In contrast to {@link AbstractSet#removeAll(Collection)}, this always iterates
+     * over the given collection, so the cost does not depend on the size of this set.
+     */
+    @Override
+    public boolean removeAll(Collection<?> c) {
+        boolean modified = false;
+        for (Object o : c) {
+            modified |= remove(o);
+        }
+        return modified;
+    }
+
+    /**
+     * Re-inserts all elements into a table that fits the current size, which drops all tombstones.
+     */
+    private void rebuild() {
+        int[] oldIds = ids;
+        Object[] oldSlots = slots;
+        allocate(capacityFor(size * 2));
+        for (int i = 0; i < oldSlots.length; i++) {
+            Object slot = oldSlots[i];
+            if (slot != null && slot != TOMBSTONE) {
+                int index = hash(oldIds[i]) & mask;
+                while (slots[index] != null) {
+                    index = (index + 1) & mask;
+                }
+                ids[index] = oldIds[i];
+                slots[index] = slot;
+            }
+        }
+    }
+
+    @Override
+    public void clear() {
+        if (usedSlots > 0) {
+            Arrays.fill(slots, null);
+            size = 0;
+            usedSlots = 0;
+            modCount++;
+        }
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<>() {
+            private int next = advance(0);
+            private int last = -1;
+            private int expectedModCount = modCount;
+
+            private int advance(int from) {
+                while (from < slots.length && (slots[from] == null || slots[from] == TOMBSTONE)) {
+                    from++;
+                }
+                return from;
+            }
+
+            @Override
+            public boolean hasNext() {
+                return next < slots.length;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public E next() {
+                if (modCount != expectedModCount) {
+                    throw new ConcurrentModificationException();
+                }
+                if (next >= slots.length) {
+                    throw new NoSuchElementException();
+                }
+                last = next;
+                next = advance(next + 1);
+                return (E) slots[last];
+            }
+
+            @Override
+            public void remove() {
+                if (last < 0) {
+                    throw new IllegalStateException();
+                }
+                if (modCount != expectedModCount) {
+                    throw new ConcurrentModificationException();
+                }
+                removeAt(last);
+                expectedModCount = modCount;
+                last = -1;
+            }
+        };
+    }
+}
@@ -0,0 +1,14 @@
+package cambio.simulator.misc;
+
+/**
+ * An object that carries an integer id which is unique within its simulation run. Ids are handed out sequentially by
+ * {@link cambio.simulator.models.ExecutionContext#nextDenseId()}, so they are dense and well suited as keys of
+ * open-addressing structures like the {@link DenseIdSet}.
+ */
+public interface DenseIdentifiable {
+
+    /**
+     * Gets the id of this object, which is unique within the simulation run it belongs to.
+     */
+    int getDenseId();
+}
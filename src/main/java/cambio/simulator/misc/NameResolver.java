@@ -6,6 +6,7 @@ import cambio.simulator.entities.microservice.Microservice;
 import cambio.simulator.entities.microservice.Operation;
 import cambio.simulator.models.ArchitectureModel;
 import cambio.simulator.models.MiSimModel;
+import cambio.simulator.models.NameIndex;
 import cambio.simulator.parsing.ParsingException;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -13,6 +14,9 @@ import org.jetbrains.annotations.Nullable;
 /**
  * Utility class to help resolve names into {@link Operation} and {@link Microservice} object.
  *
+ * <p>
+ * Names are resolved through the {@link NameIndex} of the architecture, hence each lookup takes constant time.
+ *
  * @author Lion Wagner
  */
 public final class NameResolver {
@@ -36,8 +40,7 @@ public final class NameResolver {
      * @return a {@link Microservice} with the given name or null if none is found
      */
     public static Microservice resolveMicroserviceName(ArchitectureModel model, String name) {
-        return model.getMicroservices().stream().filter(microservice -> microservice.getPlainName().equals(name))
-            .findFirst().orElse(null);
+        return model.getNameIndex().getMicroservice(name);
     }
 
     /**
@@ -67,27 +70,10 @@ public final class NameResolver {
     public static Operation resolveOperationName(@NotNull ArchitectureModel model, @NotNull String name) {
         if (operationNameIsComposed(name)) {
             String[] names = name.split("\\.");
-            String serviceName = names[0];
-            String operationName = names[1];
-            Microservice ms = resolveMicroserviceName(model, serviceName);
-            if (ms == null) {
-                return null;
-            }
-            return findOperation(ms.getOperations(), operationName);
+            return model.getNameIndex().getOperation(names[0], names[1]);
         } else {
-            return model.getMicroservices().stream()
-                .map(microservice -> findOperation(microservice.getOperations(), name)).filter(Objects::nonNull)
-                .findFirst().orElse(null);
-        }
-    }
-
-    private static Operation findOperation(Operation[] operations, String name) {
-        for (Operation operation : operations) {
-            if (operation.getPlainName().equals(name)) {
-                return operation;
-            }
+            return model.getNameIndex().getOperation(name);
         }
-        return null;
     }
 
     /**
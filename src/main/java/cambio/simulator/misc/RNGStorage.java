@@ -8,8 +8,12 @@ import java.util.function.Supplier;
 import org.jetbrains.annotations.*;
 
 /**
- * This class should be used to keep track of all static Random Number Generators (RNG). However, it will accept all
- * types and tries to guarantee type correctness based on the given {@link Supplier}.
+ * This class should be used to keep track of all shared Random Number Generators (RNG) of a simulation run. However,
+ * it will accept all types and tries to guarantee type correctness based on the given {@link Supplier}.
+ *
+ * <p>
+ * Each simulation run owns its own storage (see {@link cambio.simulator.models.ExecutionContext#getRngStorage()}), so
+ * generators are never shared between independent runs.
  *
  * <p>
  * Technically it is a wrapper for a HashMap that only allows the {@link Map#computeIfAbsent(Object, Function)} ({@link
@@ -19,7 +23,7 @@ import org.jetbrains.annotations.*;
  */
 public final class RNGStorage {
 
-    private static final Map<Object, Object> instances = new HashMap<>();
+    private final Map<Object, Object> instances = new HashMap<>();
 
     /**
      * Returns the value associated with the given key. If the key is not present, the supplier will be used to create a
@@ -33,7 +37,7 @@ public final class RNGStorage {
      *                            returns.
      */
     @Contract("_, !null -> !null")
-    public static synchronized <T> T get(@NotNull final Object key, @NotNull final Supplier<T> supplier) {
+    public <T> T get(@NotNull final Object key, @NotNull final Supplier<T> supplier) {
         return (T) instances.computeIfAbsent(key, s -> supplier.get());
     }
 
@@ -45,15 +49,14 @@ public final class RNGStorage {
      */
 
     @Contract(pure = true)
-    public static @Nullable Class<?> containsKey(@NotNull final Object key) {
+    public @Nullable Class<?> containsKey(@NotNull final Object key) {
         return instances.containsKey(key) ? instances.get(key).getClass() : null;
     }
 
     /**
      * Resets/Removes all key-value pairs.
      */
-    public static void reset() {
+    public void reset() {
         instances.clear();
-        // System.out.println("[DEBUG] RNGStorage cleared.");
     }
 }
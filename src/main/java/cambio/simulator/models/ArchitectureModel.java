@@ -21,14 +21,36 @@ public class ArchitectureModel {
     @SerializedName(value = "network_latency", alternate = {"network_delay", "delay", "latency"})
     private ContDistNormal networkLatency;
 
+    private transient SortedSet<Microservice> sortedMicroservices;
+    private transient NameIndex nameIndex;
+
     /**
-     * Gets all available microservices.
+     * Gets all available microservices, ordered by their identification number.
+     *
+     * <p>
+     * The set is created once and cannot be modified.
      *
      * @return all microservices
      */
     public SortedSet<Microservice> getMicroservices() {
-        TreeSet<Microservice> microservices = new TreeSet<>(Comparator.comparing(Microservice::getIdentNumber));
-        microservices.addAll(Arrays.asList(this.microservices));
-        return microservices;
+        if (sortedMicroservices == null) {
+            TreeSet<Microservice> microservices = new TreeSet<>(Comparator.comparing(Microservice::getIdentNumber));
+            microservices.addAll(Arrays.asList(this.microservices));
+            sortedMicroservices = Collections.unmodifiableSortedSet(microservices);
+        }
+        return sortedMicroservices;
+    }
+
+    /**
+     * Gets the index of the names of all microservices and their operations. The index is built on first access, which
+     * happens while the dependencies of the operations are resolved at the end of parsing.
+     *
+     * @return the name index of this architecture
+     */
+    public NameIndex getNameIndex() {
+        if (nameIndex == null) {
+            nameIndex = new NameIndex(getMicroservices());
+        }
+        return nameIndex;
     }
 }
@@ -0,0 +1,116 @@
+package cambio.simulator.models;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.util.Arrays;
+import java.util.Locale;
+
+import cambio.simulator.misc.Util;
+import com.google.gson.annotations.SerializedName;
+import desmoj.core.simulator.CalendarEventList;
+import desmoj.core.simulator.EventList;
+import desmoj.core.simulator.EventTreeList;
+import desmoj.core.simulator.EventVectorList;
+import desmoj.core.simulator.Experiment;
+import desmoj.core.simulator.Scheduler;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Implementations of the future event list that the scheduler of an {@link Experiment} can use.
+ *
+ * <p>
+ * All implementations order event notes by time, then by descending scheduling priority (see
+ * {@link cambio.simulator.misc.Priority}) and then in the order they were scheduled. Hence, the choice only affects
+ * the performance of a simulation, not its results.
+ *
+ * @see ExperimentMetaData#getEventListType()
+ */
+public enum EventListType {
+
+    /**
+     * DESMO-J's default, a balanced tree with logarithmic insertion and removal. Best suited for large event lists,
+     * e.g. for high request rates.
+     */
+    @SerializedName(value = "tree", alternate = {"TREE"})
+    TREE(EventTreeList.class),
+
+    /**
+     * A sorted array with linear insertion and constant time access to the next event. Can be faster for small event
+     * lists, e.g. for architectures with few instances and low load.
+     */
+    @SerializedName(value = "vector", alternate = {"VECTOR"})
+    VECTOR(EventVectorList.class),
+
+    /**
+     * A calendar queue with amortized constant time insertion and removal, if the events are spread evenly over the
+     * near future. Best suited for the many short network and CPU delays of high request rates.
+     *
+     * @see cambio.simulator.misc.CalendarQueue
+     */
+    @SerializedName(value = "calendar", alternate = {"CALENDAR"})
+    CALENDAR(CalendarEventList.class);
+
+    private final Class<? extends EventList> implementation;
+
+    EventListType(Class<? extends EventList> implementation) {
+        this.implementation = implementation;
+    }
+
+    /**
+     * Resolves an event list type by its (case-insensitive) name.
+     *
+     * @param name name of the type, e.g. {@code "tree"} or {@code "calendar"}
+     * @return the event list type with the given name
+     * @throws IllegalArgumentException if there is no type with the given name
+     */
+    public static EventListType fromName(@NotNull String name) {
+        try {
+            return valueOf(name.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(String.format("Unknown event list '%s'. Expected one of %s.",
+                name, Arrays.toString(values()).toLowerCase(Locale.ROOT)), e);
+        }
+    }
+
+    public Class<? extends EventList> getImplementation() {
+        return implementation;
+    }
+
+    /**
+     * Replaces the event list of the scheduler of the given experiment with an empty event list of this type.
+     *
+     * <p>
+     * DESMO-J does not expose the event list of an experiment, hence it is replaced via reflection. This has to happen
+     * before any model is connected to the experiment, since events that were already scheduled would be lost.
+     *
+     * @param experiment experiment whose event list should be replaced
+     * @throws IllegalStateException if the event list cannot be replaced
+     */
+    public void installIn(@NotNull Experiment experiment) {
+        try {
+            Object scheduler = getFieldOfType(experiment.getClass(), Scheduler.class).get(experiment);
+            Field eventListField = getFieldOfType(scheduler.getClass(), EventList.class);
+            Object currentList = eventListField.get(scheduler);
+            if (currentList != null && currentList.getClass() == implementation) {
+                return;
+            }
+            Constructor<? extends EventList> constructor = implementation.getDeclaredConstructor();
+            constructor.setAccessible(true);
+            eventListField.set(scheduler, constructor.newInstance());
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            throw new IllegalStateException(
+                String.format("Could not install the %s event list.", name().toLowerCase(Locale.ROOT)), e);
+        }
+    }
+
+    private static Field getFieldOfType(Class<?> owner, Class<?> type) throws NoSuchFieldException {
+        for (Field field : Util.getAllFields(owner)) {
+            if (type.isAssignableFrom(field.getType())) {
+                field.setAccessible(true);
+                return field;
+            }
+        }
+        throw new NoSuchFieldException(
+            String.format("%s has no field of type %s.", owner.getSimpleName(), type.getSimpleName()));
+    }
+}
@@ -0,0 +1,87 @@
+package cambio.simulator.models;
+
+import java.util.ArrayDeque;
+
+import desmoj.core.simulator.Model;
+import desmoj.core.simulator.Schedulable;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Free list of executed events of one type, so that the events which are created for every request (e.g. the send and
+ * receive events of the network) can be reused by the same simulation run instead of being constructed anew.
+ *
+ * <p>
+ * An event is released into its pool at the end of its own event routine, after all references to it that other
+ * objects hold (e.g. the send event of a request) were cleared. Events that were canceled are never released, so a
+ * canceled event is never rescheduled by accident. Consequently, consumers of the {@link cambio.simulator.EventBus}
+ * must not keep references to pooled events beyond the notification.
+ *
+ * <p>
+ * The pool holds at most {@link #getCapacity()} events. Events that are released into a full pool are left to the
+ * garbage collector.
+ *
+ * @param <T> type of the pooled events
+ * @see ExecutionContext#getEventPool(Class)
+ */
+public final class EventPool<T extends Schedulable> {
+
+    public static final int DEFAULT_CAPACITY = 4096;
+
+    private final ArrayDeque<T> freeEvents = new ArrayDeque<>();
+    private final int capacity;
+
+    public EventPool() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a new, empty pool.
+     *
+     * @param capacity maximum number of events that are kept for reuse
+     */
+    public EventPool(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("The capacity of an event pool cannot be negative.");
+        }
+        this.capacity = capacity;
+    }
+
+    /**
+     * Takes an event of the given model out of the pool. The caller is responsible for resetting its state.
+     *
+     * @param model model the event has to belong to
+     * @return a previously released event or {@code null} if the pool has no event of the given model
+     */
+    public @Nullable T poll(Model model) {
+        T event = freeEvents.pollLast();
+        //pools of the detached context are shared by models that do not belong to a MiSimModel
+        if (event == null || event.getModel() != model) {
+            return null;
+        }
+        return event;
+    }
+
+    /**
+     * Releases an executed event into the pool. The event must not be scheduled and no other object may still use it.
+     *
+     * @param event event that should be reused
+     * @throws IllegalStateException if the event is still scheduled
+     */
+    public void release(T event) {
+        if (event.isScheduled()) {
+            throw new IllegalStateException(
+                String.format("Event %s cannot be reused, since it is still scheduled.", event.getName()));
+        }
+        if (freeEvents.size() < capacity) {
+            freeEvents.addLast(event);
+        }
+    }
+
+    public int size() {
+        return freeEvents.size();
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+}
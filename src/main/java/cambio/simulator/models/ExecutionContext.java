@@ -0,0 +1,164 @@
+package cambio.simulator.models;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.WeakHashMap;
+
+import cambio.simulator.EventBus;
+import cambio.simulator.export.MiSimReporters;
+import cambio.simulator.export.RunStatistics;
+import cambio.simulator.misc.RNGStorage;
+import cambio.simulator.resources.cpu.CPUUtilizationSampler;
+import desmoj.core.simulator.Model;
+import desmoj.core.simulator.Schedulable;
+
+/**
+ * Execution context of a single simulation run.
+ *
+ * <p>
+ * Event routines and process life cycles of all entities that belong to the same {@link MiSimModel} synchronize on the
+ * context of that model instead of a JVM-wide monitor. This way, independent simulations that run in the same JVM
+ * (e.g., parallel replications or multiple experiments served by the REST API) do not contend with each other.
+ *
+ * <p>
+ * The context also holds all state that is shared between the entities of one run (random number generators, event
+ * bus, reporters, run statistics, the {@link EventPool}s of reusable events and the sampler of the CPU utilization).
+ * Hence, no state carries over from one run to another.
+ *
+ * @see MiSimModel#getExecutionContext()
+ */
+public final class ExecutionContext {
+
+    /**
+     * Contexts of root models that are not a {@link MiSimModel}, e.g. plain DESMO-J models of tests. Held weakly, so a
+     * context is released together with its model.
+     */
+    private static final Map<Model, ExecutionContext> DETACHED_CONTEXTS =
+        Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final RNGStorage rngStorage = new RNGStorage();
+    private final EventBus eventBus = new EventBus();
+    private final MiSimReporters reporters = new MiSimReporters();
+    private final RunStatistics runStatistics = new RunStatistics();
+    private final Map<Class<?>, EventPool<?>> eventPools = new HashMap<>();
+    private CPUUtilizationSampler cpuUtilizationSampler;
+
+    //number of MiSim events and process activations that were executed so far
+    private long executedEventsCount = 0;
+    //next id handed out by nextDenseId()
+    private int nextDenseId = 0;
+
+    /**
+     * Creates a new, empty execution context.
+     */
+    public ExecutionContext() {
+    }
+
+    /**
+     * Retrieves the execution context of the given model. If the model is not a {@link MiSimModel} its parent models
+     * are searched. If no {@link MiSimModel} owns the given model, each root model gets its own detached context, so
+     * independent models never share state.
+     *
+     * @param model the model of an entity
+     * @return the execution context of the {@link MiSimModel} that owns the given model
+     */
+    public static ExecutionContext of(Model model) {
+        Model current = Objects.requireNonNull(model);
+        while (true) {
+            if (current instanceof MiSimModel) {
+                return ((MiSimModel) current).getExecutionContext();
+            }
+            if (current.getParentModel() == null) {
+                return DETACHED_CONTEXTS.computeIfAbsent(current, root -> new ExecutionContext());
+            }
+            current = current.getParentModel();
+        }
+    }
+
+    /**
+     * Counts the execution of one MiSim event routine or process activation. Called by the named event and process
+     * base classes.
+     */
+    public void countExecutedEvent() {
+        executedEventsCount++;
+    }
+
+    /**
+     * Gets the number of MiSim event routines and process activations that were executed so far.
+     *
+     * @return the number of executed events
+     */
+    public long getExecutedEventsCount() {
+        return executedEventsCount;
+    }
+
+    /**
+     * Hands out the next id for a {@link cambio.simulator.misc.DenseIdentifiable} of this run. Ids are assigned
+     * sequentially starting at 0, so they are unique and dense within the run.
+     *
+     * @return a new id
+     */
+    public int nextDenseId() {
+        return nextDenseId++;
+    }
+
+    /**
+     * Gets the pool of reusable events of the given type. The pool is created on first access.
+     *
+     * @param eventType exact class of the pooled events
+     * @param <T>       type of the pooled events
+     * @return the event pool of this run for the given type
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends Schedulable> EventPool<T> getEventPool(Class<T> eventType) {
+        return (EventPool<T>) eventPools.computeIfAbsent(eventType, type -> new EventPool<T>());
+    }
+
+    /**
+     * Gets the sampler that reports the binned utilization of all CPUs of the given model. There is one sampler per
+     * context, which belongs to the root model of the context. It is created and started on first access.
+     *
+     * @param model model of the sampled CPUs, has to belong to this context
+     * @return the CPU utilization sampler of the root model of this context
+     * @throws IllegalArgumentException if the model belongs to another context
+     */
+    public CPUUtilizationSampler getCpuUtilizationSampler(Model model) {
+        if (of(model) != this) {
+            throw new IllegalArgumentException(
+                String.format("Model %s does not belong to this execution context.", model.getName()));
+        }
+        if (cpuUtilizationSampler == null) {
+            cpuUtilizationSampler = new CPUUtilizationSampler(getRootModel(model));
+        }
+        return cpuUtilizationSampler;
+    }
+
+    /**
+     * Gets the model that owns the context of the given model, i.e. the first {@link MiSimModel} or the topmost model.
+     */
+    private static Model getRootModel(Model model) {
+        Model current = model;
+        while (!(current instanceof MiSimModel) && current.getParentModel() != null) {
+            current = current.getParentModel();
+        }
+        return current;
+    }
+
+    public RNGStorage getRngStorage() {
+        return rngStorage;
+    }
+
+    public EventBus getEventBus() {
+        return eventBus;
+    }
+
+    public MiSimReporters getReporters() {
+        return reporters;
+    }
+
+    public RunStatistics getRunStatistics() {
+        return runStatistics;
+    }
+}
@@ -7,6 +7,9 @@ import java.time.LocalDateTime;
 import java.util.Random;
 import java.util.concurrent.TimeUnit;
 
+import cambio.simulator.export.MetricsConfiguration;
+import cambio.simulator.export.ReportFormat;
+import cambio.simulator.export.ReportSink;
 import com.google.gson.annotations.SerializedName;
 
 /**
@@ -19,6 +22,33 @@ public class ExperimentMetaData {
     private int seed = new Random().nextInt();
 
     private String reportType = "default";
+
+    @SerializedName(value = "report_format", alternate = {"reportFormat"})
+    private ReportFormat reportFormat = ReportFormat.CSV;
+
+    @SerializedName(value = "report_raw_response_times", alternate = {"reportRawResponseTimes"})
+    private boolean reportRawResponseTimes = true;
+
+    @SerializedName(value = "report_writer_threads", alternate = {"reportWriterThreads"})
+    private int reportWriterThreads = ReportSink.DEFAULT_WRITER_THREADS;
+
+    @SerializedName(value = "report_max_open_files", alternate = {"reportMaxOpenFiles"})
+    private int reportMaxOpenFiles = ReportSink.DEFAULT_MAX_OPEN_FILES;
+
+    @SerializedName(value = "report_memory_budget", alternate = {"reportMemoryBudget"})
+    private long reportMemoryBudget = ReportSink.DEFAULT_MEMORY_BUDGET_BYTES;
+
+    @SerializedName(value = "metrics", alternate = {"metrics_config", "metricsConfiguration"})
+    private MetricsConfiguration metricsConfiguration = new MetricsConfiguration();
+
+    @SerializedName(value = "event_list", alternate = {"eventList", "future_event_list"})
+    private EventListType eventListType = EventListType.TREE;
+
+    @SerializedName(value = "utilization_probe_interval", alternate = {"utilizationProbeInterval"})
+    private double utilizationProbeInterval = 0.1;
+
+    @SerializedName(value = "utilization_bin_size", alternate = {"utilizationBinSize"})
+    private double utilizationBinSize = 0.5;
     //TODO: report overwrite
 
     @SerializedName(value = "duration", alternate = {"experiment_duration"})
@@ -55,6 +85,121 @@ public class ExperimentMetaData {
         return reportType;
     }
 
+    /**
+     * Gets the format in which the raw report datasets are written. Defaults to {@link ReportFormat#CSV}.
+     */
+    public ReportFormat getReportFormat() {
+        return reportFormat != null ? reportFormat : ReportFormat.CSV;
+    }
+
+    public void setReportFormat(ReportFormat reportFormat) {
+        this.reportFormat = reportFormat;
+    }
+
+    /**
+     * Whether the response time of each user request should be written to the report, in addition to the response time
+     * percentiles per time window. Defaults to {@code true}.
+     */
+    public boolean isReportingRawResponseTimes() {
+        return reportRawResponseTimes;
+    }
+
+    public void setReportRawResponseTimes(boolean reportRawResponseTimes) {
+        this.reportRawResponseTimes = reportRawResponseTimes;
+    }
+
+    /**
+     * Gets the number of threads that write out the report datasets. Defaults to
+     * {@link ReportSink#DEFAULT_WRITER_THREADS}.
+     *
+     * @see ReportSink#getWriterThreads()
+     */
+    public int getReportWriterThreads() {
+        return reportWriterThreads;
+    }
+
+    public void setReportWriterThreads(int reportWriterThreads) {
+        this.reportWriterThreads = reportWriterThreads;
+    }
+
+    /**
+     * Gets the maximum number of report files that are open at the same time. Defaults to
+     * {@link ReportSink#DEFAULT_MAX_OPEN_FILES}.
+     *
+     * @see ReportSink#getMaxOpenFiles()
+     */
+    public int getReportMaxOpenFiles() {
+        return reportMaxOpenFiles;
+    }
+
+    public void setReportMaxOpenFiles(int reportMaxOpenFiles) {
+        this.reportMaxOpenFiles = reportMaxOpenFiles;
+    }
+
+    /**
+     * Gets the amount of memory in bytes that may be occupied by buffered, but not yet written report data. Defaults
+     * to {@link ReportSink#DEFAULT_MEMORY_BUDGET_BYTES}.
+     *
+     * @see ReportSink#getMemoryBudgetBytes()
+     */
+    public long getReportMemoryBudget() {
+        return reportMemoryBudget;
+    }
+
+    public void setReportMemoryBudget(long reportMemoryBudget) {
+        this.reportMemoryBudget = reportMemoryBudget;
+    }
+
+    /**
+     * Gets the configuration that selects, decimates and down-samples the datasets of the raw report. Defaults to an
+     * empty configuration, i.e. all datasets are written completely.
+     */
+    public MetricsConfiguration getMetricsConfiguration() {
+        return metricsConfiguration != null ? metricsConfiguration : new MetricsConfiguration();
+    }
+
+    public void setMetricsConfiguration(MetricsConfiguration metricsConfiguration) {
+        this.metricsConfiguration = metricsConfiguration;
+    }
+
+    /**
+     * Gets the implementation of the future event list that is used by the scheduler. Defaults to
+     * {@link EventListType#TREE}.
+     */
+    public EventListType getEventListType() {
+        return eventListType != null ? eventListType : EventListType.TREE;
+    }
+
+    public void setEventListType(EventListType eventListType) {
+        this.eventListType = eventListType;
+    }
+
+    /**
+     * Gets the interval in which the binned utilization of all CPUs is reported. Defaults to 0.1.
+     *
+     * @see cambio.simulator.resources.cpu.CPUUtilizationSampler
+     */
+    public double getUtilizationProbeInterval() {
+        return utilizationProbeInterval;
+    }
+
+    public void setUtilizationProbeInterval(double utilizationProbeInterval) {
+        this.utilizationProbeInterval = utilizationProbeInterval;
+    }
+
+    /**
+     * Gets the length of the time frame over which the binned utilization of a CPU is averaged. Defaults to 0.5.
+     *
+     * @see cambio.simulator.resources.cpu.CPUUtilizationSampler
+     */
+    public double getUtilizationBinSize() {
+        return utilizationBinSize;
+    }
+
+    public void setUtilizationBinSize(double utilizationBinSize) {
+        this.utilizationBinSize = utilizationBinSize;
+    }
+
     public String getExperimentName() {
         return experimentName;
     }
@@ -71,6 +216,10 @@ public class ExperimentMetaData {
         return seed;
     }
 
+    public void setSeed(int seed) {
+        this.seed = seed;
+    }
+
     public TimeUnit getTimeUnit() {
         return timeUnit;
     }
@@ -68,6 +68,15 @@ public class ExperimentModel {
         return new ExperimentModel(executors, actions);
     }
 
+    /**
+     * Gets all load generators of the experiment.
+     *
+     * @return an unmodifiable view of the load generators of the experiment
+     */
+    public SortedSet<LoadGeneratorDescriptionExecutor> getGenerators() {
+        return Collections.unmodifiableSortedSet(generators);
+    }
+
     /**
      * Collects all self scheduling entities from the experiment, so they can be scheduled during the initial scheduling
      * of the model.
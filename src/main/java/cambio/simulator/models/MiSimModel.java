@@ -1,13 +1,17 @@
 package cambio.simulator.models;
 
 import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
 
 import cambio.simulator.entities.microservice.Microservice;
 import cambio.simulator.events.ISelfScheduled;
 import cambio.simulator.events.SimulationEndEvent;
-import cambio.simulator.export.MiSimReporters;
+import cambio.simulator.parsing.JsonTreeCache;
 import cambio.simulator.parsing.ModelLoader;
 import desmoj.core.simulator.*;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Main model that contains architectural and experiment descriptions/data.
@@ -18,6 +22,7 @@ public class MiSimModel extends Model {
 
     private final transient File architectureModelLocation;
     private final transient File experimentModelOrScenarioLocation;
+    private final transient JsonTreeCache jsonTreeCache;
 
     //exp meta data
     protected final ExperimentMetaData experimentMetaData;
@@ -26,6 +31,10 @@ public class MiSimModel extends Model {
     //exp model
     protected ExperimentModel experimentModel;
 
+    private final transient ExecutionContext executionContext = new ExecutionContext();
+
+    private final transient List<Consumer<MiSimModel>> modelOverrides = new ArrayList<>();
+
     /**
      * Creates a new MiSimModel and loads the metadata from the experiment model.
      *
@@ -36,12 +45,29 @@ public class MiSimModel extends Model {
      * @param experimentModelOrScenarioLocation Location of the experiment description.
      */
     public MiSimModel(File architectureModelLocation, File experimentModelOrScenarioLocation) {
+        this(architectureModelLocation, experimentModelOrScenarioLocation, null);
+    }
+
+    /**
+     * Creates a new MiSimModel and loads the metadata from the experiment model.
+     *
+     * <p>
+     * Use {@link #connectToExperiment(Experiment)} to initialize the model.
+     *
+     * @param architectureModelLocation         Location of the architectural description.
+     * @param experimentModelOrScenarioLocation Location of the experiment description.
+     * @param jsonTreeCache                     Cache of the parsed description files, that is shared with the other
+     *                                          models of the same runner. May be {@code null}.
+     */
+    public MiSimModel(File architectureModelLocation, File experimentModelOrScenarioLocation,
+                      @Nullable JsonTreeCache jsonTreeCache) {
         super(null, "MiSimModel", false, false);
         this.architectureModelLocation = architectureModelLocation;
         this.experimentModelOrScenarioLocation = experimentModelOrScenarioLocation;
+        this.jsonTreeCache = jsonTreeCache;
         long startTime = System.nanoTime();
-        this.experimentMetaData =
-            ModelLoader.loadExperimentMetaData(experimentModelOrScenarioLocation, architectureModelLocation);
+        this.experimentMetaData = ModelLoader.loadExperimentMetaData(experimentModelOrScenarioLocation,
+            architectureModelLocation, jsonTreeCache);
         this.experimentMetaData.markStartOfSetup(startTime);
     }
 
@@ -57,7 +83,8 @@ public class MiSimModel extends Model {
     public void init() {
         this.architectureModel = ModelLoader.loadArchitectureModel(this);
         this.experimentModel = ModelLoader.loadExperimentModel(this);
-        MiSimReporters.initializeStaticReporters(this);
+        modelOverrides.forEach(override -> override.accept(this));
+        executionContext.getReporters().initializeSharedReporters(this);
     }
 
     @Override
@@ -75,6 +102,50 @@ public class MiSimModel extends Model {
     }
 
 
+    /**
+     * Adds an override that is applied to this model directly after the architecture and experiment models were
+     * loaded, but before any entity is started. Can be used to change parts of the parsed models, e.g. the instance
+     * count of a service, without changing the description files.
+     *
+     * <p>
+     * Has to be called before the model is connected to an experiment.
+     *
+     * @param override override that should be applied to this model
+     * @see cambio.simulator.sweep.SweepPoint
+     */
+    public void addModelOverride(Consumer<MiSimModel> override) {
+        modelOverrides.add(override);
+    }
+
+    /**
+     * Gets the execution context of this model. All event routines and process life cycles of this model are executed
+     * while holding the monitor of this context.
+     *
+     * @return the execution context of this model
+     */
+    public ExecutionContext getExecutionContext() {
+        return executionContext;
+    }
+
+    /**
+     * Gets the cache of the parsed description files, that this model shares with the other models of its runner.
+     *
+     * @return the cache of the parsed description files or {@code null} if the files are parsed for this model alone
+     */
+    @Nullable
+    public JsonTreeCache getJsonTreeCache() {
+        return jsonTreeCache;
+    }
+
+    /**
+     * Gets the number of MiSim event routines and process activations that were executed so far.
+     *
+     * @return the number of executed events of this model
+     */
+    public long getExecutedEventsCount() {
+        return executionContext.getExecutedEventsCount();
+    }
+
     public ArchitectureModel getArchitectureModel() {
         return architectureModel;
     }
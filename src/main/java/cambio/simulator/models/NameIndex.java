@@ -0,0 +1,81 @@
+package cambio.simulator.models;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import cambio.simulator.entities.microservice.Microservice;
+import cambio.simulator.entities.microservice.Operation;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Immutable index of the names of the microservices and operations of an {@link ArchitectureModel}.
+ *
+ * <p>
+ * If several entities share a name, the index resolves the name to the first of them, i.e. to the service with the
+ * lowest identification number and, within a service, to the operation that was declared first. This matches the
+ * order in which names were resolved by scanning the architecture.
+ *
+ * @see ArchitectureModel#getNameIndex()
+ * @see cambio.simulator.misc.NameResolver
+ */
+public final class NameIndex {
+
+    private final Map<String, Microservice> microservicesByName;
+    private final Map<String, Operation> operationsByFullyQualifiedName;
+    private final Map<String, Operation> operationsByPlainName;
+
+    /**
+     * Creates an index over the given microservices and their operations.
+     *
+     * @param microservices microservices that should be indexed, in the order in which duplicate names are resolved
+     */
+    public NameIndex(@NotNull Collection<Microservice> microservices) {
+        Map<String, Microservice> services = new HashMap<>();
+        Map<String, Operation> fullyQualified = new HashMap<>();
+        Map<String, Operation> plain = new HashMap<>();
+        for (Microservice microservice : microservices) {
+            services.putIfAbsent(microservice.getPlainName(), microservice);
+            for (Operation operation : microservice.getOperations()) {
+                fullyQualified.putIfAbsent(microservice.getPlainName() + "." + operation.getPlainName(), operation);
+                plain.putIfAbsent(operation.getPlainName(), operation);
+            }
+        }
+        this.microservicesByName = Collections.unmodifiableMap(services);
+        this.operationsByFullyQualifiedName = Collections.unmodifiableMap(fullyQualified);
+        this.operationsByPlainName = Collections.unmodifiableMap(plain);
+    }
+
+    /**
+     * Finds a microservice by its plain name.
+     *
+     * @param name plain name of the microservice
+     * @return the microservice with the given name or {@code null} if there is none
+     */
+    public @Nullable Microservice getMicroservice(String name) {
+        return microservicesByName.get(name);
+    }
+
+    /**
+     * Finds an operation by its fully qualified name.
+     *
+     * @param serviceName   plain name of the microservice that owns the operation
+     * @param operationName plain name of the operation
+     * @return the operation with the given name or {@code null} if there is none
+     */
+    public @Nullable Operation getOperation(String serviceName, String operationName) {
+        return operationsByFullyQualifiedName.get(serviceName + "." + operationName);
+    }
+
+    /**
+     * Finds an operation by its plain name, regardless of the microservice that owns it.
+     *
+     * @param operationName plain name of the operation
+     * @return the first operation with the given name or {@code null} if there is none
+     */
+    public @Nullable Operation getOperation(String operationName) {
+        return operationsByPlainName.get(operationName);
+    }
+}
@@ -0,0 +1,84 @@
+package cambio.simulator.parsing;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParser;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.stream.JsonReader;
+
+/**
+ * Cache for the JSON-trees of description files, that is shared by all models created by one runner (e.g. all
+ * replications or all points of a sweep).
+ *
+ * <p>
+ * Each file is parsed only once per version. A cached tree is only reused as long as the modification time and size of
+ * its file are unchanged. Since the adapters add information to the trees they parse, every caller receives its own
+ * deep copy of the cached tree. The cache is bound to the lifetime of its owner and is not shared between runners.
+ *
+ * @see ModelLoader
+ */
+public final class JsonTreeCache {
+
+    private final Map<Path, CachedJsonTree> trees = new ConcurrentHashMap<>();
+
+    /**
+     * Gets a copy of the JSON-tree of the given file. Parses the file, if it was not parsed before or changed since.
+     *
+     * @param sourceFile The source JSON-file.
+     * @return a copy of the JSON-tree of the file, that may be modified by the caller
+     * @throws IOException         if the file cannot be read
+     * @throws JsonSyntaxException if the file does not contain valid JSON
+     */
+    public JsonElement load(File sourceFile) throws IOException {
+        Path path = sourceFile.toPath().toAbsolutePath().normalize();
+        long lastModified = Files.getLastModifiedTime(path).toMillis();
+        long size = Files.size(path);
+
+        CachedJsonTree cached = trees.get(path);
+        if (cached == null || cached.lastModified != lastModified || cached.size != size) {
+            cached = new CachedJsonTree(parse(sourceFile), lastModified, size);
+            trees.put(path, cached);
+        }
+        return cached.tree.deepCopy();
+    }
+
+    /**
+     * Parses the JSON-tree of the given file without caching it.
+     *
+     * @param sourceFile The source JSON-file.
+     * @return the JSON-tree of the file
+     * @throws IOException         if the file cannot be read
+     * @throws JsonSyntaxException if the file does not contain valid JSON
+     */
+    static JsonElement parse(File sourceFile) throws IOException {
+        try (JsonReader reader = new JsonReader(Files.newBufferedReader(sourceFile.toPath(), StandardCharsets.UTF_8))) {
+            return JsonParser.parseReader(reader);
+        }
+    }
+
+    /**
+     * Gets the number of cached trees.
+     */
+    public int size() {
+        return trees.size();
+    }
+
+    private static final class CachedJsonTree {
+        private final JsonElement tree;
+        private final long lastModified;
+        private final long size;
+
+        private CachedJsonTree(JsonElement tree, long lastModified, long size) {
+            this.tree = tree;
+            this.lastModified = lastModified;
+            this.size = size;
+        }
+    }
+}
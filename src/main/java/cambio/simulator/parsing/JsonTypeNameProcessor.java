@@ -0,0 +1,85 @@
+package cambio.simulator.parsing;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+/**
+ * Annotation processor that writes all types annotated with {@link JsonTypeName} into an index, so the
+ * {@link JsonTypeNameResolver} does not have to scan the classpath at runtime.
+ *
+ * <p>
+ * The index is written to {@value JsonTypeNameRegistry#INDEX_LOCATION} in the class output of the compilation. Each
+ * line contains the binary name of an annotated type, followed by its type name and its alternative names, separated
+ * by tabs.
+ *
+ * <p>
+ * The processor is configured for the MiSim build in the {@code pom.xml}. Plugins that ship their own pattern or
+ * strategy implementations can enable it with {@code -processor cambio.simulator.parsing.JsonTypeNameProcessor}.
+ * Types that are not indexed are still found by scanning the classpath.
+ *
+ * @see JsonTypeNameRegistry
+ */
+@SupportedAnnotationTypes("cambio.simulator.parsing.JsonTypeName")
+public class JsonTypeNameProcessor extends AbstractProcessor {
+
+    // sorted by binary name, so the index does not depend on the order in which the compiler reports the types
+    private final Map<String, JsonTypeName> annotatedTypes = new TreeMap<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (Element element : roundEnv.getElementsAnnotatedWith(JsonTypeName.class)) {
+            if (element instanceof TypeElement) {
+                TypeElement type = (TypeElement) element;
+                annotatedTypes.put(processingEnv.getElementUtils().getBinaryName(type).toString(),
+                    type.getAnnotation(JsonTypeName.class));
+            }
+        }
+        if (roundEnv.processingOver()) {
+            writeIndex();
+        }
+        return false;
+    }
+
+    private void writeIndex() {
+        if (annotatedTypes.isEmpty()) {
+            return;
+        }
+        try {
+            FileObject index = processingEnv.getFiler()
+                .createResource(StandardLocation.CLASS_OUTPUT, "", JsonTypeNameRegistry.INDEX_LOCATION);
+            try (Writer writer = index.openWriter(); PrintWriter out = new PrintWriter(writer)) {
+                for (Map.Entry<String, JsonTypeName> entry : annotatedTypes.entrySet()) {
+                    out.print(entry.getKey());
+                    out.print('\t');
+                    out.print(entry.getValue().value());
+                    for (String alternativeName : entry.getValue().alternativeNames()) {
+                        out.print('\t');
+                        out.print(alternativeName);
+                    }
+                    out.println();
+                }
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+                "Could not write the JsonTypeName index: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package cambio.simulator.parsing;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * Runtime view on the {@link JsonTypeName} indices that the {@link JsonTypeNameProcessor} generated at compile time.
+ *
+ * <p>
+ * All indices that are visible to the class loader of MiSim are read once, e.g. the index of MiSim itself and the
+ * indices of plugins that were compiled with the processor. Indexed types are only loaded (but not initialized) when
+ * the subtypes of a base class are requested.
+ */
+final class JsonTypeNameRegistry {
+
+    /**
+     * Location of the index inside a jar or class output directory.
+     */
+    static final String INDEX_LOCATION = "META-INF/misim/json-type-names";
+
+    private static final JsonTypeNameRegistry INSTANCE =
+        new JsonTypeNameRegistry(JsonTypeNameRegistry.class.getClassLoader());
+
+    private final ClassLoader classLoader;
+    private final Map<String, String[]> typeNamesByClassName = new LinkedHashMap<>();
+
+    JsonTypeNameRegistry(ClassLoader classLoader) {
+        this.classLoader = classLoader;
+        try {
+            Enumeration<URL> indices = classLoader.getResources(INDEX_LOCATION);
+            while (indices.hasMoreElements()) {
+                read(indices.nextElement());
+            }
+        } catch (IOException e) {
+            System.out.printf("Warning: Could not read the JsonTypeName indices (%s). "
+                + "Falling back to classpath scanning.%n", e.getMessage());
+        }
+    }
+
+    static JsonTypeNameRegistry getInstance() {
+        return INSTANCE;
+    }
+
+    private void read(URL index) throws IOException {
+        try (BufferedReader reader =
+                 new BufferedReader(new InputStreamReader(index.openStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String[] columns = line.split("\t");
+                if (columns.length < 2) {
+                    continue;
+                }
+                typeNamesByClassName.putIfAbsent(columns[0], Arrays.copyOfRange(columns, 1, columns.length));
+            }
+        }
+    }
+
+    /**
+     * Collects the indexed subtypes of the given base class and maps them by their {@link JsonTypeName}s.
+     *
+     * @param baseClass super type of the requested types
+     * @param <U>       super type of the requested types
+     * @return a mutable map from type names to the indexed subtypes of the base class
+     */
+    <U> Map<String, Class<? extends U>> getSubtypesByTypeName(Class<U> baseClass) {
+        Map<String, Class<? extends U>> subtypes = new HashMap<>();
+        for (Map.Entry<String, String[]> entry : typeNamesByClassName.entrySet()) {
+            Class<?> type;
+            try {
+                type = Class.forName(entry.getKey(), false, classLoader);
+            } catch (ClassNotFoundException | LinkageError e) {
+                // stale index entry, e.g. a type that was removed by shading
+                continue;
+            }
+            if (type == baseClass || !baseClass.isAssignableFrom(type)) {
+                continue;
+            }
+            for (String typeName : entry.getValue()) {
+                Class<? extends U> other = subtypes.putIfAbsent(typeName, type.asSubclass(baseClass));
+                if (other != null && other != type) {
+                    System.out.printf(
+                        "Warning: Types %s and %s do have the same JsonTypeName. Ignoring the second entry (%s).%n",
+                        other.getTypeName(), type.getTypeName(), type.getSimpleName());
+                }
+            }
+        }
+        return subtypes;
+    }
+}
@@ -1,6 +1,7 @@
 package cambio.simulator.parsing;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 import org.reflections.Reflections;
@@ -9,19 +10,26 @@ import org.reflections.util.ClasspathHelper;
 import org.reflections.util.ConfigurationBuilder;
 
 /**
- * Utility class for resloving {@link JsonTypeName}s into actual types using Reflection.
+ * Utility class for resloving {@link JsonTypeName}s into actual types.
+ *
+ * <p>
+ * Names are first looked up in the index that the {@link JsonTypeNameProcessor} created at compile time (see {@link
+ * JsonTypeNameRegistry}). Only if a name is not indexed, e.g. because it belongs to a plugin that was compiled without
+ * the processor, the subtypes of the base class are searched on the classpath using Reflection.
  */
 public class JsonTypeNameResolver {
 
-    private static final HashMap<Class<?>, Map<String, Class<?>>> resolvedNamesCache = new HashMap<>();
+    // the caches only depend on the classpath, hence they are safely shared between (concurrent) simulation runs
+    private static final Map<Class<?>, Map<String, Class<?>>> indexedNamesCache = new ConcurrentHashMap<>();
+    private static final Map<Class<?>, Map<String, Class<?>>> scannedNamesCache = new ConcurrentHashMap<>();
 
     /**
      * Resolves the given {@code jsonTypeName} into an actual type that is marked with {@code @JsonTypeName
      * (jsonTypeName)}.
      *
      * <p>
-     * Depending on the search space, this method can be quite slow. However, results for each supertype will be
-     * cached.
+     * Names that are not part of the compile time index require a scan of the classpath, which can be quite slow.
+     * However, results for each supertype will be cached.
      *
      * @param jsonTypeName name that should be resolved into a type
      * @param baseClass    a class instance of {@code <U>}
@@ -31,49 +39,57 @@ public class JsonTypeNameResolver {
      */
     public static <U> Class<? extends U> resolveFromJsonTypeName(final String jsonTypeName,
                                                                  final Class<U> baseClass) {
-        Map<String, Class<?>> resolvedNames =
-            JsonTypeNameResolver.resolvedNamesCache.computeIfAbsent(baseClass, aClass -> {
-                @SuppressWarnings("unchecked")
-                Class<U> actualBaseClass = (Class<U>) aClass;
+        Class<?> resolvedType = indexedNamesCache
+            .computeIfAbsent(baseClass, JsonTypeNameResolver::collectIndexedSubtypes)
+            .get(jsonTypeName);
+        if (resolvedType == null) {
+            resolvedType = scannedNamesCache
+                .computeIfAbsent(baseClass, aClass -> scanSubtypes(aClass))
+                .get(jsonTypeName);
+        }
 
-                Reflections reflections = new Reflections(
-                    new ConfigurationBuilder()
-                        .setUrls(ClasspathHelper.forPackage(
-                            actualBaseClass.getPackage().getName()))
-                        .setScanners(Scanners.SubTypes)
-                );
+        //noinspection unchecked
+        return (Class<? extends U>) resolvedType;
+    }
 
-                Set<Class<? extends U>> subtypesOfBaseClass = reflections.getSubTypesOf(actualBaseClass);
+    private static Map<String, Class<?>> collectIndexedSubtypes(Class<?> baseClass) {
+        return Collections.unmodifiableMap(JsonTypeNameRegistry.getInstance().getSubtypesByTypeName(baseClass));
+    }
 
-                Map<String, Class<?>> resolvedNamesInner = new HashMap<>();
-                for (Class<? extends U> subtype : subtypesOfBaseClass) {
-                    if (!subtype.isAnnotationPresent(JsonTypeName.class)) {
-                        continue;
-                    }
+    private static <U> Map<String, Class<?>> scanSubtypes(Class<U> baseClass) {
+        Reflections reflections = new Reflections(
+            new ConfigurationBuilder()
+                .setUrls(ClasspathHelper.forPackage(
+                    baseClass.getPackage().getName()))
+                .setScanners(Scanners.SubTypes)
+        );
 
-                    JsonTypeName typeNameValues1 = subtype.getAnnotation(JsonTypeName.class);
-                    Set<String> potentialNames =
-                        Arrays.stream(typeNameValues1.alternativeNames()).collect(Collectors.toSet());
-                    potentialNames.add(typeNameValues1.value());
+        Set<Class<? extends U>> subtypesOfBaseClass = reflections.getSubTypesOf(baseClass);
 
-                    for (String potentialName : potentialNames) {
-                        if (resolvedNamesInner.containsKey(potentialName)) {
-                            Class<?> other = resolvedNamesInner.get(potentialName);
-                            System.out.printf(
-                                "Warning: Types %s and %s do have the same JsonTypeName. "
-                                    + "Ignoring the second entry (%s).%n",
-                                other.getTypeName(), subtype.getTypeName(), subtype.getSimpleName());
+        Map<String, Class<?>> resolvedNamesInner = new HashMap<>();
+        for (Class<? extends U> subtype : subtypesOfBaseClass) {
+            if (!subtype.isAnnotationPresent(JsonTypeName.class)) {
+                continue;
+            }
 
-                        } else {
-                            resolvedNamesInner.put(potentialName, subtype);
-                        }
-                    }
-                }
-                return resolvedNamesInner;
-            });
+            JsonTypeName typeNameValues1 = subtype.getAnnotation(JsonTypeName.class);
+            Set<String> potentialNames =
+                Arrays.stream(typeNameValues1.alternativeNames()).collect(Collectors.toSet());
+            potentialNames.add(typeNameValues1.value());
 
+            for (String potentialName : potentialNames) {
+                if (resolvedNamesInner.containsKey(potentialName)) {
+                    Class<?> other = resolvedNamesInner.get(potentialName);
+                    System.out.printf(
+                        "Warning: Types %s and %s do have the same JsonTypeName. "
+                            + "Ignoring the second entry (%s).%n",
+                        other.getTypeName(), subtype.getTypeName(), subtype.getSimpleName());
 
-        //noinspection unchecked
-        return (Class<? extends U>) resolvedNames.get(jsonTypeName);
+                } else {
+                    resolvedNamesInner.put(potentialName, subtype);
+                }
+            }
+        }
+        return Collections.unmodifiableMap(resolvedNamesInner);
     }
-}
\ No newline at end of file
+}
@@ -1,6 +1,7 @@
 package cambio.simulator.parsing;
 
 import java.io.*;
+import java.nio.file.NoSuchFileException;
 import java.util.function.Function;
 
 import cambio.simulator.models.*;
@@ -9,12 +10,17 @@ import cambio.simulator.parsing.adapter.experiment.ExperimentMetaDataAdapter;
 import cambio.simulator.parsing.adapter.experiment.ExperimentModelAdapter;
 import cambio.simulator.parsing.adapter.scenario.ScenarioDescriptionAdapter;
 import com.google.gson.*;
-import com.google.gson.stream.JsonReader;
 import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Utility class for loading the MiSim architecture and experiment descriptions from JSON-files.
  *
+ * <p>
+ * Models that are created by the same runner (e.g. replications or sweep points) can share a {@link JsonTreeCache}, so
+ * each description file is only parsed once. The entities themselves are still created per model, since they are
+ * bound to their {@link MiSimModel}.
+ *
  * @author Lion Wagner
  */
 public final class ModelLoader {
@@ -31,9 +37,26 @@ public final class ModelLoader {
      */
     public static ExperimentMetaData loadExperimentMetaData(File experimentOrScenarioFileLocation,
                                                             File architectureModelLocation) {
+        return loadExperimentMetaData(experimentOrScenarioFileLocation, architectureModelLocation, null);
+    }
+
+    /**
+     * Parses the given information into a new {@link ExperimentMetaData} object.
+     *
+     * @param experimentOrScenarioFileLocation location of the experiment file, that should be used
+     * @param architectureModelLocation        location of the architecture file, that should be used for the
+     *                                         experiment
+     * @param jsonTreeCache                    cache of the parsed description files, may be {@code null}
+     * @return a new instance of an {@link ExperimentMetaData} object that has been parsed using an {@link
+     *     ExperimentMetaDataAdapter}.
+     */
+    public static ExperimentMetaData loadExperimentMetaData(File experimentOrScenarioFileLocation,
+                                                            File architectureModelLocation,
+                                                            @Nullable JsonTreeCache jsonTreeCache) {
         ExperimentMetaData experimentMetaData = loadModel(experimentOrScenarioFileLocation,
             ExperimentMetaData.class,
-            new ExperimentMetaDataAdapter(experimentOrScenarioFileLocation, architectureModelLocation));
+            new ExperimentMetaDataAdapter(experimentOrScenarioFileLocation, architectureModelLocation),
+            jsonTreeCache);
 
         if (experimentMetaData.getDuration() < 0 || Double.isInfinite(experimentMetaData.getDuration())) {
             System.out.println(
@@ -56,7 +79,8 @@ public final class ModelLoader {
         return loadModel(
             baseModel.getExperimentMetaData().getArchitectureDescriptionLocation(),
             ArchitectureModel.class,
-            new ArchitectureModelAdapter(baseModel)
+            new ArchitectureModelAdapter(baseModel),
+            baseModel.getJsonTreeCache()
         );
     }
 
@@ -71,7 +95,7 @@ public final class ModelLoader {
     public static ExperimentModel loadExperimentModel(MiSimModel baseModel) {
         File modelLocation = baseModel.getExperimentMetaData().getExperimentDescriptionLocation();
         Function<TypeAdapter<ExperimentModel>, ExperimentModel> loadFunction = adapter ->
-            loadModel(modelLocation, ExperimentModel.class, adapter);
+            loadModel(modelLocation, ExperimentModel.class, adapter, baseModel.getJsonTreeCache());
 
         try {
             //try parsing from scenario description
@@ -97,19 +121,40 @@ public final class ModelLoader {
      *                          information.
      */
     public static <T> T loadModel(File sourceFile, Class<T> targetType, TypeAdapter<T> adapter) {
+        return loadModel(sourceFile, targetType, adapter, null);
+    }
+
+    /**
+     * Utility method for loading a model from a JSON-file.
+     *
+     * @param sourceFile    The source JSON-file.
+     * @param targetType    Class instance of the target type of the model.
+     * @param adapter       The {@link TypeAdapter} that should be used for parsing the model.
+     * @param jsonTreeCache Cache of the parsed description files. If {@code null}, the file is parsed anew.
+     * @param <T>           The target type of the model.
+     * @return A new instance of the target type of the model.
+     * @throws ParsingException If the parsing of the model failed. See the error message and cause for more
+     *                          information.
+     */
+    public static <T> T loadModel(File sourceFile, Class<T> targetType, TypeAdapter<T> adapter,
+                                  @Nullable JsonTreeCache jsonTreeCache) {
         checkFileExistence(sourceFile);
         try {
             Gson gson = GsonHelper
                 .getGsonBuilder()
                 .registerTypeAdapter(targetType, adapter)
                 .create();
-            JsonReader reader = new JsonReader(new FileReader(sourceFile));
-            return gson.fromJson(reader, targetType);
+            JsonElement tree = jsonTreeCache != null ? jsonTreeCache.load(sourceFile) : JsonTreeCache.parse(sourceFile);
+            return gson.fromJson(tree, targetType);
 
-        } catch (FileNotFoundException e) {
+        } catch (FileNotFoundException | NoSuchFileException e) {
             throw new ParsingException(
                 String.format("Cannot start the simulation. Model file %s was not found!",
                     sourceFile.getAbsolutePath()), e);
+        } catch (IOException | JsonIOException e) {
+            throw new ParsingException(
+                String.format("Cannot start the simulation. Model file %s could not be read!",
+                    sourceFile.getAbsolutePath()), e);
         } catch (JsonSyntaxException e) {
             throw new ParsingException(
                 String.format("Cannot start the simulation. Model file %s contains Json Syntax errors!",
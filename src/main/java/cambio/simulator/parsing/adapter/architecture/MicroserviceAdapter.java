@@ -11,8 +11,10 @@ import cambio.simulator.entities.networking.DependencyDescription;
 import cambio.simulator.entities.patterns.*;
 import cambio.simulator.models.MiSimModel;
 import cambio.simulator.parsing.GsonHelper;
+import cambio.simulator.parsing.ParsingException;
 import cambio.simulator.parsing.adapter.MiSimModelReferencingTypeAdapter;
 import cambio.simulator.parsing.adapter.NormalDistributionAdapter;
+import cambio.simulator.resources.cpu.scheduling.SchedulerConfiguration;
 import com.google.gson.*;
 import com.google.gson.stream.JsonReader;
 import com.google.gson.stream.JsonWriter;
@@ -52,9 +54,18 @@ public class MicroserviceAdapter extends MiSimModelReferencingTypeAdapter<Micros
             .registerTypeAdapter(Operation.class, new OperationAdapter(model, microserviceName, dependencies))
             .registerTypeAdapter(InstanceOwnedPatternConfiguration.class, new InstanceOwnedPatternConfigAdapter())
             .registerTypeAdapter(ServiceOwnedPattern.class, new ServiceOwnedPatternAdapter(model, microserviceName))
+            .registerTypeAdapter(SchedulerConfiguration.class, new SchedulerConfigurationAdapter())
             .create();
 
         Microservice microservice = gson.fromJson(root, Microservice.class);
+        if (microservice.getThreadPoolSize() <= 0) {
+            throw new ParsingException(String.format("Thread count of service '%s' has to be positive.",
+                microserviceName));
+        }
+        if (microservice.getCpuCapacity() <= 0) {
+            throw new ParsingException(String.format("CPU capacity of service '%s' has to be positive.",
+                microserviceName));
+        }
 
         //inject owning microservice into ownerMs field of operations
         try {
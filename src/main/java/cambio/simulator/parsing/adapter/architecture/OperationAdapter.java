@@ -69,9 +69,26 @@ public class OperationAdapter extends MiSimModelReferencingTypeAdapter<Operation
         } catch (ReflectiveOperationException e) {
             throw new ParsingException("Failed to set parent operations for contained dependencies.", e);
         }
+        validateTimeouts(operation, operationName);
         return operation;
     }
 
+    private void validateTimeouts(final Operation operation, final String operationName) {
+        if (operation.hasCustomTimeout() && !(operation.getTimeout() > 0)) {
+            throw new ParsingException(
+                String.format("The timeout of operation %s has to be positive.", operationName));
+        }
+        for (final DependencyDescription dependency : operation.getDependencyDescriptions()) {
+            for (final SimpleDependencyDescription leafDependency : dependency.getLeafDescendants()) {
+                if (leafDependency.hasCustomTimeout() && !(leafDependency.getTimeout() > 0)) {
+                    throw new ParsingException(
+                        String.format("The timeouts of the dependencies of operation %s have to be positive.",
+                            operationName));
+                }
+            }
+        }
+    }
+
     private String extractOperationName(final JsonElement nameElement) {
         String operationName = nameElement.getAsString().trim();
         if (NameResolver.operationNameIsComposed(operationName)) {
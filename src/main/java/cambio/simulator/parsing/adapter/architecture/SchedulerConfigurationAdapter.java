@@ -0,0 +1,87 @@
+package cambio.simulator.parsing.adapter.architecture;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Locale;
+
+import cambio.simulator.parsing.ParsingException;
+import cambio.simulator.resources.cpu.scheduling.SchedulerConfiguration;
+import cambio.simulator.resources.cpu.scheduling.SchedulerType;
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+/**
+ * Adapter for parsing the {@code scheduler} of a microservice into a {@link SchedulerConfiguration}.
+ *
+ * <p>
+ * The scheduler can either be given by its name, e.g. {@code "scheduler": "rr"}, or as an object with a {@code type}
+ * and optional parameters, e.g. {@code "scheduler": {"type": "mlfq", "levels": 4, "quantum": 10}}.
+ */
+public class SchedulerConfigurationAdapter extends TypeAdapter<SchedulerConfiguration> {
+
+    private static final Gson GSON = new Gson();
+
+    @Override
+    public void write(JsonWriter out, SchedulerConfiguration value) throws IOException {
+
+    }
+
+    @Override
+    public SchedulerConfiguration read(JsonReader in) throws IOException {
+        JsonElement root = JsonParser.parseReader(in);
+        if (root.isJsonNull()) {
+            return null;
+        }
+        if (root.isJsonPrimitive()) {
+            return new SchedulerConfiguration(parseType(root));
+        }
+
+        JsonObject config = root.getAsJsonObject();
+        if (!config.has("type")) {
+            throw new ParsingException("Scheduler is missing a 'type' argument.");
+        }
+        SchedulerType type = parseType(config.get("type"));
+        SchedulerConfiguration defaults = new SchedulerConfiguration(type);
+        try {
+            return new SchedulerConfiguration(type,
+                getInt(config, "quantum", defaults.getQuantum()),
+                getInt(config, "levels", defaults.getLevels()));
+        } catch (IllegalArgumentException e) {
+            throw new ParsingException(String.format("Invalid scheduler configuration %s: %s", config,
+                e.getMessage()), e);
+        }
+    }
+
+    private static SchedulerType parseType(JsonElement typeName) {
+        SchedulerType type = GSON.fromJson(typeName, SchedulerType.class);
+        if (type == null) {
+            throw new ParsingException(String.format("Unknown scheduler %s. Expected one of %s.", typeName,
+                Arrays.toString(SchedulerType.values()).toLowerCase(Locale.ROOT)));
+        }
+        return type;
+    }
+
+    private static int getInt(JsonObject config, String key, int defaultValue) {
+        JsonElement value = config.get(key);
+        if (value == null || value.isJsonNull()) {
+            return defaultValue;
+        }
+        double number;
+        try {
+            number = value.getAsDouble();
+        } catch (NumberFormatException | UnsupportedOperationException | IllegalStateException e) {
+            throw new ParsingException(String.format("Scheduler argument '%s' has to be an integer, but got %s.",
+                key, value), e);
+        }
+        if (number != Math.rint(number) || number < Integer.MIN_VALUE || number > Integer.MAX_VALUE) {
+            throw new ParsingException(String.format("Scheduler argument '%s' has to be an integer, but got %s.",
+                key, value));
+        }
+        return (int) number;
+    }
+}
@@ -5,6 +5,7 @@ import java.io.IOException;
 
 import cambio.simulator.models.ExperimentMetaData;
 import cambio.simulator.parsing.GsonHelper;
+import cambio.simulator.parsing.ParsingException;
 import com.google.gson.*;
 import com.google.gson.stream.*;
 
@@ -53,10 +54,22 @@ public class ExperimentMetaDataAdapter extends TypeAdapter<ExperimentMetaData> {
             if (!root.has("arch_file_location")) {
                 root.add("arch_file_location", new JsonPrimitive(gson.toJson(architectureModelLocation)));
             }
-            return gson.fromJson(root, ExperimentMetaData.class);
+            ExperimentMetaData metaData = gson.fromJson(root, ExperimentMetaData.class);
+            requirePositive("utilization_probe_interval", metaData.getUtilizationProbeInterval());
+            requirePositive("utilization_bin_size", metaData.getUtilizationBinSize());
+            requirePositive("report_writer_threads", metaData.getReportWriterThreads());
+            requirePositive("report_max_open_files", metaData.getReportMaxOpenFiles());
+            requirePositive("report_memory_budget", metaData.getReportMemoryBudget());
+            return metaData;
         } else {
             in.skipValue();
             return null;
         }
     }
+
+    private static void requirePositive(String key, double value) {
+        if (!(value > 0 && value < Double.POSITIVE_INFINITY)) {
+            throw new ParsingException(String.format("'%s' has to be a positive number, but was %s.", key, value));
+        }
+    }
 }
@@ -1,131 +1,75 @@
 package cambio.simulator.resources.cpu;
 
-import java.util.ArrayDeque;
-
-import cambio.simulator.entities.NamedSimProcess;
-import cambio.simulator.events.ISelfScheduled;
-import cambio.simulator.export.MultiDataPointReporter;
-import cambio.simulator.misc.Priority;
-import co.paralleluniverse.fibers.SuspendExecution;
+import cambio.simulator.export.PrimitiveDataPointReporter;
 import desmoj.core.simulator.TimeInstant;
-import desmoj.core.simulator.TimeSpan;
 
 /**
- * Represents a CPU utilization tracker that periodically reports the CPU utilization in the recent time based on a bin
- * size. Bins can overlap. The {@link BinnedCPUUtilizationTracker#probeInterval} parameter may be used to adjust the
- * update rate. and the {@link BinnedCPUUtilizationTracker#BIN_SIZE} parameter may be used to adjust the bin size/time
- * taken into account for each measurement.
+ * Tracks the utilization of a CPU over time and reports its average over the most recent bin whenever the
+ * {@link CPUUtilizationSampler} of the model takes a sample. Bins can overlap.
+ *
+ * <p>
+ * Instead of a history of all utilization changes, the tracker integrates the utilization of its CPU, i.e. it keeps
+ * the work that was done since its creation. Updates are only required when the utilization changes. The work done at
+ * the last samples is kept in a ring buffer, so the average utilization of a bin is the difference between the current
+ * work and the work at the start of the bin, divided by the bin size.
  *
  * @author Lion Wagner
+ * @see CPUUtilizationSampler
  */
-public final class BinnedCPUUtilizationTracker extends NamedSimProcess implements ISelfScheduled {
-
-    public static TimeSpan probeInterval = new TimeSpan(0.1);
-    public static TimeSpan BIN_SIZE = new TimeSpan(0.5);
+final class BinnedCPUUtilizationTracker {
 
-    private final ArrayDeque<HistoryEntry> utilizationHistory = new ArrayDeque<>(1000);
+    private final PrimitiveDataPointReporter reporter;
+    private final double binSize;
+    // work done at the last samples, the oldest one is the work done at the start of the next bin
+    private final double[] sampledWork;
+    private int oldestSample = 0;
 
-    private final MultiDataPointReporter reporter;
+    private double utilization = 0;
+    private double workUntilLastChange = 0;
+    private double lastChange;
 
     /**
-     * Creates a new CPU Utilization Tracker that reports the utilization of the owning CPU periodically. The probe
-     * interval can be configured by changing the static field {@link BinnedCPUUtilizationTracker#probeInterval} and
-     * defaults to 0.1 units. The backwards bin can be configured by changing the static field
-     * {@link BinnedCPUUtilizationTracker#BIN_SIZE} and defaults to 0.5 units.
+     * Creates a new CPU Utilization Tracker that reports the binned utilization of the owning CPU on each sample of the
+     * {@link CPUUtilizationSampler} of its model.
      *
      * @param owner CPU that supplies this tracker with utilization information
-     * @see #probeInterval
-     * @see #BIN_SIZE
      */
     BinnedCPUUtilizationTracker(CPU owner) {
-        super(owner.getModel(), String.format("Utilization Tracker of %s", owner.getName()), true, true);
-        setSchedulingPriority(Priority.Very_LOW);
-        reporter = new MultiDataPointReporter(String.format("C[%s]_", owner.getPlainName()), owner.getModel());
-
-        utilizationHistory.add(new HistoryEntry(0.0, 0L, Long.MAX_VALUE));
-
+        reporter = new PrimitiveDataPointReporter(String.format("C[%s]_", owner.getPlainName()), owner.getModel());
+        lastChange = owner.presentTime().getTimeAsDouble();
 
-        doInitialSelfSchedule();
-
-    }
-
-    @Override
-    public void doInitialSelfSchedule() {
-        this.activate(presentTime());
-    }
-
-    @Override
-    public void lifeCycle() throws SuspendExecution {
-        synchronized (NamedSimProcess.class) {
-            super.lifeCycle();
-            reporter.addDatapoint("UtilizationBinned", presentTime(), getCurrentBinnedUtilization());
-        }
-        this.hold(probeInterval);
+        CPUUtilizationSampler sampler = CPUUtilizationSampler.of(owner.getModel());
+        binSize = sampler.getBinSize();
+        sampledWork = new double[sampler.getSamplesPerBin()];
+        sampler.register(this);
     }
 
     void updateUtilization(double utilization, TimeInstant startTime) {
-
-        //last entry is the current utilization state
-        HistoryEntry lastEntry = utilizationHistory.peekLast();
-        assert lastEntry != null;
-
         //if the utilization didn't change, we don't need to update
-        if (lastEntry.utilization != utilization) {
-            lastEntry.endTime = startTime.getTimeInEpsilon();
-            utilizationHistory.add(new HistoryEntry(utilization, startTime.getTimeInEpsilon(), Long.MAX_VALUE));
-        }
-
-        clearHistoryExceptCurrentBin();
-    }
-
-    private void clearHistoryExceptCurrentBin() {
-        long binEnd = presentTime().getTimeInEpsilon();
-        long binStart = Math.max(0, binEnd - BIN_SIZE.getTimeInEpsilon());
-
-        //remove all first entries, that do not end inside the current window.
-        while (utilizationHistory.peek() != null && utilizationHistory.peek().endTime < binStart) {
-            utilizationHistory.pop();
+        if (this.utilization != utilization) {
+            double time = startTime.getTimeAsDouble();
+            workUntilLastChange = getWorkUntil(time);
+            lastChange = time;
+            this.utilization = utilization;
         }
     }
 
-    private double getCurrentBinnedUtilization() {
-        long binEnd = presentTime().getTimeInEpsilon();
-        long binStart = Math.max(0, binEnd - BIN_SIZE.getTimeInEpsilon());
-
-        clearHistoryExceptCurrentBin();
-
-        double accWorkDone = utilizationHistory.stream()
-            .mapToDouble(entry -> entry.getWorkInTimeframe(binStart, binEnd))
-            .sum();
-        return accWorkDone / BIN_SIZE.getTimeInEpsilon();
+    /**
+     * Reports the average utilization since the sample that is one bin size ago.
+     *
+     * @return the reported utilization
+     */
+    double sample(TimeInstant time) {
+        double work = getWorkUntil(time.getTimeAsDouble());
+        double binnedUtilization = (work - sampledWork[oldestSample]) / binSize;
+        sampledWork[oldestSample] = work;
+        oldestSample = (oldestSample + 1) % sampledWork.length;
+
+        reporter.addDatapoint("UtilizationBinned", time, binnedUtilization);
+        return binnedUtilization;
     }
 
-    double getCurrentUtilization() {
-        assert utilizationHistory.peek() != null;
-        return utilizationHistory.peek().utilization;
+    private double getWorkUntil(double time) {
+        return workUntilLastChange + utilization * (time - lastChange);
     }
-
-    private static class HistoryEntry {
-        public final double utilization;
-        public final long startTime;
-        public long endTime;
-
-        public HistoryEntry(double utilization, long startTime, long endTime) {
-            this.utilization = utilization;
-            this.startTime = startTime;
-            this.endTime = endTime;
-        }
-
-
-        public double getWorkInTimeframe(long frameStart, long frameEnd) {
-            if (utilization == 0.0) {
-                return 0.0;
-            }
-
-            long actualStart = Math.max(startTime, frameStart);
-            long actualEnd = Math.min(endTime, frameEnd);
-            return (actualEnd - actualStart) * utilization;
-        }
-    }
-
 }
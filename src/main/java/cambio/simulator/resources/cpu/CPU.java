@@ -2,12 +2,12 @@ package cambio.simulator.resources.cpu;
 
 import java.util.*;
 
+import cambio.simulator.entities.EntityNames;
 import cambio.simulator.entities.NamedExternalEvent;
-import cambio.simulator.entities.NamedSimProcess;
 import cambio.simulator.entities.microservice.MicroserviceInstance;
-import cambio.simulator.export.MultiDataPointReporter;
+import cambio.simulator.export.PrimitiveDataPointReporter;
 import cambio.simulator.resources.cpu.scheduling.CPUProcessScheduler;
-import cambio.simulator.resources.cpu.scheduling.RoundRobinScheduler;
+import cambio.simulator.resources.cpu.scheduling.IncrementalRoundRobinScheduler;
 import co.paralleluniverse.fibers.SuspendExecution;
 import desmoj.core.simulator.Model;
 import desmoj.core.simulator.TimeSpan;
@@ -23,14 +23,14 @@ import org.javatuples.Pair;
  * @author Lion Wagner
  * @see CPUProcess
  * @see CPUProcessScheduler
- * @see CPU#CPU(Model, String, boolean, MicroserviceInstance, int, CPUProcessScheduler, int)
+ * @see CPU#CPU(Model, String, boolean, MicroserviceInstance, double, CPUProcessScheduler, int)
  */
 public class CPU extends NamedExternalEvent {
 
-    private static final int DEFAULT_THREADPOOL_SIZE = 4;
+    public static final int DEFAULT_THREADPOOL_SIZE = 4;
     private static final String QUEUE_STATE_DATASET_NAME = "QueueState";
 
-    private final MultiDataPointReporter reporter;
+    private final PrimitiveDataPointReporter reporter;
 
     private final BinnedCPUUtilizationTracker binnedUtilizationTracker;
 
@@ -45,7 +45,7 @@ public class CPU extends NamedExternalEvent {
      * {@code CPUImpl.DEFAULT_THREADPOOLSIZE}.
      *
      * @see CPU#CPU
-     * @see RoundRobinScheduler
+     * @see IncrementalRoundRobinScheduler
      */
     public CPU(Model model, String name, boolean showInTrace, int capacity, MicroserviceInstance owner) {
         this(model, name, showInTrace, capacity, DEFAULT_THREADPOOL_SIZE, owner);
@@ -55,11 +55,12 @@ public class CPU extends NamedExternalEvent {
      * Constructs a new CPU with a default Round-Robin scheduler.
      *
      * @see CPU#CPU
-     * @see RoundRobinScheduler
+     * @see IncrementalRoundRobinScheduler
      */
     public CPU(Model model, String name, boolean showInTrace, int capacity, int threadPoolSize,
                MicroserviceInstance owner) {
-        this(model, name, showInTrace, owner, capacity, new RoundRobinScheduler(name + "_scheduler"), threadPoolSize);
+        this(model, name, showInTrace, owner, capacity, new IncrementalRoundRobinScheduler(name + "_scheduler"),
+            threadPoolSize);
     }
 
     /**
@@ -83,23 +84,23 @@ public class CPU extends NamedExternalEvent {
      * @param showInTrace    whether the computation events should be shown in the trace
      * @param owner          instance that owns this cpu
      * @param capacity       total capacity of the cpu resource. Each thread will be assigned a capacity of
-     *                       {@code Math.floor(capacity/threadPoolSize)}.
+     *                       {@code capacity/threadPoolSize}.
      * @param scheduler      implementation of a scheduling strategy that should be used by the CPU
      * @param threadPoolSize thread count of the CPU
      * @see CPUProcessScheduler
-     * @see RoundRobinScheduler
+     * @see IncrementalRoundRobinScheduler
      */
-    public CPU(Model model, String name, boolean showInTrace, MicroserviceInstance owner, int capacity,
+    public CPU(Model model, String name, boolean showInTrace, MicroserviceInstance owner, double capacity,
                CPUProcessScheduler scheduler, int threadPoolSize) {
         super(model, name, showInTrace);
         this.owner = owner;
         this.scheduler = scheduler;
 
-        this.capacityPerThread = (double) capacity / threadPoolSize;
+        this.capacityPerThread = capacity / threadPoolSize;
         this.threadPoolSize = threadPoolSize;
         activeProcesses = new HashSet<>(threadPoolSize);
 
-        reporter = new MultiDataPointReporter(String.format("C[%s]_", name), model);
+        reporter = new PrimitiveDataPointReporter(String.format("C[%s]_", name), model);
         binnedUtilizationTracker = new BinnedCPUUtilizationTracker(this);
 
         reporter.registerDefaultHeader(QUEUE_STATE_DATASET_NAME, "TotalProcesses", "ActiveProcesses");
@@ -142,42 +143,43 @@ public class CPU extends NamedExternalEvent {
      */
     @Override
     public void onRoutineExecution() throws SuspendExecution {
-        synchronized (NamedSimProcess.class) {
-            while (hasProcessAndThreadReady()) {
-                Pair<CPUProcess, Integer> next = scheduler.retrieveNextProcessNoReschedule();
-                CPUProcess nextProcess = next.getValue0();
-                int nextTotalDemand = next.getValue1();
-
-                nextProcess.stampCurrentBurstStarted(presentTime());
-                TimeSpan processBurstDuration = new TimeSpan(nextTotalDemand / capacityPerThread);
-
-                ComputationBurstCompletedEvent endEvent = new ComputationBurstCompletedEvent(getModel(),
-                    "Computation burst finished of " + nextProcess.getRequest().getQuotedPlainName(),
-                    debugIsOn(),
-                    nextProcess,
-                    this,
-                    nextTotalDemand);
-                endEvent.schedule(processBurstDuration);
-                activeProcesses.add(nextProcess);
-            }
-
-
-            binnedUtilizationTracker.updateUtilization(getCurrentUsage(), presentTime());
-
-
-            reportQueueState();
-            reportUtilization();
+        while (hasProcessAndThreadReady()) {
+            Pair<CPUProcess, Integer> next = scheduler.retrieveNextProcessNoReschedule();
+            CPUProcess nextProcess = next.getValue0();
+            int nextTotalDemand = next.getValue1();
+
+            nextProcess.stampCurrentBurstStarted(presentTime());
+            TimeSpan processBurstDuration = new TimeSpan(nextTotalDemand / capacityPerThread);
+
+            ComputationBurstCompletedEvent endEvent = ComputationBurstCompletedEvent.obtain(getModel(),
+                EntityNames.of(getModel(), debugIsOn(), "ComputationBurstCompleted",
+                    () -> "Computation burst finished of " + nextProcess.getRequest().getQuotedPlainName()),
+                debugIsOn(),
+                nextProcess,
+                this,
+                nextTotalDemand);
+            endEvent.schedule(processBurstDuration);
+            activeProcesses.add(nextProcess);
         }
+
+        reportState();
     }
 
     private boolean hasProcessAndThreadReady() {
         return scheduler.hasProcessesToSchedule() && this.hasThreadsAvailable();
     }
 
-    private double getPerThreadCapacity() {
+    /**
+     * Gets the computation capacity of one thread in one simulation time unit.
+     */
+    public double getCapacityPerThread() {
         return capacityPerThread;
     }
 
+    public int getThreadPoolSize() {
+        return threadPoolSize;
+    }
+
     private boolean hasThreadsAvailable() {
         return activeProcesses.size() < threadPoolSize;
     }
@@ -199,10 +201,7 @@ public class CPU extends NamedExternalEvent {
         //since at least one thread should be free now, a rescheduling happens
         forceScheduleNow();
 
-        binnedUtilizationTracker.updateUtilization(getCurrentUsage(), presentTime());
-
-        reportQueueState();
-        reportUtilization();
+        reportState();
     }
 
     /**
@@ -219,10 +218,20 @@ public class CPU extends NamedExternalEvent {
     }
 
 
-    private int getProcessesCount() {
+    /**
+     * Counts all processes of this CPU, including the queued ones.
+     */
+    protected int getProcessesCount() {
         return scheduler.size() + activeProcesses.size();
     }
 
+    /**
+     * Counts the processes that are currently computed by a thread.
+     */
+    protected int getActiveProcessesCount() {
+        return activeProcesses.size();
+    }
+
 
     /**
      * Forcibly stops all currently running and scheduled processes.
@@ -235,14 +244,28 @@ public class CPU extends NamedExternalEvent {
         reportUtilization();
     }
 
-    private void reportQueueState() {
-        reporter.addDatapoint(QUEUE_STATE_DATASET_NAME, presentTime(), getProcessesCount(), activeProcesses.size());
+    /**
+     * Updates the utilization tracker and reports the queue state and the utilization of this CPU. Has to be called
+     * whenever processes started or finished their computation.
+     */
+    protected final void reportState() {
+        binnedUtilizationTracker.updateUtilization(getCurrentUsage(), presentTime());
+        reportQueueState();
+        reportUtilization();
     }
 
+    protected final void reportQueueState() {
+        reporter.addDatapoint(QUEUE_STATE_DATASET_NAME, presentTime(), getProcessesCount(),
+            getActiveProcessesCount());
+    }
 
-    private void reportUtilization() {
+
+    protected final void reportUtilization() {
         reporter.addDatapoint("Utilization", presentTime(), getCurrentUsage());
-        reporter.addDatapoint("RelativeUtilization", presentTime(), getCurrentRelativeWorkDemand());
+        if (reporter.isEnabled("RelativeUtilization")) {
+            //skips the computation of the relative demand if the dataset is disabled
+            reporter.addDatapoint("RelativeUtilization", presentTime(), getCurrentRelativeWorkDemand());
+        }
     }
 
     /**
@@ -260,11 +283,7 @@ public class CPU extends NamedExternalEvent {
      * @return the remaining amount of cycles to complete the current workload
      */
     public double getCurrentRelativeWorkDemand() {
-        int totalQueuedWorkRemainder = scheduler.getTotalWorkDemand();
-        double activeWorkRemainder =
-            activeProcesses.stream().mapToDouble(value -> value.getDemandRemainder(presentTime(), capacityPerThread))
-                .sum();
-        double workTotal = totalQueuedWorkRemainder + activeWorkRemainder;
+        double workTotal = getRemainingWorkDemand();
         double workPercentage = workTotal / (threadPoolSize * capacityPerThread);
         workPercentage = Math.round(workPercentage * roundingFactor) / roundingFactor;
 
@@ -272,6 +291,19 @@ public class CPU extends NamedExternalEvent {
         return workPercentage;
     }
 
+    /**
+     * Calculates the demand that is left of all queued and active processes at the present time.
+     *
+     * @return the remaining demand of all processes of this CPU
+     */
+    protected double getRemainingWorkDemand() {
+        int totalQueuedWorkRemainder = scheduler.getTotalWorkDemand();
+        double activeWorkRemainder =
+            activeProcesses.stream().mapToDouble(value -> value.getDemandRemainder(presentTime(), capacityPerThread))
+                .sum();
+        return totalQueuedWorkRemainder + activeWorkRemainder;
+    }
+
     public double getCurrentUsage() {
         return (double) activeProcesses.size() / threadPoolSize;
     }
@@ -0,0 +1,59 @@
+package cambio.simulator.resources.cpu;
+
+import cambio.simulator.entities.microservice.MicroserviceInstance;
+import cambio.simulator.resources.cpu.scheduling.SchedulerConfiguration;
+import com.google.gson.annotations.SerializedName;
+import desmoj.core.simulator.Model;
+
+/**
+ * CPU models that the instances of a {@link cambio.simulator.entities.microservice.Microservice} can use.
+ *
+ * @see cambio.simulator.entities.microservice.Microservice#getCpuType()
+ */
+public enum CPUType {
+
+    /**
+     * Default CPU, which executes the processes of a scheduler burst by burst on its threads.
+     *
+     * @see CPU
+     */
+    @SerializedName(value = "burst", alternate = {"BURST", "default"})
+    BURST {
+        @Override
+        public CPU create(Model model, String name, boolean showInTrace, MicroserviceInstance owner, double capacity,
+                          int threadPoolSize, SchedulerConfiguration scheduler) {
+            return new CPU(model, name, showInTrace, owner, capacity, scheduler.createScheduler("Scheduler"),
+                threadPoolSize);
+        }
+    },
+
+    /**
+     * CPU that shares its capacity equally between all processes and computes their completion times analytically.
+     * Creates far fewer events than a {@link #BURST} CPU under high load.
+     *
+     * @see ProcessorSharingCPU
+     */
+    @SerializedName(value = "processor_sharing", alternate = {"PROCESSOR_SHARING", "ps", "PS"})
+    PROCESSOR_SHARING {
+        @Override
+        public CPU create(Model model, String name, boolean showInTrace, MicroserviceInstance owner, double capacity,
+                          int threadPoolSize, SchedulerConfiguration scheduler) {
+            return new ProcessorSharingCPU(model, name, showInTrace, owner, capacity, threadPoolSize);
+        }
+    };
+
+    /**
+     * Creates a new CPU of this type.
+     *
+     * @param model          parent and simulation model
+     * @param name           CPU name
+     * @param showInTrace    whether the computation events should be shown in the trace
+     * @param owner          instance that owns the cpu
+     * @param capacity       total capacity of the cpu resource
+     * @param threadPoolSize thread count of the cpu
+     * @param scheduler      configuration of the scheduler of the cpu, ignored by processor sharing CPUs
+     * @return a new CPU of this type
+     */
+    public abstract CPU create(Model model, String name, boolean showInTrace, MicroserviceInstance owner,
+                               double capacity, int threadPoolSize, SchedulerConfiguration scheduler);
+}
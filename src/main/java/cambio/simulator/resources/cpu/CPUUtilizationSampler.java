@@ -0,0 +1,125 @@
+package cambio.simulator.resources.cpu;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import cambio.simulator.entities.NamedExternalEvent;
+import cambio.simulator.misc.Priority;
+import cambio.simulator.models.ExecutionContext;
+import cambio.simulator.models.ExperimentMetaData;
+import cambio.simulator.models.MiSimModel;
+import co.paralleluniverse.fibers.SuspendExecution;
+import desmoj.core.simulator.Model;
+import desmoj.core.simulator.TimeSpan;
+
+/**
+ * Periodically samples the {@link BinnedCPUUtilizationTracker}s of all CPUs of a model. Replaces a polling process per
+ * CPU with a single event per probe interval.
+ *
+ * <p>
+ * The probe interval and the bin size are taken from the {@link ExperimentMetaData} of the model. The bin size is
+ * rounded to a multiple of the probe interval, so each bin starts at a previous sample.
+ *
+ * @see ExperimentMetaData#getUtilizationProbeInterval()
+ * @see ExperimentMetaData#getUtilizationBinSize()
+ */
+public final class CPUUtilizationSampler extends NamedExternalEvent {
+
+    private static final double DEFAULT_PROBE_INTERVAL = 0.1;
+    private static final double DEFAULT_BIN_SIZE = 0.5;
+
+    private final TimeSpan probeInterval;
+    private final int samplesPerBin;
+    private final double binSize;
+    private final List<BinnedCPUUtilizationTracker> trackers = new ArrayList<>();
+
+    /**
+     * Creates a new sampler that uses the probe interval and bin size of the given model and starts sampling at the
+     * present time.
+     *
+     * @param model model of the sampled CPUs
+     */
+    public CPUUtilizationSampler(Model model) {
+        this(model, getProbeInterval(model), getBinSize(model));
+    }
+
+    /**
+     * Creates a new sampler and starts sampling at the present time.
+     *
+     * @param model         model of the sampled CPUs
+     * @param probeInterval interval between two samples
+     * @param binSize       time frame over which the utilization is averaged, rounded to a multiple of the probe
+     *                      interval
+     * @throws IllegalArgumentException if the probe interval or bin size is not positive
+     */
+    public CPUUtilizationSampler(Model model, double probeInterval, double binSize) {
+        super(model, "CPU Utilization Sampler", false);
+        if (!(probeInterval > 0 && probeInterval < Double.POSITIVE_INFINITY)) {
+            throw new IllegalArgumentException("The utilization probe interval has to be positive.");
+        }
+        if (!(binSize > 0 && binSize < Double.POSITIVE_INFINITY)) {
+            throw new IllegalArgumentException("The utilization bin size has to be positive.");
+        }
+        this.probeInterval = new TimeSpan(probeInterval);
+        this.samplesPerBin = (int) Math.max(1, Math.round(binSize / probeInterval));
+        this.binSize = samplesPerBin * probeInterval;
+
+        setSchedulingPriority(Priority.Very_LOW);
+        schedule(presentTime());
+    }
+
+    /**
+     * Gets the sampler of the given model. The sampler is created on first access.
+     *
+     * @param model model of the sampled CPUs
+     * @return the sampler of the given model
+     */
+    static CPUUtilizationSampler of(Model model) {
+        return ExecutionContext.of(model).getCpuUtilizationSampler(model);
+    }
+
+    private static double getProbeInterval(Model model) {
+        ExperimentMetaData metaData = getMetaData(model);
+        return metaData != null ? metaData.getUtilizationProbeInterval() : DEFAULT_PROBE_INTERVAL;
+    }
+
+    private static double getBinSize(Model model) {
+        ExperimentMetaData metaData = getMetaData(model);
+        return metaData != null ? metaData.getUtilizationBinSize() : DEFAULT_BIN_SIZE;
+    }
+
+    private static ExperimentMetaData getMetaData(Model model) {
+        for (Model current = model; current != null; current = current.getParentModel()) {
+            if (current instanceof MiSimModel) {
+                return ((MiSimModel) current).getExperimentMetaData();
+            }
+        }
+        return null;
+    }
+
+    void register(BinnedCPUUtilizationTracker tracker) {
+        trackers.add(tracker);
+    }
+
+    /**
+     * Gets the bin size, i.e. the probe interval times {@link #getSamplesPerBin()}.
+     */
+    double getBinSize() {
+        return binSize;
+    }
+
+    /**
+     * Gets the number of samples that are taken per bin.
+     */
+    int getSamplesPerBin() {
+        return samplesPerBin;
+    }
+
+    @Override
+    public void onRoutineExecution() throws SuspendExecution {
+        for (BinnedCPUUtilizationTracker tracker : trackers) {
+            tracker.sample(presentTime());
+        }
+        schedule(probeInterval);
+    }
+}
@@ -1,8 +1,10 @@
 package cambio.simulator.resources.cpu;
 
+import cambio.simulator.entities.EntityNames;
 import cambio.simulator.entities.NamedExternalEvent;
-import cambio.simulator.entities.NamedSimProcess;
 import cambio.simulator.entities.networking.Request;
+import cambio.simulator.models.EventPool;
+import cambio.simulator.models.ExecutionContext;
 import co.paralleluniverse.fibers.SuspendExecution;
 import desmoj.core.simulator.Model;
 
@@ -16,12 +18,17 @@ import desmoj.core.simulator.Model;
  * Fires a {@link ComputationCompletedEvent} automatically if the {@link CPUProcess} was finished with the current
  * burst.
  *
+ * <p>
+ * Executed instances are reused via the {@link EventPool} of the model, see {@link #obtain}. Canceled instances are
+ * not reused.
+ *
  * @author Lion Wagner
  */
 public class ComputationBurstCompletedEvent extends NamedExternalEvent {
-    private final CPUProcess endingProcess;
-    private final CPU owner;
-    private final int completedDemand;
+    private final EventPool<ComputationBurstCompletedEvent> pool;
+    private CPUProcess endingProcess;
+    private CPU owner;
+    private int completedDemand;
 
     /**
      * Constructs a new {@link ComputationBurstCompletedEvent}.
@@ -37,26 +44,47 @@ public class ComputationBurstCompletedEvent extends NamedExternalEvent {
         this.owner = owner;
         this.completedDemand = completedDemand;
         this.endingProcess.setCurrentBurstCompletionEvent(this);
+        this.pool = getExecutionContext().getEventPool(ComputationBurstCompletedEvent.class);
+    }
+
+    /**
+     * Gets a burst completion event with the given properties. Reuses an executed event of the model if one is
+     * available, otherwise a new one is constructed.
+     */
+    public static ComputationBurstCompletedEvent obtain(Model model, String name, boolean showInTrace,
+                                                        CPUProcess endingProcess, CPU owner, int completedDemand) {
+        ComputationBurstCompletedEvent event =
+            ExecutionContext.of(model).getEventPool(ComputationBurstCompletedEvent.class).poll(model);
+        if (event == null) {
+            return new ComputationBurstCompletedEvent(model, name, showInTrace, endingProcess, owner, completedDemand);
+        }
+        event.reuse(name, showInTrace);
+        event.endingProcess = endingProcess;
+        event.owner = owner;
+        event.completedDemand = completedDemand;
+        endingProcess.setCurrentBurstCompletionEvent(event);
+        return event;
     }
 
     @Override
     public void onRoutineExecution() throws SuspendExecution {
-        synchronized (NamedSimProcess.class) {
-
-            endingProcess.reduceDemandRemainder(completedDemand);
+        //the burst can no longer be canceled, hence the process must not reference this event while it is reused
+        endingProcess.setCurrentBurstCompletionEvent(null);
+        endingProcess.reduceDemandRemainder(completedDemand);
 
-            //notify cpu that the process finished its current burst
-            owner.onBurstFinished(endingProcess);
-
-            if (endingProcess.getDemandRemainder() <= 0) {
-                //notify the request that its computation finished
-                Request request = endingProcess.getRequest();
-                ComputationCompletedEvent completionEvent = new ComputationCompletedEvent(getModel(),
-                    "ComputationEnd " + request.getQuotedPlainName(),
-                    getModel().traceIsOn());
-                completionEvent.schedule(request, presentTime());
-            }
+        //notify cpu that the process finished its current burst
+        owner.onBurstFinished(endingProcess);
 
+        if (endingProcess.getDemandRemainder() <= 0) {
+            //notify the request that its computation finished
+            Request request = endingProcess.getRequest();
+            ComputationCompletedEvent completionEvent = ComputationCompletedEvent.obtain(getModel(),
+                EntityNames.of(getModel(), true, "ComputationEnd",
+                    () -> "ComputationEnd " + request.getQuotedPlainName()),
+                getModel().traceIsOn());
+            completionEvent.schedule(request, presentTime());
         }
+
+        pool.release(this);
     }
 }
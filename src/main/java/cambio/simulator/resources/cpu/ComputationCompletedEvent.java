@@ -1,6 +1,8 @@
 package cambio.simulator.resources.cpu;
 
 import cambio.simulator.entities.networking.Request;
+import cambio.simulator.models.EventPool;
+import cambio.simulator.models.ExecutionContext;
 import co.paralleluniverse.fibers.SuspendExecution;
 import desmoj.core.simulator.Event;
 import desmoj.core.simulator.Model;
@@ -11,6 +13,9 @@ import desmoj.core.simulator.Model;
  * <p>
  * On execution, it resubmits the computed request at its handler.
  *
+ * <p>
+ * Executed instances are reused via the {@link EventPool} of the model, see {@link #obtain}.
+ *
  * @author Lion Wagner
  * @see ComputationBurstCompletedEvent
  * @see CPU
@@ -18,15 +23,45 @@ import desmoj.core.simulator.Model;
  */
 public class ComputationCompletedEvent extends Event<Request> {
 
+    private final EventPool<ComputationCompletedEvent> pool;
+    private String plainName;
+
     public ComputationCompletedEvent(Model model, String name, boolean showInTrace) {
         super(model, name, showInTrace);
+        plainName = name;
+        pool = ExecutionContext.of(model).getEventPool(ComputationCompletedEvent.class);
+    }
+
+    /**
+     * Gets an unscheduled computation completed event. Reuses an executed event of the model if one is available,
+     * otherwise a new one is constructed.
+     */
+    public static ComputationCompletedEvent obtain(Model model, String name, boolean showInTrace) {
+        ComputationCompletedEvent event =
+            ExecutionContext.of(model).getEventPool(ComputationCompletedEvent.class).poll(model);
+        if (event == null) {
+            return new ComputationCompletedEvent(model, name, showInTrace);
+        }
+        if (!name.equals(event.plainName)) {
+            event.rename(name);
+            event.plainName = name;
+        }
+        if (showInTrace) {
+            event.traceOn();
+        } else {
+            event.traceOff();
+        }
+        return event;
     }
 
     @Override
     public void eventRoutine(Request request) throws SuspendExecution {
-        sendTraceNote("Request " + request.getQuotedName() + " was computed.");
+        if (traceIsOn()) {
+            sendTraceNote("Request " + request.getQuotedName() + " was computed.");
+        }
         request.setComputationCompleted();
         request.getHandler().handle(request); //resubmitting itself for further handling
+        pool.release(this);
     }
 
 }
@@ -0,0 +1,199 @@
+package cambio.simulator.resources.cpu;
+
+import java.util.Comparator;
+import java.util.PriorityQueue;
+
+import cambio.simulator.entities.EntityNames;
+import cambio.simulator.entities.microservice.MicroserviceInstance;
+import cambio.simulator.entities.networking.Request;
+import co.paralleluniverse.fibers.SuspendExecution;
+import desmoj.core.simulator.Model;
+import desmoj.core.simulator.TimeSpan;
+
+/**
+ * CPU that shares its capacity equally between all submitted processes (egalitarian processor sharing) instead of
+ * simulating each computation burst.
+ *
+ * <p>
+ * With {@code n} processes, each process is computed with {@code min(1, threadPoolSize / n)} times the capacity of a
+ * thread. Since all processes progress at the same rate, the CPU only tracks the service that each process received
+ * since the start of the simulation (its virtual time) and assigns every process the virtual time at which it will be
+ * finished. Only the completion of the process that finishes first is scheduled, by scheduling this CPU itself. The
+ * completion is rescheduled whenever a process is submitted or finished, so the CPU has at most one pending event
+ * regardless of its load.
+ *
+ * <p>
+ * Processes are never queued, hence this CPU has no
+ * {@link cambio.simulator.resources.cpu.scheduling.CPUProcessScheduler}. All submitted processes are computed at once,
+ * of which at most the thread pool size count as active and towards the usage.
+ *
+ * @see CPUType#PROCESSOR_SHARING
+ */
+public class ProcessorSharingCPU extends CPU {
+
+    // tolerance for processes that finish at the same time as the scheduled one, compensates rounding of the time.
+    // Relative to the virtual time, since the rounding error grows with the magnitude of the finish tags.
+    private static final double RELATIVE_FINISH_TOLERANCE = 1e-9;
+
+    private final PriorityQueue<SharedProcess> processes = new PriorityQueue<>(
+        Comparator.comparingDouble((SharedProcess sharedProcess) -> sharedProcess.finishTag)
+            .thenComparingLong(sharedProcess -> sharedProcess.arrival));
+
+    // kept as primitives, since the super constructor already reports the utilization of this CPU
+    private int processCount = 0;
+    private double finishTagSum = 0;
+    private double virtualTime = 0;
+    private double lastUpdate = 0;
+    private long arrivalCounter = 0;
+
+    /**
+     * Constructs a new processor sharing CPU.
+     *
+     * @param model          parent and simulation model
+     * @param name           CPU name
+     * @param showInTrace    whether the computation events should be shown in the trace
+     * @param owner          instance that owns this cpu
+     * @param capacity       total capacity of the cpu resource
+     * @param threadPoolSize number of processes that can be computed with the full capacity of a thread at once
+     */
+    public ProcessorSharingCPU(Model model, String name, boolean showInTrace, MicroserviceInstance owner,
+                               double capacity, int threadPoolSize) {
+        super(model, name, showInTrace, owner, capacity, null, threadPoolSize);
+    }
+
+    @Override
+    public void submitProcess(CPUProcess process) {
+        advanceVirtualTime();
+        double finishTag = virtualTime + process.getDemandRemainder();
+        processes.add(new SharedProcess(process, finishTag, arrivalCounter++));
+        processCount++;
+        finishTagSum += finishTag;
+
+        scheduleNextCompletion();
+        reportState();
+    }
+
+    /**
+     * Finishes the process that was scheduled to be completed next, together with all processes that finish at the
+     * same time.
+     */
+    @Override
+    public void onRoutineExecution() throws SuspendExecution {
+        advanceVirtualTime();
+
+        SharedProcess next = processes.poll();
+        if (next != null) {
+            virtualTime = Math.max(virtualTime, next.finishTag);
+            complete(next);
+            double tolerance = RELATIVE_FINISH_TOLERANCE * Math.max(1.0, Math.abs(virtualTime));
+            while (!processes.isEmpty() && processes.peek().finishTag - virtualTime <= tolerance) {
+                complete(processes.poll());
+            }
+        }
+
+        scheduleNextCompletion();
+        reportState();
+    }
+
+    private void complete(SharedProcess sharedProcess) {
+        processCount--;
+        finishTagSum = processCount == 0 ? 0 : finishTagSum - sharedProcess.finishTag;
+
+        CPUProcess process = sharedProcess.process;
+        process.reduceDemandRemainder(process.getDemandRemainder());
+
+        Request request = process.getRequest();
+        if (request != null) {
+            ComputationCompletedEvent completionEvent = ComputationCompletedEvent.obtain(getModel(),
+                EntityNames.of(getModel(), true, "ComputationEnd",
+                    () -> "ComputationEnd " + request.getQuotedPlainName()),
+                getModel().traceIsOn());
+            completionEvent.schedule(request, presentTime());
+        }
+    }
+
+    private void scheduleNextCompletion() {
+        SharedProcess next = processes.peek();
+        if (next == null) {
+            if (isScheduled()) {
+                cancel();
+            }
+            return;
+        }
+
+        TimeSpan timeUntilCompletion = new TimeSpan(Math.max(0, next.finishTag - virtualTime) / getServiceRate());
+        if (isScheduled()) {
+            reSchedule(timeUntilCompletion);
+        } else {
+            schedule(timeUntilCompletion);
+        }
+    }
+
+    private void advanceVirtualTime() {
+        double now = presentTime().getTimeAsDouble();
+        virtualTime = getVirtualTime(now);
+        lastUpdate = now;
+    }
+
+    private double getVirtualTime(double time) {
+        if (processCount == 0) {
+            return virtualTime;
+        }
+        return virtualTime + (time - lastUpdate) * getServiceRate();
+    }
+
+    /**
+     * Gets the computation capacity that each process currently receives per simulation time unit.
+     */
+    private double getServiceRate() {
+        return getCapacityPerThread() * Math.min(1.0, (double) getThreadPoolSize() / processCount);
+    }
+
+    @Override
+    public synchronized void clear() {
+        processes.clear();
+        processCount = 0;
+        finishTagSum = 0;
+        if (isScheduled()) {
+            cancel();
+        }
+
+        reportQueueState();
+        reportUtilization();
+    }
+
+    @Override
+    protected int getProcessesCount() {
+        return processCount;
+    }
+
+    @Override
+    protected int getActiveProcessesCount() {
+        return Math.min(processCount, getThreadPoolSize());
+    }
+
+    @Override
+    protected double getRemainingWorkDemand() {
+        if (processCount == 0) {
+            return 0;
+        }
+        return finishTagSum - processCount * getVirtualTime(presentTime().getTimeAsDouble());
+    }
+
+    @Override
+    public double getCurrentUsage() {
+        return (double) getActiveProcessesCount() / getThreadPoolSize();
+    }
+
+    private static final class SharedProcess {
+        private final CPUProcess process;
+        private final double finishTag;
+        private final long arrival;
+
+        private SharedProcess(CPUProcess process, double finishTag, long arrival) {
+            this.process = process;
+            this.finishTag = finishTag;
+            this.arrival = arrival;
+        }
+    }
+}
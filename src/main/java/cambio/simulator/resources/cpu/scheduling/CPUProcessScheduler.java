@@ -7,11 +7,15 @@ import org.javatuples.Pair;
 /**
  * Superclass that provides the interface for all CPU scheduling strategies.
  *
+ * <p>
+ * The {@link cambio.simulator.resources.cpu.CPU} asks its scheduler for the {@link #size()} and the
+ * {@link #getTotalWorkDemand()} on every utilization report and load balancers do so on every decision. Hence,
+ * implementations should answer both in constant time, e.g. by keeping a running sum of the queued demands.
+ *
  * @see CPUProcess
  */
 public abstract class CPUProcessScheduler {
 
-
     public CPUProcessScheduler(String name) {
     }
 
@@ -53,7 +57,7 @@ public abstract class CPUProcessScheduler {
     public abstract boolean hasProcessesToSchedule();
 
     /**
-     * Calculates the sum of all scheduled process's demand remainders.
+     * Gets the sum of all scheduled process's demand remainders.
      *
      * @return the sum of the demand remainder of all processes that are currently in queue.
      */
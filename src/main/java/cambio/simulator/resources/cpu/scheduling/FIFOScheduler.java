@@ -1,6 +1,6 @@
 package cambio.simulator.resources.cpu.scheduling;
 
-import java.util.LinkedList;
+import java.util.ArrayDeque;
 import java.util.Queue;
 
 import cambio.simulator.resources.cpu.CPUProcess;
@@ -17,9 +17,8 @@ import org.javatuples.Pair;
  */
 public class FIFOScheduler extends CPUProcessScheduler {
 
-    private final Queue<CPUProcess> processes = new LinkedList<>();
-
-    private int totalWorkDemand = 0;
+    private final Queue<CPUProcess> processes = new ArrayDeque<>();
+    private final WorkDemandCounter workDemand = new WorkDemandCounter();
 
     public FIFOScheduler(String name) {
         super(name);
@@ -35,7 +34,7 @@ public class FIFOScheduler extends CPUProcessScheduler {
     public synchronized void enterProcess(CPUProcess process) {
         //if (!processes.contains(process))
         processes.add(process);
-        totalWorkDemand += process.getDemandTotal();
+        workDemand.add(process.getDemandTotal());
     }
 
     /**
@@ -50,7 +49,7 @@ public class FIFOScheduler extends CPUProcessScheduler {
         }
 
         int demand = processes.peek().getDemandTotal();
-        totalWorkDemand -= demand;
+        workDemand.remove(demand);
         return new Pair<>(processes.poll(), demand);
     }
 
@@ -80,17 +79,17 @@ public class FIFOScheduler extends CPUProcessScheduler {
      * {@inheritDoc}
      */
     @Override
-    public int getTotalWorkDemand() {
-        return totalWorkDemand;
+    public void clear() {
+        processes.clear();
+        workDemand.reset();
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public void clear() {
-        processes.clear();
-        totalWorkDemand = 0;
+    public int getTotalWorkDemand() {
+        return workDemand.get();
     }
 
     /**
@@ -0,0 +1,189 @@
+package cambio.simulator.resources.cpu.scheduling;
+
+import java.util.ArrayDeque;
+
+import cambio.simulator.resources.cpu.CPUProcess;
+import org.javatuples.Pair;
+
+/**
+ * Variant of the {@link RoundRobinScheduler} (SARR) that keeps its median quantum and total work demand up to date
+ * incrementally, so each scheduling operation takes logarithmic time in the number of queued processes.
+ *
+ * <p>
+ * The {@link RoundRobinScheduler} sorts all queued processes whenever it updates its quantum. This scheduler keeps the
+ * demand remainders of the queued processes in a {@link RunningMedian} and sums them up on the fly instead. When used
+ * via {@link #retrieveNextProcessNoReschedule()}, as the {@link cambio.simulator.resources.cpu.CPU} does, it produces
+ * the same schedule as the {@link RoundRobinScheduler}.
+ *
+ * <p>
+ * When a process is put back into the queue by {@link #retrieveNextProcess()}, its demand remainder is assumed to be
+ * reduced by the assigned quantum before the quantum is updated the next time, as is the case if the burst is executed
+ * immediately.
+ *
+ * @see RoundRobinScheduler
+ */
+public final class IncrementalRoundRobinScheduler extends CPUProcessScheduler {
+
+    /**
+     * Default lower bound of the quantum, as given by the SARR paper. It prevents too many context switches for short
+     * processes.
+     */
+    static final int DEFAULT_MINIMUM_QUANTUM = 25;
+
+    private final int minimumQuantum;
+    private final ArrayDeque<QueuedProcess> processes = new ArrayDeque<>();
+    private final RunningMedian demandMedian = new RunningMedian();
+    private final WorkDemandCounter workDemand = new WorkDemandCounter();
+
+    private int currentQuantum;
+    // replaces the set of processes that were executed with the current quantum
+    private long currentRound = 0;
+    private boolean updateQuantum = true;
+
+    public IncrementalRoundRobinScheduler(String name) {
+        this(name, DEFAULT_MINIMUM_QUANTUM);
+    }
+
+    /**
+     * Creates a new round-robin scheduler with a custom lower bound for its quantum.
+     *
+     * @param name           name of the scheduler
+     * @param minimumQuantum lower bound of the median based quantum, has to be positive
+     */
+    public IncrementalRoundRobinScheduler(String name, int minimumQuantum) {
+        super(name);
+        if (minimumQuantum <= 0) {
+            throw new IllegalArgumentException("Minimum quantum has to be positive.");
+        }
+        this.minimumQuantum = minimumQuantum;
+    }
+
+    /**
+     * Enters the process into the scheduling queue.
+     *
+     * @param process Process that is to be scheduled
+     */
+    @Override
+    public void enterProcess(CPUProcess process) {
+        enqueue(new QueuedProcess(process), process.getDemandRemainder());
+        updateQuantum = true;
+    }
+
+    /**
+     * Pulls the next Process to handle and its assigned time/work quantum.
+     *
+     * @return a pair containing the next process to handle and its assigned time/work quantum.
+     */
+    @Override
+    public Pair<CPUProcess, Integer> retrieveNextProcess() {
+        return retrieveNextProcess(true);
+    }
+
+    /**
+     * Interface used by Multi Level Feedback queues.
+     *
+     * <p>
+     * Does not put the process back into the Queue.
+     *
+     * @return a pair containing the next process to handle and its assigned time quantum.
+     */
+    @Override
+    public Pair<CPUProcess, Integer> retrieveNextProcessNoReschedule() {
+        return retrieveNextProcess(false);
+    }
+
+    private Pair<CPUProcess, Integer> retrieveNextProcess(boolean reschedule) {
+        if (updateQuantum) {
+            updateQuantum();
+        }
+
+        QueuedProcess next = processes.poll();
+        if (next == null) {
+            return null;
+        }
+        demandMedian.remove(next.demand);
+        workDemand.remove(next.demand);
+
+        int nextDemand = next.process.getDemandRemainder();
+
+        Pair<CPUProcess, Integer> output;
+        if (nextDemand <= currentQuantum) {
+            output = new Pair<>(next.process, nextDemand);
+        } else {
+            if (reschedule) {
+                next.executedInRound = currentRound;
+                enqueue(next, nextDemand - currentQuantum); //put at end of Queue
+            }
+            output = new Pair<>(next.process, currentQuantum);
+        }
+
+        QueuedProcess head = processes.peek();
+        if (head != null && head.executedInRound == currentRound) {
+            updateQuantum = true;
+        }
+        return output;
+    }
+
+    private void enqueue(QueuedProcess queuedProcess, int demand) {
+        queuedProcess.demand = demand;
+        processes.add(queuedProcess);
+        demandMedian.add(demand);
+        workDemand.add(demand);
+    }
+
+    private void updateQuantum() {
+        currentRound++;
+
+        if (processes.isEmpty()) {
+            currentQuantum = minimumQuantum;
+            return;
+        }
+
+        currentQuantum = Math.max(demandMedian.getMedian(), minimumQuantum);
+        updateQuantum = false;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean hasProcessesToSchedule() {
+        return !processes.isEmpty();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void clear() {
+        processes.clear();
+        demandMedian.clear();
+        workDemand.reset();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getTotalWorkDemand() {
+        return workDemand.get();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int size() {
+        return processes.size();
+    }
+
+    private static final class QueuedProcess {
+        private final CPUProcess process;
+        private int demand;
+        private long executedInRound = -1;
+
+        private QueuedProcess(CPUProcess process) {
+            this.process = process;
+        }
+    }
+}
@@ -2,6 +2,8 @@ package cambio.simulator.resources.cpu.scheduling;
 
 import java.util.ArrayDeque;
 import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
 
 import cambio.simulator.resources.cpu.CPUProcess;
 import org.javatuples.Pair;
@@ -18,6 +20,10 @@ import org.javatuples.Pair;
 public class LIFOScheduler extends CPUProcessScheduler {
 
     private final Deque<CPUProcess> processes = new ArrayDeque<>();
+    private final WorkDemandCounter workDemand = new WorkDemandCounter();
+
+    //demand of each queued process at the time it entered, also used to prevent duplicates
+    private final Map<CPUProcess, Integer> enteredDemands = new HashMap<>();
 
     public LIFOScheduler(String name) {
         super(name);
@@ -29,8 +35,10 @@ public class LIFOScheduler extends CPUProcessScheduler {
      */
     @Override
     public synchronized void enterProcess(CPUProcess process) {
-        if (!processes.contains(process)) {
+        if (!enteredDemands.containsKey(process)) {
             processes.push(process);
+            enteredDemands.put(process, process.getDemandRemainder());
+            workDemand.add(process.getDemandRemainder());
         }
     }
 
@@ -43,8 +51,9 @@ public class LIFOScheduler extends CPUProcessScheduler {
             return null;
         }
 
-        int demand = processes.peek().getDemandTotal();
-        return new Pair<>(processes.pop(), demand);
+        CPUProcess next = processes.pop();
+        workDemand.remove(enteredDemands.remove(next));
+        return new Pair<>(next, next.getDemandTotal());
     }
 
     /**
@@ -67,16 +76,18 @@ public class LIFOScheduler extends CPUProcessScheduler {
      * {@inheritDoc}
      */
     @Override
-    public int getTotalWorkDemand() {
-        return processes.stream().mapToInt(CPUProcess::getDemandRemainder).sum();
+    public void clear() {
+        processes.clear();
+        enteredDemands.clear();
+        workDemand.reset();
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public void clear() {
-        processes.clear();
+    public int getTotalWorkDemand() {
+        return workDemand.get();
     }
 
     /**
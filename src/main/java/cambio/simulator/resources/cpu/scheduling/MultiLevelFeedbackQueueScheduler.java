@@ -25,7 +25,7 @@ import org.javatuples.Pair;
  */
 public class MultiLevelFeedbackQueueScheduler extends CPUProcessScheduler {
 
-    private final List<RoundRobinScheduler> queues = new ArrayList<>();
+    private final IncrementalRoundRobinScheduler[] queues;
 
     //holds the information in which queue a CPUProcess is currently held
     private final HashMap<CPUProcess, Integer> queueAssignmentMap = new HashMap<>();
@@ -46,13 +46,27 @@ public class MultiLevelFeedbackQueueScheduler extends CPUProcessScheduler {
      * @param layerCount number of target layers
      */
     public MultiLevelFeedbackQueueScheduler(String name, int layerCount) {
+        this(name, layerCount, IncrementalRoundRobinScheduler.DEFAULT_MINIMUM_QUANTUM);
+    }
+
+    /**
+     * Creates a new n-layer multi level feedback queue, whose round robin queues use a custom lower bound for their
+     * quantum.
+     *
+     * @param name           name of the scheduler
+     * @param layerCount     number of target layers
+     * @param minimumQuantum lower bound of the quantum of each layer
+     * @see IncrementalRoundRobinScheduler#IncrementalRoundRobinScheduler(String, int)
+     */
+    public MultiLevelFeedbackQueueScheduler(String name, int layerCount, int minimumQuantum) {
         super(name);
         if (layerCount <= 0) {
             throw new IllegalArgumentException("Level count has to be positive.");
         }
 
+        queues = new IncrementalRoundRobinScheduler[layerCount];
         for (int i = 0; i < layerCount; i++) {
-            queues.add(new RoundRobinScheduler(name + "_Queue" + i));
+            queues[i] = new IncrementalRoundRobinScheduler(name + "_Queue" + i, minimumQuantum);
         }
     }
 
@@ -66,9 +80,9 @@ public class MultiLevelFeedbackQueueScheduler extends CPUProcessScheduler {
     public void enterProcess(CPUProcess process) {
         Objects.requireNonNull(process);
         if (queueAssignmentMap.containsKey(process)) {
-            queues.get(queueAssignmentMap.get(process)).enterProcess(process);
+            queues[queueAssignmentMap.get(process)].enterProcess(process);
         } else {
-            queues.get(0).enterProcess(process);
+            queues[0].enterProcess(process);
             queueAssignmentMap.put(process, 0);
         }
     }
@@ -82,13 +96,13 @@ public class MultiLevelFeedbackQueueScheduler extends CPUProcessScheduler {
     public Pair<CPUProcess, Integer> retrieveNextProcess() {
         Pair<CPUProcess, Integer> next = null;
 
-        for (int i = 0; i < queues.size() - 1; i++) {
-            RoundRobinScheduler queue = queues.get(i);
+        for (int i = 0; i < queues.length - 1; i++) {
+            IncrementalRoundRobinScheduler queue = queues[i];
             next = queue.retrieveNextProcessNoReschedule();
             if (next != null) {
                 //if Process will not finish in the current burst put it a queue lower
                 if (next.getValue0().getDemandRemainder() > next.getValue1()) {
-                    queues.get(i + 1).enterProcess(next.getValue0());
+                    queues[i + 1].enterProcess(next.getValue0());
                     queueAssignmentMap.put(next.getValue0(), i + 1);
                 }
                 //otherwise, it will be finished and assigned_queue does not need to hold the information any longer.
@@ -98,11 +112,11 @@ public class MultiLevelFeedbackQueueScheduler extends CPUProcessScheduler {
         }
 
         if (next == null) {
-            next = queues.get(queues.size() - 1).retrieveNextProcess();
+            next = queues[queues.length - 1].retrieveNextProcess();
         }
 
         if (next != null) {
-            queueAssignmentMap.put(next.getValue0(), queues.size() - 1);
+            queueAssignmentMap.put(next.getValue0(), queues.length - 1);
         }
         return next;
     }
@@ -122,8 +136,8 @@ public class MultiLevelFeedbackQueueScheduler extends CPUProcessScheduler {
 
         Pair<CPUProcess, Integer> next = null;
 
-        for (int i = 0; i < queues.size() - 1; i++) {
-            RoundRobinScheduler queue = queues.get(i);
+        for (int i = 0; i < queues.length - 1; i++) {
+            IncrementalRoundRobinScheduler queue = queues[i];
             next = queue.retrieveNextProcessNoReschedule();
             if (next != null) {
                 if (next.getValue0().getDemandRemainder() > next.getValue1()) {
@@ -137,10 +151,10 @@ public class MultiLevelFeedbackQueueScheduler extends CPUProcessScheduler {
         }
 
         if (next == null) {
-            next = queues.get(queues.size() - 1).retrieveNextProcessNoReschedule(); //does not reschedule process
+            next = queues[queues.length - 1].retrieveNextProcessNoReschedule(); //does not reschedule process
         }
         if (next != null) {
-            queueAssignmentMap.put(next.getValue0(), queues.size() - 1);
+            queueAssignmentMap.put(next.getValue0(), queues.length - 1);
         }
         return next;
     }
@@ -150,7 +164,12 @@ public class MultiLevelFeedbackQueueScheduler extends CPUProcessScheduler {
      */
     @Override
     public boolean hasProcessesToSchedule() {
-        return queues.stream().anyMatch(CPUProcessScheduler::hasProcessesToSchedule);
+        for (IncrementalRoundRobinScheduler queue : queues) {
+            if (queue.hasProcessesToSchedule()) {
+                return true;
+            }
+        }
+        return false;
     }
 
 
@@ -159,7 +178,11 @@ public class MultiLevelFeedbackQueueScheduler extends CPUProcessScheduler {
      */
     @Override
     public int getTotalWorkDemand() {
-        return queues.stream().mapToInt(RoundRobinScheduler::getTotalWorkDemand).sum();
+        long totalWorkDemand = 0;
+        for (IncrementalRoundRobinScheduler queue : queues) {
+            totalWorkDemand += queue.getTotalWorkDemand();
+        }
+        return (int) Math.min(totalWorkDemand, Integer.MAX_VALUE);
     }
 
 
@@ -168,7 +191,9 @@ public class MultiLevelFeedbackQueueScheduler extends CPUProcessScheduler {
      */
     @Override
     public void clear() {
-        queues.forEach(RoundRobinScheduler::clear);
+        for (IncrementalRoundRobinScheduler queue : queues) {
+            queue.clear();
+        }
     }
 
     /**
@@ -176,7 +201,11 @@ public class MultiLevelFeedbackQueueScheduler extends CPUProcessScheduler {
      */
     @Override
     public int size() {
-        return queues.stream().mapToInt(CPUProcessScheduler::size).sum();
+        int size = 0;
+        for (IncrementalRoundRobinScheduler queue : queues) {
+            size += queue.size();
+        }
+        return size;
     }
 
 }
@@ -0,0 +1,109 @@
+package cambio.simulator.resources.cpu.scheduling;
+
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.TreeMap;
+
+/**
+ * Running median of a multiset of integers that supports insertion and removal of arbitrary values in logarithmic
+ * time.
+ *
+ * <p>
+ * The values are split into a lower and an upper half, which act like a max-heap and a min-heap. Unlike heaps, both
+ * halves are counted tree multisets, so values can also be removed when they leave the middle of a queue.
+ */
+final class RunningMedian {
+
+    private final TreeMap<Integer, Integer> lower = new TreeMap<>();
+    private final TreeMap<Integer, Integer> upper = new TreeMap<>();
+    private int lowerSize = 0;
+    private int upperSize = 0;
+
+    void add(int value) {
+        if (lowerSize == 0 || value <= lower.lastKey()) {
+            increment(lower, value);
+            lowerSize++;
+        } else {
+            increment(upper, value);
+            upperSize++;
+        }
+        rebalance();
+    }
+
+    /**
+     * Removes one occurrence of the given value.
+     *
+     * @throws NoSuchElementException if the value is not contained
+     */
+    void remove(int value) {
+        if (lowerSize > 0 && value <= lower.lastKey()) {
+            decrement(lower, value);
+            lowerSize--;
+        } else {
+            decrement(upper, value);
+            upperSize--;
+        }
+        rebalance();
+    }
+
+    /**
+     * Gets the median of all values. For an even number of values, this is the rounded down mean of the two middle
+     * values.
+     *
+     * @throws NoSuchElementException if there are no values
+     */
+    int getMedian() {
+        if (lowerSize == 0) {
+            throw new NoSuchElementException("The median of no values is undefined.");
+        }
+        if (lowerSize > upperSize) {
+            return lower.lastKey();
+        }
+        return (int) (((long) lower.lastKey() + upper.firstKey()) / 2);
+    }
+
+    int size() {
+        return lowerSize + upperSize;
+    }
+
+    void clear() {
+        lower.clear();
+        upper.clear();
+        lowerSize = 0;
+        upperSize = 0;
+    }
+
+    // keeps every value of the lower half smaller or equal to the values of the upper half
+    // and the lower half at most one value larger than the upper half
+    private void rebalance() {
+        if (lowerSize > upperSize + 1) {
+            int value = lower.lastKey();
+            decrement(lower, value);
+            lowerSize--;
+            increment(upper, value);
+            upperSize++;
+        } else if (upperSize > lowerSize) {
+            int value = upper.firstKey();
+            decrement(upper, value);
+            upperSize--;
+            increment(lower, value);
+            lowerSize++;
+        }
+    }
+
+    private static void increment(Map<Integer, Integer> half, int value) {
+        half.merge(value, 1, Integer::sum);
+    }
+
+    private static void decrement(Map<Integer, Integer> half, int value) {
+        Integer count = half.get(value);
+        if (count == null) {
+            throw new NoSuchElementException(String.format("Value %d is not part of the median.", value));
+        }
+        if (count == 1) {
+            half.remove(value);
+        } else {
+            half.put(value, count - 1);
+        }
+    }
+}
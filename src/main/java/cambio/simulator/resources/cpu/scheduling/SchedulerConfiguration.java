@@ -0,0 +1,72 @@
+package cambio.simulator.resources.cpu.scheduling;
+
+import java.util.Objects;
+
+/**
+ * Describes the scheduler that each CPU of a {@link cambio.simulator.entities.microservice.Microservice} uses. Since
+ * schedulers hold the processes of a single CPU, every CPU creates its own scheduler from this configuration.
+ *
+ * <p>
+ * The quantum is the lower bound of the median based quantum of the round-robin disciplines. The levels are the number
+ * of queues of a {@link MultiLevelFeedbackQueueScheduler}. Both are ignored by the other disciplines.
+ *
+ * @see cambio.simulator.parsing.adapter.architecture.SchedulerConfigurationAdapter
+ */
+public final class SchedulerConfiguration {
+
+    /**
+     * The scheduler that is used if a service does not configure one.
+     */
+    public static final SchedulerConfiguration DEFAULT = new SchedulerConfiguration(SchedulerType.FIFO);
+
+    private static final int DEFAULT_LEVELS = 3;
+
+    private final SchedulerType type;
+    private final int quantum;
+    private final int levels;
+
+    public SchedulerConfiguration(SchedulerType type) {
+        this(type, IncrementalRoundRobinScheduler.DEFAULT_MINIMUM_QUANTUM, DEFAULT_LEVELS);
+    }
+
+    /**
+     * Creates a new scheduler configuration.
+     *
+     * @param type    scheduling discipline
+     * @param quantum lower bound of the quantum of round-robin disciplines, has to be positive
+     * @param levels  number of queues of a multi level feedback queue, has to be positive
+     */
+    public SchedulerConfiguration(SchedulerType type, int quantum, int levels) {
+        this.type = Objects.requireNonNull(type);
+        if (quantum <= 0) {
+            throw new IllegalArgumentException("Scheduler quantum has to be positive.");
+        }
+        if (levels <= 0) {
+            throw new IllegalArgumentException("Scheduler level count has to be positive.");
+        }
+        this.quantum = quantum;
+        this.levels = levels;
+    }
+
+    /**
+     * Creates a new scheduler for a single CPU.
+     *
+     * @param name name of the scheduler
+     * @return a new, empty scheduler of the configured type
+     */
+    public CPUProcessScheduler createScheduler(String name) {
+        return type.create(name, quantum, levels);
+    }
+
+    public SchedulerType getType() {
+        return type;
+    }
+
+    public int getQuantum() {
+        return quantum;
+    }
+
+    public int getLevels() {
+        return levels;
+    }
+}
@@ -0,0 +1,78 @@
+package cambio.simulator.resources.cpu.scheduling;
+
+import com.google.gson.annotations.SerializedName;
+
+/**
+ * Scheduling disciplines that the CPU of a {@link cambio.simulator.entities.microservice.MicroserviceInstance} can use.
+ *
+ * @see SchedulerConfiguration
+ */
+public enum SchedulerType {
+
+    /**
+     * First come first serve.
+     *
+     * @see FIFOScheduler
+     */
+    @SerializedName(value = "fifo", alternate = {"FIFO", "fcfs", "FCFS"})
+    FIFO {
+        @Override
+        CPUProcessScheduler create(String name, int minimumQuantum, int levels) {
+            return new FIFOScheduler(name);
+        }
+    },
+
+    /**
+     * Last come first serve.
+     *
+     * @see LIFOScheduler
+     */
+    @SerializedName(value = "lifo", alternate = {"LIFO", "lcfs", "LCFS"})
+    LIFO {
+        @Override
+        CPUProcessScheduler create(String name, int minimumQuantum, int levels) {
+            return new LIFOScheduler(name);
+        }
+    },
+
+    /**
+     * Self adjusting round-robin with a median based quantum.
+     *
+     * @see IncrementalRoundRobinScheduler
+     */
+    @SerializedName(value = "round_robin", alternate = {"ROUND_ROBIN", "rr", "RR", "sarr"})
+    ROUND_ROBIN {
+        @Override
+        CPUProcessScheduler create(String name, int minimumQuantum, int levels) {
+            return new IncrementalRoundRobinScheduler(name, minimumQuantum);
+        }
+    },
+
+    /**
+     * Multi level feedback queue of round-robin queues.
+     *
+     * @see MultiLevelFeedbackQueueScheduler
+     */
+    @SerializedName(value = "mlfq", alternate = {"MLFQ", "multi_level_feedback_queue"})
+    MLFQ {
+        @Override
+        CPUProcessScheduler create(String name, int minimumQuantum, int levels) {
+            return new MultiLevelFeedbackQueueScheduler(name, levels, minimumQuantum);
+        }
+    },
+
+    /**
+     * Non-preemptive shortest job next.
+     *
+     * @see ShortestJobNextScheduler
+     */
+    @SerializedName(value = "shortest_job_next", alternate = {"SHORTEST_JOB_NEXT", "sjn", "SJN", "sjf", "SJF"})
+    SHORTEST_JOB_NEXT {
+        @Override
+        CPUProcessScheduler create(String name, int minimumQuantum, int levels) {
+            return new ShortestJobNextScheduler(name);
+        }
+    };
+
+    abstract CPUProcessScheduler create(String name, int minimumQuantum, int levels);
+}
@@ -1,7 +1,9 @@
 package cambio.simulator.resources.cpu.scheduling;
 
-import java.util.Collections;
-import java.util.LinkedList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.PriorityQueue;
+import java.util.Set;
 
 import cambio.simulator.resources.cpu.CPUProcess;
 import org.javatuples.Pair;
@@ -10,14 +12,27 @@ import org.javatuples.Pair;
  * Scheduler, that schedules all entered processes by their left over work unit demand. Always retrieves the process
  * that hast he least work left first. Always assigns the full work demand needed for a processes.
  *
+ * <p>
+ * Processes with the same left over demand are retrieved in the order they entered.
+ *
  * @author Lion Wagner
  */
 public class ShortestJobNextScheduler extends CPUProcessScheduler {
 
     /**
-     * Set of CPUProcesses, sorted by left over demand (natural sorting of CPUProcess).
+     * Heap of CPUProcesses, ordered by left over demand when entering and then by arrival.
+     */
+    private final PriorityQueue<QueuedProcess> processes = new PriorityQueue<>(
+        Comparator.comparingInt((QueuedProcess queuedProcess) -> queuedProcess.demand)
+            .thenComparingLong(queuedProcess -> queuedProcess.arrival));
+
+    /**
+     * Membership of the processes that are currently queued, prevents duplicate entries.
      */
-    private final LinkedList<CPUProcess> processes = new LinkedList<>();
+    private final Set<CPUProcess> queued = new HashSet<>();
+    private final WorkDemandCounter workDemand = new WorkDemandCounter();
+
+    private long arrivalCounter = 0;
 
     public ShortestJobNextScheduler(String name) {
         super(name);
@@ -28,9 +43,10 @@ public class ShortestJobNextScheduler extends CPUProcessScheduler {
      */
     @Override
     public synchronized void enterProcess(CPUProcess process) {
-        if (!processes.contains(process)) {
-            processes.add(process);
-            Collections.sort(processes);
+        if (queued.add(process)) {
+            int demand = process.getDemandRemainder();
+            processes.add(new QueuedProcess(process, demand, arrivalCounter++));
+            workDemand.add(demand);
         }
     }
 
@@ -39,12 +55,13 @@ public class ShortestJobNextScheduler extends CPUProcessScheduler {
      */
     @Override
     public Pair<CPUProcess, Integer> retrieveNextProcess() {
-        if (processes.isEmpty()) {
+        QueuedProcess next = processes.poll();
+        if (next == null) {
             return null;
         }
-        CPUProcess next = processes.poll();
-        int demand = next.getDemandTotal();
-        return new Pair<>(next, demand);
+        queued.remove(next.process);
+        workDemand.remove(next.demand);
+        return new Pair<>(next.process, next.process.getDemandTotal());
     }
 
     /**
@@ -67,16 +84,18 @@ public class ShortestJobNextScheduler extends CPUProcessScheduler {
      * {@inheritDoc}
      */
     @Override
-    public int getTotalWorkDemand() {
-        return processes.stream().mapToInt(CPUProcess::getDemandRemainder).sum();
+    public void clear() {
+        processes.clear();
+        queued.clear();
+        workDemand.reset();
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public void clear() {
-        processes.clear();
+    public int getTotalWorkDemand() {
+        return workDemand.get();
     }
 
     /**
@@ -86,4 +105,16 @@ public class ShortestJobNextScheduler extends CPUProcessScheduler {
     public int size() {
         return processes.size();
     }
+
+    private static final class QueuedProcess {
+        private final CPUProcess process;
+        private final int demand;
+        private final long arrival;
+
+        private QueuedProcess(CPUProcess process, int demand, long arrival) {
+            this.process = process;
+            this.demand = demand;
+            this.arrival = arrival;
+        }
+    }
 }
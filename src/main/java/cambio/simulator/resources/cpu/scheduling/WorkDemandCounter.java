@@ -0,0 +1,36 @@
+package cambio.simulator.resources.cpu.scheduling;
+
+/**
+ * Running sum of the demands of the processes in the queue of a scheduler. Lets schedulers answer
+ * {@link CPUProcessScheduler#getTotalWorkDemand()} in constant time.
+ */
+final class WorkDemandCounter {
+
+    private long totalWorkDemand = 0;
+
+    /**
+     * Adds the demand of a process that entered the queue.
+     */
+    void add(int demand) {
+        totalWorkDemand += demand;
+    }
+
+    /**
+     * Removes the demand of a process that left the queue. The demand has to be the same that was added for the
+     * process.
+     */
+    void remove(int demand) {
+        totalWorkDemand -= demand;
+    }
+
+    void reset() {
+        totalWorkDemand = 0;
+    }
+
+    /**
+     * Gets the sum of all demands, capped at {@link Integer#MAX_VALUE}.
+     */
+    int get() {
+        return (int) Math.min(totalWorkDemand, Integer.MAX_VALUE);
+    }
+}
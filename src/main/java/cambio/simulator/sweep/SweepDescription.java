@@ -0,0 +1,139 @@
+package cambio.simulator.sweep;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.*;
+
+import cambio.simulator.parsing.GsonHelper;
+import cambio.simulator.parsing.ParsingException;
+import com.google.gson.JsonParseException;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Describes a parameter sweep over an experiment. The sweep is applied as overrides on the parsed architecture and
+ * experiment models, so the description files of the experiment stay untouched.
+ *
+ * <p>
+ * Example JSON-description:
+ *
+ * <pre>
+ * {
+ *   "design": "latin_hypercube",
+ *   "samples": 20,
+ *   "seed": 42,
+ *   "parameters": [
+ *     { "target": "gateway.instances", "values": [1, 2, 4] },
+ *     { "target": "gateway.retry.maxTries", "min": 1, "max": 10, "integer": true },
+ *     { "target": "load.scale", "min": 0.5, "max": 2.0 }
+ *   ]
+ * }
+ * </pre>
+ *
+ * @see SweepDesign
+ * @see SweepParameter
+ * @see SweepTargets
+ */
+public class SweepDescription {
+
+    private SweepDesign design = SweepDesign.GRID;
+    private int samples = 0;
+    private long seed = 0;
+    private List<SweepParameter> parameters = new ArrayList<>();
+
+    /**
+     * Used by Gson, keeps the default values of the fields.
+     */
+    private SweepDescription() {
+    }
+
+    /**
+     * Creates a new sweep description.
+     *
+     * @param design     design that selects the points of the sweep
+     * @param samples    number of points of a {@link SweepDesign#LATIN_HYPERCUBE} design, ignored by a grid design
+     * @param seed       seed of randomized designs
+     * @param parameters parameters that are varied
+     */
+    public SweepDescription(@NotNull SweepDesign design, int samples, long seed,
+                            @NotNull List<SweepParameter> parameters) {
+        this.design = design;
+        this.samples = samples;
+        this.seed = seed;
+        this.parameters = new ArrayList<>(parameters);
+    }
+
+    /**
+     * Loads a sweep description from a JSON-file.
+     *
+     * @param file location of the sweep description
+     * @return the parsed sweep description
+     * @throws ParsingException if the file cannot be read or does not describe a valid sweep
+     */
+    public static @NotNull SweepDescription load(@NotNull File file) {
+        try (Reader reader = Files.newBufferedReader(file.toPath(), StandardCharsets.UTF_8)) {
+            SweepDescription description = GsonHelper.getGson().fromJson(reader, SweepDescription.class);
+            if (description == null) {
+                throw new ParsingException(String.format("Sweep description %s is empty.", file.getAbsolutePath()));
+            }
+            description.validate();
+            return description;
+        } catch (IOException e) {
+            throw new ParsingException(
+                String.format("Could not read sweep description %s.", file.getAbsolutePath()), e);
+        } catch (JsonParseException | IllegalArgumentException e) {
+            throw new ParsingException(String.format("Error parsing sweep description %s%n%s",
+                file.getAbsolutePath(), e.getMessage()), e);
+        }
+    }
+
+    /**
+     * Checks whether this sweep is fully and consistently described.
+     *
+     * @throws IllegalArgumentException if the sweep description is invalid
+     */
+    public void validate() {
+        if (design == null) {
+            throw new IllegalArgumentException("Unknown sweep design.");
+        }
+        if (parameters == null || parameters.isEmpty()) {
+            throw new IllegalArgumentException("A sweep has to define at least one parameter.");
+        }
+        Set<String> targets = new HashSet<>();
+        for (SweepParameter parameter : parameters) {
+            parameter.validate();
+            if (!targets.add(parameter.getTarget())) {
+                throw new IllegalArgumentException(
+                    String.format("Sweep parameter '%s' is defined twice.", parameter.getTarget()));
+            }
+        }
+        if (design == SweepDesign.LATIN_HYPERCUBE && samples <= 0) {
+            throw new IllegalArgumentException("A latin hypercube design requires a positive number of samples.");
+        }
+    }
+
+    /**
+     * Expands this description into the points of the sweep.
+     *
+     * @return all points of the sweep
+     */
+    public List<SweepPoint> expand() {
+        validate();
+        List<Map<String, Double>> values = design.expand(parameters, samples, seed);
+        List<SweepPoint> points = new ArrayList<>(values.size());
+        for (int i = 0; i < values.size(); i++) {
+            points.add(new SweepPoint(i, values.get(i)));
+        }
+        return points;
+    }
+
+    public SweepDesign getDesign() {
+        return design;
+    }
+
+    public List<SweepParameter> getParameters() {
+        return Collections.unmodifiableList(parameters);
+    }
+}
@@ -0,0 +1,79 @@
+package cambio.simulator.sweep;
+
+import java.util.*;
+
+import com.google.gson.annotations.SerializedName;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Strategies for selecting the points of a parameter sweep.
+ *
+ * @see SweepDescription
+ */
+public enum SweepDesign {
+
+    /**
+     * Full factorial design. Creates one point for each combination of the levels of all parameters.
+     */
+    @SerializedName(value = "grid", alternate = {"full_factorial", "factorial"})
+    GRID {
+        @Override
+        List<Map<String, Double>> expand(@NotNull List<SweepParameter> parameters, int samples, long seed) {
+            List<Map<String, Double>> points = new ArrayList<>();
+            points.add(new LinkedHashMap<>());
+            for (SweepParameter parameter : parameters) {
+                List<Map<String, Double>> expanded = new ArrayList<>();
+                for (Map<String, Double> point : points) {
+                    for (double level : parameter.getLevels()) {
+                        Map<String, Double> copy = new LinkedHashMap<>(point);
+                        copy.put(parameter.getTarget(), level);
+                        expanded.add(copy);
+                    }
+                }
+                points = expanded;
+            }
+            return points;
+        }
+    },
+
+    /**
+     * Latin hypercube sampling. Creates {@code samples} points, such that the range of each parameter is split into
+     * {@code samples} equally sized strata and each stratum is hit by exactly one point.
+     */
+    @SerializedName(value = "latin_hypercube", alternate = {"lhs", "latin-hypercube"})
+    LATIN_HYPERCUBE {
+        @Override
+        List<Map<String, Double>> expand(@NotNull List<SweepParameter> parameters, int samples, long seed) {
+            if (samples <= 0) {
+                throw new IllegalArgumentException("A latin hypercube design requires a positive number of samples.");
+            }
+            Random random = new Random(seed);
+            List<Map<String, Double>> points = new ArrayList<>(samples);
+            for (int i = 0; i < samples; i++) {
+                points.add(new LinkedHashMap<>());
+            }
+            List<Integer> strata = new ArrayList<>(samples);
+            for (int i = 0; i < samples; i++) {
+                strata.add(i);
+            }
+            for (SweepParameter parameter : parameters) {
+                Collections.shuffle(strata, random);
+                for (int i = 0; i < samples; i++) {
+                    double position = (strata.get(i) + random.nextDouble()) / samples;
+                    points.get(i).put(parameter.getTarget(), parameter.valueAt(position));
+                }
+            }
+            return points;
+        }
+    };
+
+    /**
+     * Selects the points of a sweep.
+     *
+     * @param parameters parameters that are varied
+     * @param samples    number of requested samples, may be ignored by a design
+     * @param seed       seed for designs that use randomization
+     * @return one map per point that associates each parameter target with its value
+     */
+    abstract List<Map<String, Double>> expand(@NotNull List<SweepParameter> parameters, int samples, long seed);
+}
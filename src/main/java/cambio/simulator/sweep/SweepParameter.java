@@ -0,0 +1,135 @@
+package cambio.simulator.sweep;
+
+import java.util.Arrays;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A single parameter of a sweep. A parameter either lists its values explicitly or describes a range between a
+ * {@code min} and {@code max} value.
+ *
+ * <p>
+ * Example JSON-descriptions:
+ *
+ * <pre>
+ * { "target": "gateway.instances", "values": [1, 2, 4] }
+ * { "target": "gateway.capacity", "min": 500, "max": 2000, "steps": 4, "integer": true }
+ * </pre>
+ *
+ * <p>
+ * For a {@link SweepDesign#GRID} a range is split into {@code steps} evenly spaced levels (including both bounds).
+ * For a {@link SweepDesign#LATIN_HYPERCUBE} values are drawn continuously from the range, respectively uniformly from
+ * the listed values.
+ *
+ * @see SweepTargets
+ */
+public class SweepParameter {
+
+    private String target;
+    private double[] values;
+    private Double min;
+    private Double max;
+    private int steps = 2;
+    private boolean integer = false;
+
+    /**
+     * Used by Gson, keeps the default values of the fields.
+     */
+    private SweepParameter() {
+    }
+
+    /**
+     * Creates a new parameter that takes the given values.
+     *
+     * @param target target of the parameter, see {@link SweepTargets}
+     * @param values values of the parameter
+     */
+    public SweepParameter(@NotNull String target, double... values) {
+        this.target = target;
+        this.values = values.clone();
+    }
+
+    /**
+     * Creates a new parameter that takes values from the given range.
+     *
+     * @param target  target of the parameter, see {@link SweepTargets}
+     * @param min     lower bound of the range
+     * @param max     upper bound of the range
+     * @param steps   number of levels the range is split into in a grid design
+     * @param integer whether values should be rounded to integers
+     */
+    public SweepParameter(@NotNull String target, double min, double max, int steps, boolean integer) {
+        this.target = target;
+        this.min = min;
+        this.max = max;
+        this.steps = steps;
+        this.integer = integer;
+    }
+
+    public String getTarget() {
+        return target;
+    }
+
+    /**
+     * Checks whether this parameter is fully and consistently described.
+     *
+     * @throws IllegalArgumentException if the parameter description is invalid
+     */
+    public void validate() {
+        if (target == null || target.isEmpty()) {
+            throw new IllegalArgumentException("Sweep parameter is missing a target.");
+        }
+        if (values != null) {
+            if (values.length == 0) {
+                throw new IllegalArgumentException(
+                    String.format("Sweep parameter '%s' does not define any values.", target));
+            }
+        } else if (min == null || max == null) {
+            throw new IllegalArgumentException(
+                String.format("Sweep parameter '%s' has to define either 'values' or 'min' and 'max'.", target));
+        } else if (min > max) {
+            throw new IllegalArgumentException(
+                String.format("Sweep parameter '%s' has a 'min' that is greater than its 'max'.", target));
+        } else if (steps < 1) {
+            throw new IllegalArgumentException(
+                String.format("Sweep parameter '%s' needs at least one step.", target));
+        }
+    }
+
+    /**
+     * Gets the levels of this parameter for a grid design.
+     *
+     * @return the listed values or {@code steps} evenly spaced values of the range
+     */
+    public double[] getLevels() {
+        if (values != null) {
+            return values.clone();
+        }
+        if (steps == 1) {
+            return new double[] {round(min)};
+        }
+        double[] levels = new double[steps];
+        for (int i = 0; i < steps; i++) {
+            levels[i] = round(min + (max - min) * i / (steps - 1));
+        }
+        return integer ? Arrays.stream(levels).distinct().toArray() : levels;
+    }
+
+    /**
+     * Maps a relative position to a value of this parameter.
+     *
+     * @param position relative position in {@code [0,1)}
+     * @return the listed value at the position or the value at the position within the range
+     */
+    public double valueAt(double position) {
+        if (values != null) {
+            int index = Math.min(values.length - 1, (int) Math.floor(position * values.length));
+            return values[index];
+        }
+        return round(min + (max - min) * position);
+    }
+
+    private double round(double value) {
+        return integer ? Math.round(value) : value;
+    }
+}
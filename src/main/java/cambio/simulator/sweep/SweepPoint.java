@@ -0,0 +1,58 @@
+package cambio.simulator.sweep;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import cambio.simulator.models.MiSimModel;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A single point of a parameter sweep. Assigns a value to each parameter target of the sweep and can be applied to a
+ * {@link MiSimModel} as a model override.
+ *
+ * @see MiSimModel#addModelOverride(Consumer)
+ */
+public final class SweepPoint implements Consumer<MiSimModel> {
+
+    private final int index;
+    private final Map<String, Double> values;
+
+    /**
+     * Creates a new sweep point.
+     *
+     * @param index  number of the point within its sweep
+     * @param values value of each parameter target, in iteration order of the parameters
+     */
+    public SweepPoint(int index, @NotNull Map<String, Double> values) {
+        this.index = index;
+        this.values = Collections.unmodifiableMap(new LinkedHashMap<>(values));
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public Map<String, Double> getValues() {
+        return values;
+    }
+
+    /**
+     * Applies the values of this point to the parsed models of the given model.
+     *
+     * @param model model whose architecture and experiment models should be changed
+     * @throws cambio.simulator.parsing.ParsingException if a target does not exist or a value is not valid for its
+     *                                                   target
+     * @see SweepTargets#apply(MiSimModel, String, double)
+     */
+    @Override
+    public void accept(@NotNull MiSimModel model) {
+        values.forEach((target, value) -> SweepTargets.apply(model, target, value));
+    }
+
+    @Override
+    public String toString() {
+        return String.format("SweepPoint%d%s", index, values);
+    }
+}
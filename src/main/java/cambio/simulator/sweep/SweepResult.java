@@ -0,0 +1,129 @@
+package cambio.simulator.sweep;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+import cambio.simulator.export.MiSimReporters;
+import cambio.simulator.export.RunStatistics;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Collects the results of all runs of a parameter sweep into one table. Each row contains the parameter values of the
+ * sweep point and the key figures of the run.
+ *
+ * @see cambio.simulator.SweepRunner
+ */
+public final class SweepResult {
+
+    public static final String RESULT_FILE_NAME = "sweep_results.csv";
+
+    private final List<Run> runs;
+
+    public SweepResult(@NotNull List<Run> runs) {
+        this.runs = new ArrayList<>(runs);
+    }
+
+    public List<Run> getRuns() {
+        return Collections.unmodifiableList(runs);
+    }
+
+    public long getFailedRunsCount() {
+        return runs.stream().filter(Run::hasError).count();
+    }
+
+    /**
+     * Writes the result table as {@value RESULT_FILE_NAME} into the given directory.
+     *
+     * @param directory target directory
+     * @throws IOException if an I/O error occurs writing the file
+     */
+    public void writeTo(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        String sep = MiSimReporters.csvSeperator;
+
+        Set<String> targets = new LinkedHashSet<>();
+        runs.forEach(run -> targets.addAll(run.getPoint().getValues().keySet()));
+
+        List<String> lines = new ArrayList<>();
+        List<String> header = new ArrayList<>(Arrays.asList("Point", "Replication", "Seed", "Error"));
+        header.addAll(targets);
+        header.addAll(Arrays.asList("CompletedRequests", "ResponseTimeMean", "ResponseTimeStandardDeviation",
+            "ResponseTimeMin", "ResponseTimeMax", "SuccessfulRequests", "FailedRequests", "FailureRatio"));
+        lines.add(String.join(sep, header));
+
+        for (Run run : runs) {
+            List<String> row = new ArrayList<>();
+            row.add(String.valueOf(run.getPoint().getIndex()));
+            row.add(String.valueOf(run.getReplication()));
+            row.add(String.valueOf(run.getSeed()));
+            row.add(String.valueOf(run.hasError()));
+            for (String target : targets) {
+                Double value = run.getPoint().getValues().get(target);
+                row.add(value == null ? "" : String.valueOf(value));
+            }
+            RunStatistics stats = run.getStatistics();
+            row.add(String.valueOf(stats.getResponseTimeCount()));
+            row.add(String.valueOf(stats.getResponseTimeMean()));
+            row.add(String.valueOf(stats.getResponseTimeStandardDeviation()));
+            row.add(String.valueOf(stats.getResponseTimeMin()));
+            row.add(String.valueOf(stats.getResponseTimeMax()));
+            row.add(String.valueOf(stats.getSuccessfulRequests()));
+            row.add(String.valueOf(stats.getFailedRequests()));
+            row.add(String.valueOf(stats.getFailureRatio()));
+            lines.add(String.join(sep, row));
+        }
+        Files.write(directory.resolve(RESULT_FILE_NAME), lines, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Result of a single run of a sweep point.
+     */
+    public static final class Run {
+        private final SweepPoint point;
+        private final int replication;
+        private final int seed;
+        private final boolean error;
+        private final RunStatistics statistics;
+
+        /**
+         * Creates a new run result.
+         *
+         * @param point       sweep point that was simulated
+         * @param replication number of the replication of the point
+         * @param seed        seed that was used by the run
+         * @param error       whether the experiment of the run failed
+         * @param statistics  statistics that were collected during the run
+         */
+        public Run(@NotNull SweepPoint point, int replication, int seed, boolean error,
+                   @NotNull RunStatistics statistics) {
+            this.point = point;
+            this.replication = replication;
+            this.seed = seed;
+            this.error = error;
+            this.statistics = statistics;
+        }
+
+        public SweepPoint getPoint() {
+            return point;
+        }
+
+        public int getReplication() {
+            return replication;
+        }
+
+        public int getSeed() {
+            return seed;
+        }
+
+        public boolean hasError() {
+            return error;
+        }
+
+        public RunStatistics getStatistics() {
+            return statistics;
+        }
+    }
+}
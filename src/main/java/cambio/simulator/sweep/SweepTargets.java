@@ -0,0 +1,145 @@
+package cambio.simulator.sweep;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import cambio.simulator.entities.generator.LoadGeneratorDescriptionExecutor;
+import cambio.simulator.entities.generator.ScaleFactor;
+import cambio.simulator.entities.microservice.Microservice;
+import cambio.simulator.entities.patterns.InstanceOwnedPatternConfiguration;
+import cambio.simulator.misc.NameResolver;
+import cambio.simulator.models.MiSimModel;
+import cambio.simulator.parsing.ParsingException;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Applies the value of a sweep parameter to the parsed models of a {@link MiSimModel}.
+ *
+ * <p>
+ * Supported targets are:
+ * <ul>
+ *     <li>{@code <service>.instances} - starting instance count of a service</li>
+ *     <li>{@code <service>.capacity} - capacity of each instance of a service, not supported for services that
+ *     configure a {@code capacity_per_thread}</li>
+ *     <li>{@code <service>.<pattern type>.<property>} - property of an instance owned pattern of a service, e.g.
+ *     {@code gateway.retry.maxTries} or {@code gateway.circuitbreaker.error_threshold_percentage}. The property name
+ *     is the one used in the architecture description.</li>
+ *     <li>{@code load.scale} - scale factor of all load generators</li>
+ *     <li>{@code load.<generator>.scale} - scale factor of the load generator with the given name</li>
+ * </ul>
+ */
+public final class SweepTargets {
+
+    public static final String LOAD_PREFIX = "load.";
+    public static final String SCALE_SUFFIX = "scale";
+    public static final String INSTANCES_PROPERTY = "instances";
+    public static final String CAPACITY_PROPERTY = "capacity";
+
+    private SweepTargets() {
+    }
+
+    /**
+     * Applies the given value to the given target.
+     *
+     * @param model  model whose architecture and experiment models should be changed
+     * @param target target of the value
+     * @param value  new value of the target
+     * @throws ParsingException if the target does not exist or the value is not valid for the target
+     */
+    public static void apply(@NotNull MiSimModel model, @NotNull String target, double value) {
+        if (target.startsWith(LOAD_PREFIX)) {
+            applyLoadScale(model, target, value);
+            return;
+        }
+
+        String[] parts = target.split("\\.");
+        Microservice service = NameResolver.resolveMicroserviceName(model, parts[0]);
+        if (service == null) {
+            throw new ParsingException(
+                String.format("Sweep target '%s' references unknown service '%s'.", target, parts[0]));
+        }
+
+        if (parts.length == 2 && parts[1].equals(INSTANCES_PROPERTY)) {
+            service.setInstancesCount(requireNonNegativeInteger(target, value));
+        } else if (parts.length == 2 && parts[1].equals(CAPACITY_PROPERTY)) {
+            applyCapacity(service, target, value);
+        } else if (parts.length == 3) {
+            applyPatternProperty(service, target, parts[1], parts[2], value);
+        } else {
+            throw new ParsingException(String.format("Unknown sweep target '%s'.", target));
+        }
+    }
+
+    /**
+     * Sets the total capacity of the given service. Rejects services that configure their capacity per thread, since
+     * setting the total capacity would silently drop that configuration.
+     */
+    static void applyCapacity(Microservice service, String target, double value) {
+        if (service.getCapacityPerThread() > 0) {
+            throw new ParsingException(String.format("Sweep target '%s' cannot be applied, since service '%s' "
+                + "configures a capacity_per_thread.", target, service.getPlainName()));
+        }
+        int capacity = requireNonNegativeInteger(target, value);
+        if (capacity == 0) {
+            throw new ParsingException(String.format("Sweep target '%s' has to be positive.", target));
+        }
+        service.setCapacity(capacity);
+    }
+
+    private static void applyPatternProperty(Microservice service, String target, String patternType,
+                                             String property, double value) {
+        boolean found = false;
+        for (InstanceOwnedPatternConfiguration configuration : service.getInstanceOwnedPatternConfigurations()) {
+            if (!patternType.equalsIgnoreCase(configuration.type)) {
+                continue;
+            }
+            if (configuration.config == null) {
+                throw new ParsingException(String.format(
+                    "Sweep target '%s' references a pattern without a 'config' block.", target));
+            }
+            configuration.config.put(property, value == Math.rint(value) ? (Object) (long) value : value);
+            found = true;
+        }
+        if (!found) {
+            throw new ParsingException(String.format(
+                "Sweep target '%s' references pattern '%s', which is not configured for service '%s'.", target,
+                patternType, service.getPlainName()));
+        }
+    }
+
+    private static void applyLoadScale(MiSimModel model, String target, double value) {
+        String generatorName = target.equals(LOAD_PREFIX + SCALE_SUFFIX)
+            ? null
+            : target.substring(LOAD_PREFIX.length(), target.length() - SCALE_SUFFIX.length() - 1);
+        if (!target.endsWith("." + SCALE_SUFFIX) || (generatorName != null && generatorName.isEmpty())) {
+            throw new ParsingException(String.format("Unknown sweep target '%s'.", target));
+        }
+
+        List<LoadGeneratorDescriptionExecutor> generators = model.getExperimentModel().getGenerators()
+            .stream()
+            .filter(generator -> generatorName == null
+                || generatorName.equals(generator.getLoadGeneratorDescription().getName())
+                || generatorName.equals(generator.getPlainName()))
+            .collect(Collectors.toList());
+        if (generators.isEmpty()) {
+            throw new ParsingException(
+                String.format("Sweep target '%s' does not match any load generator.", target));
+        }
+
+        if (!(value > 0)) {
+            throw new ParsingException(String.format("Sweep target '%s' has to be positive.", target));
+        }
+
+        //the scaling is applied for the whole (remaining) simulation
+        ScaleFactor scaleFactor = new ScaleFactor(value, 0, Long.MAX_VALUE / 2);
+        generators.forEach(generator -> generator.scaleLoad(scaleFactor));
+    }
+
+    private static int requireNonNegativeInteger(String target, double value) {
+        if (value < 0 || value != Math.rint(value) || value > Integer.MAX_VALUE) {
+            throw new ParsingException(
+                String.format("Sweep target '%s' requires a non negative integer, but got %s.", target, value));
+        }
+        return (int) value;
+    }
+}
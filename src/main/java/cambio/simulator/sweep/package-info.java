@@ -0,0 +1,5 @@
+/**
+ * Parameter sweeps (design of experiments) over the parsed architecture and experiment models.
+ */
+
+package cambio.simulator.sweep;
@@ -0,0 +1,171 @@
+package desmoj.core.simulator;
+
+import cambio.simulator.misc.CalendarQueue;
+
+/**
+ * Future event list that stores the event notes of the scheduler in a {@link CalendarQueue}.
+ *
+ * <p>
+ * MiSim schedules mostly short network and CPU delays, hence the event notes are spread evenly over the near future.
+ * For such distributions the calendar queue inserts and removes the next note in amortized constant time, instead of
+ * the logarithmic time of the {@link EventTreeList}.
+ *
+ * <p>
+ * The notes are ordered like in the other event lists: by time, then by descending scheduling priority (the highest
+ * priority of the entities and the event of a note, see {@link cambio.simulator.misc.Priority}) and then in the order
+ * they were scheduled. Times are compared in epsilon units, so the order does not suffer from rounding.
+ *
+ * <p>
+ * The operations of {@link EventList} are package-private, hence this list has to reside in the package of the
+ * DESMO-J scheduler.
+ *
+ * @see cambio.simulator.models.EventListType#CALENDAR
+ */
+public class CalendarEventList extends EventList {
+
+    private final CalendarQueue<EventNote> notes =
+        new CalendarQueue<>(note -> note.getTime().getTimeInEpsilon(), CalendarEventList::getPriority);
+
+    public CalendarEventList() {
+    }
+
+    private static int getPriority(EventNote note) {
+        int priority = Integer.MIN_VALUE;
+        boolean found = false;
+        Entity[] entities = {note.getEntity1(), note.getEntity2(), note.getEntity3()};
+        for (Entity entity : entities) {
+            if (entity != null) {
+                priority = Math.max(priority, entity.getSchedulingPriority());
+                found = true;
+            }
+        }
+        EventAbstract event = note.getEvent();
+        if (event != null) {
+            priority = Math.max(priority, event.getSchedulingPriority());
+            found = true;
+        }
+        return found ? priority : 0;
+    }
+
+    /**
+     * Registers the note at its entities and event, like the other event lists do on insertion.
+     */
+    private static void register(EventNote note) {
+        Entity entity1 = note.getEntity1();
+        Entity entity2 = note.getEntity2();
+        Entity entity3 = note.getEntity3();
+        EventAbstract event = note.getEvent();
+        if (entity1 != null) {
+            entity1.addEventNote(note);
+        }
+        if (entity2 != null) {
+            entity2.addEventNote(note);
+        }
+        if (entity3 != null) {
+            entity3.addEventNote(note);
+        }
+        if (event != null) {
+            event.addEventNote(note);
+        }
+    }
+
+    /**
+     * Deregisters the note from its entities and event, like the other event lists do on removal.
+     */
+    private static void deregister(EventNote note) {
+        Entity entity1 = note.getEntity1();
+        Entity entity2 = note.getEntity2();
+        Entity entity3 = note.getEntity3();
+        EventAbstract event = note.getEvent();
+        if (entity1 != null) {
+            entity1.removeEventNote(note);
+        }
+        if (entity2 != null) {
+            entity2.removeEventNote(note);
+        }
+        if (entity3 != null) {
+            entity3.removeEventNote(note);
+        }
+        if (event != null) {
+            event.removeEventNote(note);
+        }
+    }
+
+    @Override
+    EventNote firstNote() {
+        return notes.peekFirst();
+    }
+
+    @Override
+    void insert(EventNote newNote) {
+        register(newNote);
+        notes.add(newNote);
+    }
+
+    @Override
+    void insertAfter(EventNote where, EventNote newNote) {
+        register(newNote);
+        notes.addAfter(where, newNote);
+    }
+
+    @Override
+    void insertAsFirst(EventNote newNote) {
+        register(newNote);
+        notes.addFirst(newNote);
+    }
+
+    @Override
+    void insertAsLast(EventNote newNote) {
+        register(newNote);
+        notes.addLast(newNote);
+    }
+
+    @Override
+    void insertBefore(EventNote where, EventNote newNote) {
+        register(newNote);
+        notes.addBefore(where, newNote);
+    }
+
+    @Override
+    boolean isEmpty() {
+        return notes.isEmpty();
+    }
+
+    @Override
+    EventNote lastNote() {
+        return notes.peekLast();
+    }
+
+    @Override
+    EventNote nextNote(EventNote origin) {
+        return notes.contains(origin) ? notes.next(origin) : null;
+    }
+
+    @Override
+    EventNote prevNote(EventNote origin) {
+        return notes.contains(origin) ? notes.previous(origin) : null;
+    }
+
+    @Override
+    boolean remove(EventNote note) {
+        if (!notes.remove(note)) {
+            return false;
+        }
+        deregister(note);
+        return true;
+    }
+
+    @Override
+    EventNote removeFirst() {
+        EventNote note = notes.pollFirst();
+        if (note != null) {
+            deregister(note);
+        }
+        return note;
+    }
+
+    @Override
+    public String toString() {
+        return "CalendarEventList" + notes;
+    }
+}
@@ -101,4 +101,83 @@ class CLITest {
             Assertions.fail();
         }
     }
+
+    @Test
+    void parsesReplicationOptions() throws ParseException {
+        String[] args =
+            new String[] {
+                "-a", "somePath",
+                "-e", "someOtherPath",
+                "--replications", "30",
+                "--parallelism", "4"
+            };
+        ExperimentStartupConfig config = CLI.parseArguments(ExperimentStartupConfig.class, args);
+        Assertions.assertEquals(30, config.getReplications());
+        Assertions.assertEquals(4, config.getParallelism());
+    }
+
+    @Test
+    void defaultsToSingleReplication() throws ParseException {
+        String[] args =
+            new String[] {
+                "-a", "somePath",
+                "-e", "someOtherPath"
+            };
+        ExperimentStartupConfig config = CLI.parseArguments(ExperimentStartupConfig.class, args);
+        Assertions.assertEquals(1, config.getReplications());
+        Assertions.assertEquals(Runtime.getRuntime().availableProcessors(), config.getParallelism());
+    }
+
+    @Test
+    void rejectsNonIntegerReplications() {
+        String[] args =
+            new String[] {
+                "-a", "somePath",
+                "-e", "someOtherPath",
+                "--replications", "many"
+            };
+        Assertions.assertThrows(ParseException.class,
+            () -> CLI.parseArguments(ExperimentStartupConfig.class, args));
+    }
+
+    @Test
+    void builderMatchesParsedArguments() throws ParseException {
+        String[] args =
+            new String[] {
+                "-a", "somePath",
+                "-e", "someOtherPath",
+                "-O", "reportPath",
+                "-t",
+                "--replications", "3",
+                "--report_format", "columnar",
+                "--event_list", "calendar"
+            };
+        ExperimentStartupConfig parsed = CLI.parseArguments(ExperimentStartupConfig.class, args);
+        ExperimentStartupConfig built = new ExperimentStartupConfig.Builder("somePath")
+            .experimentDescription("someOtherPath")
+            .overwriteReportLocation("reportPath")
+            .traces(false)
+            .replications(3)
+            .reportFormat("columnar")
+            .eventList("calendar")
+            .build();
+
+        Assertions.assertEquals(parsed.getArchitectureDescLoc(), built.getArchitectureDescLoc());
+        Assertions.assertEquals(parsed.getExperimentDescLoc(), built.getExperimentDescLoc());
+        Assertions.assertEquals(parsed.getReportLocation(), built.getReportLocation());
+        Assertions.assertEquals(parsed.isOverwriteReportPath(), built.isOverwriteReportPath());
+        Assertions.assertEquals(parsed.traceEnabled(), built.traceEnabled());
+        Assertions.assertEquals(parsed.debugOutputOn(), built.debugOutputOn());
+        Assertions.assertEquals(parsed.getReplications(), built.getReplications());
+        Assertions.assertEquals(parsed.getParallelism(), built.getParallelism());
+        Assertions.assertEquals(parsed.getReportFormat(), built.getReportFormat());
+        Assertions.assertEquals(parsed.getEventListType(), built.getEventListType());
+        Assertions.assertNull(built.getSweepDescLoc());
+    }
+
+    @Test
+    void builderRequiresAnExperimentOrScenario() {
+        Assertions.assertThrows(RuntimeException.class,
+            () -> new ExperimentStartupConfig.Builder("somePath").build());
+    }
 }
\ No newline at end of file
@@ -1,13 +1,19 @@
 package cambio.simulator;
 
 import static cambio.simulator.test.FileLoaderUtil.loadFromTestResources;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Arrays;
+import java.util.List;
 
+import cambio.simulator.export.ColumnarReportConverter;
 import cambio.simulator.test.TestBase;
 import org.junit.jupiter.api.Test;
 
@@ -62,4 +68,99 @@ class MainTest extends TestBase {
         assertTrue(output.isDirectory());
         checkFileTypeCount(0, output.listFiles(),".html");
     }
+
+    @Test
+    void runsReplicationsIntoSeparateDirectories() {
+        File test_architecture = loadFromTestResources("SSPExample", "ssp_architecture.json");
+        File test_experiment = loadFromTestResources("SSPExample", "ssp_experiment.json");
+
+        File output = this.runSimulationCheckExitTempOutput(0, test_architecture, test_experiment,
+            "-t", "--replications", "3", "--parallelism", "2");
+
+        File[] resultFiles = output.listFiles();
+        assertNotNull(resultFiles);
+        checkFileWithNameExists(resultFiles, "summary.csv");
+        checkFileWithNameExists(resultFiles, "replications.csv");
+        for (int i = 0; i < 3; i++) {
+            File replication = new File(output, "replication_" + i);
+            assertTrue(replication.isDirectory());
+            assertTrue(new File(replication, "raw").isDirectory());
+            assertTrue(new File(replication, "metadata.json").isFile());
+        }
+    }
+
+    @Test
+    void runsSweepPointsIntoSeparateDirectories() {
+        File test_architecture = loadFromTestResources("SSPExample", "ssp_architecture.json");
+        File test_experiment = loadFromTestResources("SSPExample", "ssp_experiment.json");
+        File test_sweep = loadFromTestResources("SSPExample", "ssp_sweep.json");
+
+        File output = this.runSimulationCheckExitTempOutput(0, test_architecture, test_experiment,
+            "-t", "--sweep", test_sweep.getAbsolutePath(), "--parallelism", "2");
+
+        File[] resultFiles = output.listFiles();
+        assertNotNull(resultFiles);
+        checkFileWithNameExists(resultFiles, "sweep_results.csv");
+        for (int i = 0; i < 4; i++) {
+            File point = new File(output, "point_" + i);
+            assertTrue(point.isDirectory());
+            assertTrue(new File(point, "metadata.json").isFile());
+        }
+    }
+
+    @Test
+    void writesConvertibleColumnarReport() throws IOException {
+        File test_architecture = loadFromTestResources("SSPExample", "ssp_architecture.json");
+        File test_experiment = loadFromTestResources("SSPExample", "ssp_experiment.json");
+
+        File csvOutput = this.runSimulationCheckExitTempOutput(0, test_architecture, test_experiment, "-t");
+        File output = this.runSimulationCheckExitTempOutput(0, test_architecture, test_experiment,
+            "-t", "--report_format", "columnar");
+
+        File raw = new File(output, "raw");
+        File[] rawFiles = raw.listFiles();
+        assertNotNull(rawFiles);
+        checkFileWithNameExists(rawFiles, "datasets_0.mcol");
+        assertTrue(Arrays.stream(rawFiles).noneMatch(file -> file.getName().endsWith(".csv")));
+
+        Path converted = output.toPath().resolve("converted");
+        List<Path> csvFiles = ColumnarReportConverter.convertToCsv(raw.toPath(), converted);
+        File[] expectedFiles = new File(csvOutput, "raw").listFiles();
+        assertNotNull(expectedFiles);
+        assertEquals(expectedFiles.length, csvFiles.size());
+        for (File expected : expectedFiles) {
+            Path csvFile = converted.resolve(expected.getName());
+            assertArrayEquals(Files.readAllBytes(expected.toPath()), Files.readAllBytes(csvFile), expected.getName());
+        }
+    }
+
+    @Test
+    void producesSameResultsWithEachEventList() throws IOException {
+        File test_architecture = loadFromTestResources("SSPExample", "ssp_architecture.json");
+        File test_experiment = loadFromTestResources("SSPExample", "ssp_experiment.json");
+
+        File treeOutput = this.runSimulationCheckExitTempOutput(0, test_architecture, test_experiment,
+            "-t", "--event_list", "tree");
+        File[] treeDatasets = new File(treeOutput, "raw").listFiles();
+        assertNotNull(treeDatasets);
+        assertTrue(treeDatasets.length > 0);
+
+        for (String eventList : new String[] {"vector", "calendar"}) {
+            File output = this.runSimulationCheckExitTempOutput(0, test_architecture, test_experiment,
+                "-t", "--event_list", eventList);
+            for (File treeDataset : treeDatasets) {
+                Path dataset = output.toPath().resolve("raw").resolve(treeDataset.getName());
+                assertEquals(Files.readAllLines(treeDataset.toPath()), Files.readAllLines(dataset),
+                    eventList + ": " + treeDataset.getName());
+            }
+        }
+    }
+
+    @Test
+    void rejectsUnknownEventList() {
+        File test_architecture = loadFromTestResources("SSPExample", "ssp_architecture.json");
+        File test_experiment = loadFromTestResources("SSPExample", "ssp_experiment.json");
+
+        this.runSimulationCheckExit(1, test_architecture, test_experiment, "-t", "--event_list", "unknown");
+    }
 }
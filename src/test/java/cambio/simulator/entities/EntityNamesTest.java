@@ -0,0 +1,61 @@
+package cambio.simulator.entities;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import desmoj.core.simulator.Model;
+import desmoj.core.simulator.ModelComponent;
+import org.junit.jupiter.api.Test;
+
+class EntityNamesTest {
+
+    @Test
+    void usesConstantNameWithoutTraceOrDebugOutput() {
+        Model model = mock(Model.class);
+        AtomicInteger calls = new AtomicInteger();
+
+        String name = EntityNames.of(model, true, "Constant", () -> "Descriptive" + calls.incrementAndGet());
+
+        assertEquals("Constant", name);
+        assertEquals(0, calls.get());
+        assertFalse(EntityNames.isDescriptive(model, true));
+    }
+
+    @Test
+    void usesDescriptiveNameWithTraceOutput() {
+        Model model = mock(Model.class);
+        when(model.traceIsOn()).thenReturn(true);
+
+        assertEquals("Descriptive", EntityNames.of(model, true, "Constant", () -> "Descriptive"));
+        assertEquals("Constant", EntityNames.of(model, false, "Constant", () -> "Descriptive"));
+        assertTrue(EntityNames.isDescriptive(model, true));
+        assertFalse(EntityNames.isDescriptive(model, false));
+    }
+
+    @Test
+    void usesDescriptiveNameWithDebugOutput() {
+        Model model = mock(Model.class);
+        when(model.debugIsOn()).thenReturn(true);
+
+        assertEquals("Descriptive", EntityNames.of(model, false, "Constant", () -> "Descriptive"));
+        assertTrue(EntityNames.isDescriptive(model, false));
+    }
+
+    @Test
+    void followsTraceAndDebugOutputOfOwner() {
+        ModelComponent owner = mock(ModelComponent.class);
+        assertEquals("Constant", EntityNames.of(owner, "Constant", () -> "Descriptive"));
+
+        when(owner.traceIsOn()).thenReturn(true);
+        assertEquals("Descriptive", EntityNames.of(owner, "Constant", () -> "Descriptive"));
+
+        when(owner.traceIsOn()).thenReturn(false);
+        when(owner.debugIsOn()).thenReturn(true);
+        assertEquals("Descriptive", EntityNames.of(owner, "Constant", () -> "Descriptive"));
+    }
+}
@@ -1,6 +1,9 @@
 package cambio.simulator.entities.generator;
 
 import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.concurrent.TimeUnit;
 
 import desmoj.core.simulator.TimeInstant;
@@ -8,9 +11,67 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.RepeatedTest;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.api.io.TempDir;
 
 class LimboLoadGeneratorDescriptionTest {
 
+    @TempDir
+    Path tempDir;
+
+    private LimboLoadGeneratorDescription.ArrivalProfile readProfile(String content) throws IOException {
+        Path profile = Files.writeString(tempDir.resolve("profile.csv"), content);
+        return LimboLoadGeneratorDescription.ArrivalProfile.read(profile.toFile());
+    }
+
+    @Test
+    void sortsUnorderedProfileStably() throws IOException {
+        LimboLoadGeneratorDescription.ArrivalProfile profile = readProfile("2;1\n1;2\n2;3\n0;4\n1;0\n-1;5\n");
+
+        Assertions.assertEquals(4, profile.size());
+        double[] expectedTimes = {0, 1, 2, 2};
+        int[] expectedLoads = {4, 2, 1, 3};
+        for (int i = 0; i < profile.size(); i++) {
+            Assertions.assertEquals(expectedTimes[i], profile.getTime(i));
+            Assertions.assertEquals(expectedLoads[i], profile.getLoad(i));
+        }
+    }
+
+    @Test
+    void sortsLargeUnorderedProfileStably() throws IOException {
+        int entries = 5000;
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; i < entries; i++) {
+            // times 0..96 in a scrambled order, each time occurs multiple times
+            content.append((i * 31) % 97).append(';').append(i + 1).append('\n');
+        }
+        LimboLoadGeneratorDescription.ArrivalProfile profile = readProfile(content.toString());
+
+        Assertions.assertEquals(entries, profile.size());
+        for (int i = 1; i < profile.size(); i++) {
+            Assertions.assertTrue(profile.getTime(i - 1) <= profile.getTime(i));
+            if (profile.getTime(i - 1) == profile.getTime(i)) {
+                Assertions.assertTrue(profile.getLoad(i - 1) < profile.getLoad(i));
+            }
+        }
+    }
+
+    @Test
+    void readsProfileWithTrailingSeparators() throws IOException {
+        LimboLoadGeneratorDescription.ArrivalProfile profile = readProfile("0.5, 1.6;\n\n1.5,2,,\n");
+
+        Assertions.assertEquals(2, profile.size());
+        Assertions.assertEquals(0.5, profile.getTime(0));
+        Assertions.assertEquals(2, profile.getLoad(0));
+        Assertions.assertEquals(1.5, profile.getTime(1));
+    }
+
+    @Test
+    void rejectsMalformedProfiles() {
+        Assertions.assertThrows(RuntimeException.class, () -> readProfile("1;2;3\n"));
+        Assertions.assertThrows(RuntimeException.class, () -> readProfile("1\n"));
+        Assertions.assertThrows(RuntimeException.class, () -> readProfile("a;1\n"));
+    }
+
     @Test
     void readsDeformedProfileCorrectly() throws Exception {
         File profile = new File("src/test/resources/limbo_model_deformed.csv");
@@ -0,0 +1,53 @@
+package cambio.simulator.entities.networking;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.spy;
+
+import java.util.List;
+
+import cambio.simulator.entities.microservice.Microservice;
+import cambio.simulator.entities.microservice.Operation;
+import cambio.simulator.models.MiSimModel;
+import cambio.simulator.test.TestBase;
+import org.junit.jupiter.api.Test;
+
+class RequestTest extends TestBase {
+
+    @Test
+    void tracksDependenciesOfFanOut() {
+        MiSimModel model = getConnectedMockModel().getValue0();
+        Microservice service = new Microservice(model, "test", false);
+        Operation target = new Operation(model, "target", false, service, 1);
+        Operation source = spy(new Operation(model, "source", false, service, 1));
+        LoopDependencyDescription loop = new LoopDependencyDescription(model, 1, 1, 3);
+        loop.setDependencies(new DependencyDescription[] {new SimpleDependencyDescription(source, target)});
+        doReturn(new DependencyDescription[] {loop}).when(source).getDependencyDescriptions();
+
+        UserRequest request = new UserRequest(model, "request", false, source);
+        List<ServiceDependencyInstance> dependencies = request.getDependencies();
+        assertEquals(3, dependencies.size());
+        dependencies.forEach(dependency -> assertSame(request, dependency.getParentRequest()));
+
+        InternalRequest child = new InternalRequest(model, false, dependencies.get(1), null);
+        assertSame(dependencies.get(1), request.getRelatedDependency(child));
+        assertNull(request.getRelatedDependency(request));
+        //a retry replaces the child request of the dependency
+        InternalRequest retriedChild = new InternalRequest(model, false, dependencies.get(1), null);
+        assertNull(request.getRelatedDependency(child));
+        assertSame(dependencies.get(1), request.getRelatedDependency(retriedChild));
+        assertNull(child.getRelatedDependency(retriedChild));
+
+        assertFalse(request.notifyDependencyHasFinished(dependencies.get(1)));
+        assertFalse(request.notifyDependencyHasFinished(dependencies.get(0)));
+        assertFalse(request.areDependenciesCompleted());
+        assertTrue(request.notifyDependencyHasFinished(dependencies.get(2)));
+        assertTrue(request.areDependenciesCompleted());
+        assertThrows(IllegalStateException.class, () -> request.notifyDependencyHasFinished(dependencies.get(2)));
+    }
+}
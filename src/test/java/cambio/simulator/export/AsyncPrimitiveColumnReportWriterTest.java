@@ -0,0 +1,73 @@
+package cambio.simulator.export;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class AsyncPrimitiveColumnReportWriterTest extends AsyncReportWriterTest<AsyncPrimitiveColumnReportWriter> {
+
+    @Test
+    public void writesLongAndDoubleValues() throws IOException {
+        String datasetName = "writesLongAndDoubleValues.csv";
+        AsyncPrimitiveColumnReportWriter writer =
+            new AsyncPrimitiveColumnReportWriter(tmpOut.resolve(datasetName), "a", "b");
+        writer.addDataPoint(0, 1L, 2L);
+        writer.addDataPoint(1.5, 0.25, 3.0);
+        writer.addDataPoint(2, new long[] {4, 5});
+        writer.addDataPoint(3, new double[] {6.5, 7});
+        writer.addDataPoint(4, new Object[] {8, 9});
+        writer.addDataPoint(5, new Object[] {10, 11.5f});
+        writer.finalizeWriteout();
+
+        String sep = MiSimReporters.csvSeperator;
+        List<String> lines = Files.readAllLines(tmpOut.resolve(datasetName));
+        assertEquals(List.of(
+            MiSimReporters.DEFAULT_TIME_COLUMN_NAME + sep + "a" + sep + "b",
+            "0.0" + sep + "1" + sep + "2",
+            "1.5" + sep + "0.25" + sep + "3.0",
+            "2.0" + sep + "4" + sep + "5",
+            "3.0" + sep + "6.5" + sep + "7.0",
+            "4.0" + sep + "8" + sep + "9",
+            "5.0" + sep + "10.0" + sep + "11.5"), lines);
+    }
+
+    @Test
+    public void keepsRowOrderAcrossChunks() throws IOException {
+        String datasetName = "keepsRowOrderAcrossChunks.csv";
+        AsyncPrimitiveColumnReportWriter writer =
+            new AsyncPrimitiveColumnReportWriter(tmpOut.resolve(datasetName));
+        int rows = AsyncPrimitiveColumnReportWriter.MAX_CHUNK_ROWS * 3 + 7;
+        for (int i = 0; i < rows; i++) {
+            writer.addDataPoint(i, (long) i);
+        }
+        writer.finalizeWriteout();
+
+        List<String> lines = Files.readAllLines(tmpOut.resolve(datasetName));
+        assertEquals(rows + 1, lines.size());
+        for (int i = 0; i < rows; i++) {
+            assertEquals((double) i + MiSimReporters.csvSeperator + i, lines.get(i + 1));
+        }
+    }
+
+    @Test
+    public void rejectsWrongColumnCount() throws IOException {
+        AsyncPrimitiveColumnReportWriter writer =
+            new AsyncPrimitiveColumnReportWriter(tmpOut.resolve("rejectsWrongColumnCount.csv"), "a", "b");
+        assertThrows(IllegalArgumentException.class, () -> writer.addDataPoint(0, 1.0));
+        assertThrows(IllegalArgumentException.class, () -> writer.addDataPoint(0, new long[] {1, 2, 3}));
+        writer.finalizeWriteout();
+    }
+
+    @Test
+    public void rejectsNonNumericValues() throws IOException {
+        AsyncPrimitiveColumnReportWriter writer =
+            new AsyncPrimitiveColumnReportWriter(tmpOut.resolve("rejectsNonNumericValues.csv"));
+        assertThrows(IllegalArgumentException.class, () -> writer.addDataPoint(0, "Hello"));
+        writer.finalizeWriteout();
+    }
+}
@@ -10,6 +10,7 @@ import java.lang.reflect.ParameterizedType;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Random;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -77,6 +78,23 @@ abstract class AsyncReportWriterTest<T extends AsyncReportWriter<?>> extends Tes
     }
 
 
+    @Test
+    void writesLargeBacklogInOrder() throws IOException {
+        int numLines = 200_000;
+        for (int i = 0; i < numLines; i++) {
+            writer.addDataPoint(i, i);
+        }
+
+        writer.finalizeWriteout();
+        List<String> lines = Files.readAllLines(tmpOut.resolve("test.csv"));
+        assertEquals(numLines + 1, lines.size());
+        for (int i = 0; i < numLines; i++) {
+            String time = lines.get(i + 1).split(MiSimReporters.csvSeperator)[0];
+            assertEquals(i, Double.parseDouble(time), "Line " + (i + 1) + " is out of order");
+        }
+    }
+
+
     /**
      * This test tries to find errors in multi-threaded data writing code. Therefore it can by flakey if there is a bug.
      * Hence it is repeated multiple times.
@@ -0,0 +1,36 @@
+package cambio.simulator.export;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.List;
+
+import desmoj.core.simulator.TimeInstant;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class AverageDataPointReporterTest extends MiSimReporterTest<AverageDataPointReporter> {
+
+    @BeforeEach
+    protected void setUp() {
+        reporter = new AverageDataPointReporter(getMockModel(), BucketMultiDataPointReporter.CEIL_FUNCTION);
+        super.setUp();
+    }
+
+    @Test
+    void averagesPerBucket() throws IOException {
+        reporter.addDatapoint("test", new TimeInstant(0.2), 1);
+        reporter.addDatapoint("test", new TimeInstant(0.7), 2);
+        reporter.addDatapoint("test", new TimeInstant(1.0), 6);
+        reporter.addDatapoint("test", new TimeInstant(1.5), 4);
+        reporter.addDatapoint("test", new TimeInstant(3.0), 5.5);
+        reporter.finalizeReport();
+
+        List<String> lines = Files.readAllLines(outputFile.toPath());
+        assertEquals(4, lines.size());
+        assertEquals("1.0" + MiSimReporters.csvSeperator + "3.0", lines.get(1));
+        assertEquals("2.0" + MiSimReporters.csvSeperator + "4.0", lines.get(2));
+        assertEquals("3.0" + MiSimReporters.csvSeperator + "5.5", lines.get(3));
+    }
+}
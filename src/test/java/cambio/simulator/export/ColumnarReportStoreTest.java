@@ -0,0 +1,144 @@
+package cambio.simulator.export;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import cambio.simulator.test.TestBase;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ColumnarReportStoreTest extends TestBase {
+
+    private Path tmpOut;
+    private ReportSink sink;
+
+    @BeforeEach
+    void setUp() {
+        tmpOut = createSelfDeletingTempOutputDir().toPath();
+        sink = new ReportSink(1, ReportSink.DEFAULT_FLUSH_PERIOD_MS, ReportSink.DEFAULT_MAX_OPEN_FILES,
+            ReportSink.DEFAULT_MEMORY_BUDGET_BYTES);
+    }
+
+    @AfterEach
+    void tearDown() {
+        sink.shutdown();
+    }
+
+    @Test
+    void roundTripsValuesExactly() throws IOException {
+        ColumnarReportStore store = new ColumnarReportStore(tmpOut);
+        ColumnarReportStore.Dataset dataset =
+            store.createDataset("S_State", new String[] {"SimulationTime", "State"}, sink);
+        dataset.startRow(0);
+        dataset.addText("RUNNING");
+        dataset.startRow(1.5);
+        dataset.addValue("SHUTDOWN");
+        dataset.startRow(2);
+        dataset.addValue(42);
+        dataset.startRow(3);
+        dataset.addLong(-7);
+        dataset.addText("[1,2,3]");
+        dataset.startRow(4);
+        dataset.addDouble(1.0E-5);
+        dataset.startRow(5);
+        dataset.addText("");
+        dataset.startRow(6);
+        dataset.endRow();
+        ColumnarReportStore.Dataset numbers =
+            store.createDataset("Numbers", new String[] {"SimulationTime", "Long", "Double"}, sink);
+        numbers.startRow(0.1);
+        numbers.addValue(5L);
+        numbers.addValue(5.0);
+        numbers.startRow(0.2);
+        numbers.addValue(Long.MIN_VALUE);
+        numbers.addValue(Double.NaN);
+        ColumnarReportStore.Dataset empty =
+            store.createDataset("Empty", new String[] {"SimulationTime", "Value"}, sink);
+        store.close();
+
+        List<Path> files = ColumnarReportConverter.findReportFiles(tmpOut);
+        assertEquals(1, files.size());
+        try (ColumnarReportReader reader = new ColumnarReportReader(files.get(0))) {
+            assertEquals(List.of(dataset.getName(), numbers.getName(), empty.getName()),
+                new ArrayList<>(reader.getDatasetNames()));
+            assertEquals(List.of("SimulationTime", "State"), reader.getColumns("S_State"));
+            assertEquals(0, reader.getRowCount("Empty"));
+
+            List<String[]> rows = new ArrayList<>();
+            reader.forEachRow("S_State", rows::add);
+            assertEquals(7, rows.size());
+            assertArrayEquals(new String[] {"0.0", "RUNNING"}, rows.get(0));
+            assertArrayEquals(new String[] {"1.5", "SHUTDOWN"}, rows.get(1));
+            assertArrayEquals(new String[] {"2.0", "42"}, rows.get(2));
+            assertArrayEquals(new String[] {"3.0", "-7", "[1,2,3]"}, rows.get(3));
+            assertArrayEquals(new String[] {"4.0", "1.0E-5"}, rows.get(4));
+            assertArrayEquals(new String[] {"5.0", ""}, rows.get(5));
+            assertArrayEquals(new String[] {"6.0"}, rows.get(6));
+
+            rows.clear();
+            reader.forEachRow("Numbers", rows::add);
+            assertEquals(2, rows.size());
+            assertArrayEquals(new String[] {"0.1", "5", "5.0"}, rows.get(0));
+            assertArrayEquals(new String[] {"0.2", String.valueOf(Long.MIN_VALUE), "NaN"}, rows.get(1));
+        }
+    }
+
+    @Test
+    void accountsBufferedRowsAgainstTheSink() throws IOException {
+        ColumnarReportStore store = new ColumnarReportStore(tmpOut);
+        ColumnarReportStore.Dataset dataset =
+            store.createDataset("Load", new String[] {"SimulationTime", "Value"}, sink);
+        for (int i = 0; i < 100; i++) {
+            dataset.startRow(i);
+            dataset.addLong(i);
+            dataset.endRow();
+        }
+        assertTrue(sink.getPendingBytes() >= 100 * 2 * Long.BYTES);
+
+        store.close();
+        assertEquals(0, sink.getPendingBytes());
+    }
+
+    @Test
+    void rejectsNonPositiveMaxFileBytes() {
+        assertThrows(IllegalArgumentException.class, () -> new ColumnarReportStore(tmpOut, 0));
+    }
+
+    @Test
+    void startsNewFilesAndConvertsThemBack() throws IOException {
+        ColumnarReportStore store = new ColumnarReportStore(tmpOut.resolve("raw"), 1);
+
+        AsyncMultiColumnReportWriter columnarWriter =
+            new AsyncMultiColumnReportWriter(tmpOut.resolve("raw").resolve("Load.csv"), sink, store, "Value", "Type");
+        AsyncMultiColumnReportWriter csvWriter =
+            new AsyncMultiColumnReportWriter(tmpOut.resolve("Load.csv"), "Value", "Type");
+        int rows = ColumnarReportStore.BLOCK_ROWS * 3 + 17;
+        for (int i = 0; i < rows; i++) {
+            Object[] values = {i % 5 == 0 ? i * 0.5 : i, i % 2 == 0 ? "EVEN" : "ODD"};
+            columnarWriter.addDataPoint(i / 10.0, values);
+            csvWriter.addDataPoint(i / 10.0, values);
+        }
+        columnarWriter.finalizeWriteout();
+        csvWriter.finalizeWriteout();
+        store.close();
+
+        List<Path> files = ColumnarReportConverter.findReportFiles(tmpOut.resolve("raw"));
+        assertEquals(4, files.size());
+        assertFalse(Files.exists(tmpOut.resolve("raw").resolve("Load.csv")));
+
+        List<Path> converted = ColumnarReportConverter.convertToCsv(tmpOut.resolve("raw"), tmpOut.resolve("csv"));
+        assertEquals(List.of(tmpOut.resolve("csv").resolve("Load.csv")), converted);
+        assertArrayEquals(Files.readAllBytes(tmpOut.resolve("Load.csv")), Files.readAllBytes(converted.get(0)));
+        assertTrue(Files.size(files.get(0)) < Files.size(tmpOut.resolve("Load.csv")));
+    }
+}
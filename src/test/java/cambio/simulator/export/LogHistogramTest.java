@@ -0,0 +1,79 @@
+package cambio.simulator.export;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class LogHistogramTest {
+
+    private static double exactPercentile(double[] sorted, double percentile) {
+        int rank = Math.max(1, (int) Math.ceil(percentile / 100 * sorted.length));
+        return sorted[rank - 1];
+    }
+
+    @Test
+    void approximatesPercentilesWithinRelativeError() {
+        Random random = new Random(42);
+        LogHistogram histogram = new LogHistogram();
+        double[] values = new double[100_000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = Math.exp(random.nextGaussian() * 2);
+            histogram.record(values[i]);
+        }
+        Arrays.sort(values);
+
+        double[] percentiles = {0, 1, 25, 50, 90, 99, 99.9, 100};
+        double[] approximated = histogram.getValuesAtPercentiles(percentiles);
+        for (int i = 0; i < percentiles.length; i++) {
+            double exact = exactPercentile(values, percentiles[i]);
+            assertEquals(exact, approximated[i], exact * LogHistogram.DEFAULT_RELATIVE_ERROR);
+            assertEquals(approximated[i], histogram.getValueAtPercentile(percentiles[i]));
+        }
+        assertEquals(values.length, histogram.getCount());
+        assertEquals(values[0], histogram.getMin());
+        assertEquals(values[values.length - 1], histogram.getMax());
+    }
+
+    @Test
+    void collectsOutOfRangeValues() {
+        LogHistogram histogram = new LogHistogram(1, 10, 0.05);
+        histogram.record(0);
+        histogram.record(5);
+        histogram.record(20);
+        histogram.record(Double.NaN);
+
+        assertEquals(3, histogram.getCount());
+        assertArrayEquals(new double[] {0, 20}, histogram.getValuesAtPercentiles(0, 100));
+        assertEquals(5, histogram.getValueAtPercentile(50), 5 * 0.05);
+    }
+
+    @Test
+    void addsAndResets() {
+        LogHistogram first = new LogHistogram();
+        LogHistogram second = new LogHistogram();
+        first.record(1);
+        second.record(2);
+        second.record(3);
+
+        first.add(second);
+        assertEquals(3, first.getCount());
+        assertEquals(1, first.getMin());
+        assertEquals(3, first.getMax());
+        assertEquals(2, first.getValueAtPercentile(50), 2 * LogHistogram.DEFAULT_RELATIVE_ERROR);
+
+        first.reset();
+        assertEquals(0, first.getCount());
+        assertTrue(Double.isNaN(first.getValueAtPercentile(50)));
+        first.record(7);
+        assertEquals(7, first.getValueAtPercentile(99));
+
+        assertThrows(IllegalArgumentException.class, () -> first.add(new LogHistogram(1, 10, 0.05)));
+        assertThrows(IllegalArgumentException.class, () -> first.getValueAtPercentile(101));
+    }
+}
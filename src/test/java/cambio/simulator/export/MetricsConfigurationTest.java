@@ -0,0 +1,117 @@
+package cambio.simulator.export;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import cambio.simulator.models.MiSimModel;
+import cambio.simulator.test.TestBase;
+import desmoj.core.simulator.TimeInstant;
+import org.junit.jupiter.api.Test;
+
+class MetricsConfigurationTest extends TestBase {
+
+    private static List<String> readDataset(MiSimModel model, String datasetName) throws IOException {
+        Path file = model.getExperimentMetaData().getReportLocation().resolve("raw").resolve(datasetName + ".csv");
+        return Files.readAllLines(file);
+    }
+
+    @Test
+    void laterRulesOverrideEarlierRules() {
+        MetricsConfiguration configuration = MetricsConfiguration.parse("I[*]_*=off, I[*]_State=on,C[*]_*=every:3")
+            .withRules(MetricsConfiguration.parse("C[cpu]_Utilization=interval:0.5"));
+
+        assertFalse(configuration.createSampler("I[service#0]_Requests_InSystem").isEnabled());
+        assertTrue(configuration.createSampler("I[service#0]_State").isPassThrough());
+        assertTrue(configuration.createSampler("R[service#0]_State").isPassThrough());
+
+        DatasetSampler utilization = configuration.createSampler("C[cpu]_Utilization");
+        assertTrue(utilization.isEnabled());
+        assertTrue(utilization.isDownsampling());
+        assertEquals(DatasetSampler.APPEND, utilization.offer(0.1));
+        assertEquals(DatasetSampler.DROP, utilization.offer(0.2));
+        assertEquals(DatasetSampler.DROP, utilization.offer(0.3));
+        assertEquals(DatasetSampler.REPLACE, utilization.offer(0.4));
+        assertEquals(DatasetSampler.DROP, utilization.offer(0.6));
+        assertEquals(DatasetSampler.DROP, utilization.offer(0.7));
+        assertEquals(DatasetSampler.APPEND, utilization.offer(0.8));
+    }
+
+    @Test
+    void rejectsInvalidRules() {
+        assertThrows(IllegalArgumentException.class, () -> MetricsConfiguration.parse("NL_latency"));
+        assertThrows(IllegalArgumentException.class, () -> MetricsConfiguration.parse("NL_latency=sometimes"));
+        assertThrows(IllegalArgumentException.class, () -> MetricsConfiguration.parse("NL_latency=every:0"));
+        assertThrows(IllegalArgumentException.class, () -> MetricsConfiguration.parse("NL_latency=interval:x"));
+        assertTrue(MetricsConfiguration.parse(" , ").isEmpty());
+    }
+
+    @Test
+    void appliesRulesToReporters() throws IOException {
+        MiSimModel model = getMockModel();
+        model.getExperimentMetaData().setMetricsConfiguration(
+            MetricsConfiguration.parse("T_disabled=off,T_decimated=every:2,T_sampled=interval:1,T_multi=interval:1"));
+        PrimitiveDataPointReporter reporter = new PrimitiveDataPointReporter("T_", model);
+        MultiDataPointReporter multiReporter = new MultiDataPointReporter("T_", model);
+
+        assertFalse(reporter.isEnabled("disabled"));
+        double[] times = {0, 0.25, 0.5, 1.5, 1.75, 3};
+        for (int i = 0; i < times.length; i++) {
+            reporter.addDatapoint("disabled", times[i], (long) i);
+            reporter.addDatapoint("decimated", times[i], (long) i);
+            reporter.addDatapoint("sampled", times[i], (long) i);
+            multiReporter.addDatapoint("multi", new TimeInstant(times[i]), "value" + i);
+        }
+        reporter.finalizeReport();
+        multiReporter.finalizeReport();
+
+        String sep = MiSimReporters.csvSeperator;
+        Path raw = model.getExperimentMetaData().getReportLocation().resolve("raw");
+        assertFalse(Files.exists(raw.resolve("T_disabled.csv")));
+        assertEquals(List.of("0.0" + sep + "0", "0.5" + sep + "2", "1.75" + sep + "4"),
+            readDataset(model, "T_decimated").subList(1, 4));
+        assertEquals(List.of("0.5" + sep + "2", "1.75" + sep + "4", "3.0" + sep + "5"),
+            readDataset(model, "T_sampled").subList(1, 4));
+        assertEquals(List.of("0.5" + sep + "value2", "1.75" + sep + "value4", "3.0" + sep + "value5"),
+            readDataset(model, "T_multi").subList(1, 4));
+    }
+
+    @Test
+    void disabledDatasetsRecordNothing() throws IOException {
+        MiSimModel model = getMockModel();
+        model.getExperimentMetaData().setMetricsConfiguration(MetricsConfiguration.parse("T_disabled*=off"));
+        MultiDataPointReporter multiReporter = new MultiDataPointReporter("T_", model);
+        AccumulativeDataPointReporter accumulativeReporter = new AccumulativeDataPointReporter("T_", model);
+        AverageDataPointReporter averageReporter = new AverageDataPointReporter("T_", model);
+        SnapshotDataPointReporter snapshotReporter = new SnapshotDataPointReporter("T_", model);
+
+        for (int i = 0; i < 3; i++) {
+            TimeInstant when = new TimeInstant(i);
+            multiReporter.addDatapoint("disabled_multi", when, 0.5 * i);
+            multiReporter.addDatapoint("disabled_multi", when, i);
+            multiReporter.addDatapoint("multi", when, 0.5 * i);
+            multiReporter.addDatapoint("multi", when, i);
+            accumulativeReporter.addDatapoint("disabled_accumulative", when, i);
+            averageReporter.addDatapoint("disabled_average", when, 0.5 * i);
+            snapshotReporter.addDatapoint("disabled_snapshot", when, i);
+        }
+        multiReporter.finalizeReport();
+        accumulativeReporter.finalizeReport();
+        averageReporter.finalizeReport();
+        snapshotReporter.finalizeReport();
+
+        String sep = MiSimReporters.csvSeperator;
+        Path raw = model.getExperimentMetaData().getReportLocation().resolve("raw");
+        for (String dataset : List.of("multi", "accumulative", "average", "snapshot")) {
+            assertFalse(Files.exists(raw.resolve("T_disabled_" + dataset + ".csv")));
+        }
+        assertEquals(List.of("0.0" + sep + "0.0", "0.0" + sep + "0", "1.0" + sep + "0.5", "1.0" + sep + "1"),
+            readDataset(model, "T_multi").subList(1, 5));
+    }
+}
@@ -6,7 +6,6 @@ import java.io.File;
 import java.nio.file.Path;
 import java.util.Random;
 
-import cambio.simulator.misc.RNGStorage;
 import cambio.simulator.test.TestBase;
 import desmoj.core.simulator.TimeInstant;
 import org.junit.jupiter.api.BeforeEach;
@@ -24,7 +23,6 @@ public abstract class MiSimReporterTest<T extends MiSimReporter<?>> extends Test
     protected void setUp() {
         outputDir = reporter.model.getExperimentMetaData().getReportLocation();
         outputFile = outputDir.resolve("raw").resolve("test.csv").toFile();
-        RNGStorage.reset();
     }
 
     protected void registersDefaultHeader() {
@@ -1,6 +1,8 @@
 package cambio.simulator.export;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.mockito.Mockito.mock;
 
 import java.io.File;
@@ -9,6 +11,7 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.List;
 
+import cambio.simulator.models.ExecutionContext;
 import cambio.simulator.models.ExperimentMetaData;
 import cambio.simulator.models.MiSimModel;
 import cambio.simulator.test.TestBase;
@@ -21,6 +24,7 @@ class MiSimReportersTest {
 
     private static MiSimModel model;
     private static Path dummyDir;
+    private static MiSimReporters reporters;
 
     @BeforeAll
     static void setUp() {
@@ -29,6 +33,13 @@ class MiSimReportersTest {
         ExperimentMetaData metaData = mock(ExperimentMetaData.class);
         Mockito.when(model.getExperimentMetaData()).thenReturn(metaData);
         Mockito.when(metaData.getReportLocation()).thenReturn(dummyDir);
+        Mockito.when(metaData.getMetricsConfiguration()).thenReturn(new MetricsConfiguration());
+        Mockito.when(metaData.getReportWriterThreads()).thenReturn(1);
+        Mockito.when(metaData.getReportMaxOpenFiles()).thenReturn(8);
+        Mockito.when(metaData.getReportMemoryBudget()).thenReturn(4096L);
+        ExecutionContext context = new ExecutionContext();
+        Mockito.when(model.getExecutionContext()).thenReturn(context);
+        reporters = context.getReporters();
     }
 
 
@@ -40,56 +51,68 @@ class MiSimReportersTest {
 
     @AfterEach
     void tearDown() {
-        MiSimReporters.getReporters().forEach(MiSimReporter::finalizeReport);
+        reporters.getReporters().forEach(MiSimReporter::finalizeReport);
     }
 
 
     @Test
     void has_correct_count() {
         new TestReporter("1");
-        assertEquals(1, MiSimReporters.getReporters().size());
+        assertEquals(1, reporters.getReporters().size());
         new TestReporter("2");
-        assertEquals(2, MiSimReporters.getReporters().size());
+        assertEquals(2, reporters.getReporters().size());
     }
 
     @Test
-    void initializes_static_reporters_correctly() {
-        MiSimReporters.finalizeReports();//clears exising reporters
-        assertEquals(0, MiSimReporters.getReporters().size());
+    void initializes_shared_reporters_correctly() {
+        reporters.finalizeReports();//clears exising reporters
+        assertEquals(0, reporters.getReporters().size());
 
-        MiSimReporters.initializeStaticReporters(model);
-        assertEquals(5, MiSimReporters.getReporters().size());
+        reporters.initializeSharedReporters(model);
+        assertEquals(6, reporters.getReporters().size());
+    }
+
+    @Test
+    void creates_report_sink_from_metadata() {
+        ReportSink sink = reporters.getReportSink(model);
+        assertSame(sink, reporters.getReportSink(model));
+        assertEquals(1, sink.getWriterThreads());
+        assertEquals(8, sink.getMaxOpenFiles());
+        assertEquals(4096, sink.getMemoryBudgetBytes());
+
+        reporters.finalizeReports();
+        assertFalse(sink.isRunning());
     }
 
     @Test
     void can_finalize_twice() {
         TestReporter reporter = new TestReporter("1");
-        MiSimReporters.getReporters().forEach(MiSimReporter::finalizeReport);
+        reporters.getReporters().forEach(MiSimReporter::finalizeReport);
         //the reporter is now deregistered so we  have to register it again
-        MiSimReporters.registerReporter(reporter);
+        reporters.registerReporter(reporter);
 
-        assertEquals(1, MiSimReporters.getReporters().size());
-        MiSimReporters.getReporters().forEach(MiSimReporter::finalizeReport);
-        assertEquals(0, MiSimReporters.getReporters().size());
+        assertEquals(1, reporters.getReporters().size());
+        reporters.getReporters().forEach(MiSimReporter::finalizeReport);
+        assertEquals(0, reporters.getReporters().size());
     }
 
     @Test
     void deregisters_on_finalization() {
         new TestReporter("1");
-        MiSimReporters.getReporters().forEach(MiSimReporter::finalizeReport);
-        assertEquals(0, MiSimReporters.getReporters().size());
+        reporters.getReporters().forEach(MiSimReporter::finalizeReport);
+        assertEquals(0, reporters.getReporters().size());
 
 
         new TestReporter("1");
-        MiSimReporters.finalizeReports();
-        assertEquals(0, MiSimReporters.getReporters().size());
+        reporters.finalizeReports();
+        assertEquals(0, reporters.getReporters().size());
     }
 
 
     @Test
     void writesOutput_correctly() throws IOException {
         new TestReporter("_test");
-        MiSimReporters.getReporters().forEach(MiSimReporter::finalizeReport);
+        reporters.getReporters().forEach(MiSimReporter::finalizeReport);
 
         File output = dummyDir.resolve("raw").resolve("dataset_test.csv").toFile();
         List<String> content = Files.readAllLines(output.toPath());
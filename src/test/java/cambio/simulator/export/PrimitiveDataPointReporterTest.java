@@ -0,0 +1,55 @@
+package cambio.simulator.export;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.List;
+
+import desmoj.core.simulator.TimeInstant;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class PrimitiveDataPointReporterTest extends MiSimReporterTest<PrimitiveDataPointReporter> {
+
+    @BeforeEach
+    protected void setUp() {
+        reporter = new PrimitiveDataPointReporter(getMockModel());
+        super.setUp();
+    }
+
+    @Test
+    void writesSameFormatAsMultiDataPointReporter() throws IOException {
+        reporter.addDatapoint("test", new TimeInstant(0), 42);
+        reporter.addDatapoint("test", new TimeInstant(1), 0.5);
+        reporter.addDatapoint("test", 2, 7L);
+        reporter.addDatapoint("test", new TimeInstant(3), (Object) 13);
+        reporter.finalizeReport();
+
+        assertTrue(outputFile.exists());
+        String sep = MiSimReporters.csvSeperator;
+        List<String> lines = Files.readAllLines(outputFile.toPath());
+        assertEquals(List.of(
+            MiSimReporters.DEFAULT_TIME_COLUMN_NAME + sep + MiSimReporters.DEFAULT_VALUE_COLUMN_NAME,
+            "0.0" + sep + "42",
+            "1.0" + sep + "0.5",
+            "2.0" + sep + "7",
+            "3.0" + sep + "13"), lines);
+    }
+
+    @Test
+    void writesMultipleColumns() throws IOException {
+        reporter.registerDefaultHeader("test", "a", "b", "c");
+        reporter.addDatapoint("test", 0, 1L, 2L, 3L);
+        reporter.addDatapoint("test", 1, 0.5, 1.5, 2.5);
+        reporter.finalizeReport();
+
+        String sep = MiSimReporters.csvSeperator;
+        List<String> lines = Files.readAllLines(outputFile.toPath());
+        assertEquals(List.of(
+            MiSimReporters.DEFAULT_TIME_COLUMN_NAME + sep + "a" + sep + "b" + sep + "c",
+            "0.0" + sep + "1" + sep + "2" + sep + "3",
+            "1.0" + sep + "0.5" + sep + "1.5" + sep + "2.5"), lines);
+    }
+}
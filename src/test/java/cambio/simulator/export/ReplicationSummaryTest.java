@@ -0,0 +1,99 @@
+package cambio.simulator.export;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import cambio.simulator.test.TestBase;
+import org.apache.commons.io.FileUtils;
+import org.junit.jupiter.api.Test;
+
+class ReplicationSummaryTest {
+
+    private static RunStatistics createStatistics(long successful, long failed, double... responseTimes) {
+        RunStatistics statistics = new RunStatistics();
+        for (long i = 0; i < successful; i++) {
+            statistics.countSuccessfulRequest();
+        }
+        for (long i = 0; i < failed; i++) {
+            statistics.countFailedRequest();
+        }
+        for (double responseTime : responseTimes) {
+            statistics.addResponseTime(responseTime);
+        }
+        return statistics;
+    }
+
+    private static ReplicationSummary.AggregatedMetric getMetric(ReplicationSummary summary, String name) {
+        return summary.getAggregatedMetrics().stream().filter(metric -> metric.getName().equals(name)).findFirst()
+            .orElseThrow();
+    }
+
+    @Test
+    void computesRunStatisticsOnline() {
+        RunStatistics statistics = createStatistics(3, 1, 1, 2, 3, 4);
+        assertEquals(4, statistics.getResponseTimeCount());
+        assertEquals(2.5, statistics.getResponseTimeMean(), 1e-12);
+        assertEquals(Math.sqrt(5.0 / 3), statistics.getResponseTimeStandardDeviation(), 1e-12);
+        assertEquals(1, statistics.getResponseTimeMin());
+        assertEquals(4, statistics.getResponseTimeMax());
+        assertEquals(0.25, statistics.getFailureRatio(), 1e-12);
+    }
+
+    @Test
+    void computesConfidenceIntervals() {
+        ReplicationSummary summary = new ReplicationSummary(List.of(
+            new ReplicationSummary.Replication(0, 42, false, createStatistics(10, 0, 1)),
+            new ReplicationSummary.Replication(1, 43, false, createStatistics(10, 2, 2)),
+            new ReplicationSummary.Replication(2, 44, false, createStatistics(10, 4, 3))
+        ), 0.95);
+
+        ReplicationSummary.AggregatedMetric responseTime = getMetric(summary, "ResponseTimeMean");
+        assertEquals(3, responseTime.getReplications());
+        assertEquals(2, responseTime.getMean(), 1e-12);
+        assertEquals(1, responseTime.getStandardDeviation(), 1e-12);
+        //t(0.975, 2) = 4.302653
+        double halfWidth = 4.302652729911275 / Math.sqrt(3);
+        assertEquals(2 - halfWidth, responseTime.getConfidenceIntervalLower(), 1e-9);
+        assertEquals(2 + halfWidth, responseTime.getConfidenceIntervalUpper(), 1e-9);
+
+        ReplicationSummary.AggregatedMetric failedRequests = getMetric(summary, "FailedRequests");
+        assertEquals(2, failedRequests.getMean(), 1e-12);
+    }
+
+    @Test
+    void ignoresFailedReplications() {
+        ReplicationSummary summary = new ReplicationSummary(List.of(
+            new ReplicationSummary.Replication(0, 42, false, createStatistics(10, 0, 1)),
+            new ReplicationSummary.Replication(1, 43, true, createStatistics(10, 0, 100))
+        ), 0.95);
+
+        assertEquals(1, summary.getFailedReplicationsCount());
+        ReplicationSummary.AggregatedMetric responseTime = getMetric(summary, "ResponseTimeMean");
+        assertEquals(1, responseTime.getReplications());
+        assertEquals(1, responseTime.getMean(), 1e-12);
+        assertTrue(Double.isNaN(responseTime.getConfidenceIntervalLower()));
+    }
+
+    @Test
+    void writesSummaryFiles() throws IOException {
+        Path dir = TestBase.createTempOutputDir();
+        try {
+            new ReplicationSummary(List.of(
+                new ReplicationSummary.Replication(0, 42, false, createStatistics(1, 0, 1)),
+                new ReplicationSummary.Replication(1, 43, false, createStatistics(1, 0, 2))
+            ), 0.95).writeTo(dir);
+
+            List<String> summary = Files.readAllLines(dir.resolve("summary.csv"));
+            assertEquals("Metric;Replications;Mean;StandardDeviation;CI95Lower;CI95Upper", summary.get(0));
+            assertEquals(8, summary.size());
+            assertEquals(3, Files.readAllLines(dir.resolve("replications.csv")).size());
+        } finally {
+            FileUtils.deleteDirectory(dir.toFile());
+        }
+    }
+}
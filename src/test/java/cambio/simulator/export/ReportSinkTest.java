@@ -0,0 +1,83 @@
+package cambio.simulator.export;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import cambio.simulator.test.TestBase;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+@Timeout(value = 60)
+class ReportSinkTest extends TestBase {
+
+    @Test
+    void boundsOpenFilesAndWritesCompleteFiles() throws IOException {
+        Path tmpOut = createSelfDeletingTempOutputDir().toPath();
+        ReportSink sink = new ReportSink(2, ReportSink.DEFAULT_FLUSH_PERIOD_MS, 32,
+            ReportSink.DEFAULT_MEMORY_BUDGET_BYTES);
+        int writerCount = sink.getMaxOpenFiles() + 16;
+        int rows = 20;
+
+        List<AsyncMultiColumnReportWriter> writers = new ArrayList<>();
+        for (int i = 0; i < writerCount; i++) {
+            writers.add(new AsyncMultiColumnReportWriter(tmpOut.resolve("dataset_" + i + ".csv"), sink, null,
+                MiSimReporters.DEFAULT_VALUE_COLUMN_NAME));
+        }
+        for (int row = 0; row < rows; row++) {
+            for (AsyncMultiColumnReportWriter writer : writers) {
+                writer.addDataPoint(row, row);
+            }
+            assertTrue(sink.getOpenFilesCount() <= sink.getMaxOpenFiles() + sink.getWriterThreads());
+        }
+        writers.forEach(AsyncReportWriter::finalizeWriteout);
+        sink.shutdown();
+        assertFalse(sink.isRunning());
+
+        for (int i = 0; i < writerCount; i++) {
+            List<String> lines = Files.readAllLines(tmpOut.resolve("dataset_" + i + ".csv"));
+            assertEquals(rows + 1, lines.size());
+            for (int row = 0; row < rows; row++) {
+                String[] columns = lines.get(row + 1).split(MiSimReporters.csvSeperator);
+                assertEquals(row, Double.parseDouble(columns[0]));
+                assertEquals(row, Double.parseDouble(columns[1]));
+            }
+        }
+        assertEquals(0, sink.getPendingBytes());
+    }
+
+    @Test
+    void smallMemoryBudgetForcesEarlyFlushes() throws IOException {
+        Path dataset = createSelfDeletingTempOutputDir().toPath().resolve("dataset.csv");
+        long memoryBudget = 16L * AsyncReportWriter.DEFAULT_ELEMENT_SIZE_ESTIMATE;
+        //the writer threads only wake up before the end of the test, if the budget is exceeded
+        ReportSink sink = new ReportSink(1, 600_000, ReportSink.DEFAULT_MAX_OPEN_FILES, memoryBudget);
+        AsyncMultiColumnReportWriter writer = new AsyncMultiColumnReportWriter(dataset, sink, null,
+            MiSimReporters.DEFAULT_VALUE_COLUMN_NAME);
+        int rows = 200;
+
+        for (int row = 0; row < rows; row++) {
+            writer.addDataPoint(row, row);
+            assertTrue(sink.getPendingBytes() <= memoryBudget);
+        }
+        assertTrue(Files.readAllLines(dataset).size() > 1);
+
+        writer.finalizeWriteout();
+        sink.shutdown();
+        assertEquals(rows + 1, Files.readAllLines(dataset).size());
+        assertEquals(0, sink.getPendingBytes());
+    }
+
+    @Test
+    void rejectsNonPositiveConfiguration() {
+        assertThrows(IllegalArgumentException.class, () -> new ReportSink(0, 100, 1, 1));
+        assertThrows(IllegalArgumentException.class, () -> new ReportSink(1, 100, 0, 1));
+    }
+}
@@ -0,0 +1,44 @@
+package cambio.simulator.export;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.List;
+
+import desmoj.core.simulator.TimeInstant;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ResponseTimeHistogramReporterTest extends MiSimReporterTest<ResponseTimeHistogramReporter> {
+
+    @BeforeEach
+    protected void setUp() {
+        reporter = new ResponseTimeHistogramReporter("", getMockModel());
+        super.setUp();
+    }
+
+    @Test
+    void writesOneRowPerWindow() throws IOException {
+        reporter.addResponseTime("test", 0.2, 1);
+        reporter.addResponseTime("test", 0.7, 3);
+        reporter.addResponseTime("test", 1.0, 2);
+        reporter.addResponseTime("test", 2.5, 4);
+        reporter.addDatapoint("test", new TimeInstant(2.6), 4);
+        reporter.finalizeReport();
+
+        String sep = MiSimReporters.csvSeperator;
+        List<String> lines = Files.readAllLines(outputFile.toPath());
+        assertEquals(3, lines.size());
+        assertEquals(String.join(sep, MiSimReporters.DEFAULT_TIME_COLUMN_NAME,
+            String.join(sep, ResponseTimeHistogramReporter.PERCENTILE_HEADERS)), lines.get(0));
+
+        String[] firstWindow = lines.get(1).split(sep);
+        assertEquals("1.0", firstWindow[0]);
+        assertEquals("3", firstWindow[1]);
+        assertEquals(2, Double.parseDouble(firstWindow[2]), 2 * LogHistogram.DEFAULT_RELATIVE_ERROR);
+        assertEquals("3.0", firstWindow[6]);
+
+        assertEquals(String.join(sep, "3.0", "2", "4.0", "4.0", "4.0", "4.0", "4.0"), lines.get(2));
+    }
+}
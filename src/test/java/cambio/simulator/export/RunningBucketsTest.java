@@ -0,0 +1,49 @@
+package cambio.simulator.export;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class RunningBucketsTest {
+
+    private final List<String> closed = new ArrayList<>();
+    private final RunningBuckets buckets = new RunningBuckets(
+        (dataSetName, bucketTime, sum, count) -> closed.add(dataSetName + "@" + bucketTime + "=" + sum + "/" + count));
+
+    @Test
+    void closesBucketWhenLaterBucketArrives() {
+        buckets.add("a", 1, 1);
+        buckets.add("a", 1, 2);
+        buckets.add("b", 1, 5);
+        assertEquals(List.of(), closed);
+
+        buckets.add("a", 2, 4);
+        assertEquals(List.of("a@1.0=3.0/2"), closed);
+
+        buckets.closeAll();
+        assertEquals(List.of("a@1.0=3.0/2", "a@2.0=4.0/1", "b@1.0=5.0/1"), closed);
+    }
+
+    @Test
+    void emitsLateValuesAsSeparateBucket() {
+        buckets.add("a", 2, 1);
+        buckets.add("a", 1, 7);
+        assertEquals(List.of("a@1.0=7.0/1"), closed);
+
+        buckets.close("a");
+        assertEquals(List.of("a@1.0=7.0/1", "a@2.0=1.0/1"), closed);
+    }
+
+    @Test
+    void doesNotEmitEmptyBuckets() {
+        buckets.add("a", 1, 1);
+        buckets.close("a");
+        buckets.close("a");
+        buckets.close("unknown");
+        buckets.closeAll();
+        assertEquals(List.of("a@1.0=1.0/1"), closed);
+    }
+}
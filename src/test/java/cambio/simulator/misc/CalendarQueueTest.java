@@ -0,0 +1,158 @@
+package cambio.simulator.misc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.*;
+
+import org.junit.jupiter.api.Test;
+
+class CalendarQueueTest {
+
+    private static final class Element {
+        private final long time;
+        private final int priority;
+        private final int id;
+
+        private Element(long time, int priority, int id) {
+            this.time = time;
+            this.priority = priority;
+            this.id = id;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%d@%d(%d)", id, time, priority);
+        }
+    }
+
+    private static CalendarQueue<Element> createQueue() {
+        return new CalendarQueue<>(element -> element.time, element -> element.priority);
+    }
+
+    /**
+     * Reference implementation on a plain list, that places the elements like the queue should.
+     */
+    private static void addOrdered(List<Element> reference, Element element) {
+        int index = reference.size();
+        while (index > 0) {
+            Element predecessor = reference.get(index - 1);
+            if (predecessor.time < element.time
+                || (predecessor.time == element.time && predecessor.priority >= element.priority)) {
+                break;
+            }
+            index--;
+        }
+        reference.add(index, element);
+    }
+
+    @Test
+    void ordersByTimeThenPriorityThenInsertion() {
+        CalendarQueue<Element> queue = createQueue();
+        Element late = new Element(20, 0, 0);
+        Element normal = new Element(10, 0, 1);
+        Element high = new Element(10, Priority.HIGH, 2);
+        Element secondNormal = new Element(10, 0, 3);
+        Element low = new Element(10, Priority.LOW, 4);
+
+        queue.add(late);
+        queue.add(normal);
+        queue.add(low);
+        queue.add(high);
+        queue.add(secondNormal);
+
+        assertEquals(Arrays.asList(high, normal, secondNormal, low, late), queue.toList());
+        assertSame(high, queue.pollFirst());
+        assertSame(normal, queue.pollFirst());
+        assertSame(secondNormal, queue.pollFirst());
+        assertSame(low, queue.pollFirst());
+        assertSame(late, queue.pollFirst());
+        assertNull(queue.pollFirst());
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    void placesElementsExplicitly() {
+        CalendarQueue<Element> queue = createQueue();
+        Element a = new Element(5, 0, 0);
+        Element b = new Element(5, 0, 1);
+        queue.add(a);
+        queue.add(b);
+
+        Element first = new Element(5, Priority.LOW, 2);
+        Element last = new Element(5, Priority.HIGH, 3);
+        Element before = new Element(5, 0, 4);
+        Element after = new Element(5, 0, 5);
+        queue.addFirst(first);
+        queue.addLast(last);
+        queue.addBefore(b, before);
+        queue.addAfter(a, after);
+
+        assertEquals(Arrays.asList(first, a, after, before, b, last), queue.toList());
+        assertSame(after, queue.next(a));
+        assertSame(a, queue.previous(after));
+        assertNull(queue.previous(first));
+        assertNull(queue.next(last));
+        assertSame(last, queue.peekLast());
+        assertThrows(IllegalArgumentException.class, () -> queue.add(a));
+    }
+
+    @Test
+    void behavesLikeAnOrderedList() {
+        Random random = new Random(42);
+        CalendarQueue<Element> queue = createQueue();
+        List<Element> reference = new ArrayList<>();
+        long now = 0;
+        int nextId = 0;
+
+        for (int step = 0; step < 50_000; step++) {
+            //let the queue grow and shrink a few times to trigger resizes
+            boolean growing = (step / 5_000) % 2 == 0;
+            int operation = random.nextInt(10);
+            if (reference.isEmpty() || operation < (growing ? 6 : 3)) {
+                Element element = new Element(now + random.nextInt(50) * (random.nextInt(20) == 0 ? 1_000L : 1L),
+                    random.nextInt(3) - 1, nextId++);
+                int placement = random.nextInt(10);
+                if (placement == 0 && !reference.isEmpty()) {
+                    Element where = reference.get(random.nextInt(reference.size()));
+                    Element sameTime = new Element(where.time, element.priority, element.id);
+                    queue.addBefore(where, sameTime);
+                    reference.add(reference.indexOf(where), sameTime);
+                } else if (placement == 1 && !reference.isEmpty()) {
+                    Element where = reference.get(random.nextInt(reference.size()));
+                    Element sameTime = new Element(where.time, element.priority, element.id);
+                    queue.addAfter(where, sameTime);
+                    reference.add(reference.indexOf(where) + 1, sameTime);
+                } else {
+                    queue.add(element);
+                    addOrdered(reference, element);
+                }
+            } else if (operation < 8) {
+                Element first = reference.remove(0);
+                assertSame(first, queue.pollFirst());
+                now = first.time;
+            } else {
+                Element element = reference.remove(random.nextInt(reference.size()));
+                assertTrue(queue.remove(element));
+                assertFalse(queue.contains(element));
+            }
+
+            assertEquals(reference.size(), queue.size());
+            if (!reference.isEmpty()) {
+                assertSame(reference.get(0), queue.peekFirst());
+                int index = random.nextInt(reference.size());
+                Element element = reference.get(index);
+                assertSame(index + 1 < reference.size() ? reference.get(index + 1) : null, queue.next(element));
+                if (step % 100 == 0) {
+                    assertSame(index > 0 ? reference.get(index - 1) : null, queue.previous(element));
+                    assertSame(reference.get(reference.size() - 1), queue.peekLast());
+                }
+            }
+        }
+        assertEquals(reference, queue.toList());
+    }
+}
@@ -0,0 +1,83 @@
+package cambio.simulator.misc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.*;
+
+import org.junit.jupiter.api.Test;
+
+class DenseIdSetTest {
+
+    private static final class Element implements DenseIdentifiable {
+        private final int id;
+
+        private Element(int id) {
+            this.id = id;
+        }
+
+        @Override
+        public int getDenseId() {
+            return id;
+        }
+    }
+
+    @Test
+    void behavesLikeAnIdentitySet() {
+        Random random = new Random(42);
+        List<Element> elements = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            elements.add(new Element(i));
+        }
+        DenseIdSet<Element> set = new DenseIdSet<>();
+        Set<Element> expected = Collections.newSetFromMap(new IdentityHashMap<>());
+
+        for (int step = 0; step < 20_000; step++) {
+            Element element = elements.get(random.nextInt(elements.size()));
+            if (random.nextBoolean()) {
+                assertEquals(expected.add(element), set.add(element));
+            } else {
+                assertEquals(expected.remove(element), set.remove(element));
+            }
+            assertEquals(expected.size(), set.size());
+        }
+        for (Element element : elements) {
+            assertEquals(expected.contains(element), set.contains(element));
+        }
+        Set<Element> iterated = Collections.newSetFromMap(new IdentityHashMap<>());
+        set.forEach(iterated::add);
+        assertEquals(expected, iterated);
+    }
+
+    @Test
+    void distinguishesElementsWithEqualIds() {
+        DenseIdSet<Element> set = new DenseIdSet<>();
+        Element first = new Element(7);
+        Element second = new Element(7);
+        assertTrue(set.add(first));
+        assertTrue(set.add(second));
+        assertFalse(set.add(first));
+        assertTrue(set.remove(first));
+        assertTrue(set.contains(second));
+        assertFalse(set.contains(first));
+        assertFalse(set.contains("not an element"));
+    }
+
+    @Test
+    void removesDuringIteration() {
+        DenseIdSet<Element> set = new DenseIdSet<>();
+        for (int i = 0; i < 100; i++) {
+            set.add(new Element(i));
+        }
+        set.removeIf(element -> element.getDenseId() % 2 == 0);
+        assertEquals(50, set.size());
+        set.forEach(element -> assertEquals(1, element.getDenseId() % 2));
+
+        set.removeAll(new ArrayList<>(set));
+        assertTrue(set.isEmpty());
+        set.clear();
+        assertTrue(set.add(new Element(3)));
+        assertEquals(1, set.size());
+    }
+}
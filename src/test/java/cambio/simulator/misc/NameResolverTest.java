@@ -0,0 +1,64 @@
+package cambio.simulator.misc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import cambio.simulator.entities.microservice.Microservice;
+import cambio.simulator.entities.microservice.Operation;
+import cambio.simulator.models.ArchitectureModel;
+import cambio.simulator.models.MiSimModel;
+import cambio.simulator.test.TestBase;
+import org.junit.jupiter.api.Test;
+
+class NameResolverTest extends TestBase {
+
+    @Test
+    void resolvesServicesAndOperations() {
+        MiSimModel model = getConnectedMockModel().getValue0();
+
+        Microservice gateway = NameResolver.resolveMicroserviceName(model, "gateway");
+        Operation ping = NameResolver.resolveOperationName(model, "gateway.PING");
+        Operation read = NameResolver.resolveOperationName(model, "example-service.DB_READ");
+
+        assertEquals("gateway", gateway.getPlainName());
+        assertSame(gateway, ping.getOwnerMS());
+        assertEquals("PING", ping.getPlainName());
+        assertEquals("example-service", read.getOwnerMS().getPlainName());
+        assertSame(ping, NameResolver.resolveOperationName(model, "PING"));
+        assertSame(ping, gateway.getOperationByName("PING"));
+        assertSame(ping, gateway.getOperationByName(ping.getName()));
+    }
+
+    @Test
+    void resolvesAmbiguousPlainNamesToTheFirstService() {
+        MiSimModel model = getConnectedMockModel().getValue0();
+        ArchitectureModel architecture = model.getArchitectureModel();
+
+        Operation read = NameResolver.resolveOperationName(architecture, "DB_READ");
+
+        assertSame(architecture.getMicroservices().first(), read.getOwnerMS());
+    }
+
+    @Test
+    void returnsNullForUnknownNames() {
+        MiSimModel model = getConnectedMockModel().getValue0();
+        Microservice gateway = NameResolver.resolveMicroserviceName(model, "gateway");
+
+        assertNull(NameResolver.resolveMicroserviceName(model, "unknown"));
+        assertNull(NameResolver.resolveOperationName(model, "unknown.PING"));
+        assertNull(NameResolver.resolveOperationName(model, "gateway.unknown"));
+        assertNull(NameResolver.resolveOperationName(model, "unknown"));
+        assertNull(gateway.getOperationByName("unknown"));
+    }
+
+    @Test
+    void cachesTheSortedMicroservices() {
+        ArchitectureModel architecture = getConnectedMockModel().getValue0().getArchitectureModel();
+
+        assertSame(architecture.getMicroservices(), architecture.getMicroservices());
+        assertEquals(3, architecture.getMicroservices().size());
+        assertThrows(UnsupportedOperationException.class, () -> architecture.getMicroservices().clear());
+    }
+}
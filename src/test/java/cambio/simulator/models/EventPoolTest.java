@@ -0,0 +1,68 @@
+package cambio.simulator.models;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import desmoj.core.simulator.ExternalEvent;
+import desmoj.core.simulator.Model;
+import org.junit.jupiter.api.Test;
+
+class EventPoolTest {
+
+    private static ExternalEvent createEvent(Model model, boolean scheduled) {
+        ExternalEvent event = mock(ExternalEvent.class);
+        when(event.getModel()).thenReturn(model);
+        when(event.isScheduled()).thenReturn(scheduled);
+        return event;
+    }
+
+    @Test
+    void reusesReleasedEventsOfTheSameModel() {
+        Model model = mock(Model.class);
+        EventPool<ExternalEvent> pool = new EventPool<>();
+        ExternalEvent first = createEvent(model, false);
+        ExternalEvent second = createEvent(model, false);
+
+        assertNull(pool.poll(model));
+        pool.release(first);
+        pool.release(second);
+
+        assertEquals(2, pool.size());
+        assertSame(second, pool.poll(model));
+        assertSame(first, pool.poll(model));
+        assertNull(pool.poll(model));
+    }
+
+    @Test
+    void doesNotHandOutEventsOfOtherModels() {
+        Model model = mock(Model.class);
+        EventPool<ExternalEvent> pool = new EventPool<>();
+        pool.release(createEvent(mock(Model.class), false));
+
+        assertNull(pool.poll(model));
+        assertEquals(0, pool.size());
+    }
+
+    @Test
+    void dropsEventsBeyondCapacity() {
+        Model model = mock(Model.class);
+        EventPool<ExternalEvent> pool = new EventPool<>(1);
+        pool.release(createEvent(model, false));
+        pool.release(createEvent(model, false));
+
+        assertEquals(1, pool.size());
+    }
+
+    @Test
+    void rejectsScheduledEvents() {
+        EventPool<ExternalEvent> pool = new EventPool<>();
+        ExternalEvent event = createEvent(mock(Model.class), true);
+
+        assertThrows(IllegalStateException.class, () -> pool.release(event));
+        assertThrows(IllegalArgumentException.class, () -> new EventPool<ExternalEvent>(-1));
+    }
+}
@@ -0,0 +1,47 @@
+package cambio.simulator.models;
+
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import cambio.simulator.test.TestBase;
+import desmoj.core.simulator.Model;
+import org.junit.jupiter.api.Test;
+
+class ExecutionContextTest extends TestBase {
+
+    private static Model createModel(Model owner, String name) {
+        return new Model(owner, name, false, false) {
+            @Override
+            public String description() {
+                return name;
+            }
+
+            @Override
+            public void doInitialSchedules() {
+            }
+
+            @Override
+            public void init() {
+            }
+        };
+    }
+
+    @Test
+    void submodelsUseTheContextOfTheirMiSimModel() {
+        MiSimModel model = getMockModel();
+        Model submodel = createModel(model, "Submodel");
+
+        assertSame(model.getExecutionContext(), ExecutionContext.of(model));
+        assertSame(model.getExecutionContext(), ExecutionContext.of(submodel));
+    }
+
+    @Test
+    void detachedModelsDoNotShareTheirContext() {
+        Model first = createModel(null, "First");
+        Model second = createModel(null, "Second");
+
+        assertSame(ExecutionContext.of(first), ExecutionContext.of(first));
+        assertNotSame(ExecutionContext.of(first), ExecutionContext.of(second));
+        assertNotSame(ExecutionContext.of(first), getMockModel().getExecutionContext());
+    }
+}
@@ -0,0 +1,85 @@
+package cambio.simulator.parsing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+
+import cambio.simulator.entities.patterns.InstanceOwnedPattern;
+import cambio.simulator.entities.patterns.Retry;
+import cambio.simulator.test.TestBase;
+import org.junit.jupiter.api.Test;
+
+class JsonTypeNameProcessorTest extends TestBase {
+
+    private static final String PLUGIN_SOURCE = "package plugin;\n"
+        + "@cambio.simulator.parsing.JsonTypeName(value = \"plugin_retry\", alternativeNames = {\"other_retry\"})\n"
+        + "public class PluginRetry extends cambio.simulator.entities.patterns.Retry {\n"
+        + "    public PluginRetry(desmoj.core.simulator.Model model, String name, boolean showInTrace) {\n"
+        + "        super(model, name, showInTrace);\n"
+        + "    }\n"
+        + "}\n";
+
+    private static Path compilePlugin(Path outputDirectory) {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        JavaFileObject source = new SimpleJavaFileObject(
+            Path.of("plugin/PluginRetry.java").toUri(), JavaFileObject.Kind.SOURCE) {
+            @Override
+            public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                return PLUGIN_SOURCE;
+            }
+        };
+        JavaCompiler.CompilationTask task = compiler.getTask(null, null, null,
+            List.of("-d", outputDirectory.toString(), "-classpath", System.getProperty("java.class.path")),
+            null, List.of(source));
+        task.setProcessors(List.of(new JsonTypeNameProcessor()));
+        assertTrue(task.call());
+        return outputDirectory.resolve(JsonTypeNameRegistry.INDEX_LOCATION);
+    }
+
+    @Test
+    void writesIndexOfAnnotatedTypes() throws IOException {
+        Path index = compilePlugin(createSelfDeletingTempOutputDir().toPath());
+
+        assertEquals(List.of("plugin.PluginRetry\tplugin_retry\tother_retry"),
+            Files.readAllLines(index, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void resolvesIndexedTypesOfPlugins() throws IOException {
+        Path outputDirectory = createSelfDeletingTempOutputDir().toPath();
+        compilePlugin(outputDirectory);
+
+        try (URLClassLoader pluginLoader = new URLClassLoader(new URL[] {outputDirectory.toUri().toURL()},
+            getClass().getClassLoader())) {
+            Map<String, Class<? extends InstanceOwnedPattern>> subtypes =
+                new JsonTypeNameRegistry(pluginLoader).getSubtypesByTypeName(InstanceOwnedPattern.class);
+
+            assertEquals("plugin.PluginRetry", subtypes.get("plugin_retry").getName());
+            assertSame(subtypes.get("plugin_retry"), subtypes.get("other_retry"));
+        }
+    }
+
+    @Test
+    void indexContainsTheTypesOfMiSim() {
+        Map<String, Class<? extends InstanceOwnedPattern>> subtypes =
+            JsonTypeNameRegistry.getInstance().getSubtypesByTypeName(InstanceOwnedPattern.class);
+
+        assertSame(Retry.class, subtypes.get("retry"));
+        assertNotNull(subtypes.get("circuitbreaker"));
+        assertSame(Retry.class, JsonTypeNameResolver.resolveFromJsonTypeName("retry", InstanceOwnedPattern.class));
+    }
+}
@@ -3,10 +3,11 @@ package cambio.simulator.parsing;
 import static org.junit.jupiter.api.Assertions.*;
 
 import java.io.*;
+import java.nio.file.Files;
 import java.nio.file.Path;
 
 import cambio.simulator.export.ExportUtils;
-import cambio.simulator.misc.RNGStorage;
+import cambio.simulator.export.ReportSink;
 import cambio.simulator.models.ExperimentMetaData;
 import cambio.simulator.models.MiSimModel;
 import cambio.simulator.test.FileLoaderUtil;
@@ -53,6 +54,70 @@ class ModelLoaderTest extends TestBase {
         assertEquals("continuous", data.getReportType());
     }
 
+    @Test
+    void sharedJsonTreeCacheHandsOutIndependentTrees() throws IOException {
+        File experimentFile = FileLoaderUtil.loadFromTestResources("test_metadata_experiment.json");
+        File firstArchitecture = new File("first/architecture.json");
+        File secondArchitecture = new File("second/architecture.json");
+        JsonTreeCache cache = new JsonTreeCache();
+
+        ExperimentMetaData first = ModelLoader.loadExperimentMetaData(experimentFile, firstArchitecture, cache);
+        ExperimentMetaData second = ModelLoader.loadExperimentMetaData(experimentFile, secondArchitecture, cache);
+
+        assertEquals(1, cache.size());
+        assertEquals(firstArchitecture.getAbsolutePath(),
+            first.getArchitectureDescriptionLocation().getAbsolutePath());
+        assertEquals(secondArchitecture.getAbsolutePath(),
+            second.getArchitectureDescriptionLocation().getAbsolutePath());
+        assertNotSame(cache.load(experimentFile), cache.load(experimentFile));
+        assertFalse(cache.load(experimentFile).getAsJsonObject().has("arch_file_location"));
+    }
+
+    @Test
+    void failsOnNonPositiveUtilizationSettings() throws IOException {
+        File experimentFile = FileLoaderUtil.loadFromTestResources("test_metadata_experiment.json");
+        Path tmpDir = createSelfDeletingTempOutputDir().toPath();
+        String description = Files.readString(experimentFile.toPath());
+
+        Path zeroInterval = tmpDir.resolve("zero_interval.json");
+        Files.writeString(zeroInterval,
+            description.replace("\"seed\": 42", "\"seed\": 42, \"utilization_probe_interval\": 0"));
+        Path negativeBinSize = tmpDir.resolve("negative_bin_size.json");
+        Files.writeString(negativeBinSize,
+            description.replace("\"seed\": 42", "\"seed\": 42, \"utilization_bin_size\": -1"));
+
+        assertThrows(ParsingException.class,
+            () -> ModelLoader.loadExperimentMetaData(zeroInterval.toFile(), new File("arch.json")));
+        assertThrows(ParsingException.class,
+            () -> ModelLoader.loadExperimentMetaData(negativeBinSize.toFile(), new File("arch.json")));
+    }
+
+    @Test
+    void parsesReportSinkSettings() throws IOException {
+        File experimentFile = FileLoaderUtil.loadFromTestResources("test_metadata_experiment.json");
+        Path tmpDir = createSelfDeletingTempOutputDir().toPath();
+        String description = Files.readString(experimentFile.toPath());
+
+        Path configured = tmpDir.resolve("configured.json");
+        Files.writeString(configured, description.replace("\"seed\": 42", "\"seed\": 42, "
+            + "\"report_writer_threads\": 2, \"report_max_open_files\": 8, \"report_memory_budget\": 4096"));
+        Path zeroBudget = tmpDir.resolve("zero_budget.json");
+        Files.writeString(zeroBudget,
+            description.replace("\"seed\": 42", "\"seed\": 42, \"report_memory_budget\": 0"));
+
+        ExperimentMetaData defaults = ModelLoader.loadExperimentMetaData(experimentFile, new File("arch.json"));
+        assertEquals(ReportSink.DEFAULT_WRITER_THREADS, defaults.getReportWriterThreads());
+        assertEquals(ReportSink.DEFAULT_MAX_OPEN_FILES, defaults.getReportMaxOpenFiles());
+        assertEquals(ReportSink.DEFAULT_MEMORY_BUDGET_BYTES, defaults.getReportMemoryBudget());
+
+        ExperimentMetaData metaData = ModelLoader.loadExperimentMetaData(configured.toFile(), new File("arch.json"));
+        assertEquals(2, metaData.getReportWriterThreads());
+        assertEquals(8, metaData.getReportMaxOpenFiles());
+        assertEquals(4096, metaData.getReportMemoryBudget());
+
+        assertThrows(ParsingException.class,
+            () -> ModelLoader.loadExperimentMetaData(zeroBudget.toFile(), new File("arch.json")));
+    }
 
     @Test
     void failsOnNullExperimentMetaData_Test() {
@@ -89,7 +154,7 @@ class ModelLoaderTest extends TestBase {
         assertEquals(5, model.getExperimentModel().getAllSelfSchedulesEntities().size());
         assertFalse(expDummy.hasError());
 
-        RNGStorage.reset();
+        model.getExecutionContext().getReporters().finalizeReports();
         FileUtils.forceDelete(reportLocation.toFile());
     }
 
@@ -117,7 +182,7 @@ class ModelLoaderTest extends TestBase {
         assertEquals(7, model.getExperimentModel().getAllSelfSchedulesEntities().size());
         assertFalse(expDummy.hasError());
 
-        RNGStorage.reset();
+        model.getExecutionContext().getReporters().finalizeReports();
         FileUtils.forceDelete(reportLocation.toFile());
     }
 
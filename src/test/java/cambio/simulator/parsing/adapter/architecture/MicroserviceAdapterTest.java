@@ -0,0 +1,78 @@
+package cambio.simulator.parsing.adapter.architecture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.LinkedList;
+
+import cambio.simulator.entities.microservice.Microservice;
+import cambio.simulator.parsing.ParsingException;
+import cambio.simulator.resources.cpu.CPUType;
+import cambio.simulator.resources.cpu.scheduling.IncrementalRoundRobinScheduler;
+import cambio.simulator.resources.cpu.scheduling.MultiLevelFeedbackQueueScheduler;
+import cambio.simulator.resources.cpu.scheduling.SchedulerConfiguration;
+import cambio.simulator.resources.cpu.scheduling.SchedulerType;
+import cambio.simulator.test.TestBase;
+import org.junit.jupiter.api.Test;
+
+class MicroserviceAdapterTest extends TestBase {
+
+    private Microservice parse(String properties) throws IOException {
+        return new MicroserviceAdapter(getMockModel(), new LinkedList<>())
+            .fromJson("{\"name\": \"service\", \"capacity\": 100" + properties + "}");
+    }
+
+    @Test
+    void usesDefaultCpuConfiguration() throws IOException {
+        Microservice service = parse("");
+
+        assertSame(CPUType.BURST, service.getCpuType());
+        assertEquals(4, service.getThreadPoolSize());
+        assertEquals(100, service.getCpuCapacity());
+        assertSame(SchedulerConfiguration.DEFAULT, service.getSchedulerConfiguration());
+    }
+
+    @Test
+    void parsesThreadsAndCapacityPerThread() throws IOException {
+        Microservice service = parse(", \"threads\": 8, \"capacity_per_thread\": 12.5");
+
+        assertEquals(8, service.getThreadPoolSize());
+        assertEquals(12.5, service.getCapacityPerThread());
+        assertEquals(100, service.getCpuCapacity());
+
+        service.setCapacity(50);
+        assertEquals(50, service.getCpuCapacity());
+    }
+
+    @Test
+    void parsesSchedulerByName() throws IOException {
+        Microservice service = parse(", \"scheduler\": \"rr\"");
+
+        assertSame(SchedulerType.ROUND_ROBIN, service.getSchedulerConfiguration().getType());
+        assertTrue(service.getSchedulerConfiguration().createScheduler("s") instanceof IncrementalRoundRobinScheduler);
+    }
+
+    @Test
+    void parsesSchedulerParameters() throws IOException {
+        SchedulerConfiguration scheduler =
+            parse(", \"scheduler\": {\"type\": \"mlfq\", \"levels\": 5, \"quantum\": 10}").getSchedulerConfiguration();
+
+        assertSame(SchedulerType.MLFQ, scheduler.getType());
+        assertEquals(5, scheduler.getLevels());
+        assertEquals(10, scheduler.getQuantum());
+        assertTrue(scheduler.createScheduler("s") instanceof MultiLevelFeedbackQueueScheduler);
+    }
+
+    @Test
+    void rejectsInvalidCpuConfigurations() {
+        assertThrows(ParsingException.class, () -> parse(", \"threads\": 0"));
+        assertThrows(ParsingException.class, () -> parse(", \"scheduler\": \"unknown\""));
+        assertThrows(ParsingException.class, () -> parse(", \"scheduler\": {\"type\": \"rr\", \"quantum\": 0}"));
+        assertThrows(ParsingException.class, () -> parse(", \"scheduler\": {\"quantum\": 10}"));
+        assertThrows(ParsingException.class, () -> parse(", \"scheduler\": {\"type\": \"rr\", \"quantum\": 2.5}"));
+        assertThrows(ParsingException.class, () -> parse(", \"scheduler\": {\"type\": \"mlfq\", \"levels\": \"x\"}"));
+    }
+}
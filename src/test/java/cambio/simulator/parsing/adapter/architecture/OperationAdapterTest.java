@@ -0,0 +1,61 @@
+package cambio.simulator.parsing.adapter.architecture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import cambio.simulator.entities.microservice.Operation;
+import cambio.simulator.entities.networking.DependencyDescription;
+import cambio.simulator.entities.networking.NetworkRequestTimeoutEvent;
+import cambio.simulator.entities.networking.SimpleDependencyDescription;
+import cambio.simulator.models.MiSimModel;
+import cambio.simulator.parsing.ParsingException;
+import cambio.simulator.test.TestBase;
+import org.junit.jupiter.api.Test;
+
+class OperationAdapterTest extends TestBase {
+
+    private Operation parse(String json) throws IOException {
+        MiSimModel model = getMockModel();
+        List<DependencyDescription> dependencies = new ArrayList<>();
+        return new OperationAdapter(model, "service", dependencies).fromJson(json);
+    }
+
+    @Test
+    void parsesTimeoutsOfOperationsAndDependencies() throws IOException {
+        Operation operation = parse("{\"name\": \"op\", \"demand\": 1, \"timeout\": 2.5, \"dependencies\": ["
+            + "{\"service\": \"other\", \"operation\": \"a\"},"
+            + "{\"service\": \"other\", \"operation\": \"b\", \"timeout\": 0.5}]}");
+
+        List<SimpleDependencyDescription> leaves = new ArrayList<>();
+        for (DependencyDescription dependency : operation.getDependencyDescriptions()) {
+            leaves.addAll(dependency.getLeafDescendants());
+        }
+
+        assertEquals(2.5, operation.getTimeout());
+        assertFalse(leaves.get(0).hasCustomTimeout());
+        assertEquals(2.5, leaves.get(0).getTimeout());
+        assertEquals(0.5, leaves.get(1).getTimeout());
+    }
+
+    @Test
+    void usesDefaultTimeoutIfNoneIsConfigured() throws IOException {
+        Operation operation = parse("{\"name\": \"op\", \"demand\": 1, \"dependencies\": ["
+            + "{\"service\": \"other\", \"operation\": \"a\"}]}");
+
+        assertEquals(NetworkRequestTimeoutEvent.DEFAULT_TIMEOUT, operation.getTimeout());
+        assertEquals(NetworkRequestTimeoutEvent.DEFAULT_TIMEOUT,
+            operation.getDependencyDescriptions()[0].getLeafDescendants().get(0).getTimeout());
+    }
+
+    @Test
+    void rejectsNonPositiveTimeouts() {
+        assertThrows(ParsingException.class, () -> parse("{\"name\": \"op\", \"demand\": 1, \"timeout\": 0}"));
+        assertThrows(ParsingException.class, () -> parse("{\"name\": \"op\", \"demand\": 1, \"dependencies\": ["
+            + "{\"service\": \"other\", \"operation\": \"a\", \"timeout\": -1}]}"));
+    }
+}
@@ -82,6 +82,24 @@ class CPUProcessSchedulerTest<T extends CPUProcessScheduler> {
         assertNull(scheduler.retrieveNextProcessNoReschedule());
     }
 
+    @Test
+    public void tracksTotalWorkDemand() {
+        scheduler.enterProcess(new CPUProcess(10));
+        scheduler.enterProcess(new CPUProcess(20));
+        scheduler.enterProcess(new CPUProcess(30));
+        assertEquals(60, scheduler.getTotalWorkDemand());
+        assertEquals(3, scheduler.size());
+
+        Pair<CPUProcess, Integer> next = scheduler.retrieveNextProcessNoReschedule();
+        assertEquals(60 - next.getValue0().getDemandRemainder(), scheduler.getTotalWorkDemand());
+        assertEquals(2, scheduler.size());
+
+        scheduler.clear();
+        assertEquals(0, scheduler.getTotalWorkDemand());
+        assertEquals(0, scheduler.size());
+        assertFalse(scheduler.hasProcessesToSchedule());
+    }
+
     @Test
     @Timeout(value = 1)
     public void returnsOneProcessCorrectly() {
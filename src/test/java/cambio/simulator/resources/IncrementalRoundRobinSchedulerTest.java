@@ -0,0 +1,110 @@
+package cambio.simulator.resources;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import cambio.simulator.resources.cpu.CPUProcess;
+import cambio.simulator.resources.cpu.scheduling.CPUProcessScheduler;
+import cambio.simulator.resources.cpu.scheduling.IncrementalRoundRobinScheduler;
+import cambio.simulator.resources.cpu.scheduling.RoundRobinScheduler;
+import org.javatuples.Pair;
+import org.junit.jupiter.api.Test;
+
+class IncrementalRoundRobinSchedulerTest extends CPUProcessSchedulerTest<IncrementalRoundRobinScheduler> {
+
+    /**
+     * Case 1 from algorithm proposing paper
+     */
+    @Test
+    void case1() {
+        ArrayList<Pair<CPUProcess, Integer>> arrivalList = new ArrayList<>();
+        arrivalList.add(new Pair<>(new CPUProcess(20), 0));
+        arrivalList.add(new Pair<>(new CPUProcess(40), 0));
+        arrivalList.add(new Pair<>(new CPUProcess(60), 0));
+        arrivalList.add(new Pair<>(new CPUProcess(80), 0));
+
+        int[] expectedResult = new int[] {1, 2, 3, 4, 3, 4, 4}; //process numbers (position in arrivalList + 1)
+
+        testProcessOrder(arrivalList, expectedResult);
+    }
+
+    /**
+     * Case 3
+     */
+    @Test
+    void case3() {
+        ArrayList<Pair<CPUProcess, Integer>> arrivalList = new ArrayList<>();
+        arrivalList.add(new Pair<>(new CPUProcess(18), 0));
+        arrivalList.add(new Pair<>(new CPUProcess(22), 4));
+        arrivalList.add(new Pair<>(new CPUProcess(70), 8));
+        arrivalList.add(new Pair<>(new CPUProcess(74), 16));
+
+        int[] expectedResult = new int[] {1, 2, 3, 4, 4}; //process numbers (position in arrivalList + 1)
+
+        testProcessOrder(arrivalList, expectedResult);
+    }
+
+    /**
+     * Runs both round-robin schedulers like a CPU with multiple threads would and compares the schedules.
+     */
+    @Test
+    void schedulesLikeRoundRobinScheduler() {
+        Random random = new Random(42);
+        List<CPUProcess> referenceProcesses = new ArrayList<>();
+        List<CPUProcess> processes = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            int demand = 1 + random.nextInt(200);
+            referenceProcesses.add(new CPUProcess(demand));
+            processes.add(new CPUProcess(demand));
+        }
+
+        List<Pair<Integer, Integer>> referenceSchedule = simulateThreads(new RoundRobinScheduler("reference"),
+            referenceProcesses, new Random(7));
+        List<Pair<Integer, Integer>> schedule = simulateThreads(new IncrementalRoundRobinScheduler("incremental"),
+            processes, new Random(7));
+
+        assertEquals(referenceSchedule, schedule);
+    }
+
+    /**
+     * Enters the processes at random points in time and executes up to four bursts at once.
+     *
+     * @return the executed bursts as pairs of the index of the process and the assigned quantum
+     */
+    private static List<Pair<Integer, Integer>> simulateThreads(CPUProcessScheduler scheduler,
+                                                                List<CPUProcess> processes, Random random) {
+        List<Pair<Integer, Integer>> schedule = new ArrayList<>();
+        int entered = 0;
+        while (entered < processes.size() || scheduler.hasProcessesToSchedule()) {
+            int arrivals = Math.min(random.nextInt(4), processes.size() - entered);
+            for (int i = 0; i < arrivals; i++) {
+                scheduler.enterProcess(processes.get(entered++));
+            }
+            int demandBefore = scheduler.getTotalWorkDemand();
+
+            List<Pair<CPUProcess, Integer>> bursts = new ArrayList<>();
+            for (int thread = 0; thread < 4 && scheduler.hasProcessesToSchedule(); thread++) {
+                bursts.add(scheduler.retrieveNextProcessNoReschedule());
+            }
+            int retrievedDemand = 0;
+            for (Pair<CPUProcess, Integer> burst : bursts) {
+                CPUProcess process = burst.getValue0();
+                retrievedDemand += process.getDemandRemainder();
+                schedule.add(new Pair<>(processes.indexOf(process), burst.getValue1()));
+                process.reduceDemandRemainder(burst.getValue1());
+            }
+            assertEquals(demandBefore - retrievedDemand, scheduler.getTotalWorkDemand());
+
+            for (Pair<CPUProcess, Integer> burst : bursts) {
+                if (burst.getValue0().getDemandRemainder() > 0) {
+                    scheduler.enterProcess(burst.getValue0());
+                }
+            }
+        }
+        assertEquals(0, scheduler.size());
+        return schedule;
+    }
+}
@@ -0,0 +1,183 @@
+package cambio.simulator.resources;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import cambio.simulator.entities.NamedExternalEvent;
+import cambio.simulator.models.MiSimModel;
+import cambio.simulator.resources.cpu.CPU;
+import cambio.simulator.resources.cpu.CPUProcess;
+import cambio.simulator.resources.cpu.CPUType;
+import cambio.simulator.resources.cpu.ProcessorSharingCPU;
+import cambio.simulator.resources.cpu.scheduling.RoundRobinScheduler;
+import cambio.simulator.test.TestBase;
+import cambio.simulator.test.TestExperiment;
+import com.google.gson.Gson;
+import desmoj.core.simulator.TimeInstant;
+import org.javatuples.Pair;
+import org.junit.jupiter.api.Test;
+
+class ProcessorSharingCPUTest extends TestBase {
+
+    private final CPUProcess shortProcess = new CPUProcess(4);
+    private final CPUProcess longProcess = new CPUProcess(8);
+
+    /**
+     * Runs a single threaded CPU with a capacity of 4 that shares its capacity between a process with a demand of 4
+     * and one with a demand of 8. The short process finishes at 2, the long one at 3.
+     */
+    private ProcessorSharingCPU runUntil(double stopTime) {
+        Pair<MiSimModel, TestExperiment> mocks = getConnectedMockModel();
+        ProcessorSharingCPU cpu = new ProcessorSharingCPU(mocks.getValue0(), "PSCPU", false, null, 4, 1);
+        cpu.submitProcess(shortProcess);
+        cpu.submitProcess(longProcess);
+
+        TestExperiment experiment = mocks.getValue1();
+        experiment.stop(new TimeInstant(stopTime));
+        experiment.start();
+        return cpu;
+    }
+
+    @Test
+    void sharesCapacityBetweenProcesses() {
+        ProcessorSharingCPU cpu = runUntil(2.5);
+
+        assertEquals(0, shortProcess.getDemandRemainder());
+        assertEquals(8, longProcess.getDemandRemainder());
+        // the long process received 2 * 2 + 0.5 * 4 of its 8 cycles so far
+        assertEquals(0.5, cpu.getCurrentRelativeWorkDemand(), 1e-9);
+        assertEquals(1, cpu.getCurrentUsage());
+    }
+
+    @Test
+    void speedsUpRemainingProcesses() {
+        ProcessorSharingCPU cpu = runUntil(3.5);
+
+        assertEquals(0, shortProcess.getDemandRemainder());
+        assertEquals(0, longProcess.getDemandRemainder());
+        assertEquals(0, cpu.getCurrentRelativeWorkDemand());
+        assertEquals(0, cpu.getCurrentUsage());
+        assertFalse(cpu.isScheduled());
+    }
+
+    /**
+     * Schedules the given action at the given time.
+     */
+    private static void at(MiSimModel model, double time, Runnable action) {
+        new NamedExternalEvent(model, "Action", false) {
+            @Override
+            public void onRoutineExecution() {
+                action.run();
+            }
+        }.schedule(new TimeInstant(time));
+    }
+
+    /**
+     * Counts the events that are executed until the given time by a model with an idle CPU, e.g. the samples of the
+     * utilization sampler.
+     */
+    private long countIdleEvents(double stopTime) {
+        Pair<MiSimModel, TestExperiment> mocks = getConnectedMockModel();
+        new ProcessorSharingCPU(mocks.getValue0(), "IdleCPU", false, null, 4, 1);
+        mocks.getValue1().stop(new TimeInstant(stopTime));
+        mocks.getValue1().start();
+        return mocks.getValue0().getExecutedEventsCount();
+    }
+
+    /**
+     * Computes processes with the demands 10, 20, ..., 100 on the given CPU and returns the number of executed events.
+     */
+    private static long countEventsToCompute(Pair<MiSimModel, TestExperiment> mocks, CPU cpu) {
+        List<CPUProcess> processes = new ArrayList<>();
+        for (int i = 1; i <= 10; i++) {
+            CPUProcess process = new CPUProcess(i * 10);
+            processes.add(process);
+            cpu.submitProcess(process);
+        }
+
+        mocks.getValue1().stop(new TimeInstant(1000));
+        mocks.getValue1().start();
+
+        for (CPUProcess process : processes) {
+            assertEquals(0, process.getDemandRemainder());
+        }
+        return mocks.getValue0().getExecutedEventsCount();
+    }
+
+    @Test
+    void executesFewerEventsThanBurstCpu() {
+        Pair<MiSimModel, TestExperiment> burstMocks = getConnectedMockModel();
+        CPU burstCpu = new CPU(burstMocks.getValue0(), "CPU", false, null, 4,
+            new RoundRobinScheduler("CPU_scheduler"), 1);
+        long idleEvents = countIdleEvents(1000);
+        long burstEvents = countEventsToCompute(burstMocks, burstCpu) - idleEvents;
+
+        Pair<MiSimModel, TestExperiment> sharingMocks = getConnectedMockModel();
+        ProcessorSharingCPU sharingCpu = new ProcessorSharingCPU(sharingMocks.getValue0(), "PSCPU", false, null, 4, 1);
+        long sharingEvents = countEventsToCompute(sharingMocks, sharingCpu) - idleEvents;
+
+        // one completion per process at most
+        assertTrue(sharingEvents <= 10, "processor sharing executed " + sharingEvents + " events");
+        assertTrue(sharingEvents < burstEvents,
+            "processor sharing executed " + sharingEvents + " events, burst " + burstEvents);
+    }
+
+    /**
+     * A process with a demand of 12 is computed alone with a capacity of 4 until 1. Then, a process with a demand of 2
+     * arrives and both are computed with a capacity of 2. The new process finishes at 2, the first one then receives
+     * the full capacity again and finishes at 3.5 instead of 3.
+     */
+    @Test
+    void keepsExactlyOneCompletionScheduled() {
+        Pair<MiSimModel, TestExperiment> mocks = getConnectedMockModel();
+        MiSimModel model = mocks.getValue0();
+        ProcessorSharingCPU cpu = new ProcessorSharingCPU(model, "PSCPU", false, null, 4, 1);
+        CPUProcess first = new CPUProcess(12);
+        CPUProcess second = new CPUProcess(2);
+        cpu.submitProcess(first);
+        assertEquals(1, cpu.getEventNotes().size());
+        assertEquals(3.0, cpu.getEventNotes().get(0).getTime().getTimeAsDouble(), 1e-9);
+
+        List<String> failures = new ArrayList<>();
+        at(model, 1, () -> {
+            cpu.submitProcess(second);
+            //rescheduled on arrival
+            if (cpu.getEventNotes().size() != 1) {
+                failures.add("after arrival: " + cpu.getEventNotes().size() + " completions scheduled");
+            } else if (Math.abs(cpu.getEventNotes().get(0).getTime().getTimeAsDouble() - 2.0) > 1e-9) {
+                failures.add("after arrival: completion at " + cpu.getEventNotes().get(0).getTime());
+            }
+        });
+        at(model, 2.25, () -> {
+            //rescheduled on departure
+            if (second.getDemandRemainder() != 0 || cpu.getEventNotes().size() != 1) {
+                failures.add("after departure: " + cpu.getEventNotes().size() + " completions scheduled");
+            } else if (Math.abs(cpu.getEventNotes().get(0).getTime().getTimeAsDouble() - 3.5) > 1e-9) {
+                failures.add("after departure: completion at " + cpu.getEventNotes().get(0).getTime());
+            }
+        });
+
+        TestExperiment experiment = mocks.getValue1();
+        experiment.stop(new TimeInstant(10));
+        experiment.start();
+
+        assertEquals(List.of(), failures);
+        assertEquals(0, first.getDemandRemainder());
+        assertFalse(cpu.isScheduled());
+        // the two actions and one completion per process, a stale completion would be executed as well
+        assertEquals(4, model.getExecutedEventsCount() - countIdleEvents(10));
+    }
+
+    @Test
+    void parsesCpuTypes() {
+        Gson gson = new Gson();
+        assertSame(CPUType.PROCESSOR_SHARING, gson.fromJson("\"processor_sharing\"", CPUType.class));
+        assertSame(CPUType.PROCESSOR_SHARING, gson.fromJson("\"ps\"", CPUType.class));
+        assertSame(CPUType.BURST, gson.fromJson("\"burst\"", CPUType.class));
+    }
+}
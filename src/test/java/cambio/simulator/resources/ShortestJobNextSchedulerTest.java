@@ -39,6 +39,26 @@ public class ShortestJobNextSchedulerTest extends CPUProcessSchedulerTest<Shorte
     }
 
 
+    @Test
+    void retrievesEqualDemandsInArrivalOrderAndIgnoresDuplicates() {
+        ShortestJobNextScheduler scheduler = new ShortestJobNextScheduler("SJN");
+        CPUProcess first = new CPUProcess(20);
+        CPUProcess second = new CPUProcess(20);
+        CPUProcess shortest = new CPUProcess(5);
+
+        scheduler.enterProcess(first);
+        scheduler.enterProcess(second);
+        scheduler.enterProcess(first);
+        scheduler.enterProcess(shortest);
+
+        assertEquals(3, scheduler.size());
+        assertEquals(45, scheduler.getTotalWorkDemand());
+        Assertions.assertSame(shortest, scheduler.retrieveNextProcess().getValue0());
+        Assertions.assertSame(first, scheduler.retrieveNextProcess().getValue0());
+        Assertions.assertSame(second, scheduler.retrieveNextProcess().getValue0());
+        assertEquals(0, scheduler.getTotalWorkDemand());
+    }
+
     @Test
     void overlapping_schedules() {
 
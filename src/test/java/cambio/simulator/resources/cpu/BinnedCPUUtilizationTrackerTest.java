@@ -0,0 +1,51 @@
+package cambio.simulator.resources.cpu;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import cambio.simulator.entities.microservice.MicroserviceInstance;
+import cambio.simulator.models.MiSimModel;
+import cambio.simulator.test.TestBase;
+import desmoj.core.simulator.TimeInstant;
+import org.junit.jupiter.api.Test;
+
+class BinnedCPUUtilizationTrackerTest extends TestBase {
+
+    @Test
+    void averagesUtilizationOverTheLastBin() {
+        MiSimModel model = getConnectedMockModel().getValue0();
+        CPU cpu = new CPU(model, "cpu", false, 4, (MicroserviceInstance) null);
+        BinnedCPUUtilizationTracker tracker = new BinnedCPUUtilizationTracker(cpu);
+
+        tracker.updateUtilization(1, new TimeInstant(0));
+        assertEquals(0.2, tracker.sample(new TimeInstant(0.1)), 1e-9);
+        assertEquals(0.4, tracker.sample(new TimeInstant(0.2)), 1e-9);
+        tracker.updateUtilization(0.5, new TimeInstant(0.25));
+        assertEquals(0.55, tracker.sample(new TimeInstant(0.3)), 1e-9);
+        assertEquals(0.65, tracker.sample(new TimeInstant(0.4)), 1e-9);
+        assertEquals(0.75, tracker.sample(new TimeInstant(0.5)), 1e-9);
+        // the bin now starts at the first sample: 0.15 * 1 + 0.35 * 0.5
+        assertEquals(0.65, tracker.sample(new TimeInstant(0.6)), 1e-9);
+    }
+
+    @Test
+    void sharesOneSamplerPerModel() {
+        MiSimModel model = getConnectedMockModel().getValue0();
+        model.getExperimentMetaData().setUtilizationBinSize(0.34);
+
+        CPUUtilizationSampler sampler = CPUUtilizationSampler.of(model);
+
+        assertSame(sampler, CPUUtilizationSampler.of(model));
+        assertEquals(3, sampler.getSamplesPerBin());
+        assertEquals(0.3, sampler.getBinSize(), 1e-9);
+    }
+
+    @Test
+    void rejectsInvalidIntervals() {
+        MiSimModel model = getConnectedMockModel().getValue0();
+
+        assertThrows(IllegalArgumentException.class, () -> new CPUUtilizationSampler(model, 0, 0.5));
+        assertThrows(IllegalArgumentException.class, () -> new CPUUtilizationSampler(model, 0.1, -1));
+    }
+}
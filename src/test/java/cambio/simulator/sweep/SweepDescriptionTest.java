@@ -0,0 +1,100 @@
+package cambio.simulator.sweep;
+
+import static cambio.simulator.test.FileLoaderUtil.loadFromTestResources;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import cambio.simulator.parsing.ParsingException;
+import org.junit.jupiter.api.Test;
+
+class SweepDescriptionTest {
+
+    @Test
+    void expandsGridIntoAllCombinations() {
+        SweepDescription description = new SweepDescription(SweepDesign.GRID, 0, 0, Arrays.asList(
+            new SweepParameter("gateway.instances", 1, 2, 3),
+            new SweepParameter("load.scale", 0.5, 1.5, 3, false)));
+
+        List<SweepPoint> points = description.expand();
+        assertEquals(9, points.size());
+
+        Set<String> combinations = new HashSet<>();
+        for (SweepPoint point : points) {
+            combinations.add(point.getValues().get("gateway.instances") + "/" + point.getValues().get("load.scale"));
+        }
+        assertEquals(9, combinations.size());
+        assertTrue(combinations.contains("3.0/1.5"));
+        assertTrue(combinations.contains("1.0/0.5"));
+        assertEquals(0, points.get(0).getIndex());
+        assertEquals(8, points.get(8).getIndex());
+    }
+
+    @Test
+    void roundsIntegerRangeLevels() {
+        SweepParameter parameter = new SweepParameter("gateway.capacity", 1, 2, 5, true);
+        assertArrayEquals(new double[] {1, 2}, parameter.getLevels());
+    }
+
+    @Test
+    void latinHypercubeHitsEachStratumOnce() {
+        int samples = 10;
+        SweepDescription description = new SweepDescription(SweepDesign.LATIN_HYPERCUBE, samples, 42, Arrays.asList(
+            new SweepParameter("load.scale", 0, 1, 2, false),
+            new SweepParameter("gateway.capacity", 0, 100, 2, false)));
+
+        List<SweepPoint> points = description.expand();
+        assertEquals(samples, points.size());
+
+        for (String target : Arrays.asList("load.scale", "gateway.capacity")) {
+            double max = target.equals("load.scale") ? 1 : 100;
+            Set<Integer> strata = new HashSet<>();
+            for (SweepPoint point : points) {
+                strata.add((int) (point.getValues().get(target) / max * samples));
+            }
+            assertEquals(samples, strata.size());
+        }
+    }
+
+    @Test
+    void latinHypercubeIsReproducible() {
+        SweepDescription description = new SweepDescription(SweepDesign.LATIN_HYPERCUBE, 5, 7,
+            List.of(new SweepParameter("load.scale", 0.5, 2, 2, false)));
+        assertEquals(description.expand().get(3).getValues(), description.expand().get(3).getValues());
+    }
+
+    @Test
+    void rejectsInvalidDescriptions() {
+        assertThrows(IllegalArgumentException.class,
+            () -> new SweepDescription(SweepDesign.GRID, 0, 0, List.of()).validate());
+        assertThrows(IllegalArgumentException.class,
+            () -> new SweepDescription(SweepDesign.LATIN_HYPERCUBE, 0, 0,
+                List.of(new SweepParameter("load.scale", 1, 2))).validate());
+        assertThrows(IllegalArgumentException.class,
+            () -> new SweepDescription(SweepDesign.GRID, 0, 0,
+                List.of(new SweepParameter("load.scale", 2, 1, 2, false))).validate());
+        assertThrows(IllegalArgumentException.class,
+            () -> new SweepDescription(SweepDesign.GRID, 0, 0,
+                Arrays.asList(new SweepParameter("load.scale", 1), new SweepParameter("load.scale", 2))).validate());
+    }
+
+    @Test
+    void loadsDescriptionFromJson() {
+        SweepDescription description = SweepDescription.load(loadFromTestResources("SSPExample", "ssp_sweep.json"));
+        assertEquals(SweepDesign.GRID, description.getDesign());
+        assertEquals(2, description.getParameters().size());
+        assertEquals(4, description.expand().size());
+    }
+
+    @Test
+    void wrapsMissingFileIntoParsingException() {
+        assertThrows(ParsingException.class,
+            () -> SweepDescription.load(new java.io.File("does_not_exist_sweep.json")));
+    }
+}
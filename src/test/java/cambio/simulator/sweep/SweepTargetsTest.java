@@ -0,0 +1,36 @@
+package cambio.simulator.sweep;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.util.LinkedList;
+
+import cambio.simulator.entities.microservice.Microservice;
+import cambio.simulator.parsing.ParsingException;
+import cambio.simulator.parsing.adapter.architecture.MicroserviceAdapter;
+import cambio.simulator.test.TestBase;
+import org.junit.jupiter.api.Test;
+
+class SweepTargetsTest extends TestBase {
+
+    private Microservice parse(String cpuProperties) throws IOException {
+        return new MicroserviceAdapter(getMockModel(), new LinkedList<>())
+            .fromJson("{\"name\": \"service\", " + cpuProperties + "}");
+    }
+
+    @Test
+    void setsTotalCapacity() throws IOException {
+        Microservice service = parse("\"capacity\": 100");
+        SweepTargets.applyCapacity(service, "service.capacity", 250);
+        assertEquals(250, service.getCpuCapacity());
+    }
+
+    @Test
+    void rejectsCapacityOfServicesWithCapacityPerThread() throws IOException {
+        Microservice service = parse("\"threads\": 8, \"capacity_per_thread\": 12.5");
+        assertThrows(ParsingException.class, () -> SweepTargets.applyCapacity(service, "service.capacity", 250));
+        assertEquals(12.5, service.getCapacityPerThread());
+        assertEquals(100, service.getCpuCapacity());
+    }
+}
@@ -11,8 +11,6 @@ import java.util.ArrayList;
 import java.util.List;
 
 import cambio.simulator.Main;
-import cambio.simulator.export.MiSimReporters;
-import cambio.simulator.misc.RNGStorage;
 import cambio.simulator.models.MiSimModel;
 import org.apache.commons.io.FileUtils;
 import org.javatuples.Pair;
@@ -27,14 +25,17 @@ public class TestBase {
 
     public List<File> tempDirs = new ArrayList<>();
 
+    public List<MiSimModel> createdModels = new ArrayList<>();
+
 
     @AfterEach
     protected void tearDown() throws IOException {
-        MiSimReporters.finalizeReports(); //closes open file handles
+        for (MiSimModel model : createdModels) {
+            model.getExecutionContext().getReporters().finalizeReports(); //closes open file handles
+        }
         for (File file : tempDirs) {
             FileUtils.deleteDirectory(file);
         }
-        RNGStorage.reset();
     }
 
     public MiSimModel getMockModel() {
@@ -46,6 +47,7 @@ public class TestBase {
     public MiSimModel getMockModel(File architecture, File scenario) {
         MiSimModel mockModel = new MiSimModel(architecture, scenario);
         mockModel.getExperimentMetaData().setReportLocation(createSelfDeletingTempOutputDir().toPath());
+        createdModels.add(mockModel);
         return mockModel;
     }
 